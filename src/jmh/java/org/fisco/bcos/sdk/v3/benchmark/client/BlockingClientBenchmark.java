@@ -0,0 +1,175 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.benchmark.client;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.fisco.bcos.sdk.v3.client.BlockingCallExecutor;
+import org.fisco.bcos.sdk.v3.client.Client;
+import org.fisco.bcos.sdk.v3.client.ClientImpl;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BlockNumber;
+import org.fisco.bcos.sdk.v3.model.Response;
+import org.fisco.bcos.sdk.v3.model.callback.RespCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Concurrent callers of Client.getBlockNumber, blocking calls on the threads of
+ * BlockingCallExecutor versus the callback API getBlockNumberAsync.
+ *
+ * <p>The rpc layer of the client is stubbed: the responses are delivered after latencyMs by a
+ * scheduler standing in for the native response threads, and the blocking call waits for them with
+ * ClientImpl.waitForResponse like ClientImpl.callRemoteMethod. The executor reports in the setup
+ * whether the callers run on virtual threads (JDK 21+) or fell back to platform threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockingClientBenchmark {
+    @Param({"10000"})
+    public int callers;
+
+    @Param({"1"})
+    public long latencyMs;
+
+    private ScheduledExecutorService responseThreads;
+    private BlockingCallExecutor blockingCallExecutor;
+    private Client client;
+
+    @Setup
+    public void setup() {
+        responseThreads = Executors.newScheduledThreadPool(2);
+        blockingCallExecutor = new BlockingCallExecutor("benchmark-call");
+        client = stubClient();
+        System.out.println(
+                "\nblocking callers on "
+                        + (blockingCallExecutor.isVirtual() ? "virtual" : "platform")
+                        + " threads");
+    }
+
+    @TearDown
+    public void tearDown() {
+        blockingCallExecutor.close();
+        responseThreads.shutdownNow();
+    }
+
+    /** a client answering getBlockNumber and getBlockNumberAsync, the other methods throw */
+    private Client stubClient() {
+        AtomicLong blockNumber = new AtomicLong();
+        return (Client)
+                Proxy.newProxyInstance(
+                        Client.class.getClassLoader(),
+                        new Class<?>[] {Client.class},
+                        (proxy, method, args) -> {
+                            int argCount = args == null ? 0 : args.length;
+                            if ("getBlockNumberAsync".equals(method.getName()) && argCount == 1) {
+                                @SuppressWarnings("unchecked")
+                                RespCallback<BlockNumber> callback =
+                                        (RespCallback<BlockNumber>) args[0];
+                                sendBlockNumber(blockNumber.incrementAndGet())
+                                        .whenComplete(
+                                                (response, error) -> {
+                                                    if (error != null) {
+                                                        callback.onError(
+                                                                new Response(
+                                                                        -1, error.getMessage()));
+                                                    } else {
+                                                        callback.onResponse(response);
+                                                    }
+                                                });
+                                return null;
+                            }
+                            if ("getBlockNumber".equals(method.getName()) && argCount == 0) {
+                                return ClientImpl.waitForResponse(
+                                        "getBlockNumber",
+                                        sendBlockNumber(blockNumber.incrementAndGet()));
+                            }
+                            throw new UnsupportedOperationException(method.getName());
+                        });
+    }
+
+    private CompletableFuture<BlockNumber> sendBlockNumber(long number) {
+        CompletableFuture<BlockNumber> future = new CompletableFuture<>();
+        responseThreads.schedule(
+                () -> {
+                    BlockNumber response = new BlockNumber();
+                    response.setResult("0x" + Long.toHexString(number));
+                    future.complete(response);
+                },
+                latencyMs,
+                TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    @Benchmark
+    public long blockingCallers() {
+        List<CompletableFuture<BlockNumber>> results = new ArrayList<>(callers);
+        for (int i = 0; i < callers; i++) {
+            results.add(blockingCallExecutor.submit(() -> client.getBlockNumber()));
+        }
+        long sum = 0;
+        for (CompletableFuture<BlockNumber> result : results) {
+            sum += result.join().getBlockNumber().longValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long callbackCallers() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(callers);
+        long[] values = new long[callers];
+        for (int i = 0; i < callers; i++) {
+            int index = i;
+            client.getBlockNumberAsync(
+                    new RespCallback<BlockNumber>() {
+                        @Override
+                        public void onResponse(BlockNumber blockNumber) {
+                            values[index] = blockNumber.getBlockNumber().longValue();
+                            latch.countDown();
+                        }
+
+                        @Override
+                        public void onError(Response errorResponse) {
+                            latch.countDown();
+                        }
+                    });
+        }
+        latch.await();
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.benchmark.codec;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.v3.codec.abi.ByteBufferFunctionReturnDecoder;
+import org.fisco.bcos.sdk.v3.codec.abi.FunctionEncoder;
+import org.fisco.bcos.sdk.v3.codec.abi.FunctionReturnDecoder;
+import org.fisco.bcos.sdk.v3.codec.abi.TypeDecoder;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Array;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Function;
+import org.fisco.bcos.sdk.v3.codec.datatypes.StructType;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Type;
+import org.fisco.bcos.sdk.v3.codec.datatypes.TypeReference;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint256;
+import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** FunctionEncoder.encode / FunctionReturnDecoder.decode / TypeDecoder.decode throughput. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AbiCodecBenchmark {
+    @Param({"0", "1"})
+    public int cryptoType;
+
+    @Param({AbiPayloads.STATIC, AbiPayloads.DYNAMIC, AbiPayloads.STRUCT, AbiPayloads.ARRAY})
+    public String payload;
+
+    @Param({"1", "16", "256"})
+    public int size;
+
+    private FunctionEncoder functionEncoder;
+    private FunctionReturnDecoder functionReturnDecoder;
+    private ByteBufferFunctionReturnDecoder byteBufferFunctionReturnDecoder;
+    private Function function;
+    private List<TypeReference<Type>> outputs;
+    private String encodedOutput;
+    private ByteBuffer encodedOutputBuffer;
+    private byte[] encodedUint;
+    private TypeReference<Uint256> uintReference;
+
+    @Setup
+    public void setup() {
+        CryptoSuite cryptoSuite = new CryptoSuite(cryptoType);
+        functionEncoder = new FunctionEncoder(cryptoSuite);
+        functionReturnDecoder = new FunctionReturnDecoder();
+        byteBufferFunctionReturnDecoder = new ByteBufferFunctionReturnDecoder();
+        function = AbiPayloads.function(payload, size);
+        outputs = AbiPayloads.outputs(payload, size);
+        encodedOutput =
+                Hex.toHexString(FunctionEncoder.encodeConstructor(function.getInputParameters()));
+        encodedOutputBuffer = ByteBuffer.wrap(Hex.decode(encodedOutput));
+        encodedUint = Hex.decode(encodedOutput.substring(0, Math.min(64, encodedOutput.length())));
+        uintReference = TypeReference.create(Uint256.class);
+    }
+
+    @Benchmark
+    public byte[] functionEncode() {
+        return functionEncoder.encode(function);
+    }
+
+    @Benchmark
+    public byte[] encodeParameters() {
+        return FunctionEncoder.encodeParameters(function.getInputParameters(), null);
+    }
+
+    @Benchmark
+    public List<Type> functionReturnDecode() {
+        return functionReturnDecoder.decode(encodedOutput, outputs);
+    }
+
+    @Benchmark
+    public List<Type> byteBufferReturnDecode() {
+        return byteBufferFunctionReturnDecoder.decode(encodedOutputBuffer, outputs);
+    }
+
+    /** decode over the ByteBuffer, then materialise every nested element */
+    @Benchmark
+    public void byteBufferReturnDecodeAll(Blackhole blackhole) {
+        for (Type value : byteBufferFunctionReturnDecoder.decode(encodedOutputBuffer, outputs)) {
+            consume(value, blackhole);
+        }
+    }
+
+    private static void consume(Type<?> value, Blackhole blackhole) {
+        if (value instanceof Array) {
+            for (Type element : ((Array<?>) value).getValue()) {
+                consume(element, blackhole);
+            }
+        } else if (value instanceof StructType) {
+            for (Type component : ((StructType) value).getComponentTypes()) {
+                consume(component, blackhole);
+            }
+        } else {
+            blackhole.consume(value.getValue());
+        }
+    }
+
+    @Benchmark
+    public Uint256 typeDecodeUint256() throws ClassNotFoundException {
+        return TypeDecoder.decode(encodedUint, 0, uintReference);
+    }
+}
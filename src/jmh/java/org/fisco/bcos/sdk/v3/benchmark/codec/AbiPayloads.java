@@ -0,0 +1,157 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.benchmark.codec;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.fisco.bcos.sdk.v3.codec.Utils;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Address;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Bool;
+import org.fisco.bcos.sdk.v3.codec.datatypes.DynamicArray;
+import org.fisco.bcos.sdk.v3.codec.datatypes.DynamicBytes;
+import org.fisco.bcos.sdk.v3.codec.datatypes.DynamicStruct;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Function;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Type;
+import org.fisco.bcos.sdk.v3.codec.datatypes.TypeReference;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Utf8String;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes32;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint256;
+
+/** The ABI payload shapes shared by the codec benchmarks. */
+public final class AbiPayloads {
+    public static final String STATIC = "static";
+    public static final String DYNAMIC = "dynamic";
+    public static final String STRUCT = "struct";
+    public static final String ARRAY = "array";
+
+    private AbiPayloads() {}
+
+    public static class Entry extends DynamicStruct {
+        public String name;
+
+        public BigInteger value;
+
+        public Entry(String name, BigInteger value) {
+            super(new Utf8String(name), new Uint256(value));
+            this.name = name;
+            this.value = value;
+        }
+
+        public Entry(Utf8String name, Uint256 value) {
+            super(name, value);
+            this.name = name.getValue();
+            this.value = value.getValue();
+        }
+    }
+
+    /**
+     * Build the input parameters of the given shape
+     *
+     * @param kind one of static/dynamic/struct/array
+     * @param size the number of repeated elements (or bytes for the dynamic payload)
+     * @return the parameters
+     */
+    public static List<Type> parameters(String kind, int size) {
+        List<Type> parameters = new ArrayList<>();
+        switch (kind) {
+            case STATIC:
+                for (int i = 0; i < size; i++) {
+                    parameters.add(new Uint256(BigInteger.valueOf(i).shiftLeft(100)));
+                    parameters.add(new Address(BigInteger.valueOf(i + 1)));
+                    parameters.add(new Bool(i % 2 == 0));
+                    parameters.add(new Bytes32(filledBytes(32, i)));
+                }
+                return parameters;
+            case DYNAMIC:
+                parameters.add(new Utf8String(text(size)));
+                parameters.add(new DynamicBytes(filledBytes(size, 7)));
+                return parameters;
+            case STRUCT:
+                for (int i = 0; i < size; i++) {
+                    parameters.add(new Entry(text(8), BigInteger.valueOf(i)));
+                }
+                return parameters;
+            case ARRAY:
+                List<Uint256> numbers = new ArrayList<>(size);
+                List<Utf8String> strings = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    numbers.add(new Uint256(BigInteger.valueOf(i)));
+                    strings.add(new Utf8String(text(16)));
+                }
+                parameters.add(new DynamicArray<>(Uint256.class, numbers));
+                parameters.add(new DynamicArray<>(Utf8String.class, strings));
+                return parameters;
+            default:
+                throw new IllegalArgumentException("unknown payload kind: " + kind);
+        }
+    }
+
+    /**
+     * Build the output types matching {@link #parameters(String, int)}
+     *
+     * @param kind one of static/dynamic/struct/array
+     * @param size the number of repeated elements
+     * @return the output type references
+     */
+    public static List<TypeReference<Type>> outputs(String kind, int size) {
+        List<TypeReference<?>> outputs = new ArrayList<>();
+        switch (kind) {
+            case STATIC:
+                for (int i = 0; i < size; i++) {
+                    outputs.add(TypeReference.create(Uint256.class));
+                    outputs.add(TypeReference.create(Address.class));
+                    outputs.add(TypeReference.create(Bool.class));
+                    outputs.add(TypeReference.create(Bytes32.class));
+                }
+                break;
+            case DYNAMIC:
+                outputs.add(TypeReference.create(Utf8String.class));
+                outputs.add(TypeReference.create(DynamicBytes.class));
+                break;
+            case STRUCT:
+                for (int i = 0; i < size; i++) {
+                    outputs.add(TypeReference.create(Entry.class));
+                }
+                break;
+            case ARRAY:
+                outputs.add(new TypeReference<DynamicArray<Uint256>>() {});
+                outputs.add(new TypeReference<DynamicArray<Utf8String>>() {});
+                break;
+            default:
+                throw new IllegalArgumentException("unknown payload kind: " + kind);
+        }
+        return Utils.convert(outputs);
+    }
+
+    public static Function function(String kind, int size) {
+        return new Function("bench_" + kind, parameters(kind, size), Collections.emptyList());
+    }
+
+    private static byte[] filledBytes(int size, int seed) {
+        byte[] bytes = new byte[size];
+        Arrays.fill(bytes, (byte) seed);
+        return bytes;
+    }
+
+    private static String text(int size) {
+        StringBuilder builder = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            builder.append((char) ('a' + (i % 26)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.benchmark.codec;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.v3.codec.ContractCodec;
+import org.fisco.bcos.sdk.v3.codec.ContractCodecException;
+import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** ContractCodec.encodeMethod / decodeMethod throughput, including the ABI JSON handling. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ContractCodecBenchmark {
+    static final String ABI =
+            "[{\"inputs\":[{\"internalType\":\"uint256\",\"name\":\"a\",\"type\":\"uint256\"},"
+                    + "{\"internalType\":\"address\",\"name\":\"b\",\"type\":\"address\"}],"
+                    + "\"name\":\"setStatic\",\"outputs\":[{\"internalType\":\"uint256\",\"name\":\"\",\"type\":\"uint256\"}],"
+                    + "\"stateMutability\":\"nonpayable\",\"type\":\"function\"},"
+                    + "{\"inputs\":[{\"internalType\":\"string\",\"name\":\"s\",\"type\":\"string\"},"
+                    + "{\"internalType\":\"bytes\",\"name\":\"b\",\"type\":\"bytes\"}],"
+                    + "\"name\":\"setDynamic\",\"outputs\":[{\"internalType\":\"string\",\"name\":\"\",\"type\":\"string\"}],"
+                    + "\"stateMutability\":\"nonpayable\",\"type\":\"function\"},"
+                    + "{\"inputs\":[{\"components\":[{\"internalType\":\"string\",\"name\":\"name\",\"type\":\"string\"},"
+                    + "{\"internalType\":\"uint256\",\"name\":\"value\",\"type\":\"uint256\"}],"
+                    + "\"internalType\":\"struct Bench.Entry\",\"name\":\"e\",\"type\":\"tuple\"}],"
+                    + "\"name\":\"setStruct\",\"outputs\":[],\"stateMutability\":\"nonpayable\",\"type\":\"function\"},"
+                    + "{\"inputs\":[{\"internalType\":\"uint256[]\",\"name\":\"a\",\"type\":\"uint256[]\"}],"
+                    + "\"name\":\"setArray\",\"outputs\":[{\"internalType\":\"uint256[]\",\"name\":\"\",\"type\":\"uint256[]\"}],"
+                    + "\"stateMutability\":\"nonpayable\",\"type\":\"function\"},"
+                    + "{\"anonymous\":false,\"inputs\":[{\"indexed\":true,\"internalType\":\"uint256\",\"name\":\"a\",\"type\":\"uint256\"}],"
+                    + "\"name\":\"Updated\",\"type\":\"event\"}]";
+
+    @Param({"0", "1"})
+    public int cryptoType;
+
+    @Param({"setStatic", "setDynamic", "setStruct", "setArray"})
+    public String method;
+
+    @Param({"1", "256"})
+    public int size;
+
+    private ContractCodec contractCodec;
+    private List<Object> params;
+    private List<String> stringParams;
+    private byte[] output;
+
+    @Setup
+    public void setup() throws ContractCodecException {
+        contractCodec = new ContractCodec(new CryptoSuite(cryptoType), false);
+        params = new ArrayList<>();
+        stringParams = new ArrayList<>();
+        switch (method) {
+            case "setStatic":
+                params.add(BigInteger.valueOf(size));
+                params.add("0x0000000000000000000000000000000000001000");
+                break;
+            case "setDynamic":
+                {
+                    char[] chars = new char[size];
+                    Arrays.fill(chars, 'x');
+                    byte[] bytes = new byte[size];
+                    Arrays.fill(bytes, (byte) 1);
+                    params.add(new String(chars));
+                    params.add(bytes);
+                    break;
+                }
+            case "setStruct":
+                {
+                    char[] chars = new char[size];
+                    Arrays.fill(chars, 'x');
+                    stringParams.add("{\"name\":\"" + new String(chars) + "\",\"value\":1}");
+                    break;
+                }
+            case "setArray":
+                {
+                    List<BigInteger> values = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        values.add(BigInteger.valueOf(i));
+                    }
+                    params.add(values);
+                    break;
+                }
+            default:
+                throw new IllegalArgumentException("unknown method " + method);
+        }
+        byte[] encoded = encodeMethod();
+        // reuse the encoded params as the method output, the first output shares their layout
+        output = Arrays.copyOfRange(encoded, 4, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encodeMethod() throws ContractCodecException {
+        if (!stringParams.isEmpty()) {
+            return contractCodec.encodeMethodFromString(ABI, method, stringParams);
+        }
+        return contractCodec.encodeMethod(ABI, method, params);
+    }
+
+    @Benchmark
+    public List<String> decodeMethod() throws ContractCodecException {
+        return contractCodec.decodeMethodToString(ABI, method, output);
+    }
+}
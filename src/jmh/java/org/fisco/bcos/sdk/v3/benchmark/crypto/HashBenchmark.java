@@ -0,0 +1,87 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.benchmark.crypto;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.v3.crypto.hash.Hash;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaKeccak256;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaSM3Hash;
+import org.fisco.bcos.sdk.v3.crypto.hash.Keccak256;
+import org.fisco.bcos.sdk.v3.crypto.hash.SM3Hash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Keccak256 and SM3 hash latency for method signatures, tx hashes and larger payloads, native
+ * versus pure-java.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashBenchmark {
+    @Param({"32", "256", "4096"})
+    public int size;
+
+    private final Hash keccak256 = new Keccak256();
+    private final Hash sm3 = new SM3Hash();
+    private final JavaKeccak256 javaKeccak256 = new JavaKeccak256();
+    private final JavaSM3Hash javaSm3 = new JavaSM3Hash();
+    private final byte[] output = new byte[32];
+    private byte[] input;
+
+    @Setup
+    public void setup() {
+        input = new byte[size];
+        new Random(size).nextBytes(input);
+    }
+
+    @Benchmark
+    public byte[] keccak256() {
+        return keccak256.hash(input);
+    }
+
+    @Benchmark
+    public byte[] sm3() {
+        return sm3.hash(input);
+    }
+
+    @Benchmark
+    public byte[] javaKeccak256() {
+        return javaKeccak256.hash(input);
+    }
+
+    @Benchmark
+    public byte[] javaSm3() {
+        return javaSm3.hash(input);
+    }
+
+    @Benchmark
+    public byte[] javaKeccak256NoAlloc() {
+        javaKeccak256.hash(input, 0, input.length, output, 0);
+        return output;
+    }
+}
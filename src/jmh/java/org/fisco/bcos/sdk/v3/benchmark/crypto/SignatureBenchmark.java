@@ -0,0 +1,81 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.benchmark.crypto;
+
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyHandle;
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.v3.crypto.signature.SignatureResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ECDSASignature / SM2Signature sign and verify latency, through the hex string API and through the
+ * byte oriented API with parsed keys.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SignatureBenchmark {
+    @Param({"0", "1"})
+    public int cryptoType;
+
+    private CryptoSuite cryptoSuite;
+    private CryptoKeyPair keyPair;
+    private byte[] messageHash;
+    private byte[] signature;
+    private CryptoKeyHandle publicKey;
+
+    @Setup
+    public void setup() {
+        cryptoSuite = new CryptoSuite(cryptoType);
+        keyPair = cryptoSuite.getCryptoKeyPair();
+        messageHash = cryptoSuite.hash("fisco-bcos-benchmark".getBytes());
+        signature = cryptoSuite.sign(messageHash, keyPair).getSignatureBytes();
+        publicKey = cryptoSuite.createPublicKeyHandle(keyPair.getKeyHandle().getPublicKey());
+    }
+
+    @Benchmark
+    public SignatureResult sign() {
+        return cryptoSuite.sign(messageHash, keyPair);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return cryptoSuite.verify(keyPair.getHexPublicKey(), messageHash, signature);
+    }
+
+    @Benchmark
+    public byte[] signHash() {
+        return cryptoSuite.signHash(messageHash, keyPair);
+    }
+
+    @Benchmark
+    public boolean verifyHash() {
+        return cryptoSuite.verifyHash(publicKey, messageHash, signature);
+    }
+}
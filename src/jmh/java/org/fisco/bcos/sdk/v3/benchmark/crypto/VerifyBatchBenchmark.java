@@ -0,0 +1,95 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.benchmark.crypto;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.v3.crypto.signature.VerifyRequest;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of verifying the signatures of a block: one by one through the hex string API versus
+ * CryptoSuite.verifyBatch. The score is signatures per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VerifyBatchBenchmark {
+    private static final int BATCH_SIZE = 1000;
+    private static final int SENDER_COUNT = 50;
+
+    @Param({"0", "1"})
+    public int cryptoType;
+
+    private CryptoSuite cryptoSuite;
+    private List<VerifyRequest> requests;
+    private List<String[]> hexRequests;
+
+    @Setup
+    public void setup() {
+        cryptoSuite = new CryptoSuite(cryptoType);
+        List<CryptoKeyPair> senders = new ArrayList<>();
+        for (int i = 0; i < SENDER_COUNT; i++) {
+            senders.add(cryptoSuite.getKeyPairFactory().generateKeyPair());
+        }
+        requests = new ArrayList<>(BATCH_SIZE);
+        hexRequests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            CryptoKeyPair sender = senders.get(i % SENDER_COUNT);
+            byte[] hash = cryptoSuite.hash(("tx-" + i).getBytes());
+            String signature = cryptoSuite.sign(hash, sender).convertToString();
+            requests.add(
+                    new VerifyRequest(sender.getHexPublicKey(), Hex.toHexString(hash), signature));
+            hexRequests.add(
+                    new String[] {sender.getHexPublicKey(), Hex.toHexString(hash), signature});
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int verifySequential() {
+        int valid = 0;
+        for (String[] request : hexRequests) {
+            if (cryptoSuite.verify(request[0], request[1], request[2])) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BitSet verifyBatch() {
+        return cryptoSuite.verifyBatch(requests);
+    }
+}
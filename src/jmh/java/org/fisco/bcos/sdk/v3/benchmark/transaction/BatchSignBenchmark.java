@@ -0,0 +1,104 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.benchmark.transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.jni.common.JniException;
+import org.fisco.bcos.sdk.jni.utilities.tx.TransactionBuilderJniObj;
+import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.v3.transaction.codec.encode.TransactionEncoderService;
+import org.fisco.bcos.sdk.v3.transaction.model.dto.EncodedTransaction;
+import org.fisco.bcos.sdk.v3.transaction.model.dto.TxSpec;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Signed transactions per second, one by one with encodeAndSignBytes versus encodeAndSignBatch on
+ * all cores. Divide the batch score by the available processors for the rate per core.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchSignBenchmark {
+    private static final int BATCH_SIZE = 256;
+    private static final String GROUP = "group0";
+    private static final String CHAIN = "chain0";
+    private static final String TO = "0x0000000000000000000000000000000000001000";
+
+    @Param({"0", "1"})
+    public int cryptoType;
+
+    private TransactionEncoderService transactionEncoder;
+    private CryptoKeyPair keyPair;
+    private final List<TxSpec> txSpecs = new ArrayList<>(BATCH_SIZE);
+
+    @Setup
+    public void setup() {
+        CryptoSuite cryptoSuite = new CryptoSuite(cryptoType);
+        transactionEncoder = new TransactionEncoderService(cryptoSuite);
+        keyPair = cryptoSuite.getCryptoKeyPair();
+        Random random = new Random(cryptoType);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            byte[] input = new byte[68];
+            random.nextBytes(input);
+            txSpecs.add(new TxSpec(GROUP, CHAIN, TO, input, 500));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int signOneByOne() throws JniException {
+        int size = 0;
+        for (TxSpec txSpec : txSpecs) {
+            long transactionData =
+                    TransactionBuilderJniObj.createTransactionData(
+                            txSpec.getGroupId(),
+                            txSpec.getChainId(),
+                            txSpec.getTo(),
+                            Hex.toHexString(txSpec.getInput()),
+                            txSpec.getAbi(),
+                            txSpec.getBlockLimit());
+            try {
+                size += transactionEncoder.encodeAndSignBytes(transactionData, keyPair, 0).length;
+            } finally {
+                TransactionBuilderJniObj.destroyTransactionData(transactionData);
+            }
+        }
+        return size;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<EncodedTransaction> signBatch() throws JniException {
+        return transactionEncoder.encodeAndSignBatch(txSpecs, keyPair);
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.benchmark.transaction;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.jni.common.JniException;
+import org.fisco.bcos.sdk.jni.utilities.tx.TransactionBuilderJniObj;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaKeccak256;
+import org.fisco.bcos.sdk.v3.transaction.codec.encode.TarsTransactionData;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Build, hash and encode a signed transaction without the signing, with the native transactionData
+ * of the jni and its hex round trips versus TarsTransactionData in java.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionBuildBenchmark {
+    private static final String GROUP = "group0";
+    private static final String CHAIN = "chain0";
+    private static final String TO = "0x0000000000000000000000000000000000001000";
+
+    @Param({"68", "4096"})
+    public int inputSize;
+
+    private final JavaKeccak256 hash = new JavaKeccak256();
+    private final byte[] signature = new byte[65];
+    private byte[] input;
+
+    @Setup
+    public void setup() {
+        input = new byte[inputSize];
+        Random random = new Random(inputSize);
+        random.nextBytes(input);
+        random.nextBytes(signature);
+    }
+
+    @Benchmark
+    public byte[] jniBuilder() throws JniException {
+        long transactionData =
+                TransactionBuilderJniObj.createTransactionData(
+                        GROUP, CHAIN, TO, Hex.toHexString(input), "", 500);
+        try {
+            byte[] dataHash =
+                    Hex.decode(
+                            TransactionBuilderJniObj.calcTransactionDataHash(0, transactionData));
+            return Hex.decode(
+                    TransactionBuilderJniObj.createSignedTransaction(
+                            transactionData,
+                            Hex.toHexString(signature),
+                            Hex.toHexString(dataHash),
+                            0));
+        } finally {
+            TransactionBuilderJniObj.destroyTransactionData(transactionData);
+        }
+    }
+
+    @Benchmark
+    public byte[] javaBuilder() {
+        TarsTransactionData transactionData =
+                TarsTransactionData.create(GROUP, CHAIN, TO, input, "", 500);
+        byte[] dataHash = transactionData.calculateHash(hash);
+        return transactionData.encodeSignedTransaction(dataHash, signature, 0, "");
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.benchmark.transaction;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.jni.common.JniException;
+import org.fisco.bcos.sdk.jni.utilities.tx.TransactionBuilderJniObj;
+import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.v3.transaction.codec.encode.TransactionEncoderService;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** TransactionEncoderService.encodeAndSignBytes latency, building the transactionData included. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionEncodeBenchmark {
+    private static final String GROUP = "group0";
+    private static final String CHAIN = "chain0";
+    private static final String TO = "0x0000000000000000000000000000000000001000";
+
+    @Param({"0", "1"})
+    public int cryptoType;
+
+    @Param({"68", "1024"})
+    public int inputSize;
+
+    private TransactionEncoderService transactionEncoder;
+    private CryptoKeyPair keyPair;
+    private String hexInput;
+    private long transactionData;
+
+    @Setup
+    public void setup() throws JniException {
+        CryptoSuite cryptoSuite = new CryptoSuite(cryptoType);
+        transactionEncoder = new TransactionEncoderService(cryptoSuite);
+        keyPair = cryptoSuite.getCryptoKeyPair();
+        byte[] input = new byte[inputSize];
+        new Random(inputSize).nextBytes(input);
+        hexInput = Hex.toHexString(input);
+        transactionData = createTransactionData();
+    }
+
+    @TearDown
+    public void tearDown() throws JniException {
+        TransactionBuilderJniObj.destroyTransactionData(transactionData);
+    }
+
+    private long createTransactionData() throws JniException {
+        return TransactionBuilderJniObj.createTransactionData(GROUP, CHAIN, TO, hexInput, "", 500);
+    }
+
+    @Benchmark
+    public byte[] encodeAndHash() throws JniException {
+        return transactionEncoder.encodeAndHashBytes(transactionData);
+    }
+
+    @Benchmark
+    public byte[] encodeAndSign() throws JniException {
+        return transactionEncoder.encodeAndSignBytes(transactionData, keyPair, 0);
+    }
+
+    @Benchmark
+    public byte[] createEncodeAndSign() throws JniException {
+        long data = createTransactionData();
+        try {
+            return transactionEncoder.encodeAndSignBytes(data, keyPair, 0);
+        } finally {
+            TransactionBuilderJniObj.destroyTransactionData(data);
+        }
+    }
+}
@@ -16,6 +16,7 @@ package org.fisco.bcos.sdk.v3;
 import org.fisco.bcos.sdk.jni.BcosSDKJniObj;
 import org.fisco.bcos.sdk.jni.BlockNotifier;
 import org.fisco.bcos.sdk.v3.amop.Amop;
+import org.fisco.bcos.sdk.v3.client.BlockNumberTracker;
 import org.fisco.bcos.sdk.v3.client.Client;
 import org.fisco.bcos.sdk.v3.client.TarsClient;
 import org.fisco.bcos.sdk.v3.config.Config;
@@ -75,6 +76,18 @@ public class BcosSDK {
         this.bcosSDKJniObj.registerBlockNotifier(groupID, blockNotifier);
     }
 
+    /**
+     * Feed the block number tracker of the client with the block notifications of its group, if the
+     * tracked number answers getBlockNumber
+     */
+    private <T extends Client> T trackBlockNumber(T client) {
+        BlockNumberTracker tracker = client.getBlockNumberTracker();
+        if (tracker != null && tracker.isEnabled()) {
+            registerBlockNotifier(client.getGroup(), tracker);
+        }
+        return client;
+    }
+
     /**
      * Get a Client instance of a specific group
      *
@@ -83,7 +96,8 @@ public class BcosSDK {
      */
     public Client getClient(String groupId) throws BcosSDKException {
         try {
-            return Client.build(groupId, config, bcosSDKJniObj.getNativePointer());
+            return trackBlockNumber(
+                    Client.build(groupId, config, bcosSDKJniObj.getNativePointer()));
         } catch (Exception e) {
             logger.warn("create client for failed, error: ", e);
             throw new BcosSDKException("get Client failed, e: " + e.getMessage(), e);
@@ -92,7 +106,8 @@ public class BcosSDK {
 
     public TarsClient getTarsClient(String groupID) {
         try {
-            return TarsClient.build(groupID, config, bcosSDKJniObj.getNativePointer());
+            return trackBlockNumber(
+                    TarsClient.build(groupID, config, bcosSDKJniObj.getNativePointer()));
         } catch (Exception e) {
             logger.warn("create client for failed, error: ", e);
             throw new BcosSDKException("get Client failed, e: " + e.getMessage(), e);
@@ -111,10 +126,11 @@ public class BcosSDK {
                 throw new BcosSDKException(
                         "The default group is not set, please set it in config.toml: defaultGroup field");
             }
-            return Client.build(
-                    config.getNetworkConfig().getDefaultGroup(),
-                    config,
-                    bcosSDKJniObj.getNativePointer());
+            return trackBlockNumber(
+                    Client.build(
+                            config.getNetworkConfig().getDefaultGroup(),
+                            config,
+                            bcosSDKJniObj.getNativePointer()));
         } catch (Exception e) {
             logger.warn("create client for failed, error: ", e);
             throw new BcosSDKException("get Client failed, e: " + e.getMessage(), e);
@@ -0,0 +1,394 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.client;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.fisco.bcos.sdk.v3.client.protocol.request.JsonRpcMethods;
+import org.fisco.bcos.sdk.v3.client.protocol.request.JsonRpcRequest;
+import org.fisco.bcos.sdk.v3.client.protocol.request.Transaction;
+import org.fisco.bcos.sdk.v3.client.protocol.response.Abi;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosBlock;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosGroupInfoList;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosGroupList;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosGroupNodeInfo;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosTransaction;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosTransactionReceipt;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BlockHash;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BlockNumber;
+import org.fisco.bcos.sdk.v3.client.protocol.response.Call;
+import org.fisco.bcos.sdk.v3.client.protocol.response.Code;
+import org.fisco.bcos.sdk.v3.client.protocol.response.ConsensusStatus;
+import org.fisco.bcos.sdk.v3.client.protocol.response.GroupPeers;
+import org.fisco.bcos.sdk.v3.client.protocol.response.ObserverList;
+import org.fisco.bcos.sdk.v3.client.protocol.response.PbftView;
+import org.fisco.bcos.sdk.v3.client.protocol.response.Peers;
+import org.fisco.bcos.sdk.v3.client.protocol.response.PendingTxSize;
+import org.fisco.bcos.sdk.v3.client.protocol.response.SealerList;
+import org.fisco.bcos.sdk.v3.client.protocol.response.SyncStatus;
+import org.fisco.bcos.sdk.v3.client.protocol.response.SystemConfig;
+import org.fisco.bcos.sdk.v3.client.protocol.response.TotalTransactionCount;
+import org.fisco.bcos.sdk.v3.model.JsonRpcResponse;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+
+/**
+ * The CompletableFuture view of a Client. The responses are decoded by a ResponseDecodeExecutor
+ * sized from the threadPool config, so the native callback threads only copy the raw bytes.
+ *
+ * <p>The futures are failed with ClientException on error response, deadline or rejection, and
+ * complete on the decode threads, heavy continuations should be moved to another executor with the
+ * *Async methods of CompletableFuture.
+ */
+public class AsyncClient {
+    private final Client client;
+    private final ResponseDecodeExecutor decodeExecutor;
+    private final boolean ownDecodeExecutor;
+    private volatile long timeoutMs;
+
+    /**
+     * Create an AsyncClient with a decode executor sized from the threadPool config of the client
+     *
+     * @param client the client to send the requests
+     */
+    public AsyncClient(Client client) {
+        this(
+                client,
+                new ResponseDecodeExecutor(client.getConfigOption().getThreadPoolConfig()),
+                true);
+    }
+
+    /**
+     * Create an AsyncClient sharing the decode executor, which is not stopped by stop()
+     *
+     * @param client the client to send the requests
+     * @param decodeExecutor the executor decoding the responses
+     */
+    public AsyncClient(Client client, ResponseDecodeExecutor decodeExecutor) {
+        this(client, decodeExecutor, false);
+    }
+
+    private AsyncClient(
+            Client client, ResponseDecodeExecutor decodeExecutor, boolean ownDecodeExecutor) {
+        this.client = client;
+        this.decodeExecutor = decodeExecutor;
+        this.ownDecodeExecutor = ownDecodeExecutor;
+        this.timeoutMs = client.getCallTimeout();
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    public ResponseDecodeExecutor getDecodeExecutor() {
+        return decodeExecutor;
+    }
+
+    public long getTimeout() {
+        return timeoutMs;
+    }
+
+    /** @param timeoutMs the deadline of the requests in ms, no deadline if not positive */
+    public void setTimeout(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    /** Stop the decode executor if it is created by this AsyncClient */
+    public void stop() {
+        if (ownDecodeExecutor) {
+            decodeExecutor.stop();
+        }
+    }
+
+    public CompletableFuture<BcosTransactionReceipt> sendTransaction(
+            String signedTransactionData, boolean withProof) {
+        return sendTransaction(defaultNode(), signedTransactionData, withProof);
+    }
+
+    public CompletableFuture<BcosTransactionReceipt> sendTransaction(
+            String node, String signedTransactionData, boolean withProof) {
+        return sendGroupRequest(
+                node,
+                JsonRpcMethods.SEND_TRANSACTION,
+                BcosTransactionReceipt.class,
+                signedTransactionData,
+                withProof);
+    }
+
+    public CompletableFuture<Call> call(Transaction transaction) {
+        return call(defaultNode(), transaction);
+    }
+
+    public CompletableFuture<Call> call(String node, Transaction transaction) {
+        return sendGroupRequest(
+                node,
+                JsonRpcMethods.CALL,
+                Call.class,
+                Hex.trimPrefix(transaction.getTo()),
+                Hex.toHexString(transaction.getData()));
+    }
+
+    public CompletableFuture<Call> call(Transaction transaction, String sign) {
+        return call(defaultNode(), transaction, sign);
+    }
+
+    public CompletableFuture<Call> call(String node, Transaction transaction, String sign) {
+        return sendGroupRequest(
+                node,
+                JsonRpcMethods.CALL,
+                Call.class,
+                Hex.trimPrefix(transaction.getTo()),
+                Hex.toHexString(transaction.getData()),
+                sign);
+    }
+
+    public CompletableFuture<BlockNumber> getBlockNumber() {
+        return getBlockNumber(defaultNode());
+    }
+
+    public CompletableFuture<BlockNumber> getBlockNumber(String node) {
+        return sendGroupRequest(node, JsonRpcMethods.GET_BLOCK_NUMBER, BlockNumber.class);
+    }
+
+    public CompletableFuture<Code> getCode(String address) {
+        return getCode(defaultNode(), address);
+    }
+
+    public CompletableFuture<Code> getCode(String node, String address) {
+        return sendGroupRequest(node, JsonRpcMethods.GET_CODE, Code.class, Hex.trimPrefix(address));
+    }
+
+    public CompletableFuture<Abi> getABI(String address) {
+        return getABI(defaultNode(), address);
+    }
+
+    public CompletableFuture<Abi> getABI(String node, String address) {
+        return sendGroupRequest(node, JsonRpcMethods.GET_ABI, Abi.class, Hex.trimPrefix(address));
+    }
+
+    public CompletableFuture<TotalTransactionCount> getTotalTransactionCount() {
+        return getTotalTransactionCount(defaultNode());
+    }
+
+    public CompletableFuture<TotalTransactionCount> getTotalTransactionCount(String node) {
+        return sendGroupRequest(
+                node, JsonRpcMethods.GET_TOTAL_TRANSACTION_COUNT, TotalTransactionCount.class);
+    }
+
+    public CompletableFuture<BcosBlock> getBlockByHash(
+            String blockHash, boolean onlyHeader, boolean onlyTxHash) {
+        return getBlockByHash(defaultNode(), blockHash, onlyHeader, onlyTxHash);
+    }
+
+    public CompletableFuture<BcosBlock> getBlockByHash(
+            String node, String blockHash, boolean onlyHeader, boolean onlyTxHash) {
+        return sendGroupRequest(
+                node,
+                JsonRpcMethods.GET_BLOCK_BY_HASH,
+                BcosBlock.class,
+                blockHash,
+                onlyHeader,
+                onlyTxHash);
+    }
+
+    public CompletableFuture<BcosBlock> getBlockByNumber(
+            BigInteger blockNumber, boolean onlyHeader, boolean onlyTxHash) {
+        return getBlockByNumber(defaultNode(), blockNumber, onlyHeader, onlyTxHash);
+    }
+
+    public CompletableFuture<BcosBlock> getBlockByNumber(
+            String node, BigInteger blockNumber, boolean onlyHeader, boolean onlyTxHash) {
+        return sendGroupRequest(
+                node,
+                JsonRpcMethods.GET_BLOCK_BY_NUMBER,
+                BcosBlock.class,
+                blockNumber,
+                onlyHeader,
+                onlyTxHash);
+    }
+
+    public CompletableFuture<BlockHash> getBlockHashByNumber(BigInteger blockNumber) {
+        return getBlockHashByNumber(defaultNode(), blockNumber);
+    }
+
+    public CompletableFuture<BlockHash> getBlockHashByNumber(String node, BigInteger blockNumber) {
+        return sendGroupRequest(
+                node, JsonRpcMethods.GET_BLOCKHASH_BY_NUMBER, BlockHash.class, blockNumber);
+    }
+
+    public CompletableFuture<BcosTransaction> getTransaction(
+            String transactionHash, boolean withProof) {
+        return getTransaction(defaultNode(), transactionHash, withProof);
+    }
+
+    public CompletableFuture<BcosTransaction> getTransaction(
+            String node, String transactionHash, boolean withProof) {
+        return sendGroupRequest(
+                node,
+                JsonRpcMethods.GET_TRANSACTION_BY_HASH,
+                BcosTransaction.class,
+                transactionHash,
+                withProof);
+    }
+
+    public CompletableFuture<BcosTransactionReceipt> getTransactionReceipt(
+            String transactionHash, boolean withProof) {
+        return getTransactionReceipt(defaultNode(), transactionHash, withProof);
+    }
+
+    public CompletableFuture<BcosTransactionReceipt> getTransactionReceipt(
+            String node, String transactionHash, boolean withProof) {
+        return sendGroupRequest(
+                node,
+                JsonRpcMethods.GET_TRANSACTION_RECEIPT,
+                BcosTransactionReceipt.class,
+                transactionHash,
+                withProof);
+    }
+
+    public CompletableFuture<PendingTxSize> getPendingTxSize() {
+        return getPendingTxSize(defaultNode());
+    }
+
+    public CompletableFuture<PendingTxSize> getPendingTxSize(String node) {
+        return sendGroupRequest(node, JsonRpcMethods.GET_PENDING_TX_SIZE, PendingTxSize.class);
+    }
+
+    public CompletableFuture<ObserverList> getObserverList() {
+        return getObserverList(defaultNode());
+    }
+
+    public CompletableFuture<ObserverList> getObserverList(String node) {
+        return sendGroupRequest(node, JsonRpcMethods.GET_OBSERVER_LIST, ObserverList.class);
+    }
+
+    public CompletableFuture<SealerList> getSealerList() {
+        return getSealerList(defaultNode());
+    }
+
+    public CompletableFuture<SealerList> getSealerList(String node) {
+        return sendGroupRequest(node, JsonRpcMethods.GET_SEALER_LIST, SealerList.class);
+    }
+
+    public CompletableFuture<SealerList> getNodeListByType(String type) {
+        return getNodeListByType(defaultNode(), type);
+    }
+
+    public CompletableFuture<SealerList> getNodeListByType(String node, String type) {
+        return sendGroupRequest(node, JsonRpcMethods.GET_NODE_LIST_BY_TYPE, SealerList.class, type);
+    }
+
+    public CompletableFuture<PbftView> getPbftView() {
+        return getPbftView(defaultNode());
+    }
+
+    public CompletableFuture<PbftView> getPbftView(String node) {
+        return sendGroupRequest(node, JsonRpcMethods.GET_PBFT_VIEW, PbftView.class);
+    }
+
+    public CompletableFuture<SystemConfig> getSystemConfigByKey(String key) {
+        return getSystemConfigByKey(defaultNode(), key);
+    }
+
+    public CompletableFuture<SystemConfig> getSystemConfigByKey(String node, String key) {
+        return sendGroupRequest(
+                node, JsonRpcMethods.GET_SYSTEM_CONFIG_BY_KEY, SystemConfig.class, key);
+    }
+
+    public CompletableFuture<SyncStatus> getSyncStatus() {
+        return getSyncStatus(defaultNode());
+    }
+
+    public CompletableFuture<SyncStatus> getSyncStatus(String node) {
+        return sendGroupRequest(node, JsonRpcMethods.GET_SYNC_STATUS, SyncStatus.class);
+    }
+
+    public CompletableFuture<ConsensusStatus> getConsensusStatus() {
+        return getConsensusStatus(defaultNode());
+    }
+
+    public CompletableFuture<ConsensusStatus> getConsensusStatus(String node) {
+        return sendGroupRequest(node, JsonRpcMethods.GET_CONSENSUS_STATUS, ConsensusStatus.class);
+    }
+
+    public CompletableFuture<GroupPeers> getGroupPeers() {
+        String groupID = client.getGroup();
+        return send(
+                groupID,
+                defaultNode(),
+                new JsonRpcRequest<>(JsonRpcMethods.GET_GROUP_PEERS, Arrays.asList(groupID, "")),
+                GroupPeers.class);
+    }
+
+    public CompletableFuture<Peers> getPeers() {
+        return send(
+                "",
+                "",
+                new JsonRpcRequest<>(JsonRpcMethods.GET_PEERS, Collections.emptyList()),
+                Peers.class);
+    }
+
+    public CompletableFuture<BcosGroupList> getGroupList() {
+        return send(
+                "",
+                "",
+                new JsonRpcRequest<>(JsonRpcMethods.GET_GROUP_LIST, Collections.emptyList()),
+                BcosGroupList.class);
+    }
+
+    public CompletableFuture<BcosGroupInfoList> getGroupInfoList() {
+        return send(
+                "",
+                "",
+                new JsonRpcRequest<>(JsonRpcMethods.GET_GROUP_INFO_LIST, Collections.emptyList()),
+                BcosGroupInfoList.class);
+    }
+
+    public CompletableFuture<BcosGroupNodeInfo> getGroupNodeInfo(String node) {
+        String groupID = client.getGroup();
+        node = Objects.isNull(node) ? "" : node;
+        return send(
+                groupID,
+                node,
+                new JsonRpcRequest<>(
+                        JsonRpcMethods.GET_GROUP_NODE_INFO, Arrays.asList(groupID, node)),
+                BcosGroupNodeInfo.class);
+    }
+
+    private String defaultNode() {
+        return client.getNodeToSendRequest();
+    }
+
+    /** send the request with params [groupID, node, params...] to the group of the client */
+    private <T extends JsonRpcResponse<?>> CompletableFuture<T> sendGroupRequest(
+            String node, String method, Class<T> responseType, Object... params) {
+        node = Objects.isNull(node) ? "" : node;
+        String groupID = client.getGroup();
+        List<Object> requestParams = new ArrayList<>(params.length + 2);
+        requestParams.add(groupID);
+        requestParams.add(node);
+        requestParams.addAll(Arrays.asList(params));
+        return send(groupID, node, new JsonRpcRequest<>(method, requestParams), responseType);
+    }
+
+    private <T extends JsonRpcResponse<?>> CompletableFuture<T> send(
+            String groupID, String node, JsonRpcRequest<?> request, Class<T> responseType) {
+        return client.callRemoteMethodAsync(
+                groupID, node, request, responseType, timeoutMs, decodeExecutor);
+    }
+}
@@ -0,0 +1,377 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.client.protocol.request.JsonRpcMethods;
+import org.fisco.bcos.sdk.v3.client.protocol.request.JsonRpcRequest;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosBlock;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosTransaction;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosTransactionReceipt;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BlockHash;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BlockNumber;
+import org.fisco.bcos.sdk.v3.model.JsonRpcResponse;
+import org.fisco.bcos.sdk.v3.model.Response;
+import org.fisco.bcos.sdk.v3.utils.ObjectMapperFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects json rpc requests of the group and sends them in one JSON-RPC 2.0 batch, the responses
+ * are matched to the requests by id. If the node does not accept batches, the requests are sent one
+ * by one without waiting for each other, and the batches of the client skip the batch round trip
+ * until the fallback expires.
+ *
+ * <pre>
+ * BatchRequest batch = client.batch();
+ * CompletableFuture&lt;BlockHash&gt; hash = batch.getBlockHashByNumber(BigInteger.ONE);
+ * CompletableFuture&lt;BcosTransactionReceipt&gt; receipt = batch.getTransactionReceipt(txHash, false);
+ * batch.send();
+ * </pre>
+ */
+public class BatchRequest {
+    private static final Logger logger = LoggerFactory.getLogger(BatchRequest.class);
+
+    // the JSON-RPC 2.0 error code of an invalid request object
+    private static final int INVALID_REQUEST_ERROR_CODE = -32600;
+    public static final long DEFAULT_PIPELINED_EXPIRE_MS = TimeUnit.MINUTES.toMillis(10);
+
+    // the clients whose nodes rejected a batch, to the System.nanoTime() to try batches again
+    private static final Map<Client, Long> pipelinedClients =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private static volatile long pipelinedExpireMs = DEFAULT_PIPELINED_EXPIRE_MS;
+
+    private final Client client;
+    private final String groupID;
+    private final String node;
+    private final List<Entry<?>> entries = new ArrayList<>();
+    private long timeoutMs;
+    private boolean sent = false;
+
+    private static class Entry<T extends JsonRpcResponse<?>> {
+        private final JsonRpcRequest<?> request;
+        private final Class<T> responseType;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Entry(JsonRpcRequest<?> request, Class<T> responseType) {
+            this.request = request;
+            this.responseType = responseType;
+        }
+    }
+
+    /**
+     * Set how long the batches of a client are sent one by one after its node rejected a batch, so
+     * that a node upgraded or reconnected later is sent batches again
+     *
+     * @param expireMs the time in ms
+     */
+    public static void setPipelinedExpireMs(long expireMs) {
+        pipelinedExpireMs = expireMs;
+    }
+
+    /**
+     * Send the batches of the client in batch again, e.g. after the client reconnected
+     *
+     * @param client the client
+     */
+    public static void resetPipelined(Client client) {
+        pipelinedClients.remove(client);
+    }
+
+    private static boolean isPipelined(Client client) {
+        Long expireTime = pipelinedClients.get(client);
+        if (expireTime == null) {
+            return false;
+        }
+        if (System.nanoTime() - expireTime < 0) {
+            return true;
+        }
+        if (pipelinedClients.remove(client, expireTime)) {
+            logger.info(
+                    "the batch fallback expired, send the requests in batch again, group: {}",
+                    client.getGroup());
+        }
+        return false;
+    }
+
+    public BatchRequest(Client client) {
+        this.client = client;
+        this.groupID = client.getGroup();
+        this.node =
+                Objects.isNull(client.getNodeToSendRequest()) ? "" : client.getNodeToSendRequest();
+        this.timeoutMs = client.getCallTimeout();
+    }
+
+    /**
+     * @param timeoutMs the deadline of the batch in ms, no deadline if not positive
+     * @return this batch
+     */
+    public BatchRequest setTimeout(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+        return this;
+    }
+
+    /**
+     * Add a request to the batch, the params of the request are [groupID, node, ...] like the
+     * requests built by Client
+     *
+     * @param request the json rpc request, its id must be unique in the batch
+     * @param responseType the response class
+     * @return the future of the response, completed after send()
+     */
+    public synchronized <T extends JsonRpcResponse<?>> CompletableFuture<T> add(
+            JsonRpcRequest<?> request, Class<T> responseType) {
+        if (sent) {
+            throw new IllegalStateException("the batch has been sent");
+        }
+        Entry<T> entry = new Entry<>(request, responseType);
+        entries.add(entry);
+        return entry.future;
+    }
+
+    public CompletableFuture<BlockNumber> getBlockNumber() {
+        return add(
+                new JsonRpcRequest<>(JsonRpcMethods.GET_BLOCK_NUMBER, Arrays.asList(groupID, node)),
+                BlockNumber.class);
+    }
+
+    public CompletableFuture<BlockHash> getBlockHashByNumber(BigInteger blockNumber) {
+        return add(
+                new JsonRpcRequest<>(
+                        JsonRpcMethods.GET_BLOCKHASH_BY_NUMBER,
+                        Arrays.asList(groupID, node, blockNumber)),
+                BlockHash.class);
+    }
+
+    public CompletableFuture<BcosBlock> getBlockByNumber(
+            BigInteger blockNumber, boolean onlyHeader, boolean onlyTxHash) {
+        return add(
+                new JsonRpcRequest<>(
+                        JsonRpcMethods.GET_BLOCK_BY_NUMBER,
+                        Arrays.asList(groupID, node, blockNumber, onlyHeader, onlyTxHash)),
+                BcosBlock.class);
+    }
+
+    public CompletableFuture<BcosTransaction> getTransaction(
+            String transactionHash, boolean withProof) {
+        return add(
+                new JsonRpcRequest<>(
+                        JsonRpcMethods.GET_TRANSACTION_BY_HASH,
+                        Arrays.asList(groupID, node, transactionHash, withProof)),
+                BcosTransaction.class);
+    }
+
+    public CompletableFuture<BcosTransactionReceipt> getTransactionReceipt(
+            String transactionHash, boolean withProof) {
+        return add(
+                new JsonRpcRequest<>(
+                        JsonRpcMethods.GET_TRANSACTION_RECEIPT,
+                        Arrays.asList(groupID, node, transactionHash, withProof)),
+                BcosTransactionReceipt.class);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Send the batch, a batch can be sent only once
+     *
+     * @return the future completed when all the futures of the batch complete, the failures are
+     *     reported by the futures of the requests
+     */
+    public CompletableFuture<Void> send() {
+        List<Entry<?>> batchEntries;
+        synchronized (this) {
+            if (sent) {
+                throw new IllegalStateException("the batch has been sent");
+            }
+            sent = true;
+            batchEntries = new ArrayList<>(entries);
+        }
+        if (batchEntries.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (batchEntries.size() == 1 || isPipelined(client)) {
+            sendPipelined(batchEntries);
+        } else {
+            sendBatch(batchEntries);
+        }
+        return CompletableFuture.allOf(
+                batchEntries.stream().map(entry -> entry.future).toArray(CompletableFuture[]::new));
+    }
+
+    private void sendBatch(List<Entry<?>> batchEntries) {
+        List<JsonRpcRequest<?>> requests = new ArrayList<>(batchEntries.size());
+        Map<Long, Entry<?>> entryById = new HashMap<>();
+        for (Entry<?> entry : batchEntries) {
+            requests.add(entry.request);
+            if (entryById.put(entry.request.getId(), entry) != null) {
+                failAll(
+                        batchEntries,
+                        new ClientException(
+                                "send batch failed for duplicated request id: "
+                                        + entry.request.getId()));
+                return;
+            }
+        }
+        String data;
+        try {
+            data = ObjectMapperFactory.getObjectMapper().writeValueAsString(requests);
+        } catch (JsonProcessingException e) {
+            failAll(
+                    batchEntries,
+                    new ClientException(
+                            "send batch failed for encode the request, error message:"
+                                    + e.getMessage(),
+                            e));
+            return;
+        }
+        client.callRemoteRawAsync(groupID, node, data, timeoutMs)
+                .whenComplete(
+                        (response, error) -> {
+                            if (error != null) {
+                                failAll(batchEntries, error);
+                            } else {
+                                onBatchResponse(batchEntries, entryById, response);
+                            }
+                        });
+    }
+
+    private void onBatchResponse(
+            List<Entry<?>> batchEntries, Map<Long, Entry<?>> entryById, Response response) {
+        if (response.getErrorCode() != 0) {
+            logger.warn(
+                    "send batch failed, send the requests one by one, errorCode: {}, errorMessage: {}",
+                    response.getErrorCode(),
+                    response.getErrorMessage());
+            sendPipelined(batchEntries);
+            return;
+        }
+        JsonNode responseNode;
+        try {
+            responseNode = ObjectMapperFactory.getObjectMapper().readTree(response.getContent());
+        } catch (Exception e) {
+            responseNode = null;
+        }
+        if (responseNode == null || !responseNode.isArray()) {
+            if (isBatchUnsupported(responseNode)) {
+                long expireMs = pipelinedExpireMs;
+                pipelinedClients.put(
+                        client, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(expireMs));
+                logger.warn(
+                        "the node does not support batch requests, send the requests one by one in the next {} ms, group: {}, node: {}",
+                        expireMs,
+                        groupID,
+                        node);
+            } else {
+                logger.warn(
+                        "send batch failed for unexpected response, send the requests one by one, group: {}, node: {}",
+                        groupID,
+                        node);
+            }
+            sendPipelined(batchEntries);
+            return;
+        }
+        for (JsonNode elementNode : responseNode) {
+            JsonNode idNode = elementNode.get("id");
+            Entry<?> entry = idNode == null ? null : entryById.get(idNode.asLong());
+            if (entry == null) {
+                logger.warn("drop the batch response of unknown id: {}", idNode);
+                continue;
+            }
+            completeEntry(entry, elementNode);
+        }
+        failAll(
+                batchEntries,
+                new ClientException("send batch failed for no response of the request"));
+    }
+
+    /**
+     * A node without batch support answers the batch, which is always well formed, with a single
+     * response object, or with an invalid request error. Other replies only send this batch one by
+     * one.
+     */
+    private static boolean isBatchUnsupported(JsonNode responseNode) {
+        if (responseNode == null || !responseNode.isObject()) {
+            return false;
+        }
+        JsonNode errorNode = responseNode.get("error");
+        return errorNode == null
+                || errorNode.isNull()
+                || errorNode.path("code").asInt() == INVALID_REQUEST_ERROR_CODE;
+    }
+
+    private static <T extends JsonRpcResponse<?>> void completeEntry(
+            Entry<T> entry, JsonNode elementNode) {
+        try {
+            T jsonRpcResponse =
+                    ObjectMapperFactory.getObjectReader(entry.responseType).readValue(elementNode);
+            if (jsonRpcResponse.getError() != null) {
+                entry.future.completeExceptionally(
+                        new ClientException(
+                                jsonRpcResponse.getError().getCode(),
+                                jsonRpcResponse.getError().getMessage(),
+                                "ErrorMessage: " + jsonRpcResponse.getError().getMessage()));
+                return;
+            }
+            entry.future.complete(jsonRpcResponse);
+        } catch (Exception e) {
+            entry.future.completeExceptionally(
+                    new ClientException(
+                            entry.request.getMethod()
+                                    + " failed for decode the message exception, error message:"
+                                    + e.getMessage(),
+                            e));
+        }
+    }
+
+    private void sendPipelined(List<Entry<?>> batchEntries) {
+        for (Entry<?> entry : batchEntries) {
+            sendEntry(entry);
+        }
+    }
+
+    private <T extends JsonRpcResponse<?>> void sendEntry(Entry<T> entry) {
+        client.callRemoteMethodAsync(groupID, node, entry.request, entry.responseType, timeoutMs)
+                .whenComplete(
+                        (response, error) -> {
+                            if (error != null) {
+                                entry.future.completeExceptionally(error);
+                            } else {
+                                entry.future.complete(response);
+                            }
+                        });
+    }
+
+    /** fail the futures not completed yet */
+    private static void failAll(List<Entry<?>> batchEntries, Throwable error) {
+        for (Entry<?> entry : batchEntries) {
+            entry.future.completeExceptionally(error);
+        }
+    }
+}
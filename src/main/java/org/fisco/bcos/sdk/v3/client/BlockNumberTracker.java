@@ -0,0 +1,125 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.client;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.fisco.bcos.sdk.jni.BlockNotifier;
+
+/**
+ * Tracks the latest block number of a group from the block notifications of the nodes and from the
+ * getBlockNumber responses, so getBlockNumber() and getBlockLimit() can be answered without a
+ * request.
+ *
+ * <p>The tracked number is fresh for maxAgeMs after the last update, a stale number is not used to
+ * answer getBlockNumber() since the notifications may have stopped. Local answers are disabled if
+ * maxAgeMs is not positive.
+ */
+public class BlockNumberTracker implements BlockNotifier {
+    private final String groupID;
+    private final long maxAgeNanos;
+
+    private final AtomicLong blockNumber = new AtomicLong(-1);
+    private volatile long updateTimeNanos;
+
+    private final LongAdder notifications = new LongAdder();
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteCalls = new LongAdder();
+
+    /**
+     * @param groupID the group to track, the notifications of other groups are ignored
+     * @param maxAgeMs the time in ms a tracked number stays fresh, no local answers if not positive
+     */
+    public BlockNumberTracker(String groupID, long maxAgeMs) {
+        this.groupID = groupID;
+        this.maxAgeNanos = maxAgeMs > 0 ? maxAgeMs * 1_000_000 : 0;
+    }
+
+    @Override
+    public void onResponse(String groupID, BigInteger blockNumber) {
+        if (blockNumber == null || (this.groupID != null && !this.groupID.equals(groupID))) {
+            return;
+        }
+        notifications.increment();
+        update(blockNumber.longValue());
+    }
+
+    /**
+     * The tracked number never goes back, an older number only refreshes the update time
+     *
+     * @param blockNumber the block number reported by a node
+     */
+    public void update(long blockNumber) {
+        this.blockNumber.accumulateAndGet(blockNumber, Math::max);
+        this.updateTimeNanos = System.nanoTime();
+    }
+
+    /** @return the latest block number tracked, -1 if unknown */
+    public long getBlockNumber() {
+        return blockNumber.get();
+    }
+
+    public boolean isEnabled() {
+        return maxAgeNanos > 0;
+    }
+
+    /** @return true if the tracked number is known and updated within maxAgeMs */
+    public boolean isFresh() {
+        return isEnabled()
+                && blockNumber.get() >= 0
+                && System.nanoTime() - updateTimeNanos <= maxAgeNanos;
+    }
+
+    /**
+     * Answer a block number query locally if possible, the miss is counted as a remote call
+     *
+     * @return the tracked block number, -1 if it is stale or unknown
+     */
+    public long getFreshBlockNumber() {
+        long number = blockNumber.get();
+        if (isFresh()) {
+            localHits.increment();
+            return number;
+        }
+        remoteCalls.increment();
+        return -1;
+    }
+
+    public String getGroupID() {
+        return groupID;
+    }
+
+    /** @return the age in ms of the tracked number, -1 if unknown */
+    public long getAgeMs() {
+        if (blockNumber.get() < 0) {
+            return -1;
+        }
+        return (System.nanoTime() - updateTimeNanos) / 1_000_000;
+    }
+
+    public long getNotifications() {
+        return notifications.sum();
+    }
+
+    /** @return the queries answered by the tracked number */
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    /** @return the queries sent to the node for the tracked number is stale */
+    public long getRemoteCalls() {
+        return remoteCalls.sum();
+    }
+}
@@ -0,0 +1,370 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.client;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosBlock;
+import org.fisco.bcos.sdk.v3.model.Response;
+import org.fisco.bcos.sdk.v3.model.callback.RespCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fetches the blocks [fromBlock, toBlock] with several getBlockByNumber requests in flight, spread
+ * over the nodes of the group, and delivers them in block number order.
+ *
+ * <p>The fetcher never runs more than bufferSize blocks ahead of the consumer, so a slow consumer
+ * throttles the requests. A failed height is retried on the next node up to maxRetries times, then
+ * next() throws the ClientException once all the blocks before it are delivered.
+ *
+ * <pre>
+ * BlockRangeFetcher fetcher = new BlockRangeFetcher(client, 0, 100000).setMaxInFlightRequests(32);
+ * fetcher.fetch(block -&gt; index(block));
+ * </pre>
+ */
+public class BlockRangeFetcher implements Iterator<BcosBlock.Block> {
+    private static final Logger logger = LoggerFactory.getLogger(BlockRangeFetcher.class);
+
+    public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 16;
+    public static final int DEFAULT_BUFFER_SIZE = 256;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    private final Client client;
+    private final long fromBlock;
+    private final long toBlock;
+
+    private int maxInFlightRequests = DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+    private boolean onlyHeader = false;
+    private boolean onlyTxHash = false;
+    private List<String> nodes = new ArrayList<>();
+
+    // guarded by this
+    private final Map<Long, BcosBlock.Block> fetchedBlocks = new HashMap<>();
+    private long nextBlockToRequest;
+    private long nextBlockToDeliver;
+    private int inFlightRequests = 0;
+    private ClientException error;
+    // the lowest height failed after the retries, the heights below it are requested already
+    private long failedBlockNumber = Long.MAX_VALUE;
+    private boolean started = false;
+    private boolean stopped = false;
+    private long startTime;
+
+    private final AtomicInteger nodeIndex = new AtomicInteger();
+    private final LongAdder fetchedBlockCount = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    /**
+     * @param client the client of the group
+     * @param fromBlock the first block number, inclusive
+     * @param toBlock the last block number, inclusive
+     */
+    public BlockRangeFetcher(Client client, long fromBlock, long toBlock) {
+        if (fromBlock < 0 || toBlock < fromBlock) {
+            throw new IllegalArgumentException(
+                    "invalid block range [" + fromBlock + ", " + toBlock + "]");
+        }
+        this.client = client;
+        this.fromBlock = fromBlock;
+        this.toBlock = toBlock;
+        this.nextBlockToRequest = fromBlock;
+        this.nextBlockToDeliver = fromBlock;
+    }
+
+    public synchronized BlockRangeFetcher setMaxInFlightRequests(int maxInFlightRequests) {
+        checkNotStarted();
+        if (maxInFlightRequests <= 0) {
+            throw new IllegalArgumentException("maxInFlightRequests must be positive");
+        }
+        this.maxInFlightRequests = maxInFlightRequests;
+        return this;
+    }
+
+    /** @param bufferSize the max blocks fetched ahead of the consumer */
+    public synchronized BlockRangeFetcher setBufferSize(int bufferSize) {
+        checkNotStarted();
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    public synchronized BlockRangeFetcher setMaxRetries(int maxRetries) {
+        checkNotStarted();
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    public synchronized BlockRangeFetcher setOnlyHeader(boolean onlyHeader) {
+        checkNotStarted();
+        this.onlyHeader = onlyHeader;
+        return this;
+    }
+
+    public synchronized BlockRangeFetcher setOnlyTxHash(boolean onlyTxHash) {
+        checkNotStarted();
+        this.onlyTxHash = onlyTxHash;
+        return this;
+    }
+
+    /** @param nodes the nodes to send the requests, the nodes of the group by default */
+    public synchronized BlockRangeFetcher setNodes(List<String> nodes) {
+        checkNotStarted();
+        this.nodes = new ArrayList<>(nodes);
+        return this;
+    }
+
+    /** Start the requests, called by the first hasNext() or next() if not called */
+    public void start() {
+        synchronized (this) {
+            if (started) {
+                return;
+            }
+            started = true;
+            if (nodes.isEmpty()) {
+                nodes = ClientImpl.getGroupNodes(client);
+            }
+            startTime = System.nanoTime();
+        }
+        logger.info(
+                "start fetching blocks [{}, {}], nodes: {}, maxInFlightRequests: {}, bufferSize: {}",
+                fromBlock,
+                toBlock,
+                nodes,
+                maxInFlightRequests,
+                bufferSize);
+        requestBlocks();
+    }
+
+    /** Stop sending requests, the blocked next() throws ClientException */
+    public synchronized void stop() {
+        stopped = true;
+        fetchedBlocks.clear();
+        notifyAll();
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        return nextBlockToDeliver <= toBlock;
+    }
+
+    /**
+     * Wait for the next block in block number order
+     *
+     * @return the next block
+     * @throws ClientException if the block can't be fetched, the fetcher is stopped or the thread
+     *     is interrupted
+     */
+    @Override
+    public BcosBlock.Block next() {
+        start();
+        BcosBlock.Block block;
+        synchronized (this) {
+            if (nextBlockToDeliver > toBlock) {
+                throw new NoSuchElementException("all the blocks are delivered");
+            }
+            while ((block = fetchedBlocks.remove(nextBlockToDeliver)) == null) {
+                if (nextBlockToDeliver >= failedBlockNumber) {
+                    throw error;
+                }
+                if (stopped) {
+                    throw new ClientException("the block range fetcher is stopped");
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ClientException(
+                            "fetch block " + nextBlockToDeliver + " interrupted", e);
+                }
+            }
+            nextBlockToDeliver++;
+        }
+        // a free slot of the buffer
+        requestBlocks();
+        return block;
+    }
+
+    /**
+     * Deliver all the blocks to the consumer in block number order on the calling thread
+     *
+     * @param consumer the consumer of the blocks
+     */
+    public void fetch(Consumer<BcosBlock.Block> consumer) {
+        while (hasNext()) {
+            consumer.accept(next());
+        }
+    }
+
+    private void requestBlocks() {
+        List<Long> blockNumbers = new ArrayList<>();
+        synchronized (this) {
+            while (!stopped
+                    && error == null
+                    && inFlightRequests < maxInFlightRequests
+                    && nextBlockToRequest <= toBlock
+                    && nextBlockToRequest < nextBlockToDeliver + bufferSize) {
+                blockNumbers.add(nextBlockToRequest++);
+                inFlightRequests++;
+            }
+        }
+        for (Long blockNumber : blockNumbers) {
+            requestBlock(blockNumber, 0);
+        }
+    }
+
+    private void requestBlock(long blockNumber, int attempt) {
+        String node = nodes.get(Math.floorMod(nodeIndex.getAndIncrement(), nodes.size()));
+        try {
+            client.getBlockByNumberAsync(
+                    node,
+                    BigInteger.valueOf(blockNumber),
+                    onlyHeader,
+                    onlyTxHash,
+                    new RespCallback<BcosBlock>() {
+                        @Override
+                        public void onResponse(BcosBlock bcosBlock) {
+                            if (bcosBlock == null || bcosBlock.getBlock() == null) {
+                                onFailure(blockNumber, attempt, node, "empty block");
+                                return;
+                            }
+                            onBlock(blockNumber, bcosBlock.getBlock());
+                        }
+
+                        @Override
+                        public void onError(Response errorResponse) {
+                            onFailure(
+                                    blockNumber,
+                                    attempt,
+                                    node,
+                                    errorResponse.getErrorCode()
+                                            + ", "
+                                            + errorResponse.getErrorMessage());
+                        }
+                    });
+        } catch (Exception e) {
+            onFailure(blockNumber, attempt, node, e.getMessage());
+        }
+    }
+
+    private void onBlock(long blockNumber, BcosBlock.Block block) {
+        synchronized (this) {
+            inFlightRequests--;
+            if (stopped) {
+                return;
+            }
+            fetchedBlocks.put(blockNumber, block);
+            fetchedBlockCount.increment();
+            notifyAll();
+        }
+        requestBlocks();
+    }
+
+    private void onFailure(long blockNumber, int attempt, String node, String errorMessage) {
+        synchronized (this) {
+            if (stopped) {
+                inFlightRequests--;
+                return;
+            }
+        }
+        if (attempt < maxRetries) {
+            logger.debug(
+                    "fetch block {} from node {} failed, retry: {}, error: {}",
+                    blockNumber,
+                    node,
+                    attempt + 1,
+                    errorMessage);
+            retries.increment();
+            requestBlock(blockNumber, attempt + 1);
+            return;
+        }
+        logger.warn(
+                "fetch block {} failed after {} retries, error: {}",
+                blockNumber,
+                attempt,
+                errorMessage);
+        synchronized (this) {
+            inFlightRequests--;
+            if (blockNumber < failedBlockNumber) {
+                failedBlockNumber = blockNumber;
+                error =
+                        new ClientException(
+                                "fetch block "
+                                        + blockNumber
+                                        + " failed after "
+                                        + attempt
+                                        + " retries, error: "
+                                        + errorMessage);
+            }
+            notifyAll();
+        }
+    }
+
+    private void checkNotStarted() {
+        if (started) {
+            throw new IllegalStateException("the block range fetcher has been started");
+        }
+    }
+
+    public long getFromBlock() {
+        return fromBlock;
+    }
+
+    public long getToBlock() {
+        return toBlock;
+    }
+
+    public synchronized int getInFlightRequests() {
+        return inFlightRequests;
+    }
+
+    /** @return the fetched blocks waiting for the consumer */
+    public synchronized int getBufferedBlocks() {
+        return fetchedBlocks.size();
+    }
+
+    public long getFetchedBlocks() {
+        return fetchedBlockCount.sum();
+    }
+
+    public synchronized long getDeliveredBlocks() {
+        return nextBlockToDeliver - fromBlock;
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /** @return the delivered blocks per second since start */
+    public synchronized double getBlocksPerSecond() {
+        if (!started) {
+            return 0;
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        return elapsedNanos <= 0 ? 0 : (nextBlockToDeliver - fromBlock) * 1e9 / elapsedNanos;
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.client;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import org.fisco.bcos.sdk.v3.utils.VirtualThreads;
+
+/**
+ * Runs the blocking calls of Client and the transaction processors, e.g. client.call(...) or
+ * processor.sendTransactionAndGetReceiptByContractLoader(...), each on its own thread: a virtual
+ * thread on JDK 21+, a platform thread otherwise.
+ */
+public class BlockingCallExecutor implements AutoCloseable {
+    private final ExecutorService executor;
+    private final boolean virtual;
+
+    private final LongAdder submittedCalls = new LongAdder();
+    private final LongAdder failedCalls = new LongAdder();
+
+    public BlockingCallExecutor() {
+        this("blocking-call");
+    }
+
+    /** @param namePrefix the name prefix of the platform threads running the calls */
+    public BlockingCallExecutor(String namePrefix) {
+        ExecutorService virtualExecutor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        this.virtual = virtualExecutor != null;
+        this.executor =
+                virtual
+                        ? virtualExecutor
+                        : VirtualThreads.newPlatformThreadPerTaskExecutor(namePrefix);
+    }
+
+    /**
+     * @param call the blocking call
+     * @return the future completed with the result of the call, or with the exception it throws
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        submittedCalls.increment();
+        try {
+            executor.execute(
+                    () -> {
+                        try {
+                            future.complete(call.call());
+                        } catch (Throwable e) {
+                            failedCalls.increment();
+                            future.completeExceptionally(e);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            failedCalls.increment();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /** @return true if the calls run on virtual threads, false after the platform fallback */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public long getSubmittedCalls() {
+        return submittedCalls.sum();
+    }
+
+    public long getFailedCalls() {
+        return failedCalls.sum();
+    }
+
+    /** the calls running are not interrupted, the calls submitted later are rejected */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
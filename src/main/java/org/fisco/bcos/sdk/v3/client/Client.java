@@ -16,7 +16,9 @@
 package org.fisco.bcos.sdk.v3.client;
 
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 import org.fisco.bcos.sdk.jni.BcosSDKJniObj;
+import org.fisco.bcos.sdk.v3.client.protocol.request.JsonRpcRequest;
 import org.fisco.bcos.sdk.v3.client.protocol.request.Transaction;
 import org.fisco.bcos.sdk.v3.client.protocol.response.Abi;
 import org.fisco.bcos.sdk.v3.client.protocol.response.BcosBlock;
@@ -43,6 +45,8 @@ import org.fisco.bcos.sdk.v3.client.protocol.response.TotalTransactionCount;
 import org.fisco.bcos.sdk.v3.config.ConfigOption;
 import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
 import org.fisco.bcos.sdk.v3.model.EnumNodeVersion;
+import org.fisco.bcos.sdk.v3.model.JsonRpcResponse;
+import org.fisco.bcos.sdk.v3.model.Response;
 import org.fisco.bcos.sdk.v3.model.callback.RespCallback;
 import org.fisco.bcos.sdk.v3.model.callback.TransactionCallback;
 import org.slf4j.Logger;
@@ -159,6 +163,108 @@ public interface Client {
     /** @return return client config */
     ConfigOption getConfigOption();
 
+    /** @return the deadline of the synchronous rpc calls in ms, no deadline if not positive */
+    long getCallTimeout();
+
+    /** @return the in-flight request limiter, with the rejection counters of every node */
+    NodeRequestLimiter getRequestLimiter();
+
+    /**
+     * Set the cache in front of getBlockByNumber, getBlockByHash, getTransaction and
+     * getTransactionReceipt
+     *
+     * @param responseCache the cache, null to disable the cache
+     */
+    void setResponseCache(ResponseCache responseCache);
+
+    /** @return the response cache, null if not set */
+    ResponseCache getResponseCache();
+
+    /**
+     * The tracker of the latest block number of the group, fed by the block notifications of the
+     * nodes and by the getBlockNumber responses
+     *
+     * @return the block number tracker
+     */
+    BlockNumberTracker getBlockNumberTracker();
+
+    /**
+     * Route the reads the client would let the native sdk route, such as call and getBlockByNumber,
+     * to the nodes chosen by the selector. The requests to a specific node, set by the node param
+     * or setNodeToSendRequest, are not routed.
+     *
+     * @param nodeSelector the selector, null to let the native sdk choose
+     */
+    void setNodeSelector(NodeSelector nodeSelector);
+
+    /** @return the node selector, null if not set */
+    NodeSelector getNodeSelector();
+
+    /**
+     * Send a json rpc request without blocking. Cancelling the returned future, or reaching the
+     * deadline, releases the in-flight permit of the node and drops the late response.
+     *
+     * @param groupID the group of the request
+     * @param node the node to send the request, empty to let the sdk choose
+     * @param request the json rpc request
+     * @param responseType the response class
+     * @param timeoutMs the deadline in ms, no deadline if not positive
+     * @return the future of the response, failed with ClientException on error response, deadline
+     *     or rejection
+     */
+    default <T extends JsonRpcResponse<?>> CompletableFuture<T> callRemoteMethodAsync(
+            String groupID,
+            String node,
+            JsonRpcRequest<?> request,
+            Class<T> responseType,
+            long timeoutMs) {
+        return callRemoteMethodAsync(groupID, node, request, responseType, timeoutMs, null);
+    }
+
+    /**
+     * Send a json rpc request without blocking, the response is decoded by the given executor
+     * instead of the native callback thread
+     *
+     * @param groupID the group of the request
+     * @param node the node to send the request, empty to let the sdk choose
+     * @param request the json rpc request
+     * @param responseType the response class
+     * @param timeoutMs the deadline in ms, no deadline if not positive
+     * @param decodeExecutor the executor decoding the response, null to decode on the callback
+     *     thread
+     * @return the future of the response, failed with ClientException on error response, deadline
+     *     or rejection
+     */
+    <T extends JsonRpcResponse<?>> CompletableFuture<T> callRemoteMethodAsync(
+            String groupID,
+            String node,
+            JsonRpcRequest<?> request,
+            Class<T> responseType,
+            long timeoutMs,
+            ResponseDecodeExecutor decodeExecutor);
+
+    /**
+     * Send a raw json rpc payload without blocking, used for the requests that are not a single
+     * JsonRpcRequest like batches
+     *
+     * @param groupID the group of the request
+     * @param node the node to send the request, empty to let the sdk choose
+     * @param request the json payload
+     * @param timeoutMs the deadline in ms, no deadline if not positive
+     * @return the future of the raw response, failed with ClientException on deadline or rejection
+     */
+    CompletableFuture<Response> callRemoteRawAsync(
+            String groupID, String node, String request, long timeoutMs);
+
+    /**
+     * Create a batch of json rpc requests sent in one round trip
+     *
+     * @return the batch of the group of the client
+     */
+    default BatchRequest batch() {
+        return new BatchRequest(this);
+    }
+
     // ------------------------- rpc interface begin ------------------------------------------
 
     /**
@@ -16,15 +16,32 @@ package org.fisco.bcos.sdk.v3.client;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.fisco.bcos.sdk.jni.BcosSDKJniObj;
 import org.fisco.bcos.sdk.jni.rpc.RpcJniObj;
 import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.client.exceptions.JsonRpcErrorException;
 import org.fisco.bcos.sdk.v3.client.protocol.model.GroupNodeIniConfig;
 import org.fisco.bcos.sdk.v3.client.protocol.model.GroupNodeIniInfo;
 import org.fisco.bcos.sdk.v3.client.protocol.request.JsonRpcMethods;
@@ -53,6 +70,7 @@ import org.fisco.bcos.sdk.v3.client.protocol.response.SyncStatus;
 import org.fisco.bcos.sdk.v3.client.protocol.response.SystemConfig;
 import org.fisco.bcos.sdk.v3.client.protocol.response.TotalTransactionCount;
 import org.fisco.bcos.sdk.v3.config.ConfigOption;
+import org.fisco.bcos.sdk.v3.config.model.NetworkConfig;
 import org.fisco.bcos.sdk.v3.contract.precompiled.sysconfig.SystemConfigService;
 import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
 import org.fisco.bcos.sdk.v3.model.CryptoType;
@@ -63,6 +81,7 @@ import org.fisco.bcos.sdk.v3.model.callback.RespCallback;
 import org.fisco.bcos.sdk.v3.model.callback.ResponseCallback;
 import org.fisco.bcos.sdk.v3.model.callback.TransactionCallback;
 import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.fisco.bcos.sdk.v3.utils.Numeric;
 import org.fisco.bcos.sdk.v3.utils.ObjectMapperFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -70,6 +89,24 @@ import org.slf4j.LoggerFactory;
 public class ClientImpl implements Client {
     private static final Logger logger = LoggerFactory.getLogger(ClientImpl.class);
     private static final int BLOCK_LIMIT_RANGE = 500;
+    // the reads answered alike by every synced node of the group
+    private static final Set<String> SELECTABLE_METHODS =
+            new HashSet<>(
+                    Arrays.asList(
+                            JsonRpcMethods.CALL,
+                            JsonRpcMethods.GET_CODE,
+                            JsonRpcMethods.GET_ABI,
+                            JsonRpcMethods.GET_BLOCK_NUMBER,
+                            JsonRpcMethods.GET_BLOCK_BY_HASH,
+                            JsonRpcMethods.GET_BLOCK_BY_NUMBER,
+                            JsonRpcMethods.GET_BLOCKHASH_BY_NUMBER,
+                            JsonRpcMethods.GET_TRANSACTION_BY_HASH,
+                            JsonRpcMethods.GET_TRANSACTION_RECEIPT,
+                            JsonRpcMethods.GET_TOTAL_TRANSACTION_COUNT,
+                            JsonRpcMethods.GET_SYSTEM_CONFIG_BY_KEY,
+                            JsonRpcMethods.GET_SEALER_LIST,
+                            JsonRpcMethods.GET_OBSERVER_LIST));
+    private static final ScheduledExecutorService timeoutScheduler = createTimeoutScheduler();
 
     // ------------basic group info --------------
     private String groupID = "";
@@ -84,14 +121,17 @@ public class ClientImpl implements Client {
 
     // ------------ runtime info -----------------
 
-    private long blockNumber = 0;
-
     private String nodeToSendRequest = "";
     private final ConfigOption configOption;
     private BcosGroupInfo.GroupInfo groupInfo;
     private GroupNodeIniConfig groupNodeIniConfig;
     private CryptoSuite cryptoSuite;
     private RpcJniObj rpcJniObj;
+    private final long callTimeout;
+    private final NodeRequestLimiter requestLimiter;
+    private volatile ResponseCache responseCache;
+    private final BlockNumberTracker blockNumberTracker;
+    private volatile NodeSelector nodeSelector;
 
     protected final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
 
@@ -140,7 +180,7 @@ public class ClientImpl implements Client {
             }
         }
         this.smCrypto = groupNodeIniConfig.getChain().isSmCrypto();
-        this.blockNumber = this.getBlockNumber().getBlockNumber().longValue();
+        long blockNumber = this.getBlockNumber().getBlockNumber().longValue();
 
         logger.info(
                 "init group info in rpc, chainID: {}, smCrypto: {}, wasm: {}, authCheck:{}, serialExecute:{}, blockNumber: {}, GroupNodeIniConfig: {}",
@@ -156,6 +196,17 @@ public class ClientImpl implements Client {
     protected ClientImpl(String groupID, ConfigOption configOption, long nativePointer) {
         this.groupID = groupID;
         this.configOption = configOption;
+        NetworkConfig networkConfig = configOption.getNetworkConfig();
+        this.callTimeout =
+                networkConfig != null
+                        ? networkConfig.getCallTimeout()
+                        : NetworkConfig.DEFAULT_CALL_TIMEOUT;
+        this.blockNumberTracker =
+                new BlockNumberTracker(
+                        groupID, networkConfig != null ? networkConfig.getBlockNumberMaxAge() : 0);
+        this.requestLimiter =
+                new NodeRequestLimiter(
+                        networkConfig != null ? networkConfig.getMaxInFlightRequestsPerNode() : 0);
         this.rpcJniObj = RpcJniObj.build(nativePointer);
 
         // start rpc
@@ -213,6 +264,41 @@ public class ClientImpl implements Client {
         return this.groupID;
     }
 
+    @Override
+    public long getCallTimeout() {
+        return this.callTimeout;
+    }
+
+    @Override
+    public NodeRequestLimiter getRequestLimiter() {
+        return this.requestLimiter;
+    }
+
+    @Override
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public ResponseCache getResponseCache() {
+        return this.responseCache;
+    }
+
+    @Override
+    public BlockNumberTracker getBlockNumberTracker() {
+        return this.blockNumberTracker;
+    }
+
+    @Override
+    public void setNodeSelector(NodeSelector nodeSelector) {
+        this.nodeSelector = nodeSelector;
+    }
+
+    @Override
+    public NodeSelector getNodeSelector() {
+        return this.nodeSelector;
+    }
+
     @Override
     public String getChainId() {
         return this.chainID;
@@ -411,13 +497,20 @@ public class ClientImpl implements Client {
     @Override
     public BlockNumber getBlockNumber(String node) {
         node = Objects.isNull(node) ? "" : node;
+        BlockNumber trackedBlockNumber = getTrackedBlockNumber(node);
+        if (trackedBlockNumber != null) {
+            return trackedBlockNumber;
+        }
         // create request
-        return this.callRemoteMethod(
-                this.groupID,
-                node,
-                new JsonRpcRequest<>(
-                        JsonRpcMethods.GET_BLOCK_NUMBER, Arrays.asList(this.groupID, node)),
-                BlockNumber.class);
+        BlockNumber blockNumber =
+                this.callRemoteMethod(
+                        this.groupID,
+                        node,
+                        new JsonRpcRequest<>(
+                                JsonRpcMethods.GET_BLOCK_NUMBER, Arrays.asList(this.groupID, node)),
+                        BlockNumber.class);
+        trackBlockNumber(blockNumber);
+        return blockNumber;
     }
 
     @Override
@@ -428,13 +521,58 @@ public class ClientImpl implements Client {
     @Override
     public void getBlockNumberAsync(String node, RespCallback<BlockNumber> callback) {
         node = Objects.isNull(node) ? "" : node;
+        BlockNumber trackedBlockNumber = getTrackedBlockNumber(node);
+        if (trackedBlockNumber != null) {
+            callback.onResponse(trackedBlockNumber);
+            return;
+        }
         this.asyncCallRemoteMethod(
                 this.groupID,
                 node,
                 new JsonRpcRequest<>(
                         JsonRpcMethods.GET_BLOCK_NUMBER, Arrays.asList(this.groupID, node)),
                 BlockNumber.class,
-                callback);
+                new RespCallback<BlockNumber>() {
+                    @Override
+                    public void onResponse(BlockNumber blockNumber) {
+                        trackBlockNumber(blockNumber);
+                        callback.onResponse(blockNumber);
+                    }
+
+                    @Override
+                    public void onError(Response errorResponse) {
+                        callback.onError(errorResponse);
+                    }
+                });
+    }
+
+    /**
+     * Answer the query of the block number of the group with the tracked number, the queries of a
+     * specific node are always sent to the node
+     */
+    private BlockNumber getTrackedBlockNumber(String node) {
+        if (!node.isEmpty() || !blockNumberTracker.isEnabled()) {
+            return null;
+        }
+        long trackedBlockNumber = blockNumberTracker.getFreshBlockNumber();
+        if (trackedBlockNumber < 0) {
+            return null;
+        }
+        BlockNumber blockNumber = new BlockNumber();
+        blockNumber.setJsonrpc("2.0");
+        blockNumber.setResult(Numeric.encodeQuantity(BigInteger.valueOf(trackedBlockNumber)));
+        return blockNumber;
+    }
+
+    private void trackBlockNumber(BlockNumber blockNumber) {
+        if (blockNumber == null || blockNumber.getResult() == null) {
+            return;
+        }
+        try {
+            blockNumberTracker.update(blockNumber.getBlockNumber().longValue());
+        } catch (Exception e) {
+            logger.debug("track the block number failed, e: {}", e.getMessage());
+        }
     }
 
     @Override
@@ -554,14 +692,8 @@ public class ClientImpl implements Client {
     @Override
     public BcosBlock getBlockByHash(
             String node, String blockHash, boolean onlyHeader, boolean onlyTxHash) {
-        node = Objects.isNull(node) ? "" : node;
-        return this.callRemoteMethod(
-                this.groupID,
-                node,
-                new JsonRpcRequest<>(
-                        JsonRpcMethods.GET_BLOCK_BY_HASH,
-                        Arrays.asList(this.groupID, node, blockHash, onlyHeader, onlyTxHash)),
-                BcosBlock.class);
+        return waitForResponse(
+                "callRemoteMethod", getBlockByHashCached(node, blockHash, onlyHeader, onlyTxHash));
     }
 
     @Override
@@ -580,15 +712,7 @@ public class ClientImpl implements Client {
             boolean onlyHeader,
             boolean onlyTxHash,
             RespCallback<BcosBlock> callback) {
-        node = Objects.isNull(node) ? "" : node;
-        this.asyncCallRemoteMethod(
-                this.groupID,
-                node,
-                new JsonRpcRequest<>(
-                        JsonRpcMethods.GET_BLOCK_BY_HASH,
-                        Arrays.asList(this.groupID, node, blockHash, onlyHeader, onlyTxHash)),
-                BcosBlock.class,
-                callback);
+        notifyCallback(getBlockByHashCached(node, blockHash, onlyHeader, onlyTxHash), callback);
     }
 
     @Override
@@ -600,14 +724,9 @@ public class ClientImpl implements Client {
     @Override
     public BcosBlock getBlockByNumber(
             String node, BigInteger blockNumber, boolean onlyHeader, boolean onlyTxHash) {
-        node = Objects.isNull(node) ? "" : node;
-        return this.callRemoteMethod(
-                this.groupID,
-                node,
-                new JsonRpcRequest<>(
-                        JsonRpcMethods.GET_BLOCK_BY_NUMBER,
-                        Arrays.asList(this.groupID, node, blockNumber, onlyHeader, onlyTxHash)),
-                BcosBlock.class);
+        return waitForResponse(
+                "callRemoteMethod",
+                getBlockByNumberCached(node, blockNumber, onlyHeader, onlyTxHash));
     }
 
     @Override
@@ -627,15 +746,7 @@ public class ClientImpl implements Client {
             boolean onlyHeader,
             boolean onlyTxHash,
             RespCallback<BcosBlock> callback) {
-        node = Objects.isNull(node) ? "" : node;
-        this.asyncCallRemoteMethod(
-                this.groupID,
-                node,
-                new JsonRpcRequest<>(
-                        JsonRpcMethods.GET_BLOCK_BY_NUMBER,
-                        Arrays.asList(this.groupID, node, blockNumber, onlyHeader, onlyTxHash)),
-                BcosBlock.class,
-                callback);
+        notifyCallback(getBlockByNumberCached(node, blockNumber, onlyHeader, onlyTxHash), callback);
     }
 
     @Override
@@ -682,14 +793,8 @@ public class ClientImpl implements Client {
 
     @Override
     public BcosTransaction getTransaction(String node, String transactionHash, Boolean withProof) {
-        node = Objects.isNull(node) ? "" : node;
-        return this.callRemoteMethod(
-                this.groupID,
-                node,
-                new JsonRpcRequest<>(
-                        JsonRpcMethods.GET_TRANSACTION_BY_HASH,
-                        Arrays.asList(this.groupID, node, transactionHash, withProof)),
-                BcosTransaction.class);
+        return waitForResponse(
+                "callRemoteMethod", getTransactionCached(node, transactionHash, withProof));
     }
 
     @Override
@@ -704,15 +809,7 @@ public class ClientImpl implements Client {
             String transactionHash,
             Boolean withProof,
             RespCallback<BcosTransaction> callback) {
-        node = Objects.isNull(node) ? "" : node;
-        this.asyncCallRemoteMethod(
-                this.groupID,
-                node,
-                new JsonRpcRequest<>(
-                        JsonRpcMethods.GET_TRANSACTION_BY_HASH,
-                        Arrays.asList(this.groupID, node, transactionHash)),
-                BcosTransaction.class,
-                callback);
+        notifyCallback(getTransactionCached(node, transactionHash, withProof), callback);
     }
 
     @Override
@@ -723,14 +820,8 @@ public class ClientImpl implements Client {
     @Override
     public BcosTransactionReceipt getTransactionReceipt(
             String node, String transactionHash, Boolean withProof) {
-        node = Objects.isNull(node) ? "" : node;
-        return this.callRemoteMethod(
-                this.groupID,
-                node,
-                new JsonRpcRequest<>(
-                        JsonRpcMethods.GET_TRANSACTION_RECEIPT,
-                        Arrays.asList(this.groupID, node, transactionHash, withProof)),
-                BcosTransactionReceipt.class);
+        return waitForResponse(
+                "callRemoteMethod", getTransactionReceiptCached(node, transactionHash, withProof));
     }
 
     @Override
@@ -747,15 +838,7 @@ public class ClientImpl implements Client {
             String transactionHash,
             Boolean withProof,
             RespCallback<BcosTransactionReceipt> callback) {
-        node = Objects.isNull(node) ? "" : node;
-        this.asyncCallRemoteMethod(
-                this.groupID,
-                node,
-                new JsonRpcRequest<>(
-                        JsonRpcMethods.GET_TRANSACTION_RECEIPT,
-                        Arrays.asList(this.groupID, node, transactionHash, withProof)),
-                BcosTransactionReceipt.class,
-                callback);
+        notifyCallback(getTransactionReceiptCached(node, transactionHash, withProof), callback);
     }
 
     @Override
@@ -793,12 +876,29 @@ public class ClientImpl implements Client {
 
     @Override
     public BigInteger getBlockLimit() {
+        if (blockNumberTracker.isFresh()) {
+            return BigInteger.valueOf(blockNumberTracker.getBlockNumber() + BLOCK_LIMIT_RANGE);
+        }
         BigInteger blockLimit = BigInteger.valueOf(this.rpcJniObj.getBlockLimit(this.groupID));
         if (logger.isDebugEnabled()) {
             logger.debug("getBlockLimit, group: {}, blockLimit: {}", groupID, blockLimit);
         }
 
         if (blockLimit.compareTo(BigInteger.ZERO) <= 0) {
+            // the native sdk knows no block number yet, ask the node unless the tracked number is
+            // fresh, a stale tracked number is only the last resort
+            long blockNumber = blockNumberTracker.getBlockNumber();
+            if (!blockNumberTracker.isFresh()) {
+                try {
+                    blockNumber = this.getBlockNumber().getBlockNumber().longValue();
+                } catch (Exception e) {
+                    logger.warn(
+                            "getBlockLimit, get the block number failed, use the tracked number: {}, e: {}",
+                            blockNumber,
+                            e.getMessage());
+                    blockNumber = Math.max(blockNumber, 0);
+                }
+            }
             blockLimit = BigInteger.valueOf(blockNumber).add(BigInteger.valueOf(BLOCK_LIMIT_RANGE));
         }
 
@@ -1102,40 +1202,32 @@ public class ClientImpl implements Client {
 
     @Override
     public BcosGroupInfo getGroupInfo() {
-        try {
-            CompletableFuture<Response> future = new CompletableFuture<>();
-
-            this.rpcJniObj.getGroupInfo(
-                    groupID,
-                    resp -> {
-                        Response response = new Response();
-                        response.setErrorCode(resp.getErrorCode());
-                        response.setErrorMessage(resp.getErrorMessage());
-                        response.setContent(resp.getData());
-
-                        if (logger.isDebugEnabled()) {
-                            logger.debug("getGroupInfo onResponse: {}", response);
-                        }
-
-                        future.complete(response);
-                    });
-            Response response = future.get();
-            return ClientImpl.parseResponseIntoJsonRpcResponse(
-                    JsonRpcMethods.GET_GROUP_INFO, response, BcosGroupInfo.class);
-        } catch (ClientException e) {
-            logger.error("e: ", e);
-            throw new ClientException(
-                    e.getErrorCode(),
-                    e.getErrorMessage(),
-                    "getGroupInfo failed for decode the message exception, error message:"
-                            + e.getMessage());
-        } catch (InterruptedException | ExecutionException e) {
-            logger.error("e: ", e);
-            throw new ClientException(
-                    "getGroupInfo failed for decode the message exception, error message:"
-                            + e.getMessage(),
-                    e);
+        CompletableFuture<BcosGroupInfo> future = newRequestFuture("", this.callTimeout);
+        if (!future.isDone()) {
+            try {
+                this.rpcJniObj.getGroupInfo(
+                        groupID,
+                        resp -> {
+                            Response response = new Response();
+                            response.setErrorCode(resp.getErrorCode());
+                            response.setErrorMessage(resp.getErrorMessage());
+                            response.setContent(resp.getData());
+
+                            if (logger.isDebugEnabled()) {
+                                logger.debug("getGroupInfo onResponse: {}", response);
+                            }
+
+                            completeRequestFuture(
+                                    future,
+                                    JsonRpcMethods.GET_GROUP_INFO,
+                                    response,
+                                    BcosGroupInfo.class);
+                        });
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
         }
+        return waitForResponse("getGroupInfo", future);
     }
 
     @Override
@@ -1316,15 +1408,78 @@ public class ClientImpl implements Client {
 
     public <T extends JsonRpcResponse<?>> T callRemoteMethod(
             String groupID, String node, JsonRpcRequest<?> request, Class<T> responseType) {
-        try {
-            CompletableFuture<Response> future = new CompletableFuture<>();
+        return callRemoteMethod(groupID, node, request, responseType, this.callTimeout);
+    }
+
+    /**
+     * Send the request and wait for the response at most timeoutMs
+     *
+     * @param groupID the group of the request
+     * @param node the node to send the request, empty to let the sdk choose
+     * @param request the json rpc request
+     * @param responseType the response class
+     * @param timeoutMs the deadline in ms, no deadline if not positive
+     * @return the response
+     * @throws ClientException on error response, deadline, rejection or interruption
+     */
+    public <T extends JsonRpcResponse<?>> T callRemoteMethod(
+            String groupID,
+            String node,
+            JsonRpcRequest<?> request,
+            Class<T> responseType,
+            long timeoutMs) {
+        return waitForResponse(
+                "callRemoteMethod",
+                callRemoteMethodAsync(groupID, node, request, responseType, timeoutMs));
+    }
 
+    @Override
+    public <T extends JsonRpcResponse<?>> CompletableFuture<T> callRemoteMethodAsync(
+            String groupID,
+            String node,
+            JsonRpcRequest<?> request,
+            Class<T> responseType,
+            long timeoutMs,
+            ResponseDecodeExecutor decodeExecutor) {
+        node = Objects.isNull(node) ? "" : node;
+        NodeSelector selector = this.nodeSelector;
+        if (isSelectable(selector, groupID, node, request)) {
+            return sendToSelectedNode(
+                    selector,
+                    selectedNode ->
+                            sendRequest(
+                                    groupID,
+                                    selectedNode,
+                                    withNode(request, selectedNode),
+                                    responseType,
+                                    timeoutMs,
+                                    decodeExecutor));
+        }
+        return sendRequest(groupID, node, request, responseType, timeoutMs, decodeExecutor);
+    }
+
+    private <T extends JsonRpcResponse<?>> CompletableFuture<T> sendRequest(
+            String groupID,
+            String node,
+            JsonRpcRequest<?> request,
+            Class<T> responseType,
+            long timeoutMs,
+            ResponseDecodeExecutor decodeExecutor) {
+        CompletableFuture<T> future = newRequestFuture(node, timeoutMs);
+        if (future.isDone()) {
+            return future;
+        }
+        try {
             String data = this.objectMapper.writeValueAsString(request);
             this.rpcJniObj.genericMethod(
                     groupID,
                     node,
                     data,
                     resp -> {
+                        if (future.isDone()) {
+                            // cancelled or timed out, drop the late response
+                            return;
+                        }
                         Response response = new Response();
                         response.setErrorCode(resp.getErrorCode());
                         response.setErrorMessage(resp.getErrorMessage());
@@ -1337,60 +1492,537 @@ public class ClientImpl implements Client {
                                     response);
                         }
 
-                        future.complete(response);
+                        if (decodeExecutor != null) {
+                            decodeExecutor.decode(
+                                    future, request.getMethod(), response, responseType);
+                        } else {
+                            completeRequestFuture(
+                                    future, request.getMethod(), response, responseType);
+                        }
                     });
-            Response response = future.get();
-            return ClientImpl.parseResponseIntoJsonRpcResponse(
-                    request.getMethod(), response, responseType);
-        } catch (ClientException e) {
-            throw new ClientException(
-                    e.getErrorCode(),
-                    e.getErrorMessage(),
-                    "callRemoteMethod failed for decode the message exception, error message:"
-                            + e.getMessage());
-        } catch (JsonProcessingException | InterruptedException | ExecutionException e) {
+        } catch (JsonProcessingException e) {
             logger.error("e: ", e);
-            throw new ClientException(
-                    "callRemoteMethod failed for decode the message exception, error message:"
-                            + e.getMessage(),
-                    e);
+            future.completeExceptionally(
+                    new ClientException(
+                            "callRemoteMethod failed for encode the request, error message:"
+                                    + e.getMessage(),
+                            e));
+        } catch (Exception e) {
+            logger.error("e: ", e);
+            future.completeExceptionally(e);
         }
+        return future;
     }
 
-    public <T extends JsonRpcResponse<?>> void asyncCallRemoteMethod(
-            String groupID,
-            String node,
-            JsonRpcRequest<?> request,
-            Class<T> responseType,
-            RespCallback<T> callback) {
-
+    @Override
+    public CompletableFuture<Response> callRemoteRawAsync(
+            String groupID, String node, String request, long timeoutMs) {
+        CompletableFuture<Response> future = newRequestFuture(node, timeoutMs);
+        if (future.isDone()) {
+            return future;
+        }
         try {
             this.rpcJniObj.genericMethod(
                     groupID,
                     node,
-                    this.objectMapper.writeValueAsString(request),
+                    request,
                     resp -> {
                         Response response = new Response();
                         response.setErrorCode(resp.getErrorCode());
                         response.setErrorMessage(resp.getErrorMessage());
                         response.setContent(resp.getData());
+                        future.complete(response);
+                    });
+        } catch (Exception e) {
+            logger.error("e: ", e);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Route the reads of the group the caller left to the native sdk through the node selector, the
+     * requests to a specific node and the writes are sent as they are
+     */
+    private boolean isSelectable(
+            NodeSelector selector, String groupID, String node, JsonRpcRequest<?> request) {
+        return selector != null
+                && node.isEmpty()
+                && Objects.equals(this.groupID, groupID)
+                && SELECTABLE_METHODS.contains(request.getMethod());
+    }
+
+    /** Copy the request with the node param, the params of the client requests are [group, node] */
+    private static JsonRpcRequest<?> withNode(JsonRpcRequest<?> request, String node) {
+        List<?> params = request.getParams();
+        if (node.isEmpty() || params == null || params.size() < 2 || !"".equals(params.get(1))) {
+            return request;
+        }
+        List<Object> nodeParams = new ArrayList<>(params);
+        nodeParams.set(1, node);
+        return new JsonRpcRequest<>(request.getMethod(), nodeParams);
+    }
+
+    /**
+     * Send the read to the node chosen by the selector, and a hedged copy to a second node if the
+     * first one does not answer within its hedge delay. If the first node fails before the hedge is
+     * sent, the read fails over to the second node instead. The first response wins and cancels the
+     * other request, the request fails only if all the nodes tried fail.
+     */
+    private <T> CompletableFuture<T> sendToSelectedNode(
+            NodeSelector selector, Function<String, CompletableFuture<T>> sender) {
+        String node = selector.selectNode(Collections.emptySet());
+        if (Objects.isNull(node) || node.isEmpty()) {
+            return sender.apply("");
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+        AtomicInteger pendingAttempts = new AtomicInteger(1);
+        // the second node is tried once, as the hedge or as the failover of the first node
+        AtomicBoolean secondNodeSent = new AtomicBoolean(false);
+        sendToNode(
+                selector,
+                node,
+                sender,
+                result,
+                attempts,
+                pendingAttempts,
+                () ->
+                        sendToSecondNode(
+                                selector,
+                                node,
+                                sender,
+                                result,
+                                attempts,
+                                pendingAttempts,
+                                secondNodeSent,
+                                false));
+
+        long hedgeDelayMs = selector.getHedgeDelayMs(node);
+        if (hedgeDelayMs > 0 && !result.isDone() && !secondNodeSent.get()) {
+            ScheduledFuture<?> hedge =
+                    timeoutScheduler.schedule(
+                            () ->
+                                    sendToSecondNode(
+                                            selector,
+                                            node,
+                                            sender,
+                                            result,
+                                            attempts,
+                                            pendingAttempts,
+                                            secondNodeSent,
+                                            true),
+                            hedgeDelayMs,
+                            TimeUnit.MILLISECONDS);
+            result.whenComplete((response, error) -> hedge.cancel(false));
+        }
+        // the losers are cancelled, their late responses are dropped
+        result.whenComplete(
+                (response, error) -> attempts.forEach(attempt -> attempt.cancel(false)));
+        return result;
+    }
+
+    /**
+     * Send the read to a node other than the first one, unless the request is done or the second
+     * node is sent already
+     *
+     * @return true if the read is sent to the second node
+     */
+    private <T> boolean sendToSecondNode(
+            NodeSelector selector,
+            String firstNode,
+            Function<String, CompletableFuture<T>> sender,
+            CompletableFuture<T> result,
+            List<CompletableFuture<T>> attempts,
+            AtomicInteger pendingAttempts,
+            AtomicBoolean secondNodeSent,
+            boolean hedge) {
+        if (result.isDone() || !secondNodeSent.compareAndSet(false, true)) {
+            return false;
+        }
+        String secondNode = selector.selectNode(Collections.singleton(firstNode));
+        if (Objects.isNull(secondNode) || secondNode.isEmpty() || secondNode.equals(firstNode)) {
+            return false;
+        }
+        pendingAttempts.incrementAndGet();
+        if (hedge) {
+            selector.onHedge(firstNode, secondNode);
+        }
+        sendToNode(selector, secondNode, sender, result, attempts, pendingAttempts, null);
+        return true;
+    }
 
-                        if (logger.isTraceEnabled()) {
+    private <T> void sendToNode(
+            NodeSelector selector,
+            String node,
+            Function<String, CompletableFuture<T>> sender,
+            CompletableFuture<T> result,
+            List<CompletableFuture<T>> attempts,
+            AtomicInteger pendingAttempts,
+            BooleanSupplier failover) {
+        long startTime = System.nanoTime();
+        CompletableFuture<T> attempt = sender.apply(node);
+        attempts.add(attempt);
+        if (result.isDone()) {
+            attempt.cancel(false);
+        }
+        attempt.whenComplete(
+                (response, error) -> {
+                    boolean nodeFailure = isNodeFailure(error);
+                    if (!(error instanceof CancellationException)) {
+                        selector.onResponse(node, System.nanoTime() - startTime, !nodeFailure);
+                    }
+                    if (error == null) {
+                        result.complete(response);
+                    } else if (!nodeFailure) {
+                        // a JSON-RPC error is the answer, the other attempts would get it too
+                        result.completeExceptionally(error);
+                    } else {
+                        // the first node fails over unless the hedge is sent already
+                        if (Objects.nonNull(failover)) {
+                            failover.getAsBoolean();
+                        }
+                        if (pendingAttempts.decrementAndGet() == 0) {
+                            result.completeExceptionally(error);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * @param error the error of a request, null on success
+     * @return false on success and on a JSON-RPC error object, which a healthy node answers to e.g.
+     *     a revert or invalid params, true on transport errors, timeouts and rejections
+     */
+    public static boolean isNodeFailure(Throwable error) {
+        if (error == null) {
+            return false;
+        }
+        Throwable cause =
+                error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+        return !(cause instanceof JsonRpcErrorException);
+    }
+
+    /**
+     * Create the future of a request to the node, it is failed at once if the node has too many
+     * in-flight requests, and is failed with a timeout ClientException after timeoutMs. The permit
+     * of the node is returned when the future completes in any way, including cancellation.
+     */
+    private <T> CompletableFuture<T> newRequestFuture(String node, long timeoutMs) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (!requestLimiter.tryAcquire(node)) {
+            future.completeExceptionally(
+                    new ClientException(
+                            ClientException.REQUEST_REJECTED,
+                            "too many in-flight requests",
+                            "request rejected, the in-flight requests of node '"
+                                    + node
+                                    + "' reach the limit "
+                                    + requestLimiter.getMaxInFlightRequests()));
+            return future;
+        }
+        future.whenComplete((result, error) -> requestLimiter.release(node));
+        if (timeoutMs > 0) {
+            ScheduledFuture<?> timeout =
+                    timeoutScheduler.schedule(
+                            () ->
+                                    future.completeExceptionally(
+                                            new ClientException(
+                                                    ClientException.REQUEST_TIMEOUT,
+                                                    "request timeout",
+                                                    "request timeout after "
+                                                            + timeoutMs
+                                                            + "ms, node: '"
+                                                            + node
+                                                            + "'")),
+                            timeoutMs,
+                            TimeUnit.MILLISECONDS);
+            future.whenComplete((result, error) -> timeout.cancel(false));
+        }
+        return future;
+    }
+
+    private static <T extends JsonRpcResponse<?>> void completeRequestFuture(
+            CompletableFuture<T> future, String method, Response response, Class<T> responseType) {
+        try {
+            future.complete(parseResponseIntoJsonRpcResponse(method, response, responseType));
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Wait for the future of a request, the interrupt status of the thread is kept
+     *
+     * @param method the method name used in the error message
+     * @param future the future of the request
+     * @return the response
+     * @throws ClientException on error response, deadline, rejection or interruption
+     */
+    public static <T> T waitForResponse(String method, CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ClientException(method + " interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ClientException) {
+                ClientException clientException = (ClientException) cause;
+                throw new ClientException(
+                        clientException.getErrorCode(),
+                        clientException.getErrorMessage(),
+                        method
+                                + " failed for decode the message exception, error message:"
+                                + clientException.getMessage());
+            }
+            logger.error("e: ", cause);
+            throw new ClientException(
+                    method
+                            + " failed for decode the message exception, error message:"
+                            + cause.getMessage(),
+                    cause);
+        }
+    }
+
+    /**
+     * Get the nodes of the group of the client, for the callers spreading requests over the nodes
+     *
+     * @param client the client
+     * @return the node names, [""] to let the sdk choose the node if they are unknown
+     */
+    public static List<String> getGroupNodes(Client client) {
+        List<String> groupNodes = new ArrayList<>();
+        try {
+            BcosGroupInfo.GroupInfo groupInfo = client.getGroupInfo().getResult();
+            for (BcosGroupNodeInfo.GroupNodeInfo nodeInfo : groupInfo.getNodeList()) {
+                groupNodes.add(nodeInfo.getName());
+            }
+        } catch (Exception e) {
+            logger.warn("get the nodes of the group failed, error: {}", e.getMessage());
+        }
+        return groupNodes.isEmpty() ? Collections.singletonList("") : groupNodes;
+    }
+
+    private static ScheduledExecutorService createTimeoutScheduler() {
+        ScheduledThreadPoolExecutor scheduler =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        new BasicThreadFactory.Builder()
+                                .namingPattern("client-timeout-%d")
+                                .daemon(true)
+                                .build());
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    public <T extends JsonRpcResponse<?>> void asyncCallRemoteMethod(
+            String groupID,
+            String node,
+            JsonRpcRequest<?> request,
+            Class<T> responseType,
+            RespCallback<T> callback) {
+        CompletableFuture<T> future =
+                callRemoteMethodAsync(groupID, node, request, responseType, this.callTimeout);
+        if (logger.isTraceEnabled()) {
+            future.whenComplete(
+                    (response, error) ->
                             logger.trace(
                                     " ===>>> asyncCallRemoteMethod, group: {}, node: {}, request: {}, response: {}",
                                     groupID,
                                     node,
                                     request,
-                                    response);
-                        }
+                                    response));
+        }
+        notifyCallback(future, callback);
+    }
 
-                        ResponseCallback responseCallback =
-                                createResponseCallback(request.getMethod(), responseType, callback);
-                        responseCallback.onResponse(response);
-                    });
+    private static <T> void notifyCallback(CompletableFuture<T> future, RespCallback<T> callback) {
+        future.whenComplete(
+                (response, error) -> {
+                    if (error == null) {
+                        callback.onResponse(response);
+                        return;
+                    }
+                    if (error instanceof CompletionException && error.getCause() != null) {
+                        error = error.getCause();
+                    }
+                    if (error instanceof ClientException) {
+                        ClientException clientException = (ClientException) error;
+                        callback.onError(
+                                new Response(
+                                        clientException.getErrorCode(),
+                                        clientException.getErrorMessage()));
+                    } else {
+                        callback.onError(new Response(-1, error.getMessage()));
+                    }
+                });
+    }
+
+    private CompletableFuture<BcosBlock> getBlockByHashCached(
+            String node, String blockHash, boolean onlyHeader, boolean onlyTxHash) {
+        node = Objects.isNull(node) ? "" : node;
+        JsonRpcRequest<?> request =
+                new JsonRpcRequest<>(
+                        JsonRpcMethods.GET_BLOCK_BY_HASH,
+                        Arrays.asList(this.groupID, node, blockHash, onlyHeader, onlyTxHash));
+        ResponseCache cache = this.responseCache;
+        if (cache == null) {
+            return callRemoteMethodAsync(
+                    this.groupID, node, request, BcosBlock.class, this.callTimeout);
+        }
+        return callRemoteMethodCached(
+                node,
+                request,
+                BcosBlock.class,
+                cache.getBlockByHash(this.groupID, blockHash, onlyHeader, onlyTxHash),
+                (response, content) ->
+                        cache.putBlock(this.groupID, onlyHeader, onlyTxHash, response, content));
+    }
+
+    private CompletableFuture<BcosBlock> getBlockByNumberCached(
+            String node, BigInteger blockNumber, boolean onlyHeader, boolean onlyTxHash) {
+        node = Objects.isNull(node) ? "" : node;
+        JsonRpcRequest<?> request =
+                new JsonRpcRequest<>(
+                        JsonRpcMethods.GET_BLOCK_BY_NUMBER,
+                        Arrays.asList(this.groupID, node, blockNumber, onlyHeader, onlyTxHash));
+        ResponseCache cache = this.responseCache;
+        if (cache == null) {
+            return callRemoteMethodAsync(
+                    this.groupID, node, request, BcosBlock.class, this.callTimeout);
+        }
+        return callRemoteMethodCached(
+                node,
+                request,
+                BcosBlock.class,
+                cache.getBlockByNumber(this.groupID, blockNumber, onlyHeader, onlyTxHash),
+                (response, content) ->
+                        cache.putBlock(this.groupID, onlyHeader, onlyTxHash, response, content));
+    }
+
+    private CompletableFuture<BcosTransaction> getTransactionCached(
+            String node, String transactionHash, Boolean withProof) {
+        node = Objects.isNull(node) ? "" : node;
+        JsonRpcRequest<?> request =
+                new JsonRpcRequest<>(
+                        JsonRpcMethods.GET_TRANSACTION_BY_HASH,
+                        Arrays.asList(this.groupID, node, transactionHash, withProof));
+        ResponseCache cache = this.responseCache;
+        if (cache == null) {
+            return callRemoteMethodAsync(
+                    this.groupID, node, request, BcosTransaction.class, this.callTimeout);
+        }
+        boolean proof = Boolean.TRUE.equals(withProof);
+        return callRemoteMethodCached(
+                node,
+                request,
+                BcosTransaction.class,
+                cache.getTransaction(this.groupID, transactionHash, proof),
+                (response, content) ->
+                        cache.putTransaction(
+                                this.groupID, transactionHash, proof, response, content));
+    }
+
+    private CompletableFuture<BcosTransactionReceipt> getTransactionReceiptCached(
+            String node, String transactionHash, Boolean withProof) {
+        node = Objects.isNull(node) ? "" : node;
+        JsonRpcRequest<?> request =
+                new JsonRpcRequest<>(
+                        JsonRpcMethods.GET_TRANSACTION_RECEIPT,
+                        Arrays.asList(this.groupID, node, transactionHash, withProof));
+        ResponseCache cache = this.responseCache;
+        if (cache == null) {
+            return callRemoteMethodAsync(
+                    this.groupID, node, request, BcosTransactionReceipt.class, this.callTimeout);
+        }
+        boolean proof = Boolean.TRUE.equals(withProof);
+        return callRemoteMethodCached(
+                node,
+                request,
+                BcosTransactionReceipt.class,
+                cache.getTransactionReceipt(this.groupID, transactionHash, proof),
+                (response, content) ->
+                        cache.putTransactionReceipt(
+                                this.groupID, transactionHash, proof, response, content));
+    }
+
+    /**
+     * Answer the request from the cached response, or send it and hand the decoded response with
+     * its json to the cache
+     */
+    private <T extends JsonRpcResponse<?>> CompletableFuture<T> callRemoteMethodCached(
+            String node,
+            JsonRpcRequest<?> request,
+            Class<T> responseType,
+            T cachedResponse,
+            BiConsumer<T, byte[]> cacheUpdater) {
+        if (cachedResponse != null) {
+            return CompletableFuture.completedFuture(cachedResponse);
+        }
+        String data;
+        try {
+            data = this.objectMapper.writeValueAsString(request);
         } catch (JsonProcessingException e) {
-            logger.error("e: ", e);
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(
+                    new ClientException(
+                            "callRemoteMethod failed for encode the request, error message:"
+                                    + e.getMessage(),
+                            e));
+            return future;
+        }
+        return sendRawRequest(node, request, data)
+                .thenApply(
+                        response -> {
+                            T jsonRpcResponse =
+                                    parseResponseIntoJsonRpcResponse(
+                                            request.getMethod(), response, responseType);
+                            cacheUpdater.accept(jsonRpcResponse, response.getContent());
+                            return jsonRpcResponse;
+                        });
+    }
+
+    private CompletableFuture<Response> sendRawRequest(
+            String node, JsonRpcRequest<?> request, String data) {
+        NodeSelector selector = this.nodeSelector;
+        if (!isSelectable(selector, this.groupID, node, request)) {
+            return callRemoteRawAsync(this.groupID, node, data, this.callTimeout);
         }
+        return sendToSelectedNode(
+                selector,
+                selectedNode -> {
+                    try {
+                        return callRemoteRawAsync(
+                                        this.groupID,
+                                        selectedNode,
+                                        selectedNode.isEmpty()
+                                                ? data
+                                                : this.objectMapper.writeValueAsString(
+                                                        withNode(request, selectedNode)),
+                                        this.callTimeout)
+                                .thenApply(
+                                        response -> {
+                                            // a transport error counts as a failure of the node
+                                            if (response.getErrorCode() != 0) {
+                                                throw new ClientException(
+                                                        response.getErrorCode(),
+                                                        response.getErrorMessage(),
+                                                        request.getMethod()
+                                                                + " failed, node: "
+                                                                + selectedNode);
+                                            }
+                                            return response;
+                                        });
+                    } catch (JsonProcessingException e) {
+                        CompletableFuture<Response> future = new CompletableFuture<>();
+                        future.completeExceptionally(e);
+                        return future;
+                    }
+                });
     }
 
     public static <T extends JsonRpcResponse<?>> T parseResponseIntoJsonRpcResponse(
@@ -1399,15 +2031,14 @@ public class ClientImpl implements Client {
             if (response.getErrorCode() == 0) {
                 // parse the response into JsonRPCResponse
                 T jsonRpcResponse =
-                        ObjectMapperFactory.getObjectMapper()
-                                .readValue(response.getContent(), responseType);
+                        ObjectMapperFactory.readValue(response.getContent(), responseType);
                 if (jsonRpcResponse.getError() != null) {
                     logger.error(
                             "parseResponseIntoJsonRpcResponse failed for non-empty error message, method: {}, retErrorMessage: {}, retErrorCode: {}",
                             method,
                             jsonRpcResponse.getError().getMessage(),
                             jsonRpcResponse.getError().getCode());
-                    throw new ClientException(
+                    throw new JsonRpcErrorException(
                             jsonRpcResponse.getError().getCode(),
                             jsonRpcResponse.getError().getMessage(),
                             "ErrorMessage: " + jsonRpcResponse.getError().getMessage());
@@ -0,0 +1,386 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosGroupInfo;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosGroupNodeInfo;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BlockNumber;
+import org.fisco.bcos.sdk.v3.model.Response;
+import org.fisco.bcos.sdk.v3.model.callback.RespCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Routes the reads to the node with the lowest EWMA latency, weighted by its EWMA error rate, among
+ * the nodes at most maxBlockLag blocks behind the highest node. The reads are hedged after the p95
+ * latency of the chosen node, once it has enough samples.
+ *
+ * <p>The nodes and their block numbers are refreshed from getGroupInfo and getBlockNumber of every
+ * node, by refresh() or periodically after start(). A small share of the reads probes a random
+ * synced node, so a node recovers from a bad score.
+ *
+ * <pre>
+ * LatencyNodeSelector selector = new LatencyNodeSelector(client).start(1000);
+ * client.setNodeSelector(selector);
+ * </pre>
+ */
+public class LatencyNodeSelector implements NodeSelector {
+    private static final Logger logger = LoggerFactory.getLogger(LatencyNodeSelector.class);
+
+    public static final double DEFAULT_EWMA_ALPHA = 0.2;
+    public static final long DEFAULT_MAX_BLOCK_LAG = 0;
+    public static final double DEFAULT_PROBE_RATIO = 0.02;
+    public static final double DEFAULT_HEDGE_QUANTILE = 0.95;
+    public static final long DEFAULT_MIN_HEDGE_DELAY_MS = 5;
+    public static final int DEFAULT_MIN_HEDGE_SAMPLES = 20;
+    private static final int LATENCY_SAMPLES = 128;
+
+    private final Client client;
+    private final ConcurrentHashMap<String, NodeStats> nodeStats = new ConcurrentHashMap<>();
+
+    private volatile double ewmaAlpha = DEFAULT_EWMA_ALPHA;
+    private volatile long maxBlockLag = DEFAULT_MAX_BLOCK_LAG;
+    private volatile double probeRatio = DEFAULT_PROBE_RATIO;
+    private volatile double hedgeQuantile = DEFAULT_HEDGE_QUANTILE;
+    private volatile long minHedgeDelayMs = DEFAULT_MIN_HEDGE_DELAY_MS;
+    private volatile int minHedgeSamples = DEFAULT_MIN_HEDGE_SAMPLES;
+    private volatile boolean hedgeEnabled = true;
+
+    private ScheduledExecutorService refreshScheduler;
+    private final LongAdder hedgedRequests = new LongAdder();
+
+    /** The stats of a node, guarded by itself */
+    private static class NodeStats {
+        private final String node;
+        private double ewmaLatencyNanos = 0;
+        private double ewmaErrorRate = 0;
+        private long blockNumber = -1;
+        private long requests = 0;
+        private long errors = 0;
+        private final long[] latencySamples = new long[LATENCY_SAMPLES];
+        private int sampleCount = 0;
+
+        private NodeStats(String node) {
+            this.node = node;
+        }
+
+        private synchronized void onResponse(long latencyNanos, boolean success, double alpha) {
+            if (requests == 0) {
+                ewmaLatencyNanos = latencyNanos;
+            } else {
+                ewmaLatencyNanos = alpha * latencyNanos + (1 - alpha) * ewmaLatencyNanos;
+            }
+            ewmaErrorRate = alpha * (success ? 0 : 1) + (1 - alpha) * ewmaErrorRate;
+            requests++;
+            if (!success) {
+                errors++;
+                return;
+            }
+            latencySamples[sampleCount % LATENCY_SAMPLES] = latencyNanos;
+            sampleCount++;
+        }
+
+        /** lower is better, the nodes without requests come first */
+        private synchronized double score() {
+            // a node failing fast must not look fast
+            return (ewmaLatencyNanos + 1) / Math.max(1 - ewmaErrorRate, 0.01);
+        }
+
+        private synchronized long quantileNanos(double quantile) {
+            int count = Math.min(sampleCount, LATENCY_SAMPLES);
+            if (count == 0) {
+                return 0;
+            }
+            long[] samples = Arrays.copyOf(latencySamples, count);
+            Arrays.sort(samples);
+            return samples[Math.min(count - 1, (int) Math.ceil(quantile * count) - 1)];
+        }
+    }
+
+    /** @param client the client to refresh the nodes and their block numbers */
+    public LatencyNodeSelector(Client client) {
+        this.client = client;
+    }
+
+    /** @param nodes the nodes to choose from, not refreshed */
+    public LatencyNodeSelector(List<String> nodes) {
+        this.client = null;
+        for (String node : nodes) {
+            nodeStats.computeIfAbsent(node, NodeStats::new);
+        }
+    }
+
+    public LatencyNodeSelector setEwmaAlpha(double ewmaAlpha) {
+        if (ewmaAlpha <= 0 || ewmaAlpha > 1) {
+            throw new IllegalArgumentException("ewmaAlpha must be in (0, 1]");
+        }
+        this.ewmaAlpha = ewmaAlpha;
+        return this;
+    }
+
+    /** @param maxBlockLag the max blocks a node may be behind the highest node to serve reads */
+    public LatencyNodeSelector setMaxBlockLag(long maxBlockLag) {
+        this.maxBlockLag = maxBlockLag;
+        return this;
+    }
+
+    /** @param probeRatio the share of the reads sent to a random synced node */
+    public LatencyNodeSelector setProbeRatio(double probeRatio) {
+        this.probeRatio = probeRatio;
+        return this;
+    }
+
+    public LatencyNodeSelector setHedgeEnabled(boolean hedgeEnabled) {
+        this.hedgeEnabled = hedgeEnabled;
+        return this;
+    }
+
+    /** @param hedgeQuantile the latency quantile of a node after which its reads are hedged */
+    public LatencyNodeSelector setHedgeQuantile(double hedgeQuantile) {
+        this.hedgeQuantile = hedgeQuantile;
+        return this;
+    }
+
+    public LatencyNodeSelector setMinHedgeDelayMs(long minHedgeDelayMs) {
+        this.minHedgeDelayMs = minHedgeDelayMs;
+        return this;
+    }
+
+    /** @param minHedgeSamples the latency samples a node needs before its reads are hedged */
+    public LatencyNodeSelector setMinHedgeSamples(int minHedgeSamples) {
+        this.minHedgeSamples = minHedgeSamples;
+        return this;
+    }
+
+    /**
+     * Refresh the nodes and their block numbers every refreshIntervalMs
+     *
+     * @param refreshIntervalMs the refresh interval in ms
+     * @return this selector
+     */
+    public synchronized LatencyNodeSelector start(long refreshIntervalMs) {
+        if (client == null) {
+            throw new IllegalStateException("no client to refresh the nodes");
+        }
+        if (refreshScheduler != null) {
+            return this;
+        }
+        refreshScheduler =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        new BasicThreadFactory.Builder()
+                                .namingPattern("node-selector-%d")
+                                .daemon(true)
+                                .build());
+        refreshScheduler.scheduleWithFixedDelay(
+                this::refresh, 0, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    public synchronized void stop() {
+        if (refreshScheduler != null) {
+            refreshScheduler.shutdownNow();
+            refreshScheduler = null;
+        }
+    }
+
+    /** Refresh the nodes from getGroupInfo and their block numbers from getBlockNumber */
+    public void refresh() {
+        if (client == null) {
+            return;
+        }
+        try {
+            BcosGroupInfo.GroupInfo groupInfo = client.getGroupInfo().getResult();
+            for (BcosGroupNodeInfo.GroupNodeInfo nodeInfo : groupInfo.getNodeList()) {
+                nodeStats.computeIfAbsent(nodeInfo.getName(), NodeStats::new);
+            }
+        } catch (Exception e) {
+            logger.warn("refresh the nodes of the group failed, error: {}", e.getMessage());
+            return;
+        }
+        for (String node : nodeStats.keySet()) {
+            client.getBlockNumberAsync(
+                    node,
+                    new RespCallback<BlockNumber>() {
+                        @Override
+                        public void onResponse(BlockNumber blockNumber) {
+                            onBlockNumber(node, blockNumber.getBlockNumber().longValue());
+                        }
+
+                        @Override
+                        public void onError(Response errorResponse) {
+                            logger.debug(
+                                    "refresh the block number of node {} failed, error: {}",
+                                    node,
+                                    errorResponse.getErrorMessage());
+                        }
+                    });
+        }
+    }
+
+    @Override
+    public String selectNode(Collection<String> excludedNodes) {
+        List<NodeStats> candidates = getSyncedNodes(excludedNodes);
+        if (candidates.isEmpty()) {
+            return "";
+        }
+        if (probeRatio > 0 && ThreadLocalRandom.current().nextDouble() < probeRatio) {
+            return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size())).node;
+        }
+        NodeStats best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (NodeStats stats : candidates) {
+            double score = stats.score();
+            if (best == null || score < bestScore) {
+                best = stats;
+                bestScore = score;
+            }
+        }
+        return best.node;
+    }
+
+    /** the nodes not excluded and at most maxBlockLag behind, the nodes of unknown height count */
+    private List<NodeStats> getSyncedNodes(Collection<String> excludedNodes) {
+        long highestBlockNumber = -1;
+        for (NodeStats stats : nodeStats.values()) {
+            synchronized (stats) {
+                highestBlockNumber = Math.max(highestBlockNumber, stats.blockNumber);
+            }
+        }
+        List<NodeStats> candidates = new ArrayList<>();
+        for (NodeStats stats : nodeStats.values()) {
+            if (excludedNodes.contains(stats.node)) {
+                continue;
+            }
+            long blockNumber;
+            synchronized (stats) {
+                blockNumber = stats.blockNumber;
+            }
+            if (blockNumber < 0 || blockNumber + maxBlockLag >= highestBlockNumber) {
+                candidates.add(stats);
+            }
+        }
+        return candidates;
+    }
+
+    @Override
+    public long getHedgeDelayMs(String node) {
+        NodeStats stats = nodeStats.get(node);
+        if (!hedgeEnabled || stats == null) {
+            return 0;
+        }
+        synchronized (stats) {
+            if (stats.sampleCount < minHedgeSamples) {
+                return 0;
+            }
+        }
+        long delayMs = TimeUnit.NANOSECONDS.toMillis(stats.quantileNanos(hedgeQuantile));
+        return Math.max(delayMs, minHedgeDelayMs);
+    }
+
+    @Override
+    public void onResponse(String node, long latencyNanos, boolean success) {
+        nodeStats
+                .computeIfAbsent(node, NodeStats::new)
+                .onResponse(latencyNanos, success, ewmaAlpha);
+    }
+
+    @Override
+    public void onBlockNumber(String node, long blockNumber) {
+        NodeStats stats = nodeStats.computeIfAbsent(node, NodeStats::new);
+        synchronized (stats) {
+            stats.blockNumber = Math.max(stats.blockNumber, blockNumber);
+        }
+    }
+
+    @Override
+    public void onHedge(String node, String hedgeNode) {
+        hedgedRequests.increment();
+        if (logger.isDebugEnabled()) {
+            logger.debug("hedge the read of node {} to node {}", node, hedgeNode);
+        }
+    }
+
+    public List<String> getNodes() {
+        return new ArrayList<>(nodeStats.keySet());
+    }
+
+    /** @return the EWMA latency of the node in ms, 0 if unknown */
+    public double getLatencyMs(String node) {
+        NodeStats stats = nodeStats.get(node);
+        if (stats == null) {
+            return 0;
+        }
+        synchronized (stats) {
+            return stats.ewmaLatencyNanos / 1e6;
+        }
+    }
+
+    /** @return the EWMA error rate of the node, 0 if unknown */
+    public double getErrorRate(String node) {
+        NodeStats stats = nodeStats.get(node);
+        if (stats == null) {
+            return 0;
+        }
+        synchronized (stats) {
+            return stats.ewmaErrorRate;
+        }
+    }
+
+    /** @return the block number of the node, -1 if unknown */
+    public long getBlockNumber(String node) {
+        NodeStats stats = nodeStats.get(node);
+        if (stats == null) {
+            return -1;
+        }
+        synchronized (stats) {
+            return stats.blockNumber;
+        }
+    }
+
+    public long getRequests(String node) {
+        NodeStats stats = nodeStats.get(node);
+        if (stats == null) {
+            return 0;
+        }
+        synchronized (stats) {
+            return stats.requests;
+        }
+    }
+
+    public long getErrors(String node) {
+        NodeStats stats = nodeStats.get(node);
+        if (stats == null) {
+            return 0;
+        }
+        synchronized (stats) {
+            return stats.errors;
+        }
+    }
+
+    public long getHedgedRequests() {
+        return hedgedRequests.sum();
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.client;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the in-flight rpc requests of every node, requests beyond the limit are rejected instead
+ * of queued. The empty node name stands for the requests routed by the native sdk.
+ */
+public class NodeRequestLimiter {
+    private final int maxInFlightRequests;
+    private final ConcurrentHashMap<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> rejectedRequests = new ConcurrentHashMap<>();
+
+    /** @param maxInFlightRequests the max in-flight requests per node, unlimited if not positive */
+    public NodeRequestLimiter(int maxInFlightRequests) {
+        this.maxInFlightRequests = maxInFlightRequests;
+    }
+
+    public boolean isEnabled() {
+        return maxInFlightRequests > 0;
+    }
+
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    /**
+     * Try to take a permit of the node
+     *
+     * @param node the node name
+     * @return false if the node already has the max in-flight requests
+     */
+    public boolean tryAcquire(String node) {
+        if (!isEnabled()) {
+            return true;
+        }
+        if (getPermits(node).tryAcquire()) {
+            return true;
+        }
+        rejectedRequests.computeIfAbsent(node, key -> new LongAdder()).increment();
+        return false;
+    }
+
+    /**
+     * Return a permit taken by tryAcquire
+     *
+     * @param node the node name
+     */
+    public void release(String node) {
+        if (isEnabled()) {
+            getPermits(node).release();
+        }
+    }
+
+    /**
+     * @param node the node name
+     * @return the in-flight requests of the node
+     */
+    public int getInFlightRequests(String node) {
+        Semaphore semaphore = permits.get(node);
+        return semaphore == null ? 0 : maxInFlightRequests - semaphore.availablePermits();
+    }
+
+    /**
+     * @param node the node name
+     * @return the rejected requests of the node
+     */
+    public long getRejectedRequests(String node) {
+        LongAdder rejected = rejectedRequests.get(node);
+        return rejected == null ? 0 : rejected.sum();
+    }
+
+    /** @return the rejected requests of all the nodes */
+    public long getRejectedRequests() {
+        long total = 0;
+        for (LongAdder rejected : rejectedRequests.values()) {
+            total += rejected.sum();
+        }
+        return total;
+    }
+
+    /** @return the rejected requests keyed by node name */
+    public Map<String, Long> getRejectedRequestsByNode() {
+        Map<String, Long> result = new HashMap<>();
+        rejectedRequests.forEach((node, rejected) -> result.put(node, rejected.sum()));
+        return result;
+    }
+
+    private Semaphore getPermits(String node) {
+        return permits.computeIfAbsent(node, key -> new Semaphore(maxInFlightRequests));
+    }
+}
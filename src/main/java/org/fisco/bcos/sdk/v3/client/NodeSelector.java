@@ -0,0 +1,57 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.client;
+
+import java.util.Collection;
+
+/**
+ * Chooses the node of the read requests (call, getCode, getBlockByNumber, ...) the client would
+ * otherwise let the native sdk route. The client reports the outcome of every routed request back
+ * to the selector, and sends a hedged copy of a read to a second node if it gets no response within
+ * the hedge delay of the first node.
+ */
+public interface NodeSelector {
+
+    /**
+     * @param excludedNodes the nodes already tried by the request
+     * @return the node to send the read request, empty to let the native sdk choose
+     */
+    String selectNode(Collection<String> excludedNodes);
+
+    /**
+     * @param node the node the read request is sent to
+     * @return the delay in ms before a hedged copy is sent to another node, no hedging if not
+     *     positive
+     */
+    long getHedgeDelayMs(String node);
+
+    /**
+     * @param node the node of the request
+     * @param latencyNanos the time from sending to the response or the error
+     * @param success false on error response, timeout or rejection
+     */
+    void onResponse(String node, long latencyNanos, boolean success);
+
+    /**
+     * @param node the node reached the block number
+     * @param blockNumber the block number of the node
+     */
+    default void onBlockNumber(String node, long blockNumber) {}
+
+    /**
+     * @param node the node of the request slower than its hedge delay
+     * @param hedgeNode the node the hedged copy is sent to
+     */
+    default void onHedge(String node, String hedgeNode) {}
+}
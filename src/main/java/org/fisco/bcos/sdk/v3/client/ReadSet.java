@@ -0,0 +1,344 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.client.protocol.request.Transaction;
+import org.fisco.bcos.sdk.v3.client.protocol.response.Call;
+import org.fisco.bcos.sdk.v3.model.Response;
+import org.fisco.bcos.sdk.v3.model.callback.RespCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A group of view calls read at one block number, for the pages showing a consistent snapshot of
+ * several contracts.
+ *
+ * <p>The calls are sent concurrently, spread over the nodes of the group. Once all are answered,
+ * the highest block number reported is the target, and only the calls answered at another block
+ * number or failed are sent again, to the nodes which answered at the target. The read set fails
+ * with a ClientException if the block numbers still differ after maxRounds rounds.
+ *
+ * <pre>
+ * ReadSet readSet = new ReadSet(client);
+ * int balance = readSet.add(token, balanceOfInput);
+ * int totalSupply = readSet.add(token, totalSupplyInput);
+ * ReadSet.Result result = readSet.execute();
+ * result.getOutput(balance); // at result.getBlockNumber()
+ * </pre>
+ */
+public class ReadSet {
+    private static final Logger logger = LoggerFactory.getLogger(ReadSet.class);
+
+    public static final int DEFAULT_MAX_ROUNDS = 3;
+
+    private final Client client;
+    private final List<Transaction> calls = new ArrayList<>();
+    private List<String> nodes = new ArrayList<>();
+    private int maxRounds = DEFAULT_MAX_ROUNDS;
+
+    private final AtomicInteger nodeIndex = new AtomicInteger();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder sentCalls = new LongAdder();
+    private final LongAdder reissuedCalls = new LongAdder();
+    private final LongAdder failedExecutions = new LongAdder();
+
+    /** The outputs of the calls of a read set, all executed at the same block number */
+    public static class Result {
+        private final long blockNumber;
+        private final List<Call.CallOutput> outputs;
+        private final int rounds;
+
+        private Result(long blockNumber, List<Call.CallOutput> outputs, int rounds) {
+            this.blockNumber = blockNumber;
+            this.outputs = outputs;
+            this.rounds = rounds;
+        }
+
+        /** @return the block number of all the outputs, -1 for an empty read set */
+        public long getBlockNumber() {
+            return blockNumber;
+        }
+
+        /**
+         * @param index the index returned by add()
+         * @return the output of the call
+         */
+        public Call.CallOutput getOutput(int index) {
+            return outputs.get(index);
+        }
+
+        /** @return the outputs in the order of add() */
+        public List<Call.CallOutput> getOutputs() {
+            return outputs;
+        }
+
+        /** @return the rounds sent, 1 if all the calls were answered at one block number */
+        public int getRounds() {
+            return rounds;
+        }
+    }
+
+    /** @param client the client of the group */
+    public ReadSet(Client client) {
+        this.client = client;
+    }
+
+    /**
+     * @param call the view call
+     * @return the index of its output in the result
+     */
+    public synchronized int add(Transaction call) {
+        calls.add(call);
+        return calls.size() - 1;
+    }
+
+    /**
+     * @param to the contract address
+     * @param data the abi encoded input
+     * @return the index of its output in the result
+     */
+    public int add(String to, byte[] data) {
+        return add(new Transaction("", to, data));
+    }
+
+    public synchronized int size() {
+        return calls.size();
+    }
+
+    /** @param nodes the nodes to send the calls, the nodes of the group by default */
+    public synchronized ReadSet setNodes(List<String> nodes) {
+        this.nodes = new ArrayList<>(nodes);
+        return this;
+    }
+
+    /** @param maxRounds the rounds to send the calls, the first round included */
+    public synchronized ReadSet setMaxRounds(int maxRounds) {
+        if (maxRounds <= 0) {
+            throw new IllegalArgumentException("maxRounds must be positive");
+        }
+        this.maxRounds = maxRounds;
+        return this;
+    }
+
+    /**
+     * Send the calls added so far, the read set can be executed again for a newer snapshot
+     *
+     * @return the future of the outputs at one block number, failed with a ClientException if the
+     *     calls can't be answered at one block number
+     */
+    public CompletableFuture<Result> executeAsync() {
+        Execution execution;
+        synchronized (this) {
+            if (nodes.isEmpty()) {
+                nodes = ClientImpl.getGroupNodes(client);
+            }
+            execution = new Execution(new ArrayList<>(calls), nodes, maxRounds);
+        }
+        executions.increment();
+        execution.start();
+        return execution.future;
+    }
+
+    /**
+     * Send the calls and wait for the outputs
+     *
+     * @return the outputs at one block number
+     * @throws ClientException if the calls can't be answered at one block number
+     */
+    public Result execute() {
+        return ClientImpl.waitForResponse("readSet", executeAsync());
+    }
+
+    /** The calls of one execute(), the arrays are written before pendingCalls is decremented */
+    private class Execution {
+        private final List<Transaction> calls;
+        private final List<String> nodes;
+        private final int maxRounds;
+        private final Call.CallOutput[] outputs;
+        private final String[] answeredNodes;
+        private final String[] errors;
+        private final AtomicInteger pendingCalls = new AtomicInteger();
+        private final CompletableFuture<Result> future = new CompletableFuture<>();
+        private int round = 0;
+
+        private Execution(List<Transaction> calls, List<String> nodes, int maxRounds) {
+            this.calls = calls;
+            this.nodes = nodes;
+            this.maxRounds = maxRounds;
+            this.outputs = new Call.CallOutput[calls.size()];
+            this.answeredNodes = new String[calls.size()];
+            this.errors = new String[calls.size()];
+        }
+
+        private void start() {
+            if (calls.isEmpty()) {
+                future.complete(new Result(-1, Collections.emptyList(), 0));
+                return;
+            }
+            List<Integer> indexes = new ArrayList<>(calls.size());
+            for (int i = 0; i < calls.size(); i++) {
+                indexes.add(i);
+            }
+            sendRound(indexes, nodes);
+        }
+
+        private void sendRound(List<Integer> indexes, List<String> roundNodes) {
+            round++;
+            pendingCalls.set(indexes.size());
+            sentCalls.add(indexes.size());
+            for (Integer index : indexes) {
+                String node =
+                        roundNodes.get(
+                                Math.floorMod(nodeIndex.getAndIncrement(), roundNodes.size()));
+                sendCall(index, node);
+            }
+        }
+
+        private void sendCall(int index, String node) {
+            try {
+                client.callAsync(
+                        node,
+                        calls.get(index),
+                        new RespCallback<Call>() {
+                            @Override
+                            public void onResponse(Call call) {
+                                if (call == null || call.getCallResult() == null) {
+                                    onAnswer(index, node, null, "empty call output");
+                                    return;
+                                }
+                                onAnswer(index, node, call.getCallResult(), null);
+                            }
+
+                            @Override
+                            public void onError(Response errorResponse) {
+                                onAnswer(
+                                        index,
+                                        node,
+                                        null,
+                                        errorResponse.getErrorCode()
+                                                + ", "
+                                                + errorResponse.getErrorMessage());
+                            }
+                        });
+            } catch (Exception e) {
+                onAnswer(index, node, null, e.getMessage());
+            }
+        }
+
+        private void onAnswer(int index, String node, Call.CallOutput output, String error) {
+            outputs[index] = output;
+            answeredNodes[index] = node;
+            errors[index] = error;
+            NodeSelector selector = client.getNodeSelector();
+            if (output != null && selector != null && !node.isEmpty()) {
+                selector.onBlockNumber(node, output.getBlockNumber());
+            }
+            if (pendingCalls.decrementAndGet() == 0) {
+                onRoundAnswered();
+            }
+        }
+
+        private void onRoundAnswered() {
+            if (future.isDone()) {
+                return;
+            }
+            long targetBlockNumber = -1;
+            for (Call.CallOutput output : outputs) {
+                if (output != null) {
+                    targetBlockNumber = Math.max(targetBlockNumber, output.getBlockNumber());
+                }
+            }
+            List<Integer> mismatchedCalls = new ArrayList<>();
+            Set<String> targetNodes = new LinkedHashSet<>();
+            for (int i = 0; i < outputs.length; i++) {
+                if (outputs[i] == null || outputs[i].getBlockNumber() != targetBlockNumber) {
+                    mismatchedCalls.add(i);
+                } else if (!answeredNodes[i].isEmpty()) {
+                    targetNodes.add(answeredNodes[i]);
+                }
+            }
+            if (mismatchedCalls.isEmpty()) {
+                future.complete(
+                        new Result(
+                                targetBlockNumber,
+                                Collections.unmodifiableList(Arrays.asList(outputs)),
+                                round));
+                return;
+            }
+            if (round >= maxRounds) {
+                failedExecutions.increment();
+                future.completeExceptionally(
+                        new ClientException(
+                                mismatchedCalls.size()
+                                        + " calls of the read set not answered at block "
+                                        + targetBlockNumber
+                                        + " after "
+                                        + round
+                                        + " rounds, "
+                                        + describe(mismatchedCalls.get(0))));
+                return;
+            }
+            logger.debug(
+                    "read set round {}: {} of {} calls not answered at block {}, resend to {}",
+                    round,
+                    mismatchedCalls.size(),
+                    outputs.length,
+                    targetBlockNumber,
+                    targetNodes);
+            reissuedCalls.add(mismatchedCalls.size());
+            sendRound(
+                    mismatchedCalls, targetNodes.isEmpty() ? nodes : new ArrayList<>(targetNodes));
+        }
+
+        private String describe(int index) {
+            if (outputs[index] == null) {
+                return "call " + index + " failed, error: " + errors[index];
+            }
+            return "call "
+                    + index
+                    + " answered at block "
+                    + outputs[index].getBlockNumber()
+                    + " by node "
+                    + answeredNodes[index];
+        }
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getSentCalls() {
+        return sentCalls.sum();
+    }
+
+    /** @return the calls sent again for answered at another block number or failed */
+    public long getReissuedCalls() {
+        return reissuedCalls.sum();
+    }
+
+    /** @return the executions not answered at one block number after maxRounds rounds */
+    public long getFailedExecutions() {
+        return failedExecutions.sum();
+    }
+}
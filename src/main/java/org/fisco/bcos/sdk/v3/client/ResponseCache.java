@@ -0,0 +1,415 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.client;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosBlock;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosTransaction;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosTransactionReceipt;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.fisco.bcos.sdk.v3.utils.ObjectMapperFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the responses of getBlockByNumber, getBlockByHash, getTransaction and
+ * getTransactionReceipt, which never change once the block is committed.
+ *
+ * <p>The json of the responses is kept on heap in LRU order, bounded by the entry count and by its
+ * size. With a positive offHeapMaxBytes the json of every cached response is also written to one
+ * preallocated direct buffer, overwriting the eldest entries when it is full, a response evicted
+ * from the heap is found there instead of being fetched from the node.
+ *
+ * <p>A block or receipt is cached only when it has at least confirmations blocks on top of it, the
+ * chain height is taken from the cached blocks and from updateBlockNumber. Transactions carry no
+ * block number, so they are cached only when confirmations is 0. A hit is decoded from the json,
+ * every caller gets its own response and may modify it.
+ */
+public class ResponseCache {
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCache.class);
+
+    private final int maxEntries;
+    private final long maxWeightBytes;
+    private final long confirmations;
+    private final OffHeapStore offHeapStore;
+
+    // guarded by itself
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weightBytes = 0;
+
+    private final AtomicLong blockNumber = new AtomicLong(-1);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder offHeapHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder unconfirmed = new LongAdder();
+
+    /**
+     * @param maxEntries the max responses kept on heap
+     * @param maxWeightBytes the max json bytes of the responses kept on heap
+     */
+    public ResponseCache(int maxEntries, long maxWeightBytes) {
+        this(maxEntries, maxWeightBytes, 0, 0);
+    }
+
+    /**
+     * @param maxEntries the max responses kept on heap
+     * @param maxWeightBytes the max json bytes of the responses kept on heap
+     * @param offHeapMaxBytes the size of the direct buffer allocated for the off-heap tier, at most
+     *     Integer.MAX_VALUE, no off-heap tier if not positive
+     * @param confirmations the blocks required on top of a block before caching it
+     */
+    public ResponseCache(
+            int maxEntries, long maxWeightBytes, long offHeapMaxBytes, long confirmations) {
+        if (maxEntries <= 0 || maxWeightBytes <= 0) {
+            throw new IllegalArgumentException("maxEntries and maxWeightBytes must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeightBytes = maxWeightBytes;
+        this.confirmations = Math.max(0, confirmations);
+        this.offHeapStore = offHeapMaxBytes > 0 ? new OffHeapStore(offHeapMaxBytes) : null;
+    }
+
+    public BcosBlock getBlockByNumber(
+            String group, BigInteger blockNumber, boolean onlyHeader, boolean onlyTxHash) {
+        return get(blockByNumberKey(group, blockNumber, onlyHeader, onlyTxHash), BcosBlock.class);
+    }
+
+    public BcosBlock getBlockByHash(
+            String group, String blockHash, boolean onlyHeader, boolean onlyTxHash) {
+        return get(blockByHashKey(group, blockHash, onlyHeader, onlyTxHash), BcosBlock.class);
+    }
+
+    public BcosTransaction getTransaction(String group, String transactionHash, boolean withProof) {
+        return get(transactionKey(group, transactionHash, withProof), BcosTransaction.class);
+    }
+
+    public BcosTransactionReceipt getTransactionReceipt(
+            String group, String transactionHash, boolean withProof) {
+        return get(receiptKey(group, transactionHash, withProof), BcosTransactionReceipt.class);
+    }
+
+    /**
+     * Cache the block by its number and by its hash
+     *
+     * @param group the group of the block
+     * @param onlyHeader the onlyHeader flag of the request
+     * @param onlyTxHash the onlyTxHash flag of the request
+     * @param response the decoded response
+     * @param content the json of the response
+     */
+    public void putBlock(
+            String group,
+            boolean onlyHeader,
+            boolean onlyTxHash,
+            BcosBlock response,
+            byte[] content) {
+        BcosBlock.Block block = response.getBlock();
+        if (block == null) {
+            return;
+        }
+        updateBlockNumber(block.getNumber());
+        if (!isConfirmed(block.getNumber())) {
+            unconfirmed.increment();
+            return;
+        }
+        put(
+                blockByNumberKey(
+                        group, BigInteger.valueOf(block.getNumber()), onlyHeader, onlyTxHash),
+                content);
+        if (block.getHash() != null) {
+            put(blockByHashKey(group, block.getHash(), onlyHeader, onlyTxHash), content);
+        }
+    }
+
+    public void putTransaction(
+            String group,
+            String transactionHash,
+            boolean withProof,
+            BcosTransaction response,
+            byte[] content) {
+        if (!response.getTransaction().isPresent()) {
+            return;
+        }
+        if (confirmations > 0) {
+            unconfirmed.increment();
+            return;
+        }
+        put(transactionKey(group, transactionHash, withProof), content);
+    }
+
+    public void putTransactionReceipt(
+            String group,
+            String transactionHash,
+            boolean withProof,
+            BcosTransactionReceipt response,
+            byte[] content) {
+        if (response.getTransactionReceipt() == null
+                || response.getTransactionReceipt().getBlockNumber() == null) {
+            return;
+        }
+        long receiptBlockNumber = response.getTransactionReceipt().getBlockNumber().longValue();
+        updateBlockNumber(receiptBlockNumber);
+        if (!isConfirmed(receiptBlockNumber)) {
+            unconfirmed.increment();
+            return;
+        }
+        put(receiptKey(group, transactionHash, withProof), content);
+    }
+
+    /** @param blockNumber the latest block number known */
+    public void updateBlockNumber(long blockNumber) {
+        this.blockNumber.accumulateAndGet(blockNumber, Math::max);
+    }
+
+    public long getBlockNumber() {
+        return blockNumber.get();
+    }
+
+    private boolean isConfirmed(long number) {
+        return confirmations == 0 || number + confirmations <= blockNumber.get();
+    }
+
+    private <T> T get(String key, Class<T> type) {
+        byte[] content;
+        synchronized (entries) {
+            content = entries.get(key);
+        }
+        if (content != null) {
+            T value = decode(key, content, type);
+            if (value != null) {
+                hits.increment();
+                return value;
+            }
+        }
+        if (offHeapStore != null) {
+            content = offHeapStore.get(key);
+            if (content != null) {
+                T value = decode(key, content, type);
+                if (value != null) {
+                    offHeapHits.increment();
+                    putOnHeap(key, content);
+                    return value;
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    private static <T> T decode(String key, byte[] content, Class<T> type) {
+        try {
+            return ObjectMapperFactory.readValue(content, type);
+        } catch (Exception e) {
+            logger.warn("decode the cached response failed, key: {}, e: ", key, e);
+            return null;
+        }
+    }
+
+    private void put(String key, byte[] content) {
+        putOnHeap(key, content);
+        if (offHeapStore != null) {
+            offHeapStore.put(key, content);
+        }
+    }
+
+    private void putOnHeap(String key, byte[] content) {
+        if (content.length > maxWeightBytes) {
+            return;
+        }
+        synchronized (entries) {
+            byte[] previous = entries.put(key, content);
+            if (previous != null) {
+                weightBytes -= previous.length;
+            }
+            weightBytes += content.length;
+            Iterator<byte[]> iterator = entries.values().iterator();
+            while ((entries.size() > maxEntries || weightBytes > maxWeightBytes)
+                    && iterator.hasNext()) {
+                byte[] eldest = iterator.next();
+                iterator.remove();
+                weightBytes -= eldest.length;
+                evictions.increment();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weightBytes = 0;
+        }
+        if (offHeapStore != null) {
+            offHeapStore.clear();
+        }
+    }
+
+    private static String normalizeHash(String hash) {
+        return Hex.trimPrefix(hash).toLowerCase();
+    }
+
+    private static String blockByNumberKey(
+            String group, BigInteger blockNumber, boolean onlyHeader, boolean onlyTxHash) {
+        return group + "/n/" + blockNumber + "/" + onlyHeader + "/" + onlyTxHash;
+    }
+
+    private static String blockByHashKey(
+            String group, String blockHash, boolean onlyHeader, boolean onlyTxHash) {
+        return group + "/h/" + normalizeHash(blockHash) + "/" + onlyHeader + "/" + onlyTxHash;
+    }
+
+    private static String transactionKey(String group, String transactionHash, boolean withProof) {
+        return group + "/t/" + normalizeHash(transactionHash) + "/" + withProof;
+    }
+
+    private static String receiptKey(String group, String transactionHash, boolean withProof) {
+        return group + "/r/" + normalizeHash(transactionHash) + "/" + withProof;
+    }
+
+    /** @return the responses kept on heap */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** @return the json bytes of the responses kept on heap */
+    public long getWeightBytes() {
+        synchronized (entries) {
+            return weightBytes;
+        }
+    }
+
+    /** @return the json bytes kept off heap */
+    public long getOffHeapBytes() {
+        return offHeapStore == null ? 0 : offHeapStore.getUsedBytes();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getOffHeapHits() {
+        return offHeapHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /** @return the responses not cached for their block is not confirmed yet */
+    public long getUnconfirmed() {
+        return unconfirmed.sum();
+    }
+
+    /** @return the ratio of the lookups served by either tier */
+    public double getHitRate() {
+        long hit = hits.sum() + offHeapHits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * FIFO json store in one direct buffer allocated up front, the json is appended in a ring and
+     * overwrites the eldest entries in its way
+     */
+    private static class OffHeapStore {
+        private final ByteBuffer arena;
+        // in the order written, which is the order in the arena from the write position on
+        private final LinkedHashMap<String, Slot> slots = new LinkedHashMap<>();
+        private int writePosition = 0;
+        private long usedBytes = 0;
+
+        private static class Slot {
+            private final int offset;
+            private final int length;
+
+            private Slot(int offset, int length) {
+                this.offset = offset;
+                this.length = length;
+            }
+        }
+
+        private OffHeapStore(long maxBytes) {
+            this.arena = ByteBuffer.allocateDirect((int) Math.min(maxBytes, Integer.MAX_VALUE));
+        }
+
+        private synchronized byte[] get(String key) {
+            Slot slot = slots.get(key);
+            if (slot == null) {
+                return null;
+            }
+            byte[] content = new byte[slot.length];
+            ByteBuffer view = arena.duplicate();
+            view.position(slot.offset);
+            view.get(content);
+            return content;
+        }
+
+        private synchronized void put(String key, byte[] content) {
+            if (content.length > arena.capacity() || slots.containsKey(key)) {
+                return;
+            }
+            Iterator<Slot> iterator = slots.values().iterator();
+            if (writePosition + content.length > arena.capacity()) {
+                // the end of the arena is too small, drop the eldest entries there and wrap
+                while (iterator.hasNext()) {
+                    Slot eldest = iterator.next();
+                    if (eldest.offset < writePosition) {
+                        break;
+                    }
+                    iterator.remove();
+                    usedBytes -= eldest.length;
+                }
+                writePosition = 0;
+                iterator = slots.values().iterator();
+            }
+            int end = writePosition + content.length;
+            while (iterator.hasNext()) {
+                Slot eldest = iterator.next();
+                if (eldest.offset >= end || eldest.offset + eldest.length <= writePosition) {
+                    break;
+                }
+                iterator.remove();
+                usedBytes -= eldest.length;
+            }
+            ByteBuffer view = arena.duplicate();
+            view.position(writePosition);
+            view.put(content);
+            slots.put(key, new Slot(writePosition, content.length));
+            usedBytes += content.length;
+            writePosition = end;
+        }
+
+        private synchronized void clear() {
+            slots.clear();
+            writePosition = 0;
+            usedBytes = 0;
+        }
+
+        private synchronized long getUsedBytes() {
+            return usedBytes;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.config.model.ThreadPoolConfig;
+import org.fisco.bcos.sdk.v3.model.JsonRpcResponse;
+import org.fisco.bcos.sdk.v3.model.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decodes the rpc responses on a dedicated thread pool instead of the native callback thread. The
+ * queue is bounded, when it is full the callback thread decodes the response itself.
+ */
+public class ResponseDecodeExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(ResponseDecodeExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder decodedResponses = new LongAdder();
+    private final LongAdder failedResponses = new LongAdder();
+    private final LongAdder totalDecodeNanos = new LongAdder();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final AtomicLong maxDecodeNanos = new AtomicLong();
+
+    public ResponseDecodeExecutor(ThreadPoolConfig threadPoolConfig) {
+        this(threadPoolConfig.getDecodeThreadPoolSize(), threadPoolConfig.getDecodeQueueSize());
+    }
+
+    public ResponseDecodeExecutor(int threadPoolSize, int queueSize) {
+        this.executor =
+                new ThreadPoolExecutor(
+                        threadPoolSize,
+                        threadPoolSize,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(queueSize),
+                        new BasicThreadFactory.Builder()
+                                .namingPattern("response-decode-%d")
+                                .daemon(true)
+                                .build(),
+                        (task, pool) -> {
+                            // CallerRunsPolicy silently drops the task after shutdown
+                            if (pool.isShutdown()) {
+                                throw new RejectedExecutionException("decode executor is stopped");
+                            }
+                            task.run();
+                        });
+    }
+
+    /**
+     * Decode the response on the decode thread pool and complete the future with the result. The
+     * future is completed outside of the measured decode latency.
+     *
+     * @param future the future of the request
+     * @param method the rpc method used in the error message
+     * @param response the raw response
+     * @param responseType the response class
+     */
+    public <T extends JsonRpcResponse<?>> void decode(
+            CompletableFuture<T> future, String method, Response response, Class<T> responseType) {
+        long submitTime = System.nanoTime();
+        try {
+            executor.execute(
+                    () -> decodeResponse(future, method, response, responseType, submitTime));
+        } catch (RejectedExecutionException e) {
+            // the executor is stopped
+            logger.warn("decode the response of {} failed, error: {}", method, e.getMessage());
+            future.completeExceptionally(
+                    new ClientException(method + " failed for the decode executor is stopped", e));
+        }
+    }
+
+    private <T extends JsonRpcResponse<?>> void decodeResponse(
+            CompletableFuture<T> future,
+            String method,
+            Response response,
+            Class<T> responseType,
+            long submitTime) {
+        if (future.isDone()) {
+            // cancelled or timed out while queued
+            return;
+        }
+        long startTime = System.nanoTime();
+        totalQueueNanos.add(startTime - submitTime);
+        T result;
+        try {
+            result = ClientImpl.parseResponseIntoJsonRpcResponse(method, response, responseType);
+        } catch (Exception e) {
+            recordDecode(startTime);
+            failedResponses.increment();
+            future.completeExceptionally(e);
+            return;
+        }
+        recordDecode(startTime);
+        future.complete(result);
+    }
+
+    private void recordDecode(long startTime) {
+        long decodeNanos = System.nanoTime() - startTime;
+        decodedResponses.increment();
+        totalDecodeNanos.add(decodeNanos);
+        maxDecodeNanos.accumulateAndGet(decodeNanos, Math::max);
+    }
+
+    /** @return the responses waiting in the queue */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /** @return the free slots of the queue */
+    public int getQueueRemainingCapacity() {
+        return executor.getQueue().remainingCapacity();
+    }
+
+    public int getThreadPoolSize() {
+        return executor.getCorePoolSize();
+    }
+
+    /** @return the decoded responses, including the failed ones */
+    public long getDecodedResponses() {
+        return decodedResponses.sum();
+    }
+
+    /** @return the responses failed to decode, or with error code */
+    public long getFailedResponses() {
+        return failedResponses.sum();
+    }
+
+    /** @return the mean decode latency in ns */
+    public long getAverageDecodeNanos() {
+        long decoded = decodedResponses.sum();
+        return decoded == 0 ? 0 : totalDecodeNanos.sum() / decoded;
+    }
+
+    /** @return the max decode latency in ns */
+    public long getMaxDecodeNanos() {
+        return maxDecodeNanos.get();
+    }
+
+    /** @return the mean time in ns a response waits in the queue */
+    public long getAverageQueueNanos() {
+        long decoded = decodedResponses.sum();
+        return decoded == 0 ? 0 : totalQueueNanos.sum() / decoded;
+    }
+
+    public boolean isStopped() {
+        return executor.isShutdown();
+    }
+
+    public void stop() {
+        executor.shutdown();
+    }
+}
@@ -17,6 +17,11 @@ import java.util.Objects;
 
 /** Throw exception when calling. */
 public class ClientException extends RuntimeException {
+    /** The request was not answered before its deadline */
+    public static final int REQUEST_TIMEOUT = -60001;
+    /** The request was rejected by the in-flight request limit of the node */
+    public static final int REQUEST_REJECTED = -60002;
+
     private int errorCode;
     private String errorMessage;
 
@@ -0,0 +1,24 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.client.exceptions;
+
+/**
+ * The node answered the request with a JSON-RPC error object, e.g. an unknown transaction, a
+ * reverted call or invalid params. Unlike the other ClientExceptions the node itself is healthy.
+ */
+public class JsonRpcErrorException extends ClientException {
+    public JsonRpcErrorException(int errorCode, String errorMessage, String message) {
+        super(errorCode, errorMessage, message);
+    }
+}
@@ -191,14 +191,14 @@ public class BcosBlock extends JsonRpcResponse<BcosBlock.Block> {
 
     // decode the block
     public static class BlockDeserializer extends JsonDeserializer<Block> {
-        private final ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
+        private final ObjectReader objectReader = ObjectMapperFactory.getObjectReader(Block.class);
 
         @Override
         public Block deserialize(
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return this.objectReader.readValue(jsonParser, Block.class);
+                return this.objectReader.readValue(jsonParser);
             } else {
                 return null; // null is wrapped by Optional in above getter
             }
@@ -241,7 +241,10 @@ public class BcosBlock extends JsonRpcResponse<BcosBlock.Block> {
     public static class TransactionResultDeserializer
             extends JsonDeserializer<List<TransactionResult>> {
 
-        private final ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
+        private final ObjectReader transactionObjectReader =
+                ObjectMapperFactory.getObjectReader(TransactionObject.class);
+        private final ObjectReader transactionHashReader =
+                ObjectMapperFactory.getObjectReader(TransactionHash.class);
 
         @Override
         public List<TransactionResult> deserialize(
@@ -252,7 +255,7 @@ public class BcosBlock extends JsonRpcResponse<BcosBlock.Block> {
 
             if (nextToken == JsonToken.START_OBJECT) {
                 Iterator<TransactionObject> transactionObjectIterator =
-                        objectReader.readValues(jsonParser, TransactionObject.class);
+                        transactionObjectReader.readValues(jsonParser);
                 while (transactionObjectIterator.hasNext()) {
                     transactionResults.add(transactionObjectIterator.next());
                 }
@@ -260,7 +263,7 @@ public class BcosBlock extends JsonRpcResponse<BcosBlock.Block> {
                 jsonParser.getValueAsString();
 
                 Iterator<TransactionHash> transactionHashIterator =
-                        objectReader.readValues(jsonParser, TransactionHash.class);
+                        transactionHashReader.readValues(jsonParser);
                 while (transactionHashIterator.hasNext()) {
                     transactionResults.add(transactionHashIterator.next());
                 }
@@ -90,14 +90,15 @@ public class BcosGroupInfo extends JsonRpcResponse<BcosGroupInfo.GroupInfo> {
     }
 
     public static class GroupInfoDeserializer extends JsonDeserializer<BcosGroupInfo.GroupInfo> {
-        private final ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
+        private final ObjectReader objectReader =
+                ObjectMapperFactory.getObjectReader(BcosGroupInfo.GroupInfo.class);
 
         @Override
         public BcosGroupInfo.GroupInfo deserialize(
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return this.objectReader.readValue(jsonParser, BcosGroupInfo.GroupInfo.class);
+                return this.objectReader.readValue(jsonParser);
             } else {
                 return null; // null is wrapped by Optional in above getter
             }
@@ -175,15 +175,15 @@ public class BcosGroupNodeInfo extends JsonRpcResponse<BcosGroupNodeInfo.GroupNo
 
     public static class GroupNodeInfoDeserializer
             extends JsonDeserializer<BcosGroupNodeInfo.GroupNodeInfo> {
-        private final ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
+        private final ObjectReader objectReader =
+                ObjectMapperFactory.getObjectReader(BcosGroupNodeInfo.GroupNodeInfo.class);
 
         @Override
         public BcosGroupNodeInfo.GroupNodeInfo deserialize(
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return this.objectReader.readValue(
-                        jsonParser, BcosGroupNodeInfo.GroupNodeInfo.class);
+                return this.objectReader.readValue(jsonParser);
             } else {
                 return null; // null is wrapped by Optional in above getter
             }
@@ -17,14 +17,15 @@ public class BcosTransaction extends JsonRpcResponse<JsonTransactionResponse> {
     }
 
     public static class ResponseDeserialiser extends JsonDeserializer<JsonTransactionResponse> {
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
+        private final ObjectReader objectReader =
+                ObjectMapperFactory.getObjectReader(JsonTransactionResponse.class);
 
         @Override
         public JsonTransactionResponse deserialize(
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return objectReader.readValue(jsonParser, JsonTransactionResponse.class);
+                return objectReader.readValue(jsonParser);
             } else {
                 return null; // null is wrapped by Optional in above getter
             }
@@ -32,14 +32,15 @@ public class BcosTransactionReceipt extends JsonRpcResponse<TransactionReceipt>
     }
 
     public static class ResponseDeserialiser extends JsonDeserializer<TransactionReceipt> {
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
+        private final ObjectReader objectReader =
+                ObjectMapperFactory.getObjectReader(TransactionReceipt.class);
 
         @Override
         public TransactionReceipt deserialize(
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return this.objectReader.readValue(jsonParser, TransactionReceipt.class);
+                return this.objectReader.readValue(jsonParser);
             } else {
                 return null; // null is wrapped by Optional in above getter
             }
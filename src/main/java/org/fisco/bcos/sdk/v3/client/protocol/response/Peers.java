@@ -168,14 +168,15 @@ public class Peers extends JsonRpcResponse<Peers.PeersInfo> {
 
     // decode the block
     public static class PeersDeserializer extends JsonDeserializer<Peers.PeersInfo> {
-        private final ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
+        private final ObjectReader objectReader =
+                ObjectMapperFactory.getObjectReader(Peers.PeersInfo.class);
 
         @Override
         public Peers.PeersInfo deserialize(
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return this.objectReader.readValue(jsonParser, Peers.PeersInfo.class);
+                return this.objectReader.readValue(jsonParser);
             } else {
                 return null; // null is wrapped by Optional in above getter
             }
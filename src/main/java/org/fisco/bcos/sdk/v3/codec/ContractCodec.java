@@ -19,7 +19,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -27,6 +26,7 @@ import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.fisco.bcos.sdk.v3.codec.abi.Constant;
+import org.fisco.bcos.sdk.v3.codec.datatypes.AbiTypeFactory;
 import org.fisco.bcos.sdk.v3.codec.datatypes.AbiTypes;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Address;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Bool;
@@ -165,28 +165,14 @@ public class ContractCodec {
                     }
                 }
 
-                try {
-                    Class<?> uintClass =
-                            Class.forName(
-                                    "org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint"
-                                            + bitSize);
-                    type =
-                            (Type)
-                                    uintClass
-                                            .getDeclaredConstructor(BigInteger.class)
-                                            .newInstance(new BigInteger(param));
-                } catch (ClassNotFoundException
-                        | NoSuchMethodException
-                        | InstantiationException
-                        | IllegalAccessException
-                        | InvocationTargetException e) {
-                    String errorMsg =
-                            "buildType error, type: " + typeStr + ", error: " + e.getCause();
+                AbiTypeFactory.NumericFactory factory =
+                        AbiTypeFactory.getNumericFactory("uint" + bitSize);
+                if (factory == null) {
+                    String errorMsg = "buildType error, type: " + typeStr;
                     logger.error(errorMsg);
                     throw new ContractCodecException(errorMsg);
                 }
-
-                return type;
+                return factory.create(new BigInteger(param));
             }
 
             if (typeStr.startsWith("int")) {
@@ -202,27 +188,14 @@ public class ContractCodec {
                     }
                 }
 
-                try {
-                    Class<?> uintClass =
-                            Class.forName(
-                                    "org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int"
-                                            + bitSize);
-                    type =
-                            (Type)
-                                    uintClass
-                                            .getDeclaredConstructor(BigInteger.class)
-                                            .newInstance(new BigInteger(param));
-                } catch (ClassNotFoundException
-                        | NoSuchMethodException
-                        | InstantiationException
-                        | IllegalAccessException
-                        | InvocationTargetException e) {
-                    String errorMsg = "unrecognized type: " + typeStr + ", error:" + e.getCause();
+                AbiTypeFactory.NumericFactory factory =
+                        AbiTypeFactory.getNumericFactory("int" + bitSize);
+                if (factory == null) {
+                    String errorMsg = "unrecognized type: " + typeStr;
                     logger.error(errorMsg);
                     throw new ContractCodecException(errorMsg);
                 }
-
-                return type;
+                return factory.create(new BigInteger(param));
             }
 
             if (typeStr.equals("bool")) {
@@ -279,24 +252,14 @@ public class ContractCodec {
                     throw new ContractCodecException(errorMsg);
                 }
 
-                try {
-                    Class<?> bytesClass =
-                            Class.forName(
-                                    "org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes"
-                                            + length);
-                    type =
-                            (Type)
-                                    bytesClass
-                                            .getDeclaredConstructor(byte[].class)
-                                            .newInstance(bytesN);
-                } catch (ClassNotFoundException
-                        | NoSuchMethodException
-                        | InstantiationException
-                        | IllegalAccessException
-                        | InvocationTargetException e) {
-                    e.printStackTrace();
+                AbiTypeFactory.BytesFactory factory =
+                        AbiTypeFactory.getBytesFactory("bytes" + length);
+                if (factory == null) {
+                    String errorMsg = "unrecognized static byte array type: " + typeStr;
+                    logger.error(errorMsg);
+                    throw new ContractCodecException(errorMsg);
                 }
-                return type;
+                return factory.create(bytesN);
             }
         }
         String errorMsg = "unrecognized type: " + typeStr;
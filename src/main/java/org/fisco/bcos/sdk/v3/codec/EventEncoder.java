@@ -6,7 +6,6 @@ import org.fisco.bcos.sdk.v3.codec.datatypes.Event;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Type;
 import org.fisco.bcos.sdk.v3.codec.datatypes.TypeReference;
 import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
-import org.fisco.bcos.sdk.v3.utils.Numeric;
 
 /**
  * Ethereum filter encoding. Further limited details are available <a
@@ -27,6 +26,11 @@ public class EventEncoder {
 
     public <T extends Type> String buildMethodSignature(
             String methodName, List<TypeReference<T>> parameters) {
+        return buildEventMethodSignature(methodName, parameters);
+    }
+
+    static <T extends Type> String buildEventMethodSignature(
+            String methodName, List<TypeReference<T>> parameters) {
         StringBuilder result = new StringBuilder();
         result.append(methodName);
         result.append("(");
@@ -38,8 +42,6 @@ public class EventEncoder {
     }
 
     public String buildEventSignature(String methodSignature) {
-        byte[] input = methodSignature.getBytes();
-        byte[] hash = this.cryptoSuite.hash(input);
-        return Numeric.toHexString(hash);
+        return SignatureCache.getEventTopic(this.cryptoSuite, methodSignature);
     }
 }
@@ -1,6 +1,5 @@
 package org.fisco.bcos.sdk.v3.codec;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Function;
@@ -26,8 +25,6 @@ public abstract class FunctionEncoderInterface extends Encoder {
     }
 
     public byte[] buildMethodId(String methodSignature) {
-        byte[] input = methodSignature.getBytes();
-        byte[] hash = this.getCryptoSuite().hash(input);
-        return Arrays.copyOfRange(hash, 0, 4);
+        return SignatureCache.getMethodId(this.getCryptoSuite(), methodSignature).clone();
     }
 }
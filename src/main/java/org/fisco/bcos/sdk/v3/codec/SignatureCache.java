@@ -0,0 +1,149 @@
+package org.fisco.bcos.sdk.v3.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Event;
+import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.crypto.hash.Hash;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaKeccak256;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaSM3Hash;
+import org.fisco.bcos.sdk.v3.model.CryptoType;
+import org.fisco.bcos.sdk.v3.utils.Numeric;
+
+/**
+ * Method id and event topic cache, keyed by the method signature, e.g. "set(string)".
+ *
+ * <p>The selectors are kept per hash algorithm, so that ECDSA (keccak256) and SM (sm3) chains never
+ * share an entry. Contract wrappers can pre-register their signatures at class-load time with
+ * {@link #registerFunctions(String...)} and {@link #registerEvents(Event...)}.
+ */
+public final class SignatureCache {
+    public static final int HASH_TYPE_KECCAK256 = 0;
+    public static final int HASH_TYPE_SM3 = 1;
+    // signatures beyond this are hashed without being cached
+    public static final int MAX_CACHED_SIGNATURES = 65536;
+
+    private static final Hash[] preRegisterHashes = {new JavaKeccak256(), new JavaSM3Hash()};
+
+    @SuppressWarnings("unchecked")
+    private static final ConcurrentHashMap<String, byte[]>[] methodIds =
+            new ConcurrentHashMap[] {new ConcurrentHashMap<>(), new ConcurrentHashMap<>()};
+
+    @SuppressWarnings("unchecked")
+    private static final ConcurrentHashMap<String, String>[] eventTopics =
+            new ConcurrentHashMap[] {new ConcurrentHashMap<>(), new ConcurrentHashMap<>()};
+
+    private SignatureCache() {}
+
+    /**
+     * Get the hash algorithm used by the given cryptoSuite
+     *
+     * @param cryptoSuite the cryptoSuite
+     * @return HASH_TYPE_KECCAK256 for ECDSA, HASH_TYPE_SM3 for SM and HSM
+     */
+    public static int getHashType(CryptoSuite cryptoSuite) {
+        return cryptoSuite.getCryptoTypeConfig() == CryptoType.ECDSA_TYPE
+                ? HASH_TYPE_KECCAK256
+                : HASH_TYPE_SM3;
+    }
+
+    /**
+     * Get the 4 bytes method id of the method signature, the returned array is shared and must not
+     * be modified
+     *
+     * @param cryptoSuite the cryptoSuite used to hash the signature on cache miss
+     * @param methodSignature the method signature, e.g. "set(string)"
+     * @return the method id
+     */
+    public static byte[] getMethodId(CryptoSuite cryptoSuite, String methodSignature) {
+        ConcurrentHashMap<String, byte[]> cache = methodIds[getHashType(cryptoSuite)];
+        byte[] methodId = cache.get(methodSignature);
+        if (methodId == null) {
+            methodId = toMethodId(cryptoSuite.hash(toBytes(methodSignature)));
+            if (cache.size() < MAX_CACHED_SIGNATURES) {
+                cache.putIfAbsent(methodSignature, methodId);
+            }
+        }
+        return methodId;
+    }
+
+    /**
+     * Get the 0x prefixed hex topic of the event signature
+     *
+     * @param cryptoSuite the cryptoSuite used to hash the signature on cache miss
+     * @param eventSignature the event signature, e.g. "Transfer(address,uint256)"
+     * @return the event topic
+     */
+    public static String getEventTopic(CryptoSuite cryptoSuite, String eventSignature) {
+        ConcurrentHashMap<String, String> cache = eventTopics[getHashType(cryptoSuite)];
+        String topic = cache.get(eventSignature);
+        if (topic == null) {
+            topic = Numeric.toHexString(cryptoSuite.hash(toBytes(eventSignature)));
+            if (cache.size() < MAX_CACHED_SIGNATURES) {
+                cache.putIfAbsent(eventSignature, topic);
+            }
+        }
+        return topic;
+    }
+
+    /**
+     * Pre-compute the method ids of the given signatures for all the hash algorithms
+     *
+     * @param methodSignatures the method signatures, e.g. "set(string)"
+     */
+    public static void registerFunctions(String... methodSignatures) {
+        for (String methodSignature : methodSignatures) {
+            byte[] input = toBytes(methodSignature);
+            for (int hashType = 0; hashType < preRegisterHashes.length; hashType++) {
+                Hash hash = preRegisterHashes[hashType];
+                methodIds[hashType].computeIfAbsent(
+                        methodSignature, s -> toMethodId(hash.hash(input)));
+            }
+        }
+    }
+
+    /**
+     * Pre-compute the topics of the given events for all the hash algorithms
+     *
+     * @param events the events of the contract
+     */
+    public static void registerEvents(Event... events) {
+        for (Event event : events) {
+            String eventSignature =
+                    EventEncoder.buildEventMethodSignature(event.getName(), event.getParameters());
+            byte[] input = toBytes(eventSignature);
+            for (int hashType = 0; hashType < preRegisterHashes.length; hashType++) {
+                Hash hash = preRegisterHashes[hashType];
+                eventTopics[hashType].computeIfAbsent(
+                        eventSignature, s -> Numeric.toHexString(hash.hash(input)));
+            }
+        }
+    }
+
+    /**
+     * Get the number of cached signatures of the given hash algorithm
+     *
+     * @param hashType HASH_TYPE_KECCAK256 or HASH_TYPE_SM3
+     * @return the number of the cached method ids and event topics
+     */
+    public static int size(int hashType) {
+        return methodIds[hashType].size() + eventTopics[hashType].size();
+    }
+
+    /** Drop all the cached method ids and event topics */
+    public static void clear() {
+        for (int hashType = 0; hashType < preRegisterHashes.length; hashType++) {
+            methodIds[hashType].clear();
+            eventTopics[hashType].clear();
+        }
+    }
+
+    private static byte[] toBytes(String signature) {
+        return signature.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] toMethodId(byte[] hash) {
+        return Arrays.copyOfRange(hash, 0, 4);
+    }
+}
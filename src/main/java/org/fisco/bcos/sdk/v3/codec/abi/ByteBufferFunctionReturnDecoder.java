@@ -0,0 +1,83 @@
+package org.fisco.bcos.sdk.v3.codec.abi;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import org.fisco.bcos.sdk.v3.codec.FunctionReturnDecoderInterface;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Array;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Bytes;
+import org.fisco.bcos.sdk.v3.codec.datatypes.BytesType;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Type;
+import org.fisco.bcos.sdk.v3.codec.datatypes.TypeReference;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Utf8String;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes32;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.fisco.bcos.sdk.v3.utils.Numeric;
+import org.fisco.bcos.sdk.v3.utils.StringUtils;
+
+/**
+ * Decodes values returned by function or event calls with {@link ByteBufferTypeDecoder}, the
+ * elements of the returned arrays are decoded on first access.
+ */
+public class ByteBufferFunctionReturnDecoder implements FunctionReturnDecoderInterface {
+    private static final TypeReference<Bytes32> BYTES32 = TypeReference.create(Bytes32.class);
+
+    public ByteBufferFunctionReturnDecoder() {}
+
+    @Override
+    public List<Type> decode(String rawInput, List<TypeReference<Type>> outputParameters) {
+        String input = Numeric.cleanHexPrefix(rawInput);
+        if (StringUtils.isEmpty(input)) {
+            return Collections.emptyList();
+        }
+        return decode(Hex.decode(input), outputParameters);
+    }
+
+    /**
+     * Decode ABI encoded return values from smart contract function call.
+     *
+     * @param rawInput ABI encoded input
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function, {@link Collections#emptyList()} if the
+     *     input is empty
+     */
+    public List<Type> decode(byte[] rawInput, List<TypeReference<Type>> outputParameters) {
+        return decode(ByteBuffer.wrap(rawInput), outputParameters);
+    }
+
+    /**
+     * Decode ABI encoded return values from the position of the buffer, the buffer must not be
+     * modified while the returned values are in use.
+     *
+     * @param rawInput ABI encoded input
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function, {@link Collections#emptyList()} if the
+     *     input is empty
+     */
+    public List<Type> decode(ByteBuffer rawInput, List<TypeReference<Type>> outputParameters) {
+        if (!rawInput.hasRemaining()) {
+            return Collections.emptyList();
+        }
+        return ByteBufferTypeDecoder.decodeParameters(rawInput, outputParameters);
+    }
+
+    @Override
+    public <T extends Type> Type decodeIndexedValue(
+            String rawInput, TypeReference<T> typeReference) {
+        ByteBuffer input = ByteBuffer.wrap(Hex.decode(Numeric.cleanHexPrefix(rawInput)));
+        Class<T> type;
+        try {
+            type = typeReference.getClassType();
+        } catch (ClassNotFoundException e) {
+            throw new UnsupportedOperationException("Invalid class reference provided", e);
+        }
+        // the hash of the value is logged for the dynamic types
+        if (!Bytes.class.isAssignableFrom(type)
+                && (Array.class.isAssignableFrom(type)
+                        || BytesType.class.isAssignableFrom(type)
+                        || Utf8String.class.isAssignableFrom(type))) {
+            return ByteBufferTypeDecoder.decode(input, 0, BYTES32);
+        }
+        return ByteBufferTypeDecoder.decode(input, 0, typeReference);
+    }
+}
@@ -0,0 +1,546 @@
+package org.fisco.bcos.sdk.v3.codec.abi;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.fisco.bcos.sdk.v3.codec.Utils;
+import org.fisco.bcos.sdk.v3.codec.datatypes.AbiTypeFactory;
+import org.fisco.bcos.sdk.v3.codec.datatypes.AbiTypes;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Address;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Array;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Bool;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Bytes;
+import org.fisco.bcos.sdk.v3.codec.datatypes.DynamicArray;
+import org.fisco.bcos.sdk.v3.codec.datatypes.DynamicBytes;
+import org.fisco.bcos.sdk.v3.codec.datatypes.DynamicStruct;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Fixed;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Int;
+import org.fisco.bcos.sdk.v3.codec.datatypes.NumericType;
+import org.fisco.bcos.sdk.v3.codec.datatypes.StaticArray;
+import org.fisco.bcos.sdk.v3.codec.datatypes.StructType;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Type;
+import org.fisco.bcos.sdk.v3.codec.datatypes.TypeReference;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Utf8String;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint160;
+
+/**
+ * ABI decoder working over a {@link ByteBuffer} view of the encoded data.
+ *
+ * <p>The constructors, element types and sizes of a {@link TypeReference} are resolved once into a
+ * cached decoder. Values are read with absolute gets, so only the bytes of the decoded values are
+ * copied. The elements of arrays are decoded on first access, so nested arrays and structs are only
+ * materialised when they are used; the input buffer must not be modified while the decoded values
+ * are in use.
+ */
+public class ByteBufferTypeDecoder {
+    private static final ConcurrentHashMap<String, ValueDecoder> decoders =
+            new ConcurrentHashMap<>();
+
+    private ByteBufferTypeDecoder() {}
+
+    /**
+     * decode a single value
+     *
+     * @param input the encoded data
+     * @param offset the absolute index of the value in the input
+     * @param typeReference the type of the value
+     * @param <T> the type of the value
+     * @return the decoded value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Type> T decode(
+            ByteBuffer input, int offset, TypeReference<T> typeReference) {
+        return (T) getDecoder(typeReference).decode(input, offset);
+    }
+
+    /**
+     * decode the ABI encoded tuple starting at the position of the input, e.g. the output of a
+     * function call
+     *
+     * @param input the encoded data, its position is not changed
+     * @param typeReferences the types of the values
+     * @return the decoded values
+     */
+    public static List<Type> decodeParameters(
+            ByteBuffer input, List<TypeReference<Type>> typeReferences) {
+        List<Type> results = new ArrayList<>(typeReferences.size());
+        int base = input.position();
+        int head = base;
+        for (TypeReference<Type> typeReference : typeReferences) {
+            ValueDecoder decoder = getDecoder(typeReference);
+            results.add(decoder.decodeInHead(input, base, head));
+            head += decoder.headLength;
+        }
+        return results;
+    }
+
+    static ValueDecoder getDecoder(TypeReference<?> typeReference) {
+        java.lang.reflect.Type type = typeReference.getType();
+        int staticArraySize =
+                typeReference instanceof TypeReference.StaticArrayTypeReference
+                        ? ((TypeReference.StaticArrayTypeReference<?>) typeReference).getSize()
+                        : -1;
+        StringBuilder key = new StringBuilder();
+        appendTypeKey(key, type);
+        if (staticArraySize >= 0) {
+            key.append('#').append(staticArraySize);
+        }
+        String typeKey = key.toString();
+        ValueDecoder decoder = decoders.get(typeKey);
+        if (decoder == null) {
+            // nested decoders are built outside of the map, so that the map is never updated
+            // recursively
+            decoder = createDecoder(type, staticArraySize);
+            ValueDecoder previous = decoders.putIfAbsent(typeKey, decoder);
+            if (previous != null) {
+                decoder = previous;
+            }
+        }
+        return decoder;
+    }
+
+    // the ParameterizedTypes built by TypeReference.makeTypeReference have no equals/hashCode
+    private static void appendTypeKey(StringBuilder key, java.lang.reflect.Type type) {
+        if (type instanceof Class) {
+            key.append(((Class<?>) type).getName());
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            appendTypeKey(key, parameterizedType.getRawType());
+            key.append('<');
+            for (java.lang.reflect.Type argument : parameterizedType.getActualTypeArguments()) {
+                appendTypeKey(key, argument);
+                key.append(',');
+            }
+            key.append('>');
+        } else {
+            throw new UnsupportedOperationException("Type cannot be decoded: " + type);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ValueDecoder createDecoder(java.lang.reflect.Type type, int staticArraySize) {
+        Class<? extends Type> cls;
+        try {
+            cls = (Class<? extends Type>) Utils.getClassType(type);
+        } catch (ClassNotFoundException e) {
+            throw new UnsupportedOperationException("Invalid class reference provided", e);
+        }
+        if (NumericType.class.isAssignableFrom(cls)) {
+            return new NumericDecoder((Class<? extends NumericType>) cls);
+        } else if (Address.class.isAssignableFrom(cls)) {
+            return new AddressDecoder();
+        } else if (Bool.class.isAssignableFrom(cls)) {
+            return new BoolDecoder();
+        } else if (Bytes.class.isAssignableFrom(cls)) {
+            return new BytesDecoder((Class<? extends Bytes>) cls);
+        } else if (DynamicBytes.class.isAssignableFrom(cls)) {
+            return new DynamicBytesDecoder();
+        } else if (Utf8String.class.isAssignableFrom(cls)) {
+            return new Utf8StringDecoder();
+        } else if (StructType.class.isAssignableFrom(cls)) {
+            return new StructDecoder(cls);
+        } else if (StaticArray.class.isAssignableFrom(cls)) {
+            int length = staticArraySize;
+            if (cls != StaticArray.class) {
+                length =
+                        Integer.parseInt(
+                                cls.getSimpleName()
+                                        .substring(StaticArray.class.getSimpleName().length()));
+            }
+            if (length <= 0) {
+                throw new UnsupportedOperationException(
+                        "Zero length fixed array is invalid type: " + type.getTypeName());
+            }
+            return new StaticArrayDecoder(getElementType(type), length);
+        } else if (DynamicArray.class.isAssignableFrom(cls)) {
+            return new DynamicArrayDecoder(getElementType(type));
+        } else {
+            throw new UnsupportedOperationException("Type cannot be decoded: " + cls);
+        }
+    }
+
+    private static java.lang.reflect.Type getElementType(java.lang.reflect.Type arrayType) {
+        if (!(arrayType instanceof ParameterizedType)) {
+            throw new UnsupportedOperationException(
+                    "Unable to access parameterized type " + arrayType.getTypeName());
+        }
+        return ((ParameterizedType) arrayType).getActualTypeArguments()[0];
+    }
+
+    // the component type recorded by the arrays, same as the one chosen by TypeDecoder
+    @SuppressWarnings("unchecked")
+    private static Class<Type> getComponentType(ValueDecoder elementDecoder) {
+        Class<? extends Type> cls = elementDecoder.valueClass;
+        if (StructType.class.isAssignableFrom(cls) || Array.class.isAssignableFrom(cls)) {
+            return (Class<Type>) cls;
+        }
+        try {
+            return (Class<Type>) AbiTypes.getType(Utils.getSimpleTypeName(cls));
+        } catch (UnsupportedOperationException e) {
+            return (Class<Type>) cls;
+        }
+    }
+
+    private static <T> Constructor<T> getConstructor(Class<T> cls, Class<?>... parameterTypes) {
+        try {
+            return cls.getConstructor(parameterTypes);
+        } catch (NoSuchMethodException | SecurityException e) {
+            throw new UnsupportedOperationException(
+                    "Unable to create instance of " + cls.getName(), e);
+        }
+    }
+
+    private static <T> T newInstance(Constructor<T> constructor, Object... arguments) {
+        try {
+            return constructor.newInstance(arguments);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new UnsupportedOperationException(
+                    "Unable to create instance of " + constructor.getDeclaringClass().getName(), e);
+        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException e) {
+            throw new UnsupportedOperationException(
+                    "Unable to create instance of " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    /** the unsigned 32 bytes word at index, as an offset or a length */
+    static int readLength(ByteBuffer input, int index) {
+        int value = 0;
+        for (int i = Type.MAX_BYTE_LENGTH - Integer.BYTES; i < Type.MAX_BYTE_LENGTH; i++) {
+            value = (value << Byte.SIZE) | (input.get(index + i) & 0xff);
+        }
+        if (value < 0) {
+            throw new UnsupportedOperationException("Invalid offset or length: " + value);
+        }
+        return value;
+    }
+
+    private static void read(ByteBuffer input, int index, byte[] dst, int dstOffset, int length) {
+        if (index < 0 || length < 0 || index > input.limit() - length) {
+            throw new IndexOutOfBoundsException(
+                    "index " + index + ", length " + length + ", limit " + input.limit());
+        }
+        if (input.hasArray()) {
+            System.arraycopy(input.array(), input.arrayOffset() + index, dst, dstOffset, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                dst[dstOffset + i] = input.get(index + i);
+            }
+        }
+    }
+
+    private static byte[] read(ByteBuffer input, int index, int length) {
+        byte[] bytes = new byte[length];
+        read(input, index, bytes, 0, length);
+        return bytes;
+    }
+
+    abstract static class ValueDecoder {
+        final Class<? extends Type> valueClass;
+        final boolean dynamic;
+        // the bytes taken in the head of the enclosing tuple or array
+        final int headLength;
+
+        ValueDecoder(Class<? extends Type> valueClass, boolean dynamic, int staticLength) {
+            this.valueClass = valueClass;
+            this.dynamic = dynamic;
+            this.headLength = dynamic ? Type.MAX_BYTE_LENGTH : staticLength;
+        }
+
+        /** decode the value encoded at offset */
+        abstract Type decode(ByteBuffer input, int offset);
+
+        /** decode the value whose head is at head, dynamic values are relative to base */
+        Type decodeInHead(ByteBuffer input, int base, int head) {
+            return dynamic ? decode(input, base + readLength(input, head)) : decode(input, head);
+        }
+    }
+
+    static final class NumericDecoder extends ValueDecoder {
+        private final AbiTypeFactory.NumericFactory factory;
+        private final Constructor<? extends NumericType> constructor;
+        private final int length;
+        private final boolean signed;
+
+        NumericDecoder(Class<? extends NumericType> cls) {
+            super(cls, false, Type.MAX_BYTE_LENGTH);
+            this.factory = AbiTypeFactory.getNumericFactory(cls);
+            this.constructor = factory == null ? getConstructor(cls, BigInteger.class) : null;
+            this.length = TypeDecoder.getTypeLengthInBytes(cls);
+            this.signed = Int.class.isAssignableFrom(cls) || Fixed.class.isAssignableFrom(cls);
+        }
+
+        @Override
+        Type decode(ByteBuffer input, int offset) {
+            byte[] value = new byte[length + 1];
+            if (signed) {
+                // take MSB as sign bit
+                value[0] = input.get(offset);
+            }
+            read(input, offset + Type.MAX_BYTE_LENGTH - length, value, 1, length);
+            BigInteger numericValue = new BigInteger(value);
+            return factory != null
+                    ? factory.create(numericValue)
+                    : newInstance(constructor, numericValue);
+        }
+    }
+
+    static final class AddressDecoder extends ValueDecoder {
+        AddressDecoder() {
+            super(Address.class, false, Type.MAX_BYTE_LENGTH);
+        }
+
+        @Override
+        Type decode(ByteBuffer input, int offset) {
+            int length = Address.LENGTH >> 3;
+            byte[] value = new byte[length + 1];
+            read(input, offset + Type.MAX_BYTE_LENGTH - length, value, 1, length);
+            return new Address(new Uint160(new BigInteger(value)));
+        }
+    }
+
+    static final class BoolDecoder extends ValueDecoder {
+        BoolDecoder() {
+            super(Bool.class, false, Type.MAX_BYTE_LENGTH);
+        }
+
+        @Override
+        Type decode(ByteBuffer input, int offset) {
+            // true only for the word 1, as TypeDecoder does
+            boolean value = input.get(offset + Type.MAX_BYTE_LENGTH - 1) == 1;
+            for (int i = 0; value && i < Type.MAX_BYTE_LENGTH - 1; i++) {
+                value = input.get(offset + i) == 0;
+            }
+            return new Bool(value);
+        }
+    }
+
+    static final class BytesDecoder extends ValueDecoder {
+        private final AbiTypeFactory.BytesFactory factory;
+        private final Constructor<? extends Bytes> constructor;
+        private final int length;
+
+        BytesDecoder(Class<? extends Bytes> cls) {
+            super(cls, false, Type.MAX_BYTE_LENGTH);
+            this.factory = AbiTypeFactory.getBytesFactory(cls);
+            this.constructor = factory == null ? getConstructor(cls, byte[].class) : null;
+            String[] splitName = cls.getSimpleName().split(Bytes.class.getSimpleName());
+            if (splitName.length != 2) {
+                throw new UnsupportedOperationException("Type cannot be decoded: " + cls);
+            }
+            this.length = Integer.parseInt(splitName[1]);
+        }
+
+        @Override
+        Type decode(ByteBuffer input, int offset) {
+            byte[] value = read(input, offset, length);
+            return factory != null
+                    ? factory.create(value)
+                    : newInstance(constructor, (Object) value);
+        }
+    }
+
+    static final class DynamicBytesDecoder extends ValueDecoder {
+        DynamicBytesDecoder() {
+            super(DynamicBytes.class, true, Type.MAX_BYTE_LENGTH);
+        }
+
+        @Override
+        Type decode(ByteBuffer input, int offset) {
+            int length = readLength(input, offset);
+            return new DynamicBytes(read(input, offset + Type.MAX_BYTE_LENGTH, length));
+        }
+    }
+
+    static final class Utf8StringDecoder extends ValueDecoder {
+        Utf8StringDecoder() {
+            super(Utf8String.class, true, Type.MAX_BYTE_LENGTH);
+        }
+
+        @Override
+        Type decode(ByteBuffer input, int offset) {
+            int length = readLength(input, offset);
+            int index = offset + Type.MAX_BYTE_LENGTH;
+            if (input.hasArray() && index >= 0 && index <= input.limit() - length) {
+                return new Utf8String(
+                        new String(
+                                input.array(),
+                                input.arrayOffset() + index,
+                                length,
+                                StandardCharsets.UTF_8));
+            }
+            return new Utf8String(new String(read(input, index, length), StandardCharsets.UTF_8));
+        }
+    }
+
+    static final class StructDecoder extends ValueDecoder {
+        private final Constructor<?> constructor;
+        private final ValueDecoder[] fields;
+
+        StructDecoder(Class<? extends Type> cls) {
+            this(cls, getStructConstructor(cls));
+        }
+
+        private StructDecoder(Class<? extends Type> cls, Constructor<?> constructor) {
+            this(cls, constructor, getFieldDecoders(constructor));
+        }
+
+        private StructDecoder(
+                Class<? extends Type> cls, Constructor<?> constructor, ValueDecoder[] fields) {
+            super(cls, DynamicStruct.class.isAssignableFrom(cls), getStaticLength(fields));
+            this.constructor = constructor;
+            this.fields = fields;
+        }
+
+        private static Constructor<?> getStructConstructor(Class<? extends Type> cls) {
+            for (Constructor<?> constructor : cls.getDeclaredConstructors()) {
+                Class<?>[] parameterTypes = constructor.getParameterTypes();
+                boolean allTypes = parameterTypes.length > 0;
+                for (Class<?> parameterType : parameterTypes) {
+                    allTypes &= Type.class.isAssignableFrom(parameterType);
+                }
+                if (allTypes) {
+                    constructor.setAccessible(true);
+                    return constructor;
+                }
+            }
+            throw new UnsupportedOperationException(
+                    "TypeReferenced struct must contain a constructor with types that extend Type: "
+                            + cls.getName());
+        }
+
+        private static ValueDecoder[] getFieldDecoders(Constructor<?> constructor) {
+            java.lang.reflect.Type[] parameterTypes = constructor.getGenericParameterTypes();
+            ValueDecoder[] fields = new ValueDecoder[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                fields[i] = createDecoder(parameterTypes[i], -1);
+            }
+            return fields;
+        }
+
+        private static int getStaticLength(ValueDecoder[] fields) {
+            int length = 0;
+            for (ValueDecoder field : fields) {
+                length += field.headLength;
+            }
+            return length;
+        }
+
+        @Override
+        Type decode(ByteBuffer input, int offset) {
+            Object[] values = new Object[fields.length];
+            int head = offset;
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = fields[i].decodeInHead(input, offset, head);
+                head += fields[i].headLength;
+            }
+            return (Type) newInstance(constructor, values);
+        }
+    }
+
+    static final class StaticArrayDecoder extends ValueDecoder {
+        private final ValueDecoder element;
+        private final Class<Type> componentType;
+        private final int length;
+        private final AbiTypeFactory.StaticArrayFactory factory;
+
+        StaticArrayDecoder(java.lang.reflect.Type elementType, int length) {
+            this(createDecoder(elementType, -1), length);
+        }
+
+        private StaticArrayDecoder(ValueDecoder element, int length) {
+            super(getStaticArrayClass(length), element.dynamic, element.headLength * length);
+            this.element = element;
+            this.componentType = getComponentType(element);
+            this.length = length;
+            this.factory = AbiTypeFactory.getStaticArrayFactory(length);
+        }
+
+        private static Class<? extends Type> getStaticArrayClass(int length) {
+            Class<? extends Type> cls = AbiTypeFactory.getStaticArrayClass(length);
+            if (cls == null) {
+                throw new UnsupportedOperationException(
+                        "Static arrays with a length of " + length + " are not supported.");
+            }
+            return cls;
+        }
+
+        @Override
+        Type decode(ByteBuffer input, int offset) {
+            return factory.create(
+                    componentType, new LazyList(input, offset, offset, length, element));
+        }
+    }
+
+    static final class DynamicArrayDecoder extends ValueDecoder {
+        private final ValueDecoder element;
+        private final Class<Type> componentType;
+
+        DynamicArrayDecoder(java.lang.reflect.Type elementType) {
+            this(createDecoder(elementType, -1));
+        }
+
+        private DynamicArrayDecoder(ValueDecoder element) {
+            super(DynamicArray.class, true, Type.MAX_BYTE_LENGTH);
+            this.element = element;
+            this.componentType = getComponentType(element);
+        }
+
+        @Override
+        Type decode(ByteBuffer input, int offset) {
+            int length = readLength(input, offset);
+            int elementsOffset = offset + Type.MAX_BYTE_LENGTH;
+            if ((long) length * element.headLength > input.limit() - elementsOffset) {
+                throw new UnsupportedOperationException("Invalid array length: " + length);
+            }
+            return new DynamicArray<>(
+                    componentType,
+                    new LazyList(input, elementsOffset, elementsOffset, length, element));
+        }
+    }
+
+    /** the elements of a decoded array, each one is decoded on first access */
+    static final class LazyList extends AbstractList<Type> implements RandomAccess {
+        private final ByteBuffer input;
+        private final int base;
+        private final int head;
+        private final ValueDecoder element;
+        private final AtomicReferenceArray<Type> values;
+
+        LazyList(ByteBuffer input, int base, int head, int size, ValueDecoder element) {
+            this.input = input;
+            this.base = base;
+            this.head = head;
+            this.element = element;
+            this.values = new AtomicReferenceArray<>(size);
+        }
+
+        @Override
+        public Type get(int index) {
+            Type value = values.get(index);
+            if (value == null) {
+                value = element.decodeInHead(input, base, head + index * element.headLength);
+                if (!values.compareAndSet(index, null, value)) {
+                    value = values.get(index);
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public int size() {
+            return values.length();
+        }
+    }
+}
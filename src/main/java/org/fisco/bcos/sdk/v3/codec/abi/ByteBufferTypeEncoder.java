@@ -0,0 +1,359 @@
+package org.fisco.bcos.sdk.v3.codec.abi;
+
+import static org.fisco.bcos.sdk.v3.codec.datatypes.Type.MAX_BYTE_LENGTH;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.fisco.bcos.sdk.v3.codec.Utils;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Address;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Array;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Bool;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Bytes;
+import org.fisco.bcos.sdk.v3.codec.datatypes.DynamicArray;
+import org.fisco.bcos.sdk.v3.codec.datatypes.DynamicBytes;
+import org.fisco.bcos.sdk.v3.codec.datatypes.DynamicStruct;
+import org.fisco.bcos.sdk.v3.codec.datatypes.NumericType;
+import org.fisco.bcos.sdk.v3.codec.datatypes.StaticArray;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Type;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Ufixed;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Uint;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Utf8String;
+
+/**
+ * ABI encoder that computes the exact encoded size first, then writes the heads and tails of all
+ * the values into one {@link ByteBuffer} in a single pass.
+ *
+ * <p>The output is byte-identical to {@link TypeEncoder} and {@link
+ * FunctionEncoder#encodeParameters(List, byte[])}, including the way they compute the offsets.
+ */
+public class ByteBufferTypeEncoder {
+    private static final byte[] ZEROS = new byte[MAX_BYTE_LENGTH];
+    private static final byte[] ONES = new byte[MAX_BYTE_LENGTH];
+
+    static {
+        for (int i = 0; i < ONES.length; i++) {
+            ONES[i] = (byte) 0xff;
+        }
+    }
+
+    private ByteBufferTypeEncoder() {}
+
+    /**
+     * encode the parameters of a function call, with the method id in front if it is not null
+     *
+     * @param parameters the parameters
+     * @param methodId the 4 bytes method id, null for constructors
+     * @return the encoded parameters
+     */
+    public static byte[] encodeParameters(List<Type> parameters, byte[] methodId) {
+        int length = encodedParametersLength(parameters) + (methodId == null ? 0 : methodId.length);
+        byte[] result = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(result);
+        if (methodId != null) {
+            buffer.put(methodId);
+        }
+        encodeParametersTo(parameters, buffer);
+        return result;
+    }
+
+    /**
+     * encode the parameters of a function call into the buffer, which must have at least {@link
+     * #encodedParametersLength(List)} bytes remaining
+     *
+     * @param parameters the parameters
+     * @param buffer the buffer to write to, from its current position
+     */
+    public static void encodeParametersTo(List<Type> parameters, ByteBuffer buffer) {
+        long dynamicDataOffset = (long) Utils.getLength(parameters) * MAX_BYTE_LENGTH;
+        for (Type parameter : parameters) {
+            if (TypeEncoder.isDynamic(parameter)) {
+                putUint(buffer, dynamicDataOffset);
+                dynamicDataOffset += encodedLength(parameter);
+            } else {
+                encodeTo(parameter, buffer);
+            }
+        }
+        for (Type parameter : parameters) {
+            if (TypeEncoder.isDynamic(parameter)) {
+                encodeTo(parameter, buffer);
+            }
+        }
+    }
+
+    /**
+     * the number of bytes written by {@link #encodeParametersTo(List, ByteBuffer)}
+     *
+     * @param parameters the parameters
+     * @return the encoded length
+     */
+    public static int encodedParametersLength(List<Type> parameters) {
+        int length = 0;
+        for (Type parameter : parameters) {
+            int encodedLength = encodedLength(parameter);
+            length +=
+                    TypeEncoder.isDynamic(parameter)
+                            ? MAX_BYTE_LENGTH + encodedLength
+                            : encodedLength;
+        }
+        return length;
+    }
+
+    /**
+     * encode a value, same as {@link TypeEncoder#encode(Type)}
+     *
+     * @param parameter the value
+     * @return the encoded value
+     */
+    public static byte[] encode(Type parameter) {
+        byte[] result = new byte[encodedLength(parameter)];
+        encodeTo(parameter, ByteBuffer.wrap(result));
+        return result;
+    }
+
+    /**
+     * the number of bytes written by {@link #encodeTo(Type, ByteBuffer)}
+     *
+     * @param parameter the value
+     * @return the encoded length
+     */
+    public static int encodedLength(Type parameter) {
+        if (parameter instanceof NumericType
+                || parameter instanceof Address
+                || parameter instanceof Bool) {
+            return MAX_BYTE_LENGTH;
+        } else if (parameter instanceof Bytes) {
+            return paddedLength(((Bytes) parameter).getValue().length);
+        } else if (parameter instanceof DynamicBytes) {
+            return MAX_BYTE_LENGTH + paddedLength(((DynamicBytes) parameter).getValue().length);
+        } else if (parameter instanceof Utf8String) {
+            return MAX_BYTE_LENGTH + paddedLength(utf8Length(((Utf8String) parameter).getValue()));
+        } else if (parameter instanceof StaticArray) {
+            StaticArray<?> array = (StaticArray<?>) parameter;
+            int length = valuesLength(array);
+            if (DynamicStruct.class.isAssignableFrom(array.getComponentType())) {
+                length += array.getValue().size() * MAX_BYTE_LENGTH;
+            }
+            return length;
+        } else if (parameter instanceof DynamicStruct) {
+            int length = 0;
+            for (Type type : ((DynamicStruct) parameter).getValue()) {
+                length +=
+                        TypeEncoder.isDynamic(type)
+                                ? MAX_BYTE_LENGTH + encodedLength(type)
+                                : encodedLength(type);
+            }
+            return length;
+        } else if (parameter instanceof DynamicArray) {
+            DynamicArray<?> array = (DynamicArray<?>) parameter;
+            int length = valuesLength(array);
+            if (!array.isFixed()) {
+                length += MAX_BYTE_LENGTH;
+            }
+            if (hasOffsets(array)) {
+                length += array.getValue().size() * MAX_BYTE_LENGTH;
+            }
+            return length;
+        } else {
+            throw new UnsupportedOperationException(
+                    "Type cannot be encoded: " + parameter.getClass());
+        }
+    }
+
+    /**
+     * encode a value into the buffer, which must have at least {@link #encodedLength(Type)} bytes
+     * remaining
+     *
+     * @param parameter the value
+     * @param buffer the buffer to write to, from its current position
+     */
+    public static void encodeTo(Type parameter, ByteBuffer buffer) {
+        if (parameter instanceof NumericType) {
+            putNumeric(buffer, (NumericType) parameter);
+        } else if (parameter instanceof Address) {
+            putNumeric(buffer, ((Address) parameter).toUint160());
+        } else if (parameter instanceof Bool) {
+            buffer.put(ZEROS, 0, MAX_BYTE_LENGTH - 1);
+            buffer.put(((Bool) parameter).getValue() ? (byte) 1 : (byte) 0);
+        } else if (parameter instanceof Bytes) {
+            putPadded(buffer, ((Bytes) parameter).getValue());
+        } else if (parameter instanceof DynamicBytes) {
+            byte[] value = ((DynamicBytes) parameter).getValue();
+            putUint(buffer, value.length);
+            putPadded(buffer, value);
+        } else if (parameter instanceof Utf8String) {
+            byte[] value = ((Utf8String) parameter).getValue().getBytes(StandardCharsets.UTF_8);
+            putUint(buffer, value.length);
+            putPadded(buffer, value);
+        } else if (parameter instanceof StaticArray) {
+            StaticArray<?> array = (StaticArray<?>) parameter;
+            if (DynamicStruct.class.isAssignableFrom(array.getComponentType())) {
+                putStructsArraysOffsets(buffer, array);
+            }
+            putValues(buffer, array);
+        } else if (parameter instanceof DynamicStruct) {
+            putDynamicStruct(buffer, (DynamicStruct) parameter);
+        } else if (parameter instanceof DynamicArray) {
+            DynamicArray<?> array = (DynamicArray<?>) parameter;
+            if (!array.isFixed()) {
+                putUint(buffer, array.getValue().size());
+            }
+            putArrayValuesOffsets(buffer, array);
+            putValues(buffer, array);
+        } else {
+            throw new UnsupportedOperationException(
+                    "Type cannot be encoded: " + parameter.getClass());
+        }
+    }
+
+    private static void putDynamicStruct(ByteBuffer buffer, DynamicStruct value) {
+        // the offsets start after the bytes32PaddedLength of the static part, as TypeEncoder does
+        long dynamicOffset = 0;
+        for (Type type : value.getValue()) {
+            dynamicOffset +=
+                    TypeEncoder.isDynamic(type) ? MAX_BYTE_LENGTH : type.bytes32PaddedLength();
+        }
+        for (Type type : value.getValue()) {
+            if (TypeEncoder.isDynamic(type)) {
+                putUint(buffer, dynamicOffset);
+                dynamicOffset += encodedLength(type);
+            } else {
+                encodeTo(type, buffer);
+            }
+        }
+        for (Type type : value.getValue()) {
+            if (TypeEncoder.isDynamic(type)) {
+                encodeTo(type, buffer);
+            }
+        }
+    }
+
+    private static boolean hasOffsets(Array<?> array) {
+        if (array.getValue().isEmpty()) {
+            return false;
+        }
+        Type first = array.getValue().get(0);
+        return first instanceof DynamicBytes
+                || first instanceof Utf8String
+                || first instanceof DynamicStruct
+                || first instanceof DynamicArray;
+    }
+
+    private static void putArrayValuesOffsets(ByteBuffer buffer, DynamicArray<?> array) {
+        if (!hasOffsets(array)) {
+            return;
+        }
+        List<? extends Type> values = array.getValue();
+        Type first = values.get(0);
+        if (first instanceof DynamicBytes || first instanceof Utf8String) {
+            boolean arrayOfBytes = first instanceof DynamicBytes;
+            long offset = (long) values.size() * MAX_BYTE_LENGTH;
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    // TypeEncoder measures the strings in chars rather than in utf-8 bytes
+                    int bytesLength =
+                            arrayOfBytes
+                                    ? ((byte[]) values.get(i - 1).getValue()).length
+                                    : ((String) values.get(i - 1).getValue()).length();
+                    offset += paddedLength(bytesLength) + MAX_BYTE_LENGTH;
+                }
+                putUint(buffer, offset);
+            }
+        } else {
+            putStructsArraysOffsets(buffer, array);
+        }
+    }
+
+    private static void putStructsArraysOffsets(ByteBuffer buffer, Array<?> array) {
+        List<? extends Type> values = array.getValue();
+        long offset = (long) values.size() * MAX_BYTE_LENGTH;
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                offset += encodedLength(values.get(i - 1));
+            }
+            putUint(buffer, offset);
+        }
+    }
+
+    private static void putValues(ByteBuffer buffer, Array<?> array) {
+        for (Type type : array.getValue()) {
+            encodeTo(type, buffer);
+        }
+    }
+
+    private static int valuesLength(Array<?> array) {
+        int length = 0;
+        for (Type type : array.getValue()) {
+            length += encodedLength(type);
+        }
+        return length;
+    }
+
+    private static void putNumeric(ByteBuffer buffer, NumericType numericType) {
+        BigInteger value = numericType.getValue();
+        if (value.bitLength() < Long.SIZE) {
+            buffer.put(value.signum() == -1 ? ONES : ZEROS, 0, MAX_BYTE_LENGTH - Long.BYTES);
+            putLong(buffer, value.longValue());
+            return;
+        }
+        byte[] rawValue = value.toByteArray();
+        int offset = 0;
+        if ((numericType instanceof Ufixed || numericType instanceof Uint)
+                && value.bitLength() == Type.MAX_BIT_LENGTH) {
+            // skip the sign byte of the 256 bit unsigned value
+            offset = 1;
+        }
+        int length = rawValue.length - offset;
+        if (length > MAX_BYTE_LENGTH) {
+            throw new UnsupportedOperationException(
+                    "Numeric value is too large to encode: " + value);
+        }
+        buffer.put(value.signum() == -1 ? ONES : ZEROS, 0, MAX_BYTE_LENGTH - length);
+        buffer.put(rawValue, offset, length);
+    }
+
+    private static void putUint(ByteBuffer buffer, long value) {
+        buffer.put(ZEROS, 0, MAX_BYTE_LENGTH - Long.BYTES);
+        putLong(buffer, value);
+    }
+
+    // byte by byte, so that the output does not depend on the order of the buffer
+    private static void putLong(ByteBuffer buffer, long value) {
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            buffer.put((byte) (value >>> shift));
+        }
+    }
+
+    private static void putPadded(ByteBuffer buffer, byte[] value) {
+        buffer.put(value);
+        buffer.put(ZEROS, 0, paddedLength(value.length) - value.length);
+    }
+
+    private static int paddedLength(int length) {
+        return (length + MAX_BYTE_LENGTH - 1) / MAX_BYTE_LENGTH * MAX_BYTE_LENGTH;
+    }
+
+    // the length of String.getBytes(UTF_8), where unpaired surrogates become '?'
+    static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
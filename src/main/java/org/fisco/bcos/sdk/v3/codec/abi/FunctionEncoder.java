@@ -1,14 +1,10 @@
 package org.fisco.bcos.sdk.v3.codec.abi;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.math.BigInteger;
 import java.util.List;
 import org.fisco.bcos.sdk.v3.codec.FunctionEncoderInterface;
-import org.fisco.bcos.sdk.v3.codec.Utils;
+import org.fisco.bcos.sdk.v3.codec.SignatureCache;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Function;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Type;
-import org.fisco.bcos.sdk.v3.codec.datatypes.Uint;
 import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
 
 /**
@@ -25,7 +21,7 @@ public class FunctionEncoder extends FunctionEncoderInterface {
         List<Type> parameters = function.getInputParameters();
 
         String methodSignature = buildMethodSignature(function.getName(), parameters);
-        byte[] methodId = this.buildMethodId(methodSignature);
+        byte[] methodId = SignatureCache.getMethodId(this.getCryptoSuite(), methodSignature);
 
         return encodeParameters(parameters, methodId);
     }
@@ -35,32 +31,6 @@ public class FunctionEncoder extends FunctionEncoderInterface {
     }
 
     public static byte[] encodeParameters(List<Type> parameters, byte[] methodID) {
-        int dynamicDataOffset = Utils.getLength(parameters) * Type.MAX_BYTE_LENGTH;
-        ByteArrayOutputStream result = new ByteArrayOutputStream();
-        try {
-            if (methodID != null) {
-                result.write(methodID);
-            }
-            ByteArrayOutputStream dynamicData = new ByteArrayOutputStream();
-            for (Type parameter : parameters) {
-                byte[] encodedValue = TypeEncoder.encode(parameter);
-
-                if (TypeEncoder.isDynamic(parameter)) {
-                    byte[] encodedDataOffset =
-                            TypeEncoder.encodeNumeric(
-                                    new Uint(BigInteger.valueOf(dynamicDataOffset)));
-                    result.write(encodedDataOffset);
-                    dynamicData.write(encodedValue);
-                    dynamicDataOffset += encodedValue.length;
-                } else {
-                    result.write(encodedValue);
-                }
-            }
-            result.write(dynamicData.toByteArray());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
-        return result.toByteArray();
+        return ByteBufferTypeEncoder.encodeParameters(parameters, methodID);
     }
 }
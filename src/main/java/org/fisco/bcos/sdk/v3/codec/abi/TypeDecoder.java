@@ -8,6 +8,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.BiFunction;
 import org.fisco.bcos.sdk.v3.codec.Utils;
+import org.fisco.bcos.sdk.v3.codec.datatypes.AbiTypeFactory;
 import org.fisco.bcos.sdk.v3.codec.datatypes.AbiTypes;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Address;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Array;
@@ -61,10 +62,13 @@ public class TypeDecoder {
             if (cls == StaticArray.class) {
                 length = ((TypeReference.StaticArrayTypeReference<?>) type).getSize();
             } else {
-                length =
-                        Integer.parseInt(
-                                cls.getSimpleName()
-                                        .substring(StaticArray.class.getSimpleName().length()));
+                length = AbiTypeFactory.getStaticArrayLength(cls);
+                if (length < 0) {
+                    length =
+                            Integer.parseInt(
+                                    cls.getSimpleName()
+                                            .substring(StaticArray.class.getSimpleName().length()));
+                }
             }
             return decodeStaticArray(input, offset, type, length);
         } else if (DynamicArray.class.isAssignableFrom(cls)) {
@@ -92,6 +96,10 @@ public class TypeDecoder {
             System.arraycopy(inputByteArray, valueOffset, resultByteArray, 1, typeLengthAsBytes);
 
             BigInteger numericValue = new BigInteger(resultByteArray);
+            AbiTypeFactory.NumericFactory factory = AbiTypeFactory.getNumericFactory(type);
+            if (factory != null) {
+                return type.cast(factory.create(numericValue));
+            }
             return type.getConstructor(BigInteger.class).newInstance(numericValue);
 
         } catch (NoSuchMethodException
@@ -156,6 +164,10 @@ public class TypeDecoder {
             String[] splitName = simpleName.split(Bytes.class.getSimpleName());
             int length = Integer.parseInt(splitName[1]);
             byte[] bytes = Arrays.copyOfRange(input, offset, offset + length);
+            AbiTypeFactory.BytesFactory factory = AbiTypeFactory.getBytesFactory(type);
+            if (factory != null) {
+                return type.cast(factory.create(bytes));
+            }
             return type.getConstructor(byte[].class).newInstance(bytes);
         } catch (NoSuchMethodException
                 | SecurityException
@@ -199,16 +211,11 @@ public class TypeDecoder {
 
     @SuppressWarnings("unchecked")
     public static <T extends Type> T instantiateStaticArray(List<T> elements, int length) {
-        try {
-            Class<? extends StaticArray> arrayClass =
-                    (Class<? extends StaticArray>)
-                            Class.forName(
-                                    "org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray"
-                                            + length);
-            return (T) arrayClass.getConstructor(List.class).newInstance(elements);
-        } catch (ReflectiveOperationException e) {
-            throw new UnsupportedOperationException(e);
+        AbiTypeFactory.StaticArrayFactory factory = AbiTypeFactory.getStaticArrayFactory(length);
+        if (factory == null) {
+            throw new UnsupportedOperationException("Unsupported static array length: " + length);
         }
+        return (T) factory.create((List<Type>) elements);
     }
 
     public static <T extends Type> T decodeDynamicArray(
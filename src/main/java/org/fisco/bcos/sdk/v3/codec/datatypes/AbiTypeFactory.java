@@ -0,0 +1,432 @@
+package org.fisco.bcos.sdk.v3.codec.datatypes;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes1;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes10;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes11;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes12;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes13;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes14;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes15;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes16;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes17;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes18;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes19;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes2;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes20;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes21;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes22;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes23;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes24;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes25;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes26;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes27;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes28;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes29;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes3;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes30;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes31;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes32;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes4;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes5;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes6;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes7;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes8;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Bytes9;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int104;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int112;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int120;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int128;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int136;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int144;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int152;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int16;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int160;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int168;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int176;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int184;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int192;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int200;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int208;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int216;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int224;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int232;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int24;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int240;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int248;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int256;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int32;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int40;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int48;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int56;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int64;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int72;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int8;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int80;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int88;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int96;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray1;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray10;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray11;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray12;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray128;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray13;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray14;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray15;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray16;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray17;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray18;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray19;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray2;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray20;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray21;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray22;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray23;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray24;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray25;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray26;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray27;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray28;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray29;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray3;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray30;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray31;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray32;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray4;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray5;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray6;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray7;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray8;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray9;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint104;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint112;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint120;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint128;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint136;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint144;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint152;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint16;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint160;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint168;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint176;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint184;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint192;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint200;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint208;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint216;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint224;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint232;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint24;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint240;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint248;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint256;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint32;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint40;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint48;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint56;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint64;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint72;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint8;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint80;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint88;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint96;
+
+/**
+ * Pre-built factories of the ABI datatypes, keyed by the solidity type name and by the class.
+ *
+ * <p>The codec creates the generated Uint/Int/BytesN/StaticArrayN values through these factories
+ * instead of <code>Class.forName</code> and reflective constructor lookups. The tables are filled
+ * once at class-load time and never modified afterwards.
+ */
+public final class AbiTypeFactory {
+    private AbiTypeFactory() {}
+
+    /** Creates a numeric type from its value. */
+    public interface NumericFactory {
+        NumericType create(BigInteger value);
+    }
+
+    /** Creates a static bytes type from its value. */
+    public interface BytesFactory {
+        Bytes create(byte[] value);
+    }
+
+    /** Creates a StaticArrayN from its component type and elements. */
+    public interface StaticArrayFactory {
+        StaticArray<Type> create(Class<Type> type, List<Type> values);
+
+        /**
+         * Creates a StaticArrayN, the component type is inferred from the first element like the
+         * deprecated <code>StaticArray(List)</code> constructor does.
+         *
+         * @param values the elements, must not be empty
+         * @return the static array
+         */
+        @SuppressWarnings("unchecked")
+        default StaticArray<Type> create(List<Type> values) {
+            Type first = values.get(0);
+            Class<Type> type =
+                    first instanceof StructType
+                            ? (Class<Type>) first.getClass()
+                            : (Class<Type>) AbiTypes.getType(first.getTypeAsString());
+            return create(type, values);
+        }
+    }
+
+    private static final Map<String, Class<? extends Type>> typeClasses = new HashMap<>(256);
+    private static final Map<Class<?>, NumericFactory> numericFactories = new HashMap<>(128);
+    private static final Map<Class<?>, BytesFactory> bytesFactories = new HashMap<>(64);
+    private static final Map<Class<?>, Integer> staticArrayLengths = new HashMap<>(64);
+    private static final StaticArrayFactory[] staticArrayFactories = new StaticArrayFactory[129];
+
+    @SuppressWarnings("rawtypes")
+    private static final Class[] staticArrayClasses = new Class[129];
+
+    static {
+        typeClasses.put("address", Address.class);
+        typeClasses.put("boolean", Bool.class);
+        typeClasses.put("bool", Bool.class);
+        typeClasses.put("string", Utf8String.class);
+        typeClasses.put("bytes", DynamicBytes.class);
+        registerNumeric("uint8", Uint8.class, Uint8::new);
+        registerNumeric("int8", Int8.class, Int8::new);
+        registerNumeric("uint16", Uint16.class, Uint16::new);
+        registerNumeric("int16", Int16.class, Int16::new);
+        registerNumeric("uint24", Uint24.class, Uint24::new);
+        registerNumeric("int24", Int24.class, Int24::new);
+        registerNumeric("uint32", Uint32.class, Uint32::new);
+        registerNumeric("int32", Int32.class, Int32::new);
+        registerNumeric("uint40", Uint40.class, Uint40::new);
+        registerNumeric("int40", Int40.class, Int40::new);
+        registerNumeric("uint48", Uint48.class, Uint48::new);
+        registerNumeric("int48", Int48.class, Int48::new);
+        registerNumeric("uint56", Uint56.class, Uint56::new);
+        registerNumeric("int56", Int56.class, Int56::new);
+        registerNumeric("uint64", Uint64.class, Uint64::new);
+        registerNumeric("int64", Int64.class, Int64::new);
+        registerNumeric("uint72", Uint72.class, Uint72::new);
+        registerNumeric("int72", Int72.class, Int72::new);
+        registerNumeric("uint80", Uint80.class, Uint80::new);
+        registerNumeric("int80", Int80.class, Int80::new);
+        registerNumeric("uint88", Uint88.class, Uint88::new);
+        registerNumeric("int88", Int88.class, Int88::new);
+        registerNumeric("uint96", Uint96.class, Uint96::new);
+        registerNumeric("int96", Int96.class, Int96::new);
+        registerNumeric("uint104", Uint104.class, Uint104::new);
+        registerNumeric("int104", Int104.class, Int104::new);
+        registerNumeric("uint112", Uint112.class, Uint112::new);
+        registerNumeric("int112", Int112.class, Int112::new);
+        registerNumeric("uint120", Uint120.class, Uint120::new);
+        registerNumeric("int120", Int120.class, Int120::new);
+        registerNumeric("uint128", Uint128.class, Uint128::new);
+        registerNumeric("int128", Int128.class, Int128::new);
+        registerNumeric("uint136", Uint136.class, Uint136::new);
+        registerNumeric("int136", Int136.class, Int136::new);
+        registerNumeric("uint144", Uint144.class, Uint144::new);
+        registerNumeric("int144", Int144.class, Int144::new);
+        registerNumeric("uint152", Uint152.class, Uint152::new);
+        registerNumeric("int152", Int152.class, Int152::new);
+        registerNumeric("uint160", Uint160.class, Uint160::new);
+        registerNumeric("int160", Int160.class, Int160::new);
+        registerNumeric("uint168", Uint168.class, Uint168::new);
+        registerNumeric("int168", Int168.class, Int168::new);
+        registerNumeric("uint176", Uint176.class, Uint176::new);
+        registerNumeric("int176", Int176.class, Int176::new);
+        registerNumeric("uint184", Uint184.class, Uint184::new);
+        registerNumeric("int184", Int184.class, Int184::new);
+        registerNumeric("uint192", Uint192.class, Uint192::new);
+        registerNumeric("int192", Int192.class, Int192::new);
+        registerNumeric("uint200", Uint200.class, Uint200::new);
+        registerNumeric("int200", Int200.class, Int200::new);
+        registerNumeric("uint208", Uint208.class, Uint208::new);
+        registerNumeric("int208", Int208.class, Int208::new);
+        registerNumeric("uint216", Uint216.class, Uint216::new);
+        registerNumeric("int216", Int216.class, Int216::new);
+        registerNumeric("uint224", Uint224.class, Uint224::new);
+        registerNumeric("int224", Int224.class, Int224::new);
+        registerNumeric("uint232", Uint232.class, Uint232::new);
+        registerNumeric("int232", Int232.class, Int232::new);
+        registerNumeric("uint240", Uint240.class, Uint240::new);
+        registerNumeric("int240", Int240.class, Int240::new);
+        registerNumeric("uint248", Uint248.class, Uint248::new);
+        registerNumeric("int248", Int248.class, Int248::new);
+        registerNumeric("uint256", Uint256.class, Uint256::new);
+        registerNumeric("int256", Int256.class, Int256::new);
+        registerBytes("bytes1", Bytes1.class, Bytes1::new);
+        registerBytes("bytes2", Bytes2.class, Bytes2::new);
+        registerBytes("bytes3", Bytes3.class, Bytes3::new);
+        registerBytes("bytes4", Bytes4.class, Bytes4::new);
+        registerBytes("bytes5", Bytes5.class, Bytes5::new);
+        registerBytes("bytes6", Bytes6.class, Bytes6::new);
+        registerBytes("bytes7", Bytes7.class, Bytes7::new);
+        registerBytes("bytes8", Bytes8.class, Bytes8::new);
+        registerBytes("bytes9", Bytes9.class, Bytes9::new);
+        registerBytes("bytes10", Bytes10.class, Bytes10::new);
+        registerBytes("bytes11", Bytes11.class, Bytes11::new);
+        registerBytes("bytes12", Bytes12.class, Bytes12::new);
+        registerBytes("bytes13", Bytes13.class, Bytes13::new);
+        registerBytes("bytes14", Bytes14.class, Bytes14::new);
+        registerBytes("bytes15", Bytes15.class, Bytes15::new);
+        registerBytes("bytes16", Bytes16.class, Bytes16::new);
+        registerBytes("bytes17", Bytes17.class, Bytes17::new);
+        registerBytes("bytes18", Bytes18.class, Bytes18::new);
+        registerBytes("bytes19", Bytes19.class, Bytes19::new);
+        registerBytes("bytes20", Bytes20.class, Bytes20::new);
+        registerBytes("bytes21", Bytes21.class, Bytes21::new);
+        registerBytes("bytes22", Bytes22.class, Bytes22::new);
+        registerBytes("bytes23", Bytes23.class, Bytes23::new);
+        registerBytes("bytes24", Bytes24.class, Bytes24::new);
+        registerBytes("bytes25", Bytes25.class, Bytes25::new);
+        registerBytes("bytes26", Bytes26.class, Bytes26::new);
+        registerBytes("bytes27", Bytes27.class, Bytes27::new);
+        registerBytes("bytes28", Bytes28.class, Bytes28::new);
+        registerBytes("bytes29", Bytes29.class, Bytes29::new);
+        registerBytes("bytes30", Bytes30.class, Bytes30::new);
+        registerBytes("bytes31", Bytes31.class, Bytes31::new);
+        registerBytes("bytes32", Bytes32.class, Bytes32::new);
+        registerStaticArray(1, StaticArray1.class, StaticArray1::new);
+        registerStaticArray(2, StaticArray2.class, StaticArray2::new);
+        registerStaticArray(3, StaticArray3.class, StaticArray3::new);
+        registerStaticArray(4, StaticArray4.class, StaticArray4::new);
+        registerStaticArray(5, StaticArray5.class, StaticArray5::new);
+        registerStaticArray(6, StaticArray6.class, StaticArray6::new);
+        registerStaticArray(7, StaticArray7.class, StaticArray7::new);
+        registerStaticArray(8, StaticArray8.class, StaticArray8::new);
+        registerStaticArray(9, StaticArray9.class, StaticArray9::new);
+        registerStaticArray(10, StaticArray10.class, StaticArray10::new);
+        registerStaticArray(11, StaticArray11.class, StaticArray11::new);
+        registerStaticArray(12, StaticArray12.class, StaticArray12::new);
+        registerStaticArray(13, StaticArray13.class, StaticArray13::new);
+        registerStaticArray(14, StaticArray14.class, StaticArray14::new);
+        registerStaticArray(15, StaticArray15.class, StaticArray15::new);
+        registerStaticArray(16, StaticArray16.class, StaticArray16::new);
+        registerStaticArray(17, StaticArray17.class, StaticArray17::new);
+        registerStaticArray(18, StaticArray18.class, StaticArray18::new);
+        registerStaticArray(19, StaticArray19.class, StaticArray19::new);
+        registerStaticArray(20, StaticArray20.class, StaticArray20::new);
+        registerStaticArray(21, StaticArray21.class, StaticArray21::new);
+        registerStaticArray(22, StaticArray22.class, StaticArray22::new);
+        registerStaticArray(23, StaticArray23.class, StaticArray23::new);
+        registerStaticArray(24, StaticArray24.class, StaticArray24::new);
+        registerStaticArray(25, StaticArray25.class, StaticArray25::new);
+        registerStaticArray(26, StaticArray26.class, StaticArray26::new);
+        registerStaticArray(27, StaticArray27.class, StaticArray27::new);
+        registerStaticArray(28, StaticArray28.class, StaticArray28::new);
+        registerStaticArray(29, StaticArray29.class, StaticArray29::new);
+        registerStaticArray(30, StaticArray30.class, StaticArray30::new);
+        registerStaticArray(31, StaticArray31.class, StaticArray31::new);
+        registerStaticArray(32, StaticArray32.class, StaticArray32::new);
+        registerStaticArray(128, StaticArray128.class, StaticArray128::new);
+        numericFactories.put(Uint.class, Uint::new);
+        numericFactories.put(Int.class, Int::new);
+    }
+
+    private static void registerNumeric(
+            String typeName, Class<? extends NumericType> type, NumericFactory factory) {
+        typeClasses.put(typeName, type);
+        numericFactories.put(type, factory);
+    }
+
+    private static void registerBytes(
+            String typeName, Class<? extends Bytes> type, BytesFactory factory) {
+        typeClasses.put(typeName, type);
+        bytesFactories.put(type, factory);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static void registerStaticArray(
+            int length, Class<? extends StaticArray> type, StaticArrayFactory factory) {
+        staticArrayLengths.put(type, length);
+        staticArrayClasses[length] = type;
+        staticArrayFactories[length] = factory;
+    }
+
+    /**
+     * Get the datatype class of the solidity type name, e.g. "uint256", "bytes32", "address"
+     *
+     * @param typeName the solidity type name
+     * @return the datatype class, or null if the type name is not an elementary type
+     */
+    public static Class<? extends Type> getTypeClass(String typeName) {
+        return typeClasses.get(typeName);
+    }
+
+    /**
+     * Get the factory of the numeric datatype class, e.g. Uint256.class
+     *
+     * @param type the numeric datatype class
+     * @return the factory, or null if the class is not a generated Uint/Int or Uint/Int itself
+     */
+    public static NumericFactory getNumericFactory(Class<?> type) {
+        return numericFactories.get(type);
+    }
+
+    /**
+     * Get the factory of the numeric solidity type name, e.g. "uint256"
+     *
+     * @param typeName the solidity type name
+     * @return the factory, or null if the type name is not uintN or intN
+     */
+    public static NumericFactory getNumericFactory(String typeName) {
+        Class<? extends Type> type = typeClasses.get(typeName);
+        return type == null ? null : numericFactories.get(type);
+    }
+
+    /**
+     * Get the factory of the static bytes datatype class, e.g. Bytes32.class
+     *
+     * @param type the static bytes datatype class
+     * @return the factory, or null if the class is not a generated BytesN
+     */
+    public static BytesFactory getBytesFactory(Class<?> type) {
+        return bytesFactories.get(type);
+    }
+
+    /**
+     * Get the factory of the static bytes solidity type name, e.g. "bytes32"
+     *
+     * @param typeName the solidity type name
+     * @return the factory, or null if the type name is not bytesN
+     */
+    public static BytesFactory getBytesFactory(String typeName) {
+        Class<? extends Type> type = typeClasses.get(typeName);
+        return type == null ? null : bytesFactories.get(type);
+    }
+
+    /**
+     * Get the factory of the generated StaticArrayN
+     *
+     * @param length the length of the static array
+     * @return the factory, or null if there is no generated StaticArrayN of this length
+     */
+    public static StaticArrayFactory getStaticArrayFactory(int length) {
+        return length > 0 && length < staticArrayFactories.length
+                ? staticArrayFactories[length]
+                : null;
+    }
+
+    /**
+     * Get the generated StaticArrayN class
+     *
+     * @param length the length of the static array
+     * @return the StaticArrayN class, or null if there is no generated StaticArrayN of this length
+     */
+    @SuppressWarnings("unchecked")
+    public static Class<? extends StaticArray<?>> getStaticArrayClass(int length) {
+        return length > 0 && length < staticArrayClasses.length ? staticArrayClasses[length] : null;
+    }
+
+    /**
+     * Get the length of the generated StaticArrayN class
+     *
+     * @param type the StaticArrayN class
+     * @return the length, or -1 if the class is not a generated StaticArrayN
+     */
+    public static int getStaticArrayLength(Class<?> type) {
+        Integer length = staticArrayLengths.get(type);
+        return length == null ? -1 : length;
+    }
+}
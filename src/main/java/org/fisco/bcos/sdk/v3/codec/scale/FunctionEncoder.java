@@ -4,6 +4,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 import org.fisco.bcos.sdk.v3.codec.FunctionEncoderInterface;
+import org.fisco.bcos.sdk.v3.codec.SignatureCache;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Function;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Type;
 import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
@@ -18,7 +19,7 @@ public class FunctionEncoder extends FunctionEncoderInterface {
         List<Type> parameters = function.getInputParameters();
 
         String methodSignature = buildMethodSignature(function.getName(), parameters);
-        byte[] methodId = this.buildMethodId(methodSignature);
+        byte[] methodId = SignatureCache.getMethodId(this.getCryptoSuite(), methodSignature);
         return encodeParameters(parameters, methodId);
     }
 
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
 import org.fisco.bcos.sdk.v3.codec.Utils;
+import org.fisco.bcos.sdk.v3.codec.datatypes.AbiTypeFactory;
 import org.fisco.bcos.sdk.v3.codec.datatypes.AbiTypes;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Address;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Bool;
@@ -108,6 +109,10 @@ public class TypeDecoder {
             } else {
                 value = reader.decodeInt256();
             }
+            AbiTypeFactory.NumericFactory factory = AbiTypeFactory.getNumericFactory(type);
+            if (factory != null) {
+                return type.cast(factory.create(value));
+            }
             return type.getConstructor(BigInteger.class).newInstance(value);
         } catch (NoSuchMethodException
                 | SecurityException
@@ -128,6 +133,9 @@ public class TypeDecoder {
     public static <T extends BytesType> T decodeBytes(ScaleCodecReader reader, Class<T> type) {
         try {
             byte[] bytes = reader.readByteArray();
+            if (type == DynamicBytes.class) {
+                return type.cast(new DynamicBytes(bytes));
+            }
             return type.getConstructor(byte[].class).newInstance(bytes);
         } catch (NoSuchMethodException
                 | SecurityException
@@ -150,6 +158,10 @@ public class TypeDecoder {
                                             type.getTypeName().lastIndexOf("Bytes")
                                                     + "Bytes".length()));
             byte[] bytes = reader.readByteArray(size);
+            AbiTypeFactory.BytesFactory factory = AbiTypeFactory.getBytesFactory(type);
+            if (factory != null) {
+                return type.cast(factory.create(bytes));
+            }
             return type.getConstructor(byte[].class).newInstance(bytes);
         } catch (NoSuchMethodException
                 | SecurityException
@@ -202,18 +214,14 @@ public class TypeDecoder {
                     if (elements.isEmpty()) {
                         throw new UnsupportedOperationException(
                                 "Zero length fixed array is invalid type");
-                    } else {
-                        try {
-                            Class<? extends StaticArray> arrayClass =
-                                    (Class<? extends StaticArray>)
-                                            Class.forName(
-                                                    "org.fisco.bcos.sdk.v3.codec.datatypes.generated.StaticArray"
-                                                            + elements.size());
-                            return (T) arrayClass.getConstructor(List.class).newInstance(elements);
-                        } catch (ReflectiveOperationException e) {
-                            throw new UnsupportedOperationException(e);
-                        }
                     }
+                    AbiTypeFactory.StaticArrayFactory factory =
+                            AbiTypeFactory.getStaticArrayFactory(elements.size());
+                    if (factory == null) {
+                        throw new UnsupportedOperationException(
+                                "Unsupported static array length: " + elements.size());
+                    }
+                    return (T) factory.create((List<Type>) elements);
                 };
         int length;
         try {
@@ -221,10 +229,13 @@ public class TypeDecoder {
             if (cls == StaticArray.class) {
                 length = ((TypeReference.StaticArrayTypeReference<?>) typeReference).getSize();
             } else {
-                length =
-                        Integer.parseInt(
-                                cls.getSimpleName()
-                                        .substring(StaticArray.class.getSimpleName().length()));
+                length = AbiTypeFactory.getStaticArrayLength(cls);
+                if (length < 0) {
+                    length =
+                            Integer.parseInt(
+                                    cls.getSimpleName()
+                                            .substring(StaticArray.class.getSimpleName().length()));
+                }
             }
         } catch (ClassNotFoundException | NumberFormatException e) {
             throw new UnsupportedOperationException(
@@ -1,6 +1,10 @@
 package org.fisco.bcos.sdk.v3.codec.wrapper;
 
+import java.nio.charset.StandardCharsets;
 import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaKeccak256;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.fisco.bcos.sdk.v3.utils.LruCache;
 import org.fisco.bcos.sdk.v3.utils.ObjectMapperFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,6 +12,12 @@ import org.slf4j.LoggerFactory;
 public class ABIDefinitionFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(ABIDefinitionFactory.class);
+    public static final int DEFAULT_ABI_CACHE_SIZE = 256;
+
+    private static final JavaKeccak256 abiContentHash = new JavaKeccak256();
+    // shared by all the factories, keyed by crypto type and the keccak256 of the abi content
+    private static volatile LruCache<String, ContractABIDefinition> abiCache =
+            new LruCache<>(DEFAULT_ABI_CACHE_SIZE);
 
     private CryptoSuite cryptoSuite;
 
@@ -16,12 +26,55 @@ public class ABIDefinitionFactory {
     }
 
     /**
-     * load ABI and construct ContractABIDefinition.
+     * Resize the shared ContractABIDefinition cache, the cached definitions are dropped
+     *
+     * @param capacity the max number of the cached contract definitions
+     */
+    public static void setCacheSize(int capacity) {
+        abiCache = new LruCache<>(capacity);
+    }
+
+    /**
+     * Get the shared ContractABIDefinition cache, for the hit/miss statistics
+     *
+     * @return the contract definition cache
+     */
+    public static LruCache<String, ContractABIDefinition> getCache() {
+        return abiCache;
+    }
+
+    /**
+     * load ABI and construct ContractABIDefinition, the definition is cached and shared between
+     * callers loading the same abi, so it is frozen and can't be modified.
      *
      * @param abi the abi need to be loaded
      * @return the contract definition
      */
     public ContractABIDefinition loadABI(String abi) {
+        if (abi == null) {
+            return null;
+        }
+        LruCache<String, ContractABIDefinition> cache = abiCache;
+        String key = getCacheKey(abi);
+        ContractABIDefinition contractABIDefinition = cache.get(key);
+        if (contractABIDefinition != null) {
+            return contractABIDefinition;
+        }
+        contractABIDefinition = parseABI(abi);
+        // failed parses are not cached, the error is logged again on the next load
+        if (contractABIDefinition != null) {
+            contractABIDefinition.freeze();
+            cache.put(key, contractABIDefinition);
+        }
+        return contractABIDefinition;
+    }
+
+    private String getCacheKey(String abi) {
+        byte[] digest = abiContentHash.hash(abi.getBytes(StandardCharsets.UTF_8));
+        return cryptoSuite.getCryptoTypeConfig() + ":" + Hex.toHexString(digest);
+    }
+
+    private ContractABIDefinition parseABI(String abi) {
         try {
             ABIDefinition[] abiDefinitions =
                     ObjectMapperFactory.getObjectMapper().readValue(abi, ABIDefinition[].class);
@@ -2,6 +2,7 @@ package org.fisco.bcos.sdk.v3.codec.wrapper;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,16 +23,50 @@ public class ContractABIDefinition {
     // event topic => topic
     private Map<ByteBuffer, ABIDefinition> eventTopicToEvents = new HashMap<>();
     private final CryptoSuite cryptoSuite;
+    private boolean frozen = false;
 
     public ContractABIDefinition(CryptoSuite cryptoSuite) {
         this.cryptoSuite = cryptoSuite;
     }
 
+    /**
+     * Make the definition read only before it is shared by the cache of ABIDefinitionFactory, the
+     * setters throw IllegalStateException and the maps and lists become unmodifiable
+     */
+    void freeze() {
+        this.functions = freezeLists(this.functions);
+        this.events = freezeLists(this.events);
+        this.methodIDToFunctions = Collections.unmodifiableMap(this.methodIDToFunctions);
+        this.eventTopicToEvents = Collections.unmodifiableMap(this.eventTopicToEvents);
+        this.frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    private static Map<String, List<ABIDefinition>> freezeLists(
+            Map<String, List<ABIDefinition>> definitions) {
+        Map<String, List<ABIDefinition>> frozenDefinitions = new HashMap<>();
+        for (Map.Entry<String, List<ABIDefinition>> entry : definitions.entrySet()) {
+            frozenDefinitions.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(frozenDefinitions);
+    }
+
+    private void checkNotFrozen() {
+        if (this.frozen) {
+            throw new IllegalStateException(
+                    "the contract abi definition is shared by the abi cache and can't be modified");
+        }
+    }
+
     public ABIDefinition getConstructor() {
         return this.constructor;
     }
 
     public void setConstructor(ABIDefinition constructor) {
+        checkNotFrozen();
         this.constructor = constructor;
     }
 
@@ -40,6 +75,7 @@ public class ContractABIDefinition {
     }
 
     public void setFunctions(Map<String, List<ABIDefinition>> functions) {
+        checkNotFrozen();
         this.functions = functions;
     }
 
@@ -48,6 +84,7 @@ public class ContractABIDefinition {
     }
 
     public void setEvents(Map<String, List<ABIDefinition>> events) {
+        checkNotFrozen();
         this.events = events;
     }
 
@@ -56,6 +93,7 @@ public class ContractABIDefinition {
     }
 
     public void setMethodIDToFunctions(Map<ByteBuffer, ABIDefinition> methodIDToFunctions) {
+        checkNotFrozen();
         this.methodIDToFunctions = methodIDToFunctions;
     }
 
@@ -64,11 +102,12 @@ public class ContractABIDefinition {
     }
 
     public void setEventTopicToEvents(Map<ByteBuffer, ABIDefinition> eventTopicToEvents) {
+        checkNotFrozen();
         this.eventTopicToEvents = eventTopicToEvents;
     }
 
     public void addFunction(String name, ABIDefinition abiDefinition) {
-
+        checkNotFrozen();
         List<ABIDefinition> abiDefinitions = this.functions.get(name);
         if (abiDefinitions == null) {
             this.functions.put(name, new ArrayList<>());
@@ -93,6 +132,7 @@ public class ContractABIDefinition {
     }
 
     public void addEvent(String name, ABIDefinition abiDefinition) {
+        checkNotFrozen();
         this.events.putIfAbsent(name, new ArrayList<>());
         List<ABIDefinition> abiDefinitions = this.events.get(name);
         abiDefinitions.add(abiDefinition);
@@ -28,6 +28,7 @@ public class CryptoMaterialConfig {
     private Boolean useSmCrypto = false;
     private Boolean disableSsl = false;
     private Boolean enableHsm = false;
+    private Boolean useJavaHash = false;
     private String certPath = "conf";
 
     private String caCertPath;
@@ -58,6 +59,7 @@ public class CryptoMaterialConfig {
         this.useSmCrypto = Boolean.valueOf(useSMCrypto);
         this.disableSsl = Boolean.valueOf(disableSsl);
         this.enableHsm = Boolean.valueOf(enableHsm);
+        this.useJavaHash = Boolean.valueOf((String) cryptoMaterialProperty.get("useJavaHash"));
 
         if (this.enableHsm) {
             this.hsmLibPath = (String) cryptoMaterialProperty.get("hsmLibPath");
@@ -251,6 +253,14 @@ public class CryptoMaterialConfig {
         this.enableHsm = enableHsm;
     }
 
+    public Boolean getUseJavaHash() {
+        return useJavaHash;
+    }
+
+    public void setUseJavaHash(Boolean useJavaHash) {
+        this.useJavaHash = useJavaHash;
+    }
+
     public String getHsmLibPath() {
         return hsmLibPath;
     }
@@ -322,6 +332,8 @@ public class CryptoMaterialConfig {
                 + useSmCrypto
                 + "useHSMCrypto="
                 + enableHsm
+                + ", useJavaHash="
+                + useJavaHash
                 + ", certPath='"
                 + certPath
                 + '\''
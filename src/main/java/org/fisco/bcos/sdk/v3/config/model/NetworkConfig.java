@@ -25,12 +25,20 @@ import org.slf4j.LoggerFactory;
 public class NetworkConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(NetworkConfig.class);
+    public static final long DEFAULT_CALL_TIMEOUT = 60 * 1000;
 
     private List<String> peers;
     private List<String> tarsPeers;
     private int timeout = -1;
     private String defaultGroup;
     private boolean sendRpcRequestToHighestBlockNode = true;
+    // the deadline of the synchronous rpc calls in ms, no deadline if not positive
+    private long callTimeout = DEFAULT_CALL_TIMEOUT;
+    // the max in-flight rpc requests per node, unlimited if not positive
+    private int maxInFlightRequestsPerNode = 0;
+    // the time in ms a block number pushed by the nodes answers getBlockNumber, disabled if not
+    // positive
+    private long blockNumberMaxAge = 0;
 
     public NetworkConfig() {}
 
@@ -49,10 +57,28 @@ public class NetworkConfig {
             if (Objects.nonNull(value)) {
                 sendRpcRequestToHighestBlockNode = Boolean.parseBoolean((String) value);
             }
+
+            value = networkProperty.get("callTimeout");
+            if (Objects.nonNull(value)) {
+                callTimeout = Long.parseLong((String) value);
+            }
+
+            value = networkProperty.get("maxInFlightRequestsPerNode");
+            if (Objects.nonNull(value)) {
+                maxInFlightRequestsPerNode = Integer.parseInt((String) value);
+            }
+
+            value = networkProperty.get("blockNumberMaxAge");
+            if (Objects.nonNull(value)) {
+                blockNumberMaxAge = Long.parseLong((String) value);
+            }
             logger.info(
-                    "network config items, sendRpcRequestToHighestBlockNode: {}, timeout: {}, peers: {}",
+                    "network config items, sendRpcRequestToHighestBlockNode: {}, timeout: {}, callTimeout: {}, maxInFlightRequestsPerNode: {}, blockNumberMaxAge: {}, peers: {}",
                     sendRpcRequestToHighestBlockNode,
                     timeout,
+                    callTimeout,
+                    maxInFlightRequestsPerNode,
+                    blockNumberMaxAge,
                     peers);
         }
     }
@@ -97,6 +123,30 @@ public class NetworkConfig {
         this.sendRpcRequestToHighestBlockNode = sendRpcRequestToHighestBlockNode;
     }
 
+    public long getCallTimeout() {
+        return callTimeout;
+    }
+
+    public void setCallTimeout(long callTimeout) {
+        this.callTimeout = callTimeout;
+    }
+
+    public int getMaxInFlightRequestsPerNode() {
+        return maxInFlightRequestsPerNode;
+    }
+
+    public void setMaxInFlightRequestsPerNode(int maxInFlightRequestsPerNode) {
+        this.maxInFlightRequestsPerNode = maxInFlightRequestsPerNode;
+    }
+
+    public long getBlockNumberMaxAge() {
+        return blockNumberMaxAge;
+    }
+
+    public void setBlockNumberMaxAge(long blockNumberMaxAge) {
+        this.blockNumberMaxAge = blockNumberMaxAge;
+    }
+
     @Override
     public String toString() {
         return "NetworkConfig{"
@@ -111,6 +161,12 @@ public class NetworkConfig {
                 + '\''
                 + ", sendRpcRequestToHighestBlockNode="
                 + sendRpcRequestToHighestBlockNode
+                + ", callTimeout="
+                + callTimeout
+                + ", maxInFlightRequestsPerNode="
+                + maxInFlightRequestsPerNode
+                + ", blockNumberMaxAge="
+                + blockNumberMaxAge
                 + '}';
     }
 }
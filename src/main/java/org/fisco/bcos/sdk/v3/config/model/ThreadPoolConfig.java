@@ -23,7 +23,12 @@ import org.slf4j.LoggerFactory;
 public class ThreadPoolConfig {
     private static final Logger logger = LoggerFactory.getLogger(ThreadPoolConfig.class);
 
+    public static final int DEFAULT_DECODE_QUEUE_SIZE = 10000;
+
     private int threadPoolSize;
+    // the threads decoding the rpc responses of the async client
+    private int decodeThreadPoolSize;
+    private int decodeQueueSize = DEFAULT_DECODE_QUEUE_SIZE;
 
     public int getThreadPoolSize() {
         return threadPoolSize;
@@ -33,6 +38,31 @@ public class ThreadPoolConfig {
         this.threadPoolSize = threadPoolSize;
     }
 
+    /**
+     * Get the size of the decode thread pool
+     *
+     * @return the decodeThreadPoolSize, else the threadPoolSize, else the available processors if
+     *     neither is set
+     */
+    public int getDecodeThreadPoolSize() {
+        if (decodeThreadPoolSize > 0) {
+            return decodeThreadPoolSize;
+        }
+        return threadPoolSize > 0 ? threadPoolSize : Runtime.getRuntime().availableProcessors();
+    }
+
+    public void setDecodeThreadPoolSize(int decodeThreadPoolSize) {
+        this.decodeThreadPoolSize = decodeThreadPoolSize;
+    }
+
+    public int getDecodeQueueSize() {
+        return decodeQueueSize;
+    }
+
+    public void setDecodeQueueSize(int decodeQueueSize) {
+        this.decodeQueueSize = decodeQueueSize;
+    }
+
     public ThreadPoolConfig() {}
 
     public ThreadPoolConfig(ConfigProperty configProperty) {
@@ -41,11 +71,32 @@ public class ThreadPoolConfig {
         String value = ConfigProperty.getValue(threadPoolConfig, "threadPoolSize", cpuNum);
 
         this.threadPoolSize = Integer.parseInt(value);
-        logger.debug("Init ThreadPoolConfig, threadPoolSize: {}", this.threadPoolSize);
+        value =
+                ConfigProperty.getValue(
+                        threadPoolConfig, "decodeThreadPoolSize", String.valueOf(threadPoolSize));
+        this.decodeThreadPoolSize = Integer.parseInt(value);
+        value =
+                ConfigProperty.getValue(
+                        threadPoolConfig,
+                        "decodeQueueSize",
+                        String.valueOf(DEFAULT_DECODE_QUEUE_SIZE));
+        this.decodeQueueSize = Integer.parseInt(value);
+        logger.debug(
+                "Init ThreadPoolConfig, threadPoolSize: {}, decodeThreadPoolSize: {}, decodeQueueSize: {}",
+                this.threadPoolSize,
+                this.decodeThreadPoolSize,
+                this.decodeQueueSize);
     }
 
     @Override
     public String toString() {
-        return "ThreadPoolConfig{" + "threadPoolSize=" + threadPoolSize + '}';
+        return "ThreadPoolConfig{"
+                + "threadPoolSize="
+                + threadPoolSize
+                + ", decodeThreadPoolSize="
+                + decodeThreadPoolSize
+                + ", decodeQueueSize="
+                + decodeQueueSize
+                + '}';
     }
 }
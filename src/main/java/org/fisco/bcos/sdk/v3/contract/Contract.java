@@ -33,6 +33,7 @@ import org.fisco.bcos.sdk.v3.codec.EventEncoder;
 import org.fisco.bcos.sdk.v3.codec.EventValues;
 import org.fisco.bcos.sdk.v3.codec.FunctionEncoderInterface;
 import org.fisco.bcos.sdk.v3.codec.FunctionReturnDecoderInterface;
+import org.fisco.bcos.sdk.v3.codec.SignatureCache;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Address;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Array;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Event;
@@ -434,6 +435,26 @@ public class Contract {
         return txPair.getSignedTx();
     }
 
+    /**
+     * Pre-compute the method ids of the contract functions, called from the static initializer of
+     * the contract wrappers so that encoding a call never hashes the method signature
+     *
+     * @param methodSignatures the method signatures, e.g. "set(string)"
+     */
+    protected static void registerFunctions(String... methodSignatures) {
+        SignatureCache.registerFunctions(methodSignatures);
+    }
+
+    /**
+     * Pre-compute the topics of the contract events, called from the static initializer of the
+     * contract wrappers so that extracting the event parameters never hashes the event signature
+     *
+     * @param events the events of the contract
+     */
+    protected static void registerEvents(Event... events) {
+        SignatureCache.registerEvents(events);
+    }
+
     public static EventValues staticExtractEventParameters(
             EventEncoder eventEncoder,
             FunctionReturnDecoderInterface functionReturnDecoder,
@@ -46,6 +46,17 @@ public class BFSPrecompiled extends Contract {
 
     public static final String FUNC_READLINK = "readlink";
 
+    static {
+        registerFunctions(
+                "fixBfs(uint256)",
+                "link(string,string,string,string)",
+                "link(string,string,string)",
+                "list(string,uint256,uint256)",
+                "list(string)",
+                "mkdir(string)",
+                "readlink(string)");
+    }
+
     protected BFSPrecompiled(String contractAddress, Client client, CryptoKeyPair credential) {
         super("", contractAddress, client, credential);
     }
@@ -45,6 +45,14 @@ public class ConsensusPrecompiled extends Contract {
 
     public static final String FUNC_SETWEIGHT = "setWeight";
 
+    static {
+        registerFunctions(
+                "addObserver(string)",
+                "addSealer(string,uint256)",
+                "remove(string)",
+                "setWeight(string,uint256)");
+    }
+
     protected ConsensusPrecompiled(
             String contractAddress, Client client, CryptoKeyPair credential) {
         super(getBinary(client.getCryptoSuite()), contractAddress, client, credential);
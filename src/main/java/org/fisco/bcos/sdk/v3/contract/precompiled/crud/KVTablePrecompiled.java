@@ -43,6 +43,10 @@ public class KVTablePrecompiled extends Contract {
 
     public static final String FUNC_SET = "set";
 
+    static {
+        registerFunctions("get(string)", "set(string,string)");
+    }
+
     protected KVTablePrecompiled(String contractAddress, Client client, CryptoKeyPair credential) {
         super(getBinary(client.getCryptoSuite()), contractAddress, client, credential);
     }
@@ -56,6 +56,17 @@ public class TableManagerPrecompiled extends Contract {
 
     public static final String FUNC_OPENTABLE = "openTable";
 
+    static {
+        registerFunctions(
+                "appendColumns(string,string[])",
+                "createKVTable(string,string,string)",
+                "createTable(string,(string,string[]))",
+                "createTable(string,(uint8,string,string[]))",
+                "desc(string)",
+                "descWithKeyOrder(string)",
+                "openTable(string)");
+    }
+
     protected TableManagerPrecompiled(
             String contractAddress, Client client, CryptoKeyPair credential) {
         super(getBinary(client.getCryptoSuite()), contractAddress, client, credential);
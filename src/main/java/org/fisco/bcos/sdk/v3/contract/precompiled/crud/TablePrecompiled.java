@@ -55,6 +55,22 @@ public class TablePrecompiled extends Contract {
 
     public static final String FUNC_UPDATE = "update";
 
+    static {
+        registerFunctions(
+                "count((uint8,string)[])",
+                "count((uint8,string,string)[])",
+                "insert((string,string[]))",
+                "remove(string)",
+                "remove((uint8,string)[],(uint32,uint32))",
+                "remove((uint8,string,string)[],(uint32,uint32))",
+                "select(string)",
+                "select((uint8,string)[],(uint32,uint32))",
+                "select((uint8,string,string)[],(uint32,uint32))",
+                "update(string,(string,string)[])",
+                "update((uint8,string)[],(uint32,uint32),(string,string)[])",
+                "update((uint8,string,string)[],(uint32,uint32),(string,string)[])");
+    }
+
     protected TablePrecompiled(String contractAddress, Client client, CryptoKeyPair credential) {
         super(getBinary(client.getCryptoSuite()), contractAddress, client, credential);
     }
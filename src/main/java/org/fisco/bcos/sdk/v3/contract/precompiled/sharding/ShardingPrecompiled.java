@@ -48,6 +48,11 @@ public class ShardingPrecompiled extends Contract {
 
     public static final String FUNC_MAKESHARD = "makeShard";
 
+    static {
+        registerFunctions(
+                "getContractShard(string)", "linkShard(string,string)", "makeShard(string)");
+    }
+
     protected ShardingPrecompiled(String contractAddress, Client client, CryptoKeyPair credential) {
         super(getBinary(client.getCryptoSuite()), contractAddress, client, credential);
     }
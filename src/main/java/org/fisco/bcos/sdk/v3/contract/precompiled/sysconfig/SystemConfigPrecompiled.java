@@ -38,6 +38,10 @@ public class SystemConfigPrecompiled extends Contract {
 
     public static final String FUNC_SETVALUEBYKEY = "setValueByKey";
 
+    static {
+        registerFunctions("setValueByKey(string,string)");
+    }
+
     protected SystemConfigPrecompiled(
             String contractAddress, Client client, CryptoKeyPair credential) {
         super(getBinary(client.getCryptoSuite()), contractAddress, client, credential);
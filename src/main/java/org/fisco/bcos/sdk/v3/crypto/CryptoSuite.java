@@ -13,14 +13,24 @@
  */
 package org.fisco.bcos.sdk.v3.crypto;
 
+import java.nio.ByteBuffer;
 import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import org.fisco.bcos.sdk.v3.config.ConfigOption;
 import org.fisco.bcos.sdk.v3.config.model.AccountConfig;
 import org.fisco.bcos.sdk.v3.crypto.exceptions.LoadKeyStoreException;
 import org.fisco.bcos.sdk.v3.crypto.exceptions.UnsupportedCryptoTypeException;
 import org.fisco.bcos.sdk.v3.crypto.hash.Hash;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaKeccak256;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaSM3Hash;
 import org.fisco.bcos.sdk.v3.crypto.hash.Keccak256;
 import org.fisco.bcos.sdk.v3.crypto.hash.SM3Hash;
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyHandle;
 import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
 import org.fisco.bcos.sdk.v3.crypto.keypair.ECDSAKeyPair;
 import org.fisco.bcos.sdk.v3.crypto.keypair.HsmSM2KeyPair;
@@ -33,13 +43,19 @@ import org.fisco.bcos.sdk.v3.crypto.signature.HsmSM2Signature;
 import org.fisco.bcos.sdk.v3.crypto.signature.SM2Signature;
 import org.fisco.bcos.sdk.v3.crypto.signature.Signature;
 import org.fisco.bcos.sdk.v3.crypto.signature.SignatureResult;
+import org.fisco.bcos.sdk.v3.crypto.signature.VerifyRequest;
 import org.fisco.bcos.sdk.v3.model.CryptoType;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.fisco.bcos.sdk.v3.utils.LruCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class CryptoSuite {
 
     private static final Logger logger = LoggerFactory.getLogger(CryptoSuite.class);
+    public static final int DEFAULT_PUBLIC_KEY_CACHE_SIZE = 4096;
+    // batches smaller than this are verified in the calling thread
+    private static final int MIN_VERIFY_BATCH_SIZE_PER_TASK = 16;
 
     public int cryptoTypeConfig;
     public Signature signatureImpl;
@@ -47,6 +63,10 @@ public class CryptoSuite {
     private CryptoKeyPair keyPair;
     private CryptoKeyPair cryptoKeyPair;
     private ConfigOption config;
+    private boolean useJavaHash = false;
+    private LruCache<String, CryptoKeyHandle> publicKeyCache =
+            new LruCache<>(DEFAULT_PUBLIC_KEY_CACHE_SIZE);
+    private Executor verifyExecutor = ForkJoinPool.commonPool();
 
     public CryptoSuite(int cryptoTypeConfig, CryptoKeyPair cryptoKeyPair) {
         this(cryptoTypeConfig);
@@ -90,16 +110,27 @@ public class CryptoSuite {
         initCryptoSuite(cryptoTypeConfig);
     }
 
+    /**
+     * Init the common crypto implementation according to the crypto type
+     *
+     * @param cryptoTypeConfig the crypto type config number
+     * @param useJavaHash use the pure-java hash implementation instead of the native one
+     */
+    public CryptoSuite(int cryptoTypeConfig, boolean useJavaHash) {
+        this.useJavaHash = useJavaHash;
+        initCryptoSuite(cryptoTypeConfig);
+    }
+
     public void initCryptoSuite(int cryptoTypeConfig) {
         this.cryptoTypeConfig = cryptoTypeConfig;
         if (this.cryptoTypeConfig == CryptoType.ECDSA_TYPE) {
             this.signatureImpl = new ECDSASignature();
-            this.hashImpl = new Keccak256();
+            this.hashImpl = this.useJavaHash ? new JavaKeccak256() : new Keccak256();
             this.keyPair = new ECDSAKeyPair();
             this.generateRandomKeyPair();
         } else if (this.cryptoTypeConfig == CryptoType.SM_TYPE) {
             this.signatureImpl = new SM2Signature();
-            this.hashImpl = new SM3Hash();
+            this.hashImpl = this.useJavaHash ? new JavaSM3Hash() : new SM3Hash();
             this.keyPair = new SM2KeyPair();
             this.generateRandomKeyPair();
         } else if (this.cryptoTypeConfig == CryptoType.HSM_TYPE) {
@@ -111,7 +142,7 @@ public class CryptoSuite {
             HsmSM2Signature hsmSM2Signature = new HsmSM2Signature();
             hsmSM2Signature.setHsmLibPath(hsmLibPath);
             this.signatureImpl = hsmSM2Signature;
-            this.hashImpl = new SM3Hash();
+            this.hashImpl = this.useJavaHash ? new JavaSM3Hash() : new SM3Hash();
             this.keyPair = new HsmSM2KeyPair(hsmLibPath, hsmKeyIndex, hsmPassword);
             HsmSM2KeyPair hsmKeyPair = (HsmSM2KeyPair) this.keyPair;
             this.cryptoKeyPair = hsmKeyPair.useKeyPair();
@@ -183,6 +214,10 @@ public class CryptoSuite {
      */
     public void setConfig(ConfigOption config) {
         this.config = config;
+        if (config != null && config.getCryptoMaterialConfig() != null) {
+            this.useJavaHash =
+                    Boolean.TRUE.equals(config.getCryptoMaterialConfig().getUseJavaHash());
+        }
     }
 
     public int getCryptoTypeConfig() {
@@ -244,6 +279,169 @@ public class CryptoSuite {
         return this.signatureImpl.sign(message, keyPair);
     }
 
+    /**
+     * Do signature without converting the key or the hash into hex string
+     *
+     * @param hash the 32 bytes hash to be signed
+     * @param keyPair key pair used to do signature
+     * @return the encoded signature, [r, s, v] for ecdsa and [r, s, pub] for sm2
+     */
+    public byte[] signHash(final byte[] hash, final CryptoKeyPair keyPair) {
+        return this.signatureImpl.signHash(hash, keyPair);
+    }
+
+    /**
+     * Do signature without converting the key or the hash into hex string
+     *
+     * @param hash the buffer of the 32 bytes hash to be signed
+     * @param keyPair key pair used to do signature
+     * @return the encoded signature, [r, s, v] for ecdsa and [r, s, pub] for sm2
+     */
+    public byte[] signHash(final ByteBuffer hash, final CryptoKeyPair keyPair) {
+        return this.signatureImpl.signHash(hash, keyPair);
+    }
+
+    /**
+     * Parse the public key for {@link #verifyHash(CryptoKeyHandle, byte[], byte[])}
+     *
+     * @param publicKey the 64 bytes public key, or the 65 bytes public key with the 04 prefix
+     * @return the parsed public key
+     */
+    public CryptoKeyHandle createPublicKeyHandle(final byte[] publicKey) {
+        return CryptoKeyHandle.fromPublicKey(this.keyPair.getCurveName(), publicKey);
+    }
+
+    /**
+     * Verify signature without converting the public key, the hash and the signature into hex
+     * string
+     *
+     * @param publicKey the parsed public key
+     * @param hash the 32 bytes hash
+     * @param signature the signature
+     * @return the verify result
+     */
+    public boolean verifyHash(
+            final CryptoKeyHandle publicKey, final byte[] hash, final byte[] signature) {
+        return this.signatureImpl.verifyHash(publicKey, hash, signature);
+    }
+
+    /**
+     * Verify signature without converting the public key, the hash and the signature into hex
+     * string
+     *
+     * @param publicKey the 64 bytes public key, or the 65 bytes public key with the 04 prefix
+     * @param hash the 32 bytes hash
+     * @param signature the signature
+     * @return the verify result
+     */
+    public boolean verifyHash(final byte[] publicKey, final byte[] hash, final byte[] signature) {
+        return this.verifyHash(createPublicKeyHandle(publicKey), hash, signature);
+    }
+
+    /**
+     * Verify a batch of signatures in parallel with the verify executor, which is the common
+     * fork-join pool by default. Every distinct public key is parsed only once and kept in a
+     * bounded cache.
+     *
+     * @param requests the signatures to be verified
+     * @return the bit i is set if the i-th signature is valid, invalid inputs are reported as
+     *     invalid signatures instead of exceptions
+     */
+    public BitSet verifyBatch(final List<VerifyRequest> requests) {
+        return verifyBatch(requests, this.verifyExecutor);
+    }
+
+    /**
+     * Verify a batch of signatures in parallel with the given executor
+     *
+     * @param requests the signatures to be verified
+     * @param executor the executor to run the verify tasks
+     * @return the bit i is set if the i-th signature is valid
+     */
+    public BitSet verifyBatch(final List<VerifyRequest> requests, final Executor executor) {
+        int size = requests.size();
+        boolean[] results = new boolean[size];
+        int parallelism =
+                (executor instanceof ForkJoinPool)
+                        ? ((ForkJoinPool) executor).getParallelism()
+                        : Runtime.getRuntime().availableProcessors();
+        // a few tasks per thread to balance the load
+        int taskSize =
+                Math.max(
+                        MIN_VERIFY_BATCH_SIZE_PER_TASK,
+                        (size + parallelism * 4 - 1) / (parallelism * 4));
+        if (size <= taskSize) {
+            verifyRange(requests, results, 0, size);
+        } else {
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (int start = 0; start < size; start += taskSize) {
+                int from = start;
+                int to = Math.min(size, start + taskSize);
+                tasks.add(
+                        CompletableFuture.runAsync(
+                                () -> verifyRange(requests, results, from, to), executor));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        }
+        BitSet bitSet = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (results[i]) {
+                bitSet.set(i);
+            }
+        }
+        return bitSet;
+    }
+
+    private void verifyRange(List<VerifyRequest> requests, boolean[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            VerifyRequest request = requests.get(i);
+            try {
+                CryptoKeyHandle publicKey =
+                        this.publicKeyCache.get(
+                                request.getPublicKey(),
+                                key -> createPublicKeyHandle(Hex.decode(key)));
+                results[i] =
+                        this.signatureImpl.verifyHash(
+                                publicKey, request.getHash(), request.getSignature());
+            } catch (RuntimeException e) {
+                logger.debug(
+                        "verify signature failed, index: {}, publicKey: {}, e: ",
+                        i,
+                        request.getPublicKey(),
+                        e);
+                results[i] = false;
+            }
+        }
+    }
+
+    /**
+     * Set the executor used by {@link #verifyBatch(List)}
+     *
+     * @param verifyExecutor the executor, e.g. a dedicated ForkJoinPool
+     */
+    public void setVerifyExecutor(Executor verifyExecutor) {
+        this.verifyExecutor = verifyExecutor;
+    }
+
+    /**
+     * Set the capacity of the public key cache used by {@link #verifyBatch(List)}, the cached keys
+     * are dropped
+     *
+     * @param capacity the max number of the cached public keys
+     */
+    public void setPublicKeyCacheSize(int capacity) {
+        this.publicKeyCache = new LruCache<>(capacity);
+    }
+
+    /**
+     * Get the public key cache used by {@link #verifyBatch(List)}, for the hit/miss statistics
+     *
+     * @return the public key cache
+     */
+    public LruCache<String, CryptoKeyHandle> getPublicKeyCache() {
+        return this.publicKeyCache;
+    }
+
     // for AMOP topic verify, generate signature
 
     /**
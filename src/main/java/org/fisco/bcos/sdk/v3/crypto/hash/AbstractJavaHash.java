@@ -0,0 +1,153 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.crypto.hash;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import org.bouncycastle.crypto.ExtendedDigest;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+
+/**
+ * Base of the pure-java hash implementations. The digest works on the input bytes directly instead
+ * of hex-encoding them for the native library, and every thread reuses its own digest state, so
+ * hashing allocates nothing but the result.
+ */
+abstract class AbstractJavaHash implements Hash {
+    public static final int HASH_LENGTH = 32;
+    private static final int COPY_BUFFER_SIZE = 256;
+
+    private final ThreadLocal<DigestState> digestState =
+            ThreadLocal.withInitial(() -> new DigestState(newDigest()));
+
+    /**
+     * Create the digest, called once for every thread that uses this hash
+     *
+     * @return a new digest
+     */
+    protected abstract ExtendedDigest newDigest();
+
+    @Override
+    public String hash(final String inputData) {
+        // keep the same charset with the native implementations
+        return hashBytes(inputData.getBytes(Charset.defaultCharset()));
+    }
+
+    @Override
+    public String hashBytes(byte[] inputBytes) {
+        return Hex.toHexString(hash(inputBytes));
+    }
+
+    @Override
+    public byte[] hash(final byte[] inputBytes) {
+        return hash(inputBytes, 0, inputBytes.length);
+    }
+
+    @Override
+    public byte[] hash(final byte[] inputBytes, int offset, int length) {
+        byte[] result = new byte[HASH_LENGTH];
+        hash(inputBytes, offset, length, result, 0);
+        return result;
+    }
+
+    @Override
+    public byte[] hash(final ByteBuffer input) {
+        byte[] result = new byte[HASH_LENGTH];
+        hash(input, result, 0);
+        return result;
+    }
+
+    /**
+     * Hash a slice of the input into the given output array without any allocation
+     *
+     * @param inputBytes byte array type input data
+     * @param offset the offset of the first byte to hash
+     * @param length the number of bytes to hash
+     * @param output the array receiving the hash
+     * @param outputOffset the offset of the output array to write the hash to
+     * @throws IndexOutOfBoundsException if the slice or the output is out of the arrays
+     */
+    public void hash(
+            final byte[] inputBytes, int offset, int length, byte[] output, int outputOffset) {
+        // check before the digest absorbs anything, the digest is reused by the thread
+        checkRange(inputBytes.length, offset, length);
+        checkRange(output.length, outputOffset, HASH_LENGTH);
+        ExtendedDigest digest = digestState.get().digest;
+        try {
+            digest.update(inputBytes, offset, length);
+            digest.doFinal(output, outputOffset);
+        } catch (RuntimeException e) {
+            digest.reset();
+            throw e;
+        }
+    }
+
+    private static void checkRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException(
+                    "offset "
+                            + offset
+                            + ", length "
+                            + length
+                            + " out of the array of length "
+                            + arrayLength);
+        }
+    }
+
+    /**
+     * Hash the remaining bytes of the buffer into the given output array, the position of the
+     * buffer is not changed
+     *
+     * @param input the input buffer
+     * @param output the array receiving the hash
+     * @param outputOffset the offset of the output array to write the hash to
+     */
+    public void hash(final ByteBuffer input, byte[] output, int outputOffset) {
+        if (input.hasArray()) {
+            hash(
+                    input.array(),
+                    input.arrayOffset() + input.position(),
+                    input.remaining(),
+                    output,
+                    outputOffset);
+            return;
+        }
+        checkRange(output.length, outputOffset, HASH_LENGTH);
+        DigestState state = digestState.get();
+        int position = input.position();
+        int limit = input.limit();
+        try {
+            while (position < limit) {
+                int size = Math.min(COPY_BUFFER_SIZE, limit - position);
+                for (int i = 0; i < size; i++) {
+                    state.copyBuffer[i] = input.get(position + i);
+                }
+                state.digest.update(state.copyBuffer, 0, size);
+                position += size;
+            }
+            state.digest.doFinal(output, outputOffset);
+        } catch (RuntimeException e) {
+            state.digest.reset();
+            throw e;
+        }
+    }
+
+    private static class DigestState {
+        private final ExtendedDigest digest;
+        private final byte[] copyBuffer = new byte[COPY_BUFFER_SIZE];
+
+        private DigestState(ExtendedDigest digest) {
+            this.digest = digest;
+        }
+    }
+}
@@ -15,6 +15,9 @@
 /** interface for hash calculation */
 package org.fisco.bcos.sdk.v3.crypto.hash;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 public interface Hash {
 
     /**
@@ -40,4 +43,35 @@ public interface Hash {
      * @return return byte array hash result
      */
     byte[] hash(final byte[] inputBytes);
+
+    /**
+     * Generate the hash of a slice of the input
+     *
+     * @param inputBytes byte array type input data
+     * @param offset the offset of the first byte to hash
+     * @param length the number of bytes to hash
+     * @return return byte array hash result
+     */
+    default byte[] hash(final byte[] inputBytes, int offset, int length) {
+        if (offset == 0 && length == inputBytes.length) {
+            return hash(inputBytes);
+        }
+        return hash(Arrays.copyOfRange(inputBytes, offset, offset + length));
+    }
+
+    /**
+     * Generate the hash of the remaining bytes of the buffer, the position of the buffer is not
+     * changed
+     *
+     * @param input the input buffer
+     * @return return byte array hash result
+     */
+    default byte[] hash(final ByteBuffer input) {
+        if (input.hasArray()) {
+            return hash(input.array(), input.arrayOffset() + input.position(), input.remaining());
+        }
+        byte[] inputBytes = new byte[input.remaining()];
+        input.duplicate().get(inputBytes);
+        return hash(inputBytes);
+    }
 }
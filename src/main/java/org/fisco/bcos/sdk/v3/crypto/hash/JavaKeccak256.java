@@ -0,0 +1,24 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.crypto.hash;
+
+import org.bouncycastle.crypto.ExtendedDigest;
+
+/** Pure-java keccak256, produces the same result with {@link Keccak256} without the JNI call */
+public class JavaKeccak256 extends AbstractJavaHash {
+    @Override
+    protected ExtendedDigest newDigest() {
+        return new Keccak256Digest();
+    }
+}
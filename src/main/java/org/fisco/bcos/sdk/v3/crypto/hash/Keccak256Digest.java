@@ -0,0 +1,273 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.crypto.hash;
+
+import org.bouncycastle.crypto.ExtendedDigest;
+
+/**
+ * Keccak-256 (the original keccak padding used by ethereum, not SHA3-256) with the permutation
+ * unrolled over local variables, which neither allocates nor copies the input into an intermediate
+ * bit queue.
+ */
+final class Keccak256Digest implements ExtendedDigest {
+    private static final int RATE = 136;
+    private static final int DIGEST_SIZE = 32;
+    private static final long[] ROUND_CONSTANTS = {
+        0x0000000000000001L, 0x0000000000008082L, 0x800000000000808aL, 0x8000000080008000L,
+        0x000000000000808bL, 0x0000000080000001L, 0x8000000080008081L, 0x8000000000008009L,
+        0x000000000000008aL, 0x0000000000000088L, 0x0000000080008009L, 0x000000008000000aL,
+        0x000000008000808bL, 0x800000000000008bL, 0x8000000000008089L, 0x8000000000008003L,
+        0x8000000000008002L, 0x8000000000000080L, 0x000000000000800aL, 0x800000008000000aL,
+        0x8000000080008081L, 0x8000000000008080L, 0x0000000080000001L, 0x8000000080008008L
+    };
+
+    private final long[] state = new long[25];
+    private final byte[] buffer = new byte[RATE];
+    private int bufferLength = 0;
+
+    @Override
+    public String getAlgorithmName() {
+        return "Keccak-256";
+    }
+
+    @Override
+    public int getDigestSize() {
+        return DIGEST_SIZE;
+    }
+
+    @Override
+    public int getByteLength() {
+        return RATE;
+    }
+
+    @Override
+    public void update(byte in) {
+        buffer[bufferLength++] = in;
+        if (bufferLength == RATE) {
+            absorb(buffer, 0);
+            bufferLength = 0;
+        }
+    }
+
+    @Override
+    public void update(byte[] in, int inOff, int len) {
+        if (bufferLength > 0) {
+            int size = Math.min(len, RATE - bufferLength);
+            System.arraycopy(in, inOff, buffer, bufferLength, size);
+            bufferLength += size;
+            inOff += size;
+            len -= size;
+            if (bufferLength < RATE) {
+                return;
+            }
+            absorb(buffer, 0);
+            bufferLength = 0;
+        }
+        while (len >= RATE) {
+            absorb(in, inOff);
+            inOff += RATE;
+            len -= RATE;
+        }
+        System.arraycopy(in, inOff, buffer, 0, len);
+        bufferLength = len;
+    }
+
+    @Override
+    public int doFinal(byte[] out, int outOff) {
+        for (int i = bufferLength; i < RATE; i++) {
+            buffer[i] = 0;
+        }
+        buffer[bufferLength] ^= 0x01;
+        buffer[RATE - 1] ^= (byte) 0x80;
+        absorb(buffer, 0);
+        for (int i = 0; i < DIGEST_SIZE / 8; i++) {
+            long lane = state[i];
+            for (int j = 0; j < 8; j++) {
+                out[outOff + i * 8 + j] = (byte) (lane >>> (8 * j));
+            }
+        }
+        reset();
+        return DIGEST_SIZE;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < state.length; i++) {
+            state[i] = 0;
+        }
+        bufferLength = 0;
+    }
+
+    private void absorb(byte[] in, int off) {
+        for (int i = 0; i < RATE / 8; i++) {
+            int pos = off + i * 8;
+            state[i] ^=
+                    (in[pos] & 0xffL)
+                            | (in[pos + 1] & 0xffL) << 8
+                            | (in[pos + 2] & 0xffL) << 16
+                            | (in[pos + 3] & 0xffL) << 24
+                            | (in[pos + 4] & 0xffL) << 32
+                            | (in[pos + 5] & 0xffL) << 40
+                            | (in[pos + 6] & 0xffL) << 48
+                            | (in[pos + 7] & 0xffL) << 56;
+        }
+        permute(state);
+    }
+
+    private static void permute(long[] a) {
+        long a00 = a[0], a01 = a[1], a02 = a[2], a03 = a[3], a04 = a[4];
+        long a05 = a[5], a06 = a[6], a07 = a[7], a08 = a[8], a09 = a[9];
+        long a10 = a[10], a11 = a[11], a12 = a[12], a13 = a[13], a14 = a[14];
+        long a15 = a[15], a16 = a[16], a17 = a[17], a18 = a[18], a19 = a[19];
+        long a20 = a[20], a21 = a[21], a22 = a[22], a23 = a[23], a24 = a[24];
+
+        for (int round = 0; round < 24; round++) {
+            // theta
+            long c0 = a00 ^ a05 ^ a10 ^ a15 ^ a20;
+            long c1 = a01 ^ a06 ^ a11 ^ a16 ^ a21;
+            long c2 = a02 ^ a07 ^ a12 ^ a17 ^ a22;
+            long c3 = a03 ^ a08 ^ a13 ^ a18 ^ a23;
+            long c4 = a04 ^ a09 ^ a14 ^ a19 ^ a24;
+
+            long d0 = (c1 << 1 | c1 >>> 63) ^ c4;
+            long d1 = (c2 << 1 | c2 >>> 63) ^ c0;
+            long d2 = (c3 << 1 | c3 >>> 63) ^ c1;
+            long d3 = (c4 << 1 | c4 >>> 63) ^ c2;
+            long d4 = (c0 << 1 | c0 >>> 63) ^ c3;
+
+            a00 ^= d0;
+            a05 ^= d0;
+            a10 ^= d0;
+            a15 ^= d0;
+            a20 ^= d0;
+            a01 ^= d1;
+            a06 ^= d1;
+            a11 ^= d1;
+            a16 ^= d1;
+            a21 ^= d1;
+            a02 ^= d2;
+            a07 ^= d2;
+            a12 ^= d2;
+            a17 ^= d2;
+            a22 ^= d2;
+            a03 ^= d3;
+            a08 ^= d3;
+            a13 ^= d3;
+            a18 ^= d3;
+            a23 ^= d3;
+            a04 ^= d4;
+            a09 ^= d4;
+            a14 ^= d4;
+            a19 ^= d4;
+            a24 ^= d4;
+
+            // rho and pi
+            c1 = a01 << 1 | a01 >>> 63;
+            a01 = a06 << 44 | a06 >>> 20;
+            a06 = a09 << 20 | a09 >>> 44;
+            a09 = a22 << 61 | a22 >>> 3;
+            a22 = a14 << 39 | a14 >>> 25;
+            a14 = a20 << 18 | a20 >>> 46;
+            a20 = a02 << 62 | a02 >>> 2;
+            a02 = a12 << 43 | a12 >>> 21;
+            a12 = a13 << 25 | a13 >>> 39;
+            a13 = a19 << 8 | a19 >>> 56;
+            a19 = a23 << 56 | a23 >>> 8;
+            a23 = a15 << 41 | a15 >>> 23;
+            a15 = a04 << 27 | a04 >>> 37;
+            a04 = a24 << 14 | a24 >>> 50;
+            a24 = a21 << 2 | a21 >>> 62;
+            a21 = a08 << 55 | a08 >>> 9;
+            a08 = a16 << 45 | a16 >>> 19;
+            a16 = a05 << 36 | a05 >>> 28;
+            a05 = a03 << 28 | a03 >>> 36;
+            a03 = a18 << 21 | a18 >>> 43;
+            a18 = a17 << 15 | a17 >>> 49;
+            a17 = a11 << 10 | a11 >>> 54;
+            a11 = a07 << 6 | a07 >>> 58;
+            a07 = a10 << 3 | a10 >>> 61;
+            a10 = c1;
+
+            // chi
+            c0 = a00 ^ (~a01 & a02);
+            c1 = a01 ^ (~a02 & a03);
+            a02 ^= ~a03 & a04;
+            a03 ^= ~a04 & a00;
+            a04 ^= ~a00 & a01;
+            a00 = c0;
+            a01 = c1;
+
+            c0 = a05 ^ (~a06 & a07);
+            c1 = a06 ^ (~a07 & a08);
+            a07 ^= ~a08 & a09;
+            a08 ^= ~a09 & a05;
+            a09 ^= ~a05 & a06;
+            a05 = c0;
+            a06 = c1;
+
+            c0 = a10 ^ (~a11 & a12);
+            c1 = a11 ^ (~a12 & a13);
+            a12 ^= ~a13 & a14;
+            a13 ^= ~a14 & a10;
+            a14 ^= ~a10 & a11;
+            a10 = c0;
+            a11 = c1;
+
+            c0 = a15 ^ (~a16 & a17);
+            c1 = a16 ^ (~a17 & a18);
+            a17 ^= ~a18 & a19;
+            a18 ^= ~a19 & a15;
+            a19 ^= ~a15 & a16;
+            a15 = c0;
+            a16 = c1;
+
+            c0 = a20 ^ (~a21 & a22);
+            c1 = a21 ^ (~a22 & a23);
+            a22 ^= ~a23 & a24;
+            a23 ^= ~a24 & a20;
+            a24 ^= ~a20 & a21;
+            a20 = c0;
+            a21 = c1;
+
+            // iota
+            a00 ^= ROUND_CONSTANTS[round];
+        }
+
+        a[0] = a00;
+        a[1] = a01;
+        a[2] = a02;
+        a[3] = a03;
+        a[4] = a04;
+        a[5] = a05;
+        a[6] = a06;
+        a[7] = a07;
+        a[8] = a08;
+        a[9] = a09;
+        a[10] = a10;
+        a[11] = a11;
+        a[12] = a12;
+        a[13] = a13;
+        a[14] = a14;
+        a[15] = a15;
+        a[16] = a16;
+        a[17] = a17;
+        a[18] = a18;
+        a[19] = a19;
+        a[20] = a20;
+        a[21] = a21;
+        a[22] = a22;
+        a[23] = a23;
+        a[24] = a24;
+    }
+}
@@ -0,0 +1,231 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.crypto.keypair;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.crypto.params.ParametersWithID;
+import org.bouncycastle.crypto.params.ParametersWithRandom;
+import org.bouncycastle.crypto.signers.PlainDSAEncoding;
+import org.bouncycastle.crypto.signers.SM2Signer;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.util.BigIntegers;
+import org.fisco.bcos.sdk.v3.crypto.exceptions.KeyPairException;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.fisco.bcos.sdk.v3.utils.Numeric;
+
+/**
+ * The parsed form of a secp256k1 or sm2 key, used by the byte oriented sign/verify path of {@link
+ * org.fisco.bcos.sdk.v3.crypto.signature.Signature} so that the key is parsed or encoded only once
+ * instead of on every call. A handle created from a public key only can be used for verification.
+ */
+public class CryptoKeyHandle {
+    private static final ECDomainParameters SECP256K1_DOMAIN =
+            toDomain(CustomNamedCurves.getByName(CryptoKeyPair.ECDSA_CURVE_NAME));
+    private static final ECDomainParameters SM2_DOMAIN =
+            toDomain(CustomNamedCurves.getByName(CryptoKeyPair.SM2_CURVE_NAME));
+    private static final byte[] SM2_DEFAULT_USER_ID =
+            "1234567812345678".getBytes(StandardCharsets.US_ASCII);
+    private static final SecureRandom secureRandom = new SecureRandom();
+
+    private final String curveName;
+    private final ECDomainParameters domain;
+    private final BigInteger privateKey;
+    private final ECPoint publicPoint;
+    private final byte[] publicKey;
+    private final ECPrivateKeyParameters privateKeyParameters;
+    private final ECPublicKeyParameters publicKeyParameters;
+
+    private CryptoKeyHandle(
+            String curveName, ECDomainParameters domain, BigInteger privateKey, ECPoint point) {
+        this.curveName = curveName;
+        this.domain = domain;
+        this.privateKey = privateKey;
+        this.publicPoint = point.normalize();
+        this.publicKey = new byte[CryptoKeyPair.PUBLIC_KEY_SIZE];
+        BigIntegers.asUnsignedByteArray(
+                this.publicPoint.getAffineXCoord().toBigInteger(), this.publicKey, 0, 32);
+        BigIntegers.asUnsignedByteArray(
+                this.publicPoint.getAffineYCoord().toBigInteger(), this.publicKey, 32, 32);
+        this.privateKeyParameters =
+                privateKey == null ? null : new ECPrivateKeyParameters(privateKey, domain);
+        this.publicKeyParameters = new ECPublicKeyParameters(this.publicPoint, domain);
+    }
+
+    /**
+     * Create the handle of a key pair
+     *
+     * @param curveName the curve name, secp256k1 or sm2p256v1
+     * @param hexPrivateKey the hex string private key
+     * @param hexPublicKey the hex string public key, with or without the 04 prefix
+     * @return the key handle
+     */
+    public static CryptoKeyHandle fromKeyPair(
+            String curveName, String hexPrivateKey, String hexPublicKey) {
+        if (hexPrivateKey == null || hexPrivateKey.isEmpty()) {
+            throw new KeyPairException(
+                    "create key handle failed for the private key of the key pair is unavailable");
+        }
+        ECDomainParameters domain = getDomain(curveName);
+        BigInteger privateKey = new BigInteger(Numeric.cleanHexPrefix(hexPrivateKey), 16);
+        if (privateKey.signum() <= 0 || privateKey.compareTo(domain.getN()) >= 0) {
+            throw new KeyPairException("create key handle failed for invalid private key");
+        }
+        ECPoint publicPoint =
+                (hexPublicKey == null || hexPublicKey.isEmpty())
+                        ? domain.getG().multiply(privateKey)
+                        : decodePublicKey(
+                                domain,
+                                Hex.decode(
+                                        Numeric.getKeyNoPrefix(
+                                                CryptoKeyPair.UNCOMPRESSED_PUBLICKEY_FLAG_STR,
+                                                hexPublicKey,
+                                                CryptoKeyPair.PUBLIC_KEY_LENGTH_IN_HEX)));
+        return new CryptoKeyHandle(curveName, domain, privateKey, publicPoint);
+    }
+
+    /**
+     * Create the handle of a public key, which can only be used to verify signatures
+     *
+     * @param curveName the curve name, secp256k1 or sm2p256v1
+     * @param publicKey the 64 bytes public key, or the 65 bytes public key with the 04 prefix
+     * @return the key handle
+     */
+    public static CryptoKeyHandle fromPublicKey(String curveName, byte[] publicKey) {
+        ECDomainParameters domain = getDomain(curveName);
+        return new CryptoKeyHandle(curveName, domain, null, decodePublicKey(domain, publicKey));
+    }
+
+    public static ECDomainParameters getDomain(String curveName) {
+        if (CryptoKeyPair.ECDSA_CURVE_NAME.equals(curveName)) {
+            return SECP256K1_DOMAIN;
+        }
+        if (CryptoKeyPair.SM2_CURVE_NAME.equals(curveName)) {
+            return SM2_DOMAIN;
+        }
+        throw new KeyPairException("create key handle failed for unsupported curve " + curveName);
+    }
+
+    public String getCurveName() {
+        return this.curveName;
+    }
+
+    public ECDomainParameters getDomain() {
+        return this.domain;
+    }
+
+    /**
+     * Get the private key
+     *
+     * @return the private key, null if the handle is created from a public key
+     */
+    public BigInteger getPrivateKey() {
+        return this.privateKey;
+    }
+
+    public boolean hasPrivateKey() {
+        return this.privateKey != null;
+    }
+
+    /**
+     * Get the public key point
+     *
+     * @return the normalized public key point
+     */
+    public ECPoint getPublicPoint() {
+        return this.publicPoint;
+    }
+
+    /**
+     * Get the public key, the returned array must not be modified
+     *
+     * @return the 64 bytes public key without the 04 prefix
+     */
+    public byte[] getPublicKey() {
+        return this.publicKey;
+    }
+
+    /**
+     * Get the BouncyCastle private key parameters
+     *
+     * @return the private key parameters, null if the handle is created from a public key
+     */
+    public ECPrivateKeyParameters getPrivateKeyParameters() {
+        return this.privateKeyParameters;
+    }
+
+    public ECPublicKeyParameters getPublicKeyParameters() {
+        return this.publicKeyParameters;
+    }
+
+    /**
+     * Create a sm2 signer initialized for signing with the private key and the default user id, the
+     * signer is not thread safe
+     *
+     * @return the sm2 signer producing the 64 bytes signature [r, s]
+     */
+    public SM2Signer createSM2Signer() {
+        if (!hasPrivateKey()) {
+            throw new KeyPairException("sm2 sign with a key handle without private key");
+        }
+        SM2Signer signer = new SM2Signer(PlainDSAEncoding.INSTANCE);
+        signer.init(
+                true,
+                new ParametersWithID(
+                        new ParametersWithRandom(this.privateKeyParameters, secureRandom),
+                        SM2_DEFAULT_USER_ID));
+        return signer;
+    }
+
+    /**
+     * Create a sm2 verifier initialized for verifying with the public key and the default user id,
+     * the verifier is not thread safe
+     *
+     * @return the sm2 verifier accepting the 64 bytes signature [r, s]
+     */
+    public SM2Signer createSM2Verifier() {
+        SM2Signer verifier = new SM2Signer(PlainDSAEncoding.INSTANCE);
+        verifier.init(false, new ParametersWithID(this.publicKeyParameters, SM2_DEFAULT_USER_ID));
+        return verifier;
+    }
+
+    private static ECPoint decodePublicKey(ECDomainParameters domain, byte[] publicKey) {
+        byte[] encodedPoint = publicKey;
+        if (publicKey.length == CryptoKeyPair.PUBLIC_KEY_SIZE) {
+            encodedPoint = new byte[CryptoKeyPair.PUBLIC_KEY_SIZE + 1];
+            encodedPoint[0] = 0x04;
+            System.arraycopy(publicKey, 0, encodedPoint, 1, publicKey.length);
+        }
+        try {
+            // decodePoint checks that the point is on the curve
+            return domain.getCurve().decodePoint(encodedPoint).normalize();
+        } catch (IllegalArgumentException e) {
+            throw new KeyPairException(
+                    "create key handle failed for invalid public key: "
+                            + Hex.toHexString(publicKey),
+                    e);
+        }
+    }
+
+    private static ECDomainParameters toDomain(X9ECParameters parameters) {
+        return new ECDomainParameters(
+                parameters.getCurve(), parameters.getG(), parameters.getN(), parameters.getH());
+    }
+}
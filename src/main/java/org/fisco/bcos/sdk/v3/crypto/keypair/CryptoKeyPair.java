@@ -71,6 +71,9 @@ public abstract class CryptoKeyPair {
     // for jni transaction sign
     protected long jniKeyPair = 0;
 
+    // for the byte oriented sign path, parsed lazily
+    private volatile CryptoKeyHandle keyHandle;
+
     public CryptoKeyPair() {}
 
     /**
@@ -98,6 +101,20 @@ public abstract class CryptoKeyPair {
         return jniKeyPair;
     }
 
+    /**
+     * Get the parsed key, which is used to sign without hex-encoding the key and the message
+     *
+     * @return the key handle of this key pair
+     */
+    public CryptoKeyHandle getKeyHandle() {
+        CryptoKeyHandle handle = this.keyHandle;
+        if (handle == null) {
+            handle = CryptoKeyHandle.fromKeyPair(curveName, hexPrivateKey, hexPublicKey);
+            this.keyHandle = handle;
+        }
+        return handle;
+    }
+
     /**
      * Get the configuration
      *
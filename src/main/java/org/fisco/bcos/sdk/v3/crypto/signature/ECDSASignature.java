@@ -15,13 +15,24 @@ package org.fisco.bcos.sdk.v3.crypto.signature;
 
 import com.webank.wedpr.crypto.CryptoResult;
 import com.webank.wedpr.crypto.NativeInterface;
+import java.math.BigInteger;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.util.BigIntegers;
 import org.fisco.bcos.sdk.v3.crypto.exceptions.SignatureException;
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyHandle;
 import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
 import org.fisco.bcos.sdk.v3.utils.Hex;
 import org.fisco.bcos.sdk.v3.utils.Numeric;
 
 public class ECDSASignature implements Signature {
     private static int INPUT_MESSAGE_SIZE_IN_HEX = 64;
+    private static final int INPUT_MESSAGE_SIZE = 32;
+    private static final int SIGNATURE_SIZE = 65;
 
     @Override
     public SignatureResult sign(final String message, final CryptoKeyPair keyPair) {
@@ -88,4 +99,96 @@ public class ECDSASignature implements Signature {
         }
         return verifyResult.booleanResult;
     }
+
+    /**
+     * Sign the hash with the parsed private key of the key pair. The nonce is derived by RFC6979
+     * and s is normalized to the lower half of the order like libsecp256k1, so the signature is the
+     * same with the native one.
+     *
+     * @param hash the 32 bytes hash to be signed
+     * @param keyPair key pair used to do signature
+     * @return the 65 bytes signature [r, s, v]
+     */
+    @Override
+    public byte[] signHash(final byte[] hash, final CryptoKeyPair keyPair) {
+        checkInputHash(hash);
+        if (!keyPair.getCurveName().equals(CryptoKeyPair.ECDSA_CURVE_NAME)) {
+            throw new SignatureException("ecdsa sign with " + keyPair.getCurveName() + " keypair");
+        }
+        CryptoKeyHandle keyHandle = keyPair.getKeyHandle();
+        ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+        signer.init(true, keyHandle.getPrivateKeyParameters());
+        BigInteger[] rs = signer.generateSignature(hash);
+        ECDomainParameters domain = keyHandle.getDomain();
+        BigInteger r = rs[0];
+        BigInteger s = rs[1];
+        if (s.compareTo(domain.getN().shiftRight(1)) > 0) {
+            s = domain.getN().subtract(s);
+        }
+        byte[] signature = new byte[SIGNATURE_SIZE];
+        BigIntegers.asUnsignedByteArray(r, signature, 0, 32);
+        BigIntegers.asUnsignedByteArray(s, signature, 32, 32);
+        signature[64] = (byte) calculateRecoveryId(keyHandle, hash, r, s);
+        return signature;
+    }
+
+    /**
+     * Verify the signature with the parsed public key. Like libsecp256k1 the signature with s in
+     * the higher half of the order is rejected, the recovery id v is not checked
+     *
+     * @param publicKey the parsed public key
+     * @param hash the 32 bytes hash
+     * @param signature the signature, [r, s] or [r, s, v]
+     * @return true if the signature is valid
+     */
+    @Override
+    public boolean verifyHash(
+            final CryptoKeyHandle publicKey, final byte[] hash, final byte[] signature) {
+        checkInputHash(hash);
+        if (!publicKey.getCurveName().equals(CryptoKeyPair.ECDSA_CURVE_NAME)) {
+            throw new SignatureException(
+                    "ecdsa verify with " + publicKey.getCurveName() + " public key");
+        }
+        if (signature.length < SIGNATURE_SIZE - 1) {
+            throw new SignatureException(
+                    "Invalid signature for invalid length " + signature.length);
+        }
+        BigInteger s = BigIntegers.fromUnsignedByteArray(signature, 32, 32);
+        // libsecp256k1 rejects the malleable signatures with the higher s
+        if (s.compareTo(publicKey.getDomain().getN().shiftRight(1)) > 0) {
+            return false;
+        }
+        ECDSASigner verifier = new ECDSASigner();
+        verifier.init(false, publicKey.getPublicKeyParameters());
+        return verifier.verifySignature(
+                hash, BigIntegers.fromUnsignedByteArray(signature, 0, 32), s);
+    }
+
+    // the recovery id is the parity of y of R = s^-1 * (e * G + r * Q), plus 2 if x of R >= n
+    private static int calculateRecoveryId(
+            final CryptoKeyHandle keyHandle, final byte[] hash, BigInteger r, BigInteger s) {
+        ECDomainParameters domain = keyHandle.getDomain();
+        BigInteger n = domain.getN();
+        BigInteger sInverse = BigIntegers.modOddInverse(n, s);
+        BigInteger e = new BigInteger(1, hash);
+        ECPoint point =
+                ECAlgorithms.sumOfTwoMultiplies(
+                                domain.getG(),
+                                e.multiply(sInverse).mod(n),
+                                keyHandle.getPublicPoint(),
+                                r.multiply(sInverse).mod(n))
+                        .normalize();
+        int recoveryId = point.getAffineYCoord().testBitZero() ? 1 : 0;
+        if (!point.getAffineXCoord().toBigInteger().equals(r)) {
+            recoveryId |= 2;
+        }
+        return recoveryId;
+    }
+
+    private static void checkInputHash(final byte[] hash) {
+        if (hash.length != INPUT_MESSAGE_SIZE) {
+            throw new SignatureException(
+                    "Invalid input hash of " + hash.length + " bytes, must be 32 bytes");
+        }
+    }
 }
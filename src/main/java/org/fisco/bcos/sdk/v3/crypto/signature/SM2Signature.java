@@ -15,12 +15,19 @@ package org.fisco.bcos.sdk.v3.crypto.signature;
 
 import com.webank.wedpr.crypto.CryptoResult;
 import com.webank.wedpr.crypto.NativeInterface;
+import java.util.Arrays;
+import org.bouncycastle.crypto.CryptoException;
+import org.bouncycastle.crypto.signers.SM2Signer;
 import org.fisco.bcos.sdk.v3.crypto.exceptions.SignatureException;
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyHandle;
 import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
 import org.fisco.bcos.sdk.v3.utils.Hex;
 import org.fisco.bcos.sdk.v3.utils.Numeric;
 
 public class SM2Signature implements Signature {
+    private static final int INPUT_MESSAGE_SIZE = 32;
+    private static final int SIGNATURE_R_AND_S_SIZE = 64;
+
     @Override
     public SignatureResult sign(final String message, final CryptoKeyPair keyPair) {
         return new SM2SignatureResult(
@@ -74,4 +81,86 @@ public class SM2Signature implements Signature {
         }
         return verifyResult.booleanResult;
     }
+
+    /**
+     * Sign the hash with the BouncyCastle sm2 signer of the parsed key of the key pair, which is
+     * several times faster than the native call with hex strings. The message digest is SM3(Z ||
+     * hash) with the default user id, the same with the native implementation.
+     *
+     * @param hash the 32 bytes hash to be signed
+     * @param keyPair key pair used to do signature
+     * @return the 128 bytes signature [r, s, pub]
+     */
+    @Override
+    public byte[] signHash(final byte[] hash, final CryptoKeyPair keyPair) {
+        if (!keyPair.getCurveName().equals(CryptoKeyPair.SM2_CURVE_NAME)) {
+            throw new SignatureException("sm2 sign with " + keyPair.getCurveName() + " keypair");
+        }
+        CryptoKeyHandle keyHandle = keyPair.getKeyHandle();
+        byte[] signature = new byte[SIGNATURE_R_AND_S_SIZE + CryptoKeyPair.PUBLIC_KEY_SIZE];
+        signHash(hash, keyHandle, signature);
+        System.arraycopy(
+                keyHandle.getPublicKey(),
+                0,
+                signature,
+                SIGNATURE_R_AND_S_SIZE,
+                CryptoKeyPair.PUBLIC_KEY_SIZE);
+        return signature;
+    }
+
+    /**
+     * Sign the hash with the BouncyCastle sm2 signer of the parsed key pair
+     *
+     * @param hash the 32 bytes hash to be signed
+     * @param keyHandle the parsed key pair
+     * @param output the array receiving the 64 bytes signature [r, s]
+     */
+    public static void signHash(
+            final byte[] hash, final CryptoKeyHandle keyHandle, final byte[] output) {
+        checkInputHash(hash);
+        if (!keyHandle.hasPrivateKey()) {
+            throw new SignatureException("sm2 sign with a key handle without private key");
+        }
+        SM2Signer signer = keyHandle.createSM2Signer();
+        signer.update(hash, 0, hash.length);
+        byte[] signature;
+        try {
+            signature = signer.generateSignature();
+        } catch (CryptoException e) {
+            throw new SignatureException("Sign with sm2 failed:" + e.getMessage(), e);
+        }
+        System.arraycopy(signature, 0, output, 0, SIGNATURE_R_AND_S_SIZE);
+    }
+
+    /**
+     * Verify the signature with the BouncyCastle sm2 verifier of the parsed public key
+     *
+     * @param publicKey the parsed public key
+     * @param hash the 32 bytes hash
+     * @param signature the signature, [r, s] or [r, s, pub]
+     * @return true if the signature is valid
+     */
+    @Override
+    public boolean verifyHash(
+            final CryptoKeyHandle publicKey, final byte[] hash, final byte[] signature) {
+        checkInputHash(hash);
+        if (!publicKey.getCurveName().equals(CryptoKeyPair.SM2_CURVE_NAME)) {
+            throw new SignatureException(
+                    "sm2 verify with " + publicKey.getCurveName() + " public key");
+        }
+        if (signature.length < SIGNATURE_R_AND_S_SIZE) {
+            throw new SignatureException(
+                    "Invalid signature for invalid length " + signature.length);
+        }
+        SM2Signer verifier = publicKey.createSM2Verifier();
+        verifier.update(hash, 0, hash.length);
+        return verifier.verifySignature(Arrays.copyOf(signature, SIGNATURE_R_AND_S_SIZE));
+    }
+
+    private static void checkInputHash(final byte[] hash) {
+        if (hash.length != INPUT_MESSAGE_SIZE) {
+            throw new SignatureException(
+                    "Invalid input hash of " + hash.length + " bytes, must be 32 bytes");
+        }
+    }
 }
@@ -15,7 +15,10 @@
 /** interface for sign/verify functions */
 package org.fisco.bcos.sdk.v3.crypto.signature;
 
+import java.nio.ByteBuffer;
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyHandle;
 import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.v3.utils.Hex;
 
 public interface Signature {
     /**
@@ -64,4 +67,58 @@ public interface Signature {
      * @return true/false
      */
     boolean verify(final String publicKey, final byte[] message, final byte[] signature);
+
+    /**
+     * Sign the hash without converting the key or the hash into hex string
+     *
+     * @param hash the 32 bytes hash to be signed
+     * @param keyPair key pair used to do signature
+     * @return the encoded signature, the same as {@link SignatureResult#encode()}
+     */
+    default byte[] signHash(final byte[] hash, final CryptoKeyPair keyPair) {
+        return sign(hash, keyPair).encode();
+    }
+
+    /**
+     * Sign the remaining bytes of the buffer, the position of the buffer is not changed
+     *
+     * @param hash the buffer of the 32 bytes hash to be signed
+     * @param keyPair key pair used to do signature
+     * @return the encoded signature, the same as {@link SignatureResult#encode()}
+     */
+    default byte[] signHash(final ByteBuffer hash, final CryptoKeyPair keyPair) {
+        byte[] hashBytes = new byte[hash.remaining()];
+        hash.duplicate().get(hashBytes);
+        return signHash(hashBytes, keyPair);
+    }
+
+    /**
+     * Verify the signature with a parsed public key
+     *
+     * @param publicKey the parsed public key
+     * @param hash the 32 bytes hash
+     * @param signature the signature
+     * @return true if the signature is valid
+     */
+    default boolean verifyHash(
+            final CryptoKeyHandle publicKey, final byte[] hash, final byte[] signature) {
+        return verify(Hex.toHexString(publicKey.getPublicKey()), hash, signature);
+    }
+
+    /**
+     * Verify the signature with a parsed public key, the positions of the buffers are not changed
+     *
+     * @param publicKey the parsed public key
+     * @param hash the buffer of the 32 bytes hash
+     * @param signature the buffer of the signature
+     * @return true if the signature is valid
+     */
+    default boolean verifyHash(
+            final CryptoKeyHandle publicKey, final ByteBuffer hash, final ByteBuffer signature) {
+        byte[] hashBytes = new byte[hash.remaining()];
+        hash.duplicate().get(hashBytes);
+        byte[] signatureBytes = new byte[signature.remaining()];
+        signature.duplicate().get(signatureBytes);
+        return verifyHash(publicKey, hashBytes, signatureBytes);
+    }
 }
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.crypto.signature;
+
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.fisco.bcos.sdk.v3.utils.Numeric;
+
+/** A signature to be verified by {@link org.fisco.bcos.sdk.v3.crypto.CryptoSuite#verifyBatch} */
+public class VerifyRequest {
+    private final String publicKey;
+    private final byte[] hash;
+    private final byte[] signature;
+
+    /**
+     * @param publicKey the hex string public key, with or without the 04 prefix
+     * @param hash the 32 bytes hash
+     * @param signature the signature, [r, s, v] for ecdsa and [r, s] or [r, s, pub] for sm2
+     */
+    public VerifyRequest(String publicKey, byte[] hash, byte[] signature) {
+        this.publicKey =
+                Numeric.getKeyNoPrefix(
+                        CryptoKeyPair.UNCOMPRESSED_PUBLICKEY_FLAG_STR,
+                        publicKey,
+                        CryptoKeyPair.PUBLIC_KEY_LENGTH_IN_HEX);
+        this.hash = hash;
+        this.signature = signature;
+    }
+
+    /**
+     * @param publicKey the hex string public key, with or without the 04 prefix
+     * @param hash the hex string hash
+     * @param signature the hex string signature
+     */
+    public VerifyRequest(String publicKey, String hash, String signature) {
+        this(
+                publicKey,
+                Hex.decode(Numeric.cleanHexPrefix(hash)),
+                Hex.decode(Numeric.cleanHexPrefix(signature)));
+    }
+
+    /**
+     * Get the public key, which is the key of the public key cache
+     *
+     * @return the hex string public key without the 04 prefix
+     */
+    public String getPublicKey() {
+        return publicKey;
+    }
+
+    public byte[] getHash() {
+        return hash;
+    }
+
+    public byte[] getSignature() {
+        return signature;
+    }
+}
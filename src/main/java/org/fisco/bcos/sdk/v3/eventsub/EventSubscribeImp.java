@@ -17,6 +17,7 @@ package org.fisco.bcos.sdk.v3.eventsub;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Set;
@@ -161,24 +162,26 @@ public class EventSubscribeImp implements EventSubscribe {
                         return;
                     }
 
-                    String strResp = new String(response.getData());
-                    logger.debug(
-                            "subscribeEvent response, errorCode: {}, errorMessage: {}, data: {}",
-                            response.getErrorCode(),
-                            response.getErrorMessage(),
-                            strResp);
+                    byte[] data = response.getData();
+                    if (logger.isDebugEnabled()) {
+                        logger.debug(
+                                "subscribeEvent response, errorCode: {}, errorMessage: {}, data: {}",
+                                response.getErrorCode(),
+                                response.getErrorMessage(),
+                                new String(data));
+                    }
 
                     try {
                         EventSubResponse eventSubResponse =
-                                objectMapper.readValue(strResp, EventSubResponse.class);
+                                ObjectMapperFactory.readValue(data, EventSubResponse.class);
                         callback.onReceiveLog(
                                 eventSubResponse.getId(),
                                 eventSubResponse.getStatus(),
                                 eventSubResponse.getLogs());
-                    } catch (JsonProcessingException e) {
+                    } catch (IOException e) {
                         logger.error(
                                 "subscribeEvent response parser json error, resp: {}, e: {}",
-                                strResp,
+                                new String(data),
                                 e);
                     }
                 });
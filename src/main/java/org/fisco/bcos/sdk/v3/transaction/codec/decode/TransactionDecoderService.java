@@ -31,7 +31,6 @@ import org.fisco.bcos.sdk.v3.codec.datatypes.TypeReference;
 import org.fisco.bcos.sdk.v3.codec.datatypes.Utf8String;
 import org.fisco.bcos.sdk.v3.codec.wrapper.ABIDefinition;
 import org.fisco.bcos.sdk.v3.codec.wrapper.ABIDefinition.NamedType;
-import org.fisco.bcos.sdk.v3.codec.wrapper.ABIDefinitionFactory;
 import org.fisco.bcos.sdk.v3.codec.wrapper.ABIObject;
 import org.fisco.bcos.sdk.v3.codec.wrapper.ABIObjectFactory;
 import org.fisco.bcos.sdk.v3.codec.wrapper.ContractABIDefinition;
@@ -149,8 +148,8 @@ public class TransactionDecoderService implements TransactionDecoderInterface {
 
     @Override
     public Map<String, List<List<Object>>> decodeEvents(String abi, List<Logs> logs) {
-        ABIDefinitionFactory abiDefinitionFactory = new ABIDefinitionFactory(cryptoSuite);
-        ContractABIDefinition contractABIDefinition = abiDefinitionFactory.loadABI(abi);
+        ContractABIDefinition contractABIDefinition =
+                contractCodec.getAbiDefinitionFactory().loadABI(abi);
         Map<String, List<ABIDefinition>> eventsMap = contractABIDefinition.getEvents();
         Map<String, List<List<Object>>> result = new HashMap<>();
         if (logs == null) {
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014-2020  [fisco-dev]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package org.fisco.bcos.sdk.v3.transaction.codec.encode;
+
+import java.util.Arrays;
+
+/**
+ * A minimal Tars output stream writing the fields of TarsTransactionData, encoded the same way as
+ * the TarsOutputStream of TarsCpp: every field starts with a head of its tag and type, and the
+ * integers are written in the smallest type holding the value.
+ */
+final class TarsOutput {
+    static final byte TYPE_INT8 = 0;
+    static final byte TYPE_INT16 = 1;
+    static final byte TYPE_INT32 = 2;
+    static final byte TYPE_INT64 = 3;
+    static final byte TYPE_STRING1 = 6;
+    static final byte TYPE_STRING4 = 7;
+    static final byte TYPE_STRUCT_BEGIN = 10;
+    static final byte TYPE_STRUCT_END = 11;
+    static final byte TYPE_ZERO_TAG = 12;
+    static final byte TYPE_SIMPLE_LIST = 13;
+
+    private byte[] buffer;
+    private int position;
+
+    TarsOutput(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    void writeHead(byte type, int tag) {
+        if (tag < 15) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) ((tag << 4) | type);
+        } else {
+            ensureCapacity(2);
+            buffer[position++] = (byte) (0xF0 | type);
+            buffer[position++] = (byte) tag;
+        }
+    }
+
+    void write(long value, int tag) {
+        if (value == 0) {
+            writeHead(TYPE_ZERO_TAG, tag);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            writeHead(TYPE_INT8, tag);
+            writeRaw(value, 1);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            writeHead(TYPE_INT16, tag);
+            writeRaw(value, 2);
+        } else if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            writeHead(TYPE_INT32, tag);
+            writeRaw(value, 4);
+        } else {
+            writeHead(TYPE_INT64, tag);
+            writeRaw(value, 8);
+        }
+    }
+
+    /** @param value the utf-8 bytes of a string */
+    void writeString(byte[] value, int tag) {
+        if (value.length > 255) {
+            writeHead(TYPE_STRING4, tag);
+            writeRaw(value.length, 4);
+        } else {
+            writeHead(TYPE_STRING1, tag);
+            writeRaw(value.length, 1);
+        }
+        writeRaw(value);
+    }
+
+    /** Write a vector&lt;byte&gt; as a simple list */
+    void writeBytes(byte[] value, int tag) {
+        writeHead(TYPE_SIMPLE_LIST, tag);
+        writeHead(TYPE_INT8, 0);
+        write(value.length, 0);
+        writeRaw(value);
+    }
+
+    void writeStructBegin(int tag) {
+        writeHead(TYPE_STRUCT_BEGIN, tag);
+    }
+
+    void writeStructEnd() {
+        writeHead(TYPE_STRUCT_END, 0);
+    }
+
+    void writeRaw(byte[] value) {
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, buffer, position, value.length);
+        position += value.length;
+    }
+
+    /** Write the lowest bytes of value in big endian */
+    void writeRaw(long value, int bytes) {
+        ensureCapacity(bytes);
+        for (int i = bytes - 1; i >= 0; i--) {
+            buffer[position++] = (byte) (value >>> (i * 8));
+        }
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (position + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+        }
+    }
+
+    int size() {
+        return position;
+    }
+
+    byte[] toByteArray() {
+        return position == buffer.length ? buffer : Arrays.copyOf(buffer, position);
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2014-2020  [fisco-dev]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package org.fisco.bcos.sdk.v3.transaction.codec.encode;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import org.fisco.bcos.sdk.v3.crypto.hash.Hash;
+
+/**
+ * The pure-java transactionData of version 0, encoded and hashed byte for byte as the
+ * transactionData built by TransactionBuilderJniObj, without the native library and the hex encoded
+ * input and output.
+ *
+ * <p>The Tars fields are 1 version, 2 chainID, 3 groupID, 4 blockLimit, 5 nonce, 6 to, 7 input and
+ * 8 abi, the optional to and abi are skipped when empty. The hash is computed over the big endian
+ * version and blockLimit and the raw bytes of the other fields, in the order of the tags.
+ */
+public final class TarsTransactionData {
+    public static final int VERSION = 0;
+
+    private static final SecureRandom NONCE_RANDOM = new SecureRandom();
+    private static final int NONCE_BITS = 128;
+    private static final byte[] EMPTY = new byte[0];
+
+    // the signed transaction fields: 1 data, 2 dataHash, 3 signature, 5 attribute, 8 extraData
+    private static final int TX_TAG_DATA = 1;
+    private static final int TX_TAG_DATA_HASH = 2;
+    private static final int TX_TAG_SIGNATURE = 3;
+    private static final int TX_TAG_ATTRIBUTE = 5;
+    private static final int TX_TAG_EXTRA_DATA = 8;
+
+    private final byte[] chainId;
+    private final byte[] groupId;
+    private final long blockLimit;
+    private final byte[] nonce;
+    private final byte[] to;
+    private final byte[] input;
+    private final byte[] abi;
+
+    /**
+     * @param groupId the group of the transaction
+     * @param chainId the chain of the transaction
+     * @param to the contract address, empty to deploy
+     * @param input the abi encoded input
+     * @param abi the contract abi, only needed to deploy
+     * @param blockLimit the block limit of the transaction
+     * @param nonce the nonce of the transaction
+     */
+    public TarsTransactionData(
+            String groupId,
+            String chainId,
+            String to,
+            byte[] input,
+            String abi,
+            long blockLimit,
+            String nonce) {
+        if (blockLimit <= 0) {
+            throw new IllegalArgumentException("block limit must > 0");
+        }
+        if (nonce == null || nonce.isEmpty()) {
+            throw new IllegalArgumentException("nonce must not be empty");
+        }
+        this.groupId = toBytes(groupId);
+        this.chainId = toBytes(chainId);
+        this.to = toBytes(to);
+        this.input = input == null ? EMPTY : input;
+        this.abi = toBytes(abi);
+        this.blockLimit = blockLimit;
+        this.nonce = toBytes(nonce);
+    }
+
+    /**
+     * Build a transactionData with a random nonce, the arguments are the same as {@link
+     * TransactionData#create} except the input in bytes
+     *
+     * @param groupId the group of the transaction
+     * @param chainId the chain of the transaction
+     * @param to the contract address, empty to deploy
+     * @param input the abi encoded input
+     * @param abi the contract abi, only needed to deploy
+     * @param blockLimit the block limit of the transaction
+     * @return the transactionData
+     */
+    public static TarsTransactionData create(
+            String groupId, String chainId, String to, byte[] input, String abi, long blockLimit) {
+        return new TarsTransactionData(
+                groupId, chainId, to, input, abi, blockLimit, generateNonce());
+    }
+
+    /** @return a random 128 bits nonce in decimal, as the nonce of the native transactionData */
+    public static String generateNonce() {
+        return new BigInteger(NONCE_BITS, NONCE_RANDOM).toString();
+    }
+
+    private static byte[] toBytes(String value) {
+        return value == null || value.isEmpty() ? EMPTY : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** @return the Tars encoded transactionData, the same as encodeTransactionData of the jni */
+    public byte[] encode() {
+        TarsOutput output = new TarsOutput(encodedSizeHint());
+        writeTo(output);
+        return output.toByteArray();
+    }
+
+    private void writeTo(TarsOutput output) {
+        output.write(VERSION, 1);
+        output.writeString(chainId, 2);
+        output.writeString(groupId, 3);
+        output.write(blockLimit, 4);
+        output.writeString(nonce, 5);
+        if (to.length > 0) {
+            output.writeString(to, 6);
+        }
+        output.writeBytes(input, 7);
+        if (abi.length > 0) {
+            output.writeString(abi, 8);
+        }
+    }
+
+    /**
+     * Hash the transactionData, the same as calcTransactionDataHash of the jni
+     *
+     * @param hashImpl the hash of the crypto type, e.g. JavaKeccak256 or JavaSM3Hash
+     * @return the hash
+     */
+    public byte[] calculateHash(Hash hashImpl) {
+        TarsOutput output =
+                new TarsOutput(
+                        12
+                                + chainId.length
+                                + groupId.length
+                                + nonce.length
+                                + to.length
+                                + input.length
+                                + abi.length);
+        output.writeRaw(VERSION, 4);
+        output.writeRaw(chainId);
+        output.writeRaw(groupId);
+        output.writeRaw(blockLimit, 8);
+        output.writeRaw(nonce);
+        output.writeRaw(to);
+        output.writeRaw(input);
+        output.writeRaw(abi);
+        return hashImpl.hash(output.toByteArray());
+    }
+
+    /**
+     * Encode the signed transaction, the same as createSignedTransaction of the jni
+     *
+     * @param hash the hash of this transactionData
+     * @param signature the encoded signature of the hash
+     * @param attribute transaction attribute
+     * @param extraData the extra data of the transaction, not signed
+     * @return the Tars encoded transaction
+     */
+    public byte[] encodeSignedTransaction(
+            byte[] hash, byte[] signature, int attribute, String extraData) {
+        byte[] extraDataBytes = toBytes(extraData);
+        TarsOutput output =
+                new TarsOutput(
+                        encodedSizeHint()
+                                + hash.length
+                                + signature.length
+                                + extraDataBytes.length
+                                + 32);
+        output.writeStructBegin(TX_TAG_DATA);
+        writeTo(output);
+        output.writeStructEnd();
+        output.writeBytes(hash, TX_TAG_DATA_HASH);
+        output.writeBytes(signature, TX_TAG_SIGNATURE);
+        if (attribute != 0) {
+            output.write(attribute, TX_TAG_ATTRIBUTE);
+        }
+        if (extraDataBytes.length > 0) {
+            output.writeString(extraDataBytes, TX_TAG_EXTRA_DATA);
+        }
+        return output.toByteArray();
+    }
+
+    // the heads and lengths take at most 48 bytes
+    private int encodedSizeHint() {
+        return 48
+                + chainId.length
+                + groupId.length
+                + nonce.length
+                + to.length
+                + input.length
+                + abi.length;
+    }
+
+    public String getGroupId() {
+        return new String(groupId, StandardCharsets.UTF_8);
+    }
+
+    public String getChainId() {
+        return new String(chainId, StandardCharsets.UTF_8);
+    }
+
+    public String getTo() {
+        return new String(to, StandardCharsets.UTF_8);
+    }
+
+    public byte[] getInput() {
+        return input;
+    }
+
+    public String getAbi() {
+        return new String(abi, StandardCharsets.UTF_8);
+    }
+
+    public long getBlockLimit() {
+        return blockLimit;
+    }
+
+    public String getNonce() {
+        return new String(nonce, StandardCharsets.UTF_8);
+    }
+}
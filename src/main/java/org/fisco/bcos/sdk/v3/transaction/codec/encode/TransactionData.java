@@ -0,0 +1,231 @@
+/*
+ * Copyright 2014-2020  [fisco-dev]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package org.fisco.bcos.sdk.v3.transaction.codec.encode;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.fisco.bcos.sdk.jni.common.JniException;
+import org.fisco.bcos.sdk.jni.utilities.tx.TransactionBuilderJniObj;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Owns a native transactionData handle of TransactionBuilderJniObj and destroys it on close().
+ *
+ * <p>A handle never closed is destroyed by a cleaner thread once the wrapper is garbage collected,
+ * and counted as leaked. With the leak detection on, which is the default if the debug log of this
+ * class is enabled, the allocation site of every live handle is recorded and logged when it leaks.
+ *
+ * <p>The handles are not pooled: the native api can't reset the fields of a handle, and a reused
+ * handle would keep the nonce of the transaction built before.
+ */
+public final class TransactionData implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionData.class);
+
+    private static final ReferenceQueue<TransactionData> REFERENCE_QUEUE = new ReferenceQueue<>();
+    // keeps the phantom references reachable until the handle is closed or cleaned
+    private static final Set<Handle> LIVE_HANDLES = ConcurrentHashMap.newKeySet();
+
+    private static final LongAdder createdHandles = new LongAdder();
+    private static final LongAdder leakedHandles = new LongAdder();
+    private static volatile boolean leakDetection = logger.isDebugEnabled();
+
+    static {
+        Thread cleaner = new Thread(TransactionData::clean, "transaction-data-cleaner");
+        cleaner.setDaemon(true);
+        cleaner.start();
+    }
+
+    private final Handle handle;
+
+    /** The native pointer of a wrapper, cleaned after the wrapper is unreachable */
+    private static class Handle extends PhantomReference<TransactionData> {
+        private final AtomicLong pointer;
+        private final Throwable allocationSite;
+
+        private Handle(TransactionData referent, long pointer) {
+            super(referent, REFERENCE_QUEUE);
+            this.pointer = new AtomicLong(pointer);
+            this.allocationSite =
+                    leakDetection ? new Throwable("transactionData allocated at") : null;
+        }
+
+        /** @return the pointer if not yet destroyed or released, 0 otherwise */
+        private long take() {
+            long taken = pointer.getAndSet(0);
+            if (taken != 0) {
+                LIVE_HANDLES.remove(this);
+                clear();
+            }
+            return taken;
+        }
+
+        private String getAllocationSite() {
+            if (allocationSite == null) {
+                return "unknown, enable the leak detection to record the allocation sites";
+            }
+            StackTraceElement[] stackTrace = allocationSite.getStackTrace();
+            // skip the frames of this class
+            for (StackTraceElement element : stackTrace) {
+                if (!element.getClassName().startsWith(TransactionData.class.getName())) {
+                    return element.toString();
+                }
+            }
+            return stackTrace.length > 0 ? stackTrace[0].toString() : "unknown";
+        }
+    }
+
+    private TransactionData(long pointer) {
+        this.handle = new Handle(this, pointer);
+        LIVE_HANDLES.add(this.handle);
+        createdHandles.increment();
+    }
+
+    /**
+     * Build a transactionData, the arguments are the same as {@link
+     * TransactionBuilderJniObj#createTransactionData}
+     *
+     * @param groupId the group of the transaction
+     * @param chainId the chain of the transaction
+     * @param to the contract address, empty to deploy
+     * @param hexInput the hex encoded abi input
+     * @param abi the contract abi, only needed to deploy
+     * @param blockLimit the block limit of the transaction
+     * @return the transactionData, close it after use
+     * @throws JniException throw when build transaction error
+     */
+    public static TransactionData create(
+            String groupId, String chainId, String to, String hexInput, String abi, long blockLimit)
+            throws JniException {
+        return new TransactionData(
+                TransactionBuilderJniObj.createTransactionData(
+                        groupId, chainId, to, hexInput, abi, blockLimit));
+    }
+
+    /**
+     * Take the ownership of a native transactionData handle
+     *
+     * @param pointer the handle created by TransactionBuilderJniObj
+     * @return the transactionData destroying the handle on close
+     */
+    public static TransactionData wrap(long pointer) {
+        if (pointer == 0) {
+            throw new IllegalArgumentException("null transactionData pointer");
+        }
+        return new TransactionData(pointer);
+    }
+
+    /** @return the native handle to pass to TransactionBuilderJniObj and the encoder */
+    public long getPointer() {
+        long pointer = handle.pointer.get();
+        if (pointer == 0) {
+            throw new IllegalStateException("transactionData already closed or released");
+        }
+        return pointer;
+    }
+
+    /**
+     * Give up the ownership of the native handle, the caller must destroy it
+     *
+     * @return the native handle
+     */
+    public long release() {
+        long pointer = handle.take();
+        if (pointer == 0) {
+            throw new IllegalStateException("transactionData already closed or released");
+        }
+        return pointer;
+    }
+
+    public boolean isClosed() {
+        return handle.pointer.get() == 0;
+    }
+
+    /** Destroy the native handle, closing it again does nothing */
+    @Override
+    public void close() {
+        long pointer = handle.take();
+        if (pointer != 0) {
+            destroy(pointer);
+        }
+    }
+
+    private static void destroy(long pointer) {
+        try {
+            TransactionBuilderJniObj.destroyTransactionData(pointer);
+        } catch (JniException e) {
+            logger.warn("destroy transactionData failed, e: ", e);
+        }
+    }
+
+    private static void clean() {
+        while (true) {
+            Handle handle;
+            try {
+                handle = (Handle) REFERENCE_QUEUE.remove();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long pointer = handle.take();
+            if (pointer == 0) {
+                continue;
+            }
+            leakedHandles.increment();
+            logger.warn(
+                    "transactionData not closed, destroyed by the cleaner, allocated at: {}",
+                    handle.getAllocationSite());
+            destroy(pointer);
+        }
+    }
+
+    /** @param enabled record the allocation site of the handles created from now on */
+    public static void setLeakDetection(boolean enabled) {
+        leakDetection = enabled;
+    }
+
+    public static boolean isLeakDetection() {
+        return leakDetection;
+    }
+
+    /** @return the handles neither closed, released nor cleaned */
+    public static int getLiveHandles() {
+        return LIVE_HANDLES.size();
+    }
+
+    public static long getCreatedHandles() {
+        return createdHandles.sum();
+    }
+
+    /** @return the handles destroyed by the cleaner since never closed */
+    public static long getLeakedHandles() {
+        return leakedHandles.sum();
+    }
+
+    /** @return the number of the live handles per allocation site */
+    public static Map<String, Integer> getLiveAllocationSites() {
+        Map<String, Integer> sites = new HashMap<>();
+        for (Handle handle : LIVE_HANDLES) {
+            sites.merge(handle.getAllocationSite(), 1, Integer::sum);
+        }
+        return sites;
+    }
+}
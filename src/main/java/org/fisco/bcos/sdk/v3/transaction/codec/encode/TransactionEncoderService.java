@@ -14,12 +14,29 @@
  */
 package org.fisco.bcos.sdk.v3.transaction.codec.encode;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.fisco.bcos.sdk.jni.common.JniException;
 import org.fisco.bcos.sdk.jni.utilities.tx.TransactionBuilderJniObj;
 import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.crypto.hash.Hash;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaKeccak256;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaSM3Hash;
 import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
 import org.fisco.bcos.sdk.v3.crypto.signature.Signature;
 import org.fisco.bcos.sdk.v3.crypto.signature.SignatureResult;
+import org.fisco.bcos.sdk.v3.model.CryptoType;
+import org.fisco.bcos.sdk.v3.transaction.model.dto.EncodedTransaction;
+import org.fisco.bcos.sdk.v3.transaction.model.dto.TxSpec;
 import org.fisco.bcos.sdk.v3.transaction.signer.RemoteSignProviderInterface;
 import org.fisco.bcos.sdk.v3.transaction.signer.TransactionSignerFactory;
 import org.fisco.bcos.sdk.v3.transaction.signer.TransactionSignerInterface;
@@ -29,26 +46,59 @@ import org.slf4j.LoggerFactory;
 
 public class TransactionEncoderService implements TransactionEncoderInterface {
     protected static Logger logger = LoggerFactory.getLogger(TransactionEncoderService.class);
+    // the batches no larger than this are signed on the calling thread
+    private static final int MIN_BATCH_SIZE_PER_TASK = 4;
     private final Signature signature;
     private final TransactionSignerInterface transactionSignerService;
     private final CryptoSuite cryptoSuite;
+    private final boolean remoteSign;
+    private final Hash javaHash;
+    private volatile boolean useJavaBuilder = false;
+    private volatile Executor batchExecutor;
 
     public TransactionEncoderService(CryptoSuite cryptoSuite) {
         super();
         this.cryptoSuite = cryptoSuite;
+        this.javaHash = createJavaHash(cryptoSuite);
         this.signature = cryptoSuite.getSignatureImpl();
         this.transactionSignerService =
                 TransactionSignerFactory.createTransactionSigner(this.signature);
+        this.remoteSign = false;
     }
 
     public TransactionEncoderService(
             CryptoSuite cryptoSuite, RemoteSignProviderInterface transactionSignProvider) {
         super();
         this.cryptoSuite = cryptoSuite;
+        this.javaHash = createJavaHash(cryptoSuite);
         this.signature = cryptoSuite.getSignatureImpl();
         this.transactionSignerService =
                 TransactionSignerFactory.createTransactionSigner(
                         transactionSignProvider, cryptoSuite.getCryptoTypeConfig());
+        this.remoteSign = true;
+    }
+
+    private static Hash createJavaHash(CryptoSuite cryptoSuite) {
+        return cryptoSuite.getCryptoTypeConfig() == CryptoType.ECDSA_TYPE
+                ? new JavaKeccak256()
+                : new JavaSM3Hash();
+    }
+
+    /**
+     * Build and hash the transactions of encodeAndSignBatch and of the TransactionProcessor in java
+     * with TarsTransactionData, instead of the native transactionData of the jni. Only the
+     * signature is still computed by the signature implementation of the crypto suite.
+     *
+     * @param useJavaBuilder true to skip the jni to build and hash the transactions
+     * @return this encoder
+     */
+    public TransactionEncoderService setUseJavaBuilder(boolean useJavaBuilder) {
+        this.useJavaBuilder = useJavaBuilder;
+        return this;
+    }
+
+    public boolean isUseJavaBuilder() {
+        return this.useJavaBuilder;
     }
 
     @Override
@@ -103,8 +153,209 @@ public class TransactionEncoderService implements TransactionEncoderInterface {
         return encodeToTransactionBytes(transactionData, hash, result, attribute);
     }
 
+    /**
+     * Hash a java transactionData with the java hash of the crypto type
+     *
+     * @param transactionData the transactionData
+     * @return the hash, the same as the hash of the jni
+     */
+    public byte[] encodeAndHashBytes(TarsTransactionData transactionData) {
+        return transactionData.calculateHash(this.javaHash);
+    }
+
+    /**
+     * Hash, sign and encode a java transactionData without the jni
+     *
+     * @param transactionData the transactionData
+     * @param cryptoKeyPair keypair
+     * @param attribute transaction attribute
+     * @param extraData the extra data of the transaction, not signed
+     * @return the hash and the Tars encoded signed transaction
+     */
+    public EncodedTransaction encodeAndSign(
+            TarsTransactionData transactionData,
+            CryptoKeyPair cryptoKeyPair,
+            int attribute,
+            String extraData) {
+        byte[] hash = this.encodeAndHashBytes(transactionData);
+        byte[] signatureBytes = this.signHash(hash, cryptoKeyPair);
+        return new EncodedTransaction(
+                hash,
+                transactionData.encodeSignedTransaction(
+                        hash, signatureBytes, attribute, extraData));
+    }
+
+    private byte[] signHash(byte[] hash, CryptoKeyPair cryptoKeyPair) {
+        return remoteSign
+                ? this.transactionSignerService.sign(hash, cryptoKeyPair).encode()
+                : this.signature.signHash(hash, cryptoKeyPair);
+    }
+
+    /**
+     * Build, hash and sign the transactions in parallel with the batch executor, which is a shared
+     * daemon pool of one thread per processor by default, so the blocking jni calls do not occupy
+     * the common fork join pool. The hashes and the signatures stay bytes between the jni calls,
+     * only the 32 bytes hash and the signature are hex encoded to assemble the signed transaction.
+     * With setUseJavaBuilder the jni is not called at all.
+     *
+     * @param txSpecs the transactions to build
+     * @param cryptoKeyPair keypair
+     * @return the signed transactions in the order of txSpecs
+     * @throws JniException throw when build or encode a transaction error
+     * @throws IllegalArgumentException throw when build a transaction error with the java builder
+     */
+    public List<EncodedTransaction> encodeAndSignBatch(
+            List<TxSpec> txSpecs, CryptoKeyPair cryptoKeyPair) throws JniException {
+        Executor executor = this.batchExecutor;
+        return encodeAndSignBatch(
+                txSpecs,
+                cryptoKeyPair,
+                executor == null ? DefaultBatchExecutor.INSTANCE : executor);
+    }
+
+    /**
+     * Build, hash and sign the transactions in parallel with the given executor
+     *
+     * @param txSpecs the transactions to build
+     * @param cryptoKeyPair keypair
+     * @param executor the executor to run the sign tasks
+     * @return the signed transactions in the order of txSpecs
+     * @throws JniException throw when build or encode a transaction error
+     * @throws IllegalArgumentException throw when build a transaction error with the java builder
+     */
+    public List<EncodedTransaction> encodeAndSignBatch(
+            List<TxSpec> txSpecs, CryptoKeyPair cryptoKeyPair, Executor executor)
+            throws JniException {
+        int size = txSpecs.size();
+        EncodedTransaction[] results = new EncodedTransaction[size];
+        int parallelism = getParallelism(executor);
+        // a few tasks per thread to balance the load
+        int taskSize =
+                Math.max(MIN_BATCH_SIZE_PER_TASK, (size + parallelism * 4 - 1) / (parallelism * 4));
+        try {
+            if (size <= taskSize) {
+                encodeAndSignRange(txSpecs, cryptoKeyPair, results, 0, size);
+            } else {
+                List<CompletableFuture<Void>> tasks = new ArrayList<>();
+                for (int start = 0; start < size; start += taskSize) {
+                    int from = start;
+                    int to = Math.min(size, start + taskSize);
+                    tasks.add(
+                            CompletableFuture.runAsync(
+                                    () ->
+                                            encodeAndSignRange(
+                                                    txSpecs, cryptoKeyPair, results, from, to),
+                                    executor));
+                }
+                CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof JniException) {
+                throw (JniException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return Arrays.asList(results);
+    }
+
+    private void encodeAndSignRange(
+            List<TxSpec> txSpecs,
+            CryptoKeyPair cryptoKeyPair,
+            EncodedTransaction[] results,
+            int from,
+            int to) {
+        for (int i = from; i < to; i++) {
+            try {
+                results[i] = encodeAndSign(txSpecs.get(i), cryptoKeyPair);
+            } catch (JniException e) {
+                throw new CompletionException(e);
+            }
+        }
+    }
+
+    private static int getParallelism(Executor executor) {
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        }
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Set the executor used by {@link #encodeAndSignBatch(List, CryptoKeyPair)}, e.g. a pool sized
+     * from the ThreadPoolConfig of the sdk
+     *
+     * @param batchExecutor the executor, null to use the shared default pool
+     * @return this encoder
+     */
+    public TransactionEncoderService setBatchExecutor(Executor batchExecutor) {
+        this.batchExecutor = batchExecutor;
+        return this;
+    }
+
+    private EncodedTransaction encodeAndSign(TxSpec txSpec, CryptoKeyPair cryptoKeyPair)
+            throws JniException {
+        if (this.useJavaBuilder) {
+            return this.encodeAndSign(
+                    TarsTransactionData.create(
+                            txSpec.getGroupId(),
+                            txSpec.getChainId(),
+                            txSpec.getTo(),
+                            txSpec.getInput(),
+                            txSpec.getAbi(),
+                            txSpec.getBlockLimit()),
+                    cryptoKeyPair,
+                    txSpec.getAttribute(),
+                    txSpec.getExtraData());
+        }
+        long transactionData =
+                TransactionBuilderJniObj.createTransactionData(
+                        txSpec.getGroupId(),
+                        txSpec.getChainId(),
+                        txSpec.getTo(),
+                        Hex.toHexString(txSpec.getInput()),
+                        txSpec.getAbi(),
+                        txSpec.getBlockLimit());
+        try {
+            byte[] hash = this.encodeAndHashBytes(transactionData);
+            byte[] signatureBytes = this.signHash(hash, cryptoKeyPair);
+            String signedTransaction =
+                    txSpec.getExtraData().isEmpty()
+                            ? TransactionBuilderJniObj.createSignedTransaction(
+                                    transactionData,
+                                    Hex.toHexString(signatureBytes),
+                                    Hex.toHexString(hash),
+                                    txSpec.getAttribute())
+                            : TransactionBuilderJniObj.createSignedTransaction(
+                                    transactionData,
+                                    Hex.toHexString(signatureBytes),
+                                    Hex.toHexString(hash),
+                                    txSpec.getAttribute(),
+                                    txSpec.getExtraData());
+            return new EncodedTransaction(hash, Hex.decode(signedTransaction));
+        } finally {
+            TransactionBuilderJniObj.destroyTransactionData(transactionData);
+        }
+    }
+
     /** @return the signature */
     public Signature getSignature() {
         return this.signature;
     }
+
+    // created on the first batch only
+    private static class DefaultBatchExecutor {
+        private static final ExecutorService INSTANCE =
+                Executors.newFixedThreadPool(
+                        Runtime.getRuntime().availableProcessors(),
+                        new BasicThreadFactory.Builder()
+                                .namingPattern("tx-batch-sign-%d")
+                                .daemon(true)
+                                .build());
+    }
 }
@@ -21,6 +21,7 @@ import java.math.BigInteger;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.fisco.bcos.sdk.jni.common.JniException;
@@ -45,6 +46,7 @@ import org.fisco.bcos.sdk.v3.model.callback.TransactionCallback;
 import org.fisco.bcos.sdk.v3.transaction.codec.decode.ReceiptParser;
 import org.fisco.bcos.sdk.v3.transaction.codec.decode.TransactionDecoderInterface;
 import org.fisco.bcos.sdk.v3.transaction.codec.decode.TransactionDecoderService;
+import org.fisco.bcos.sdk.v3.transaction.codec.encode.TransactionData;
 import org.fisco.bcos.sdk.v3.transaction.model.dto.CallRequest;
 import org.fisco.bcos.sdk.v3.transaction.model.dto.CallResponse;
 import org.fisco.bcos.sdk.v3.transaction.model.dto.ResultCodeEnum;
@@ -100,6 +102,19 @@ public class AssembleTransactionProcessor extends TransactionProcessor
         this.contractLoader = new ContractLoader(contractName, abi, bin);
     }
 
+    /**
+     * Complete the futures of the async sends and deploys on the executor, the common ForkJoinPool
+     * by default
+     *
+     * @param completionExecutor the executor, null to complete on the response thread of the sdk
+     */
+    public void setCompletionExecutor(Executor completionExecutor) {
+        if (this.transactionPusher instanceof TransactionPusherService) {
+            ((TransactionPusherService) this.transactionPusher)
+                    .setCompletionExecutor(completionExecutor);
+        }
+    }
+
     @Override
     public String deployOnly(String abi, String bin, List<Object> params, String path)
             throws ContractCodecException {
@@ -1021,6 +1036,51 @@ public class AssembleTransactionProcessor extends TransactionProcessor
                 blockLimit.longValue());
     }
 
+    /**
+     * get raw transaction exclude constructor, the native handle is destroyed on close
+     *
+     * @param to target address
+     * @param abi contract abi
+     * @param functionName function name
+     * @param params contract function parameters
+     * @return the transactionData, close it after use
+     * @throws ContractCodecException throw when encode the function error
+     * @throws JniException throw when jni encode transaction error
+     */
+    public TransactionData getTransactionData(
+            String to, String abi, String functionName, List<Object> params)
+            throws ContractCodecException, JniException {
+        return TransactionData.create(
+                this.groupId,
+                this.chainId,
+                to,
+                Hex.toHexString(this.contractCodec.encodeMethod(abi, functionName, params)),
+                "",
+                client.getBlockLimit().longValue());
+    }
+
+    /**
+     * get constructor raw transaction, the native handle is destroyed on close
+     *
+     * @param abi contract abi
+     * @param bin contract binary
+     * @param params contract function parameters
+     * @return the transactionData, close it after use
+     * @throws ContractCodecException throw when encode deploy error
+     * @throws JniException throw when jni encode transaction error
+     */
+    public TransactionData getTransactionDataForConstructor(
+            String abi, String bin, List<Object> params)
+            throws ContractCodecException, JniException {
+        return TransactionData.create(
+                this.groupId,
+                this.chainId,
+                "",
+                Hex.toHexString(this.contractCodec.encodeConstructor(abi, bin, params)),
+                abi,
+                client.getBlockLimit().longValue());
+    }
+
     private CallResponse parseCallResponseStatus(Call.CallOutput callOutput)
             throws TransactionBaseException {
         CallResponse callResponse = new CallResponse();
@@ -571,7 +571,8 @@ public interface AssembleTransactionProcessorInterface {
      * @param abi contract abi, which could be obtained by compiling solidity contract.
      * @param bin contract binary
      * @param params contract function parameters
-     * @return raw transaction
+     * @return the native raw transaction, destroy it by TransactionBuilderJniObj or wrap it in
+     *     TransactionData
      * @throws ContractCodecException throw when encode deploy error
      * @throws JniException throw when jni encode transaction error
      */
@@ -585,7 +586,8 @@ public interface AssembleTransactionProcessorInterface {
      * @param abi contract abi, which could be obtained by compiling solidity contract.
      * @param bin contract binary
      * @param params contract function parameters
-     * @return raw transaction
+     * @return the native raw transaction, destroy it by TransactionBuilderJniObj or wrap it in
+     *     TransactionData
      * @throws ContractCodecException throw when encode deploy error
      * @throws JniException throw when jni encode transaction error
      */
@@ -600,7 +602,8 @@ public interface AssembleTransactionProcessorInterface {
      * @param abi contract abi, which could be obtained by compiling solidity contract.
      * @param functionName function name
      * @param params contract function parameters
-     * @return raw transaction
+     * @return the native raw transaction, destroy it by TransactionBuilderJniObj or wrap it in
+     *     TransactionData
      * @throws ContractCodecException throw when encode deploy error
      * @throws JniException throw when jni encode transaction error
      */
@@ -615,7 +618,8 @@ public interface AssembleTransactionProcessorInterface {
      * @param abi contract abi, which could be obtained by compiling solidity contract.
      * @param functionName function name
      * @param params contract function parameters
-     * @return raw transaction
+     * @return the native raw transaction, destroy it by TransactionBuilderJniObj or wrap it in
+     *     TransactionData
      * @throws ContractCodecException throw when encode deploy error
      * @throws JniException throw when jni encode transaction error
      */
@@ -7,13 +7,13 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import org.fisco.bcos.sdk.jni.common.JniException;
-import org.fisco.bcos.sdk.jni.utilities.tx.TransactionBuilderJniObj;
 import org.fisco.bcos.sdk.v3.client.Client;
 import org.fisco.bcos.sdk.v3.client.protocol.model.TransactionAttribute;
 import org.fisco.bcos.sdk.v3.codec.ContractCodecException;
 import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
 import org.fisco.bcos.sdk.v3.crypto.signature.SignatureResult;
 import org.fisco.bcos.sdk.v3.model.TransactionReceipt;
+import org.fisco.bcos.sdk.v3.transaction.codec.encode.TransactionData;
 import org.fisco.bcos.sdk.v3.transaction.codec.encode.TransactionEncoderService;
 import org.fisco.bcos.sdk.v3.transaction.model.dto.TransactionResponse;
 import org.fisco.bcos.sdk.v3.transaction.model.exception.NoSuchTransactionFileException;
@@ -60,25 +60,28 @@ public class AssembleTransactionWithRemoteSignProcessor extends AssembleTransact
             throws ContractCodecException {
         try {
             byte[] input = this.contractCodec.encodeConstructor(abi, bin, params);
-            long transactionData =
-                    TransactionBuilderJniObj.createTransactionData(
+            byte[] bytes;
+            try (TransactionData transactionData =
+                    TransactionData.create(
                             this.groupId,
                             this.chainId,
                             Objects.nonNull(path) ? path : "",
                             Hex.toHexString(input),
                             abi,
-                            client.getBlockLimit().longValue());
-            byte[] rawTxHash = this.transactionEncoder.encodeAndHashBytes(transactionData);
-            SignatureResult signatureResult =
-                    transactionSignProvider.requestForSign(
-                            rawTxHash, this.cryptoSuite.getCryptoTypeConfig());
-            byte[] bytes =
-                    transactionEncoder.encodeToTransactionBytes(
-                            transactionData,
-                            signatureResult,
-                            client.isWASM()
-                                    ? LIQUID_CREATE | LIQUID_SCALE_CODEC
-                                    : TransactionAttribute.EVM_ABI_CODEC);
+                            client.getBlockLimit().longValue())) {
+                byte[] rawTxHash =
+                        this.transactionEncoder.encodeAndHashBytes(transactionData.getPointer());
+                SignatureResult signatureResult =
+                        transactionSignProvider.requestForSign(
+                                rawTxHash, this.cryptoSuite.getCryptoTypeConfig());
+                bytes =
+                        transactionEncoder.encodeToTransactionBytes(
+                                transactionData.getPointer(),
+                                signatureResult,
+                                client.isWASM()
+                                        ? LIQUID_CREATE | LIQUID_SCALE_CODEC
+                                        : TransactionAttribute.EVM_ABI_CODEC);
+            }
             TransactionResponse transactionResponse =
                     this.deployAndGetResponse(abi, Hex.toHexString(bytes));
             if (Objects.nonNull(transactionResponse.getTransactionReceipt())
@@ -114,8 +117,11 @@ public class AssembleTransactionWithRemoteSignProcessor extends AssembleTransact
             List<Object> params,
             RemoteSignCallbackInterface remoteSignCallbackInterface)
             throws ContractCodecException, JniException {
-        long transactionData = this.getRawTransactionForConstructor(abi, bin, params);
-        byte[] rawTxHash = this.transactionEncoder.encodeAndHashBytes(transactionData);
+        byte[] rawTxHash;
+        try (TransactionData transactionData =
+                this.getTransactionDataForConstructor(abi, bin, params)) {
+            rawTxHash = this.transactionEncoder.encodeAndHashBytes(transactionData.getPointer());
+        }
         this.transactionSignProvider.requestForSignAsync(
                 rawTxHash, this.cryptoSuite.getCryptoTypeConfig(), remoteSignCallbackInterface);
     }
@@ -124,13 +130,12 @@ public class AssembleTransactionWithRemoteSignProcessor extends AssembleTransact
     public CompletableFuture<TransactionReceipt> deployAsync(
             String abi, String bin, List<Object> params)
             throws ContractCodecException, JniException {
-        long transactionData = this.getRawTransactionForConstructor(abi, bin, params);
-        byte[] rawTxHash = this.transactionEncoder.encodeAndHashBytes(transactionData);
+        TransactionData transactionData = this.getTransactionDataForConstructor(abi, bin, params);
         int txAttribute = 0;
         if (client.isWASM()) {
             txAttribute = LIQUID_CREATE | LIQUID_SCALE_CODEC;
         }
-        return this.signAndPush(transactionData, rawTxHash, txAttribute);
+        return signAndPush(transactionData, txAttribute);
     }
 
     @Override
@@ -194,8 +199,11 @@ public class AssembleTransactionWithRemoteSignProcessor extends AssembleTransact
             List<Object> params,
             RemoteSignCallbackInterface remoteSignCallbackInterface)
             throws ContractCodecException, JniException {
-        long transactionData = this.getRawTransaction(to, abi, functionName, params);
-        byte[] rawTxHash = this.transactionEncoder.encodeAndHashBytes(transactionData);
+        byte[] rawTxHash;
+        try (TransactionData transactionData =
+                this.getTransactionData(to, abi, functionName, params)) {
+            rawTxHash = this.transactionEncoder.encodeAndHashBytes(transactionData.getPointer());
+        }
         this.transactionSignProvider.requestForSignAsync(
                 rawTxHash, this.cryptoSuite.getCryptoTypeConfig(), remoteSignCallbackInterface);
     }
@@ -205,19 +213,22 @@ public class AssembleTransactionWithRemoteSignProcessor extends AssembleTransact
             String to, String abi, String functionName, List<Object> params)
             throws ContractCodecException {
         try {
-
-            long rawTransaction = this.getRawTransaction(to, abi, functionName, params);
-            byte[] rawTxHash = this.transactionEncoder.encodeAndHashBytes(rawTransaction);
             int txAttribute = 0;
             if (client.isWASM()) {
                 txAttribute = LIQUID_SCALE_CODEC;
             }
-            SignatureResult signatureResult =
-                    this.transactionSignProvider.requestForSign(
-                            rawTxHash, cryptoSuite.getCryptoTypeConfig());
-            byte[] transactionBytes =
-                    this.transactionEncoder.encodeToTransactionBytes(
-                            rawTransaction, signatureResult, txAttribute);
+            byte[] transactionBytes;
+            try (TransactionData rawTransaction =
+                    this.getTransactionData(to, abi, functionName, params)) {
+                byte[] rawTxHash =
+                        this.transactionEncoder.encodeAndHashBytes(rawTransaction.getPointer());
+                SignatureResult signatureResult =
+                        this.transactionSignProvider.requestForSign(
+                                rawTxHash, cryptoSuite.getCryptoTypeConfig());
+                transactionBytes =
+                        this.transactionEncoder.encodeToTransactionBytes(
+                                rawTransaction.getPointer(), signatureResult, txAttribute);
+            }
             TransactionReceipt transactionReceipt =
                     this.transactionPusher.push(Hex.toHexString(transactionBytes));
             if (Objects.nonNull(transactionReceipt)
@@ -243,18 +254,38 @@ public class AssembleTransactionWithRemoteSignProcessor extends AssembleTransact
     public CompletableFuture<TransactionReceipt> sendTransactionAsync(
             String to, String abi, String functionName, List<Object> params)
             throws ContractCodecException, JniException {
-        long transactionData = this.getRawTransaction(to, abi, functionName, params);
-        byte[] rawTxHash = this.transactionEncoder.encodeAndHashBytes(transactionData);
+        TransactionData transactionData = this.getTransactionData(to, abi, functionName, params);
         int txAttribute = 0;
         if (client.isWASM()) {
             txAttribute = LIQUID_SCALE_CODEC;
         }
-        return this.signAndPush(transactionData, rawTxHash, txAttribute);
+        return signAndPush(transactionData, txAttribute);
+    }
+
+    /** sign and push the transactionData owned by the processor, closed once pushed */
+    private CompletableFuture<TransactionReceipt> signAndPush(
+            TransactionData transactionData, int txAttribute) throws JniException {
+        CompletableFuture<TransactionReceipt> future;
+        try {
+            byte[] rawTxHash =
+                    this.transactionEncoder.encodeAndHashBytes(transactionData.getPointer());
+            future = this.signAndPush(transactionData.getPointer(), rawTxHash, txAttribute);
+        } catch (JniException | RuntimeException e) {
+            transactionData.close();
+            throw e;
+        }
+        return future.whenComplete((receipt, e) -> transactionData.close());
     }
 
     @Override
     public TransactionReceipt encodeAndPush(
             long transactionData, String signatureStr, int txAttribute) throws JniException {
+        return this.transactionPusher.push(
+                encodeSignedTransaction(transactionData, signatureStr, txAttribute));
+    }
+
+    private String encodeSignedTransaction(
+            long transactionData, String signatureStr, int txAttribute) throws JniException {
         SignatureResult signatureResult =
                 TransactionSignerService.decodeSignatureString(
                         signatureStr,
@@ -264,7 +295,7 @@ public class AssembleTransactionWithRemoteSignProcessor extends AssembleTransact
         byte[] signedTransaction =
                 this.transactionEncoder.encodeToTransactionBytes(
                         transactionData, rawTxHash, signatureResult, txAttribute);
-        return this.transactionPusher.push(Hex.toHexString(signedTransaction));
+        return Hex.toHexString(signedTransaction);
     }
 
     @Override
@@ -280,20 +311,22 @@ public class AssembleTransactionWithRemoteSignProcessor extends AssembleTransact
                     log.error("Request remote sign Error: {}", e.getMessage());
                     return null;
                 });
+        // the receipt is awaited by the callback of the push, not by a pool thread
         CompletableFuture<TransactionReceipt> cr =
-                future.thenApplyAsync(
+                future.thenCompose(
                         s -> {
                             if (s == null) {
                                 log.error("Request remote signature is null");
-                                return null;
+                                return CompletableFuture.completedFuture(null);
                             }
                             try {
-                                return this.encodeAndPush(
-                                        transactionData, s.convertToString(), txAttribute);
+                                return this.transactionPusher.pushAsync(
+                                        encodeSignedTransaction(
+                                                transactionData, s.convertToString(), txAttribute));
                             } catch (JniException e) {
                                 log.error("jni e: ", e);
                             }
-                            return null;
+                            return CompletableFuture.completedFuture(null);
                         });
         log.info("Sign and push over, wait for callback...");
         return cr;
@@ -0,0 +1,518 @@
+/*
+ * Copyright 2014-2020  [fisco-dev]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package org.fisco.bcos.sdk.v3.transaction.manager;
+
+import static org.fisco.bcos.sdk.v3.client.protocol.model.TransactionAttribute.LIQUID_SCALE_CODEC;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.fisco.bcos.sdk.jni.utilities.tx.TransactionBuilderJniObj;
+import org.fisco.bcos.sdk.v3.client.Client;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.codec.ContractCodec;
+import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.v3.crypto.signature.SignatureResult;
+import org.fisco.bcos.sdk.v3.model.TransactionReceipt;
+import org.fisco.bcos.sdk.v3.transaction.codec.decode.TransactionDecoderInterface;
+import org.fisco.bcos.sdk.v3.transaction.codec.decode.TransactionDecoderService;
+import org.fisco.bcos.sdk.v3.transaction.codec.encode.TransactionEncoderInterface;
+import org.fisco.bcos.sdk.v3.transaction.codec.encode.TransactionEncoderService;
+import org.fisco.bcos.sdk.v3.transaction.model.dto.ResultCodeEnum;
+import org.fisco.bcos.sdk.v3.transaction.model.dto.TransactionResponse;
+import org.fisco.bcos.sdk.v3.transaction.pusher.TransactionPusherService;
+import org.fisco.bcos.sdk.v3.transaction.signer.TransactionSignerFactory;
+import org.fisco.bcos.sdk.v3.transaction.signer.TransactionSignerInterface;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends transactions through the stages encode (abi encoding of the input) → build (jni transaction
+ * data and its hash) → sign → push → decode (receipt decoding), each stage run by its own threads
+ * and fed by a bounded queue. A full queue blocks the stage before it, so a slow node slows down
+ * submit() instead of piling up transactions in memory.
+ *
+ * <p>The push stage sends without waiting for the receipts, the transactions pushed and not yet
+ * decoded are bounded by the queue capacity of the decode stage.
+ */
+public class TransactionPipeline implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionPipeline.class);
+
+    public enum StageType {
+        ENCODE,
+        BUILD,
+        SIGN,
+        PUSH,
+        DECODE
+    }
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final Client client;
+    private final String groupId;
+    private final String chainId;
+    private final CryptoKeyPair cryptoKeyPair;
+    private final ContractCodec contractCodec;
+    private final TransactionEncoderInterface transactionEncoder;
+    private final TransactionSignerInterface transactionSigner;
+    private final TransactionPusherService transactionPusher;
+    private final TransactionDecoderInterface transactionDecoder;
+    private final int txAttribute;
+
+    private final Map<StageType, Stage> stages = new EnumMap<>(StageType.class);
+    private final List<Thread> workers = new ArrayList<>();
+    private Semaphore receiptPermits;
+    private volatile boolean running = false;
+    private volatile boolean closed = false;
+
+    /** A transaction passing through the stages */
+    private static class Task {
+        private final String to;
+        private final String abi;
+        private final String functionName;
+        private final List<Object> params;
+        private final CryptoKeyPair cryptoKeyPair;
+        private final CompletableFuture<TransactionResponse> future = new CompletableFuture<>();
+
+        private byte[] input;
+        private long transactionData;
+        private byte[] hash;
+        private String signedTransaction;
+        private TransactionReceipt receipt;
+
+        private Task(
+                String to,
+                String abi,
+                String functionName,
+                List<Object> params,
+                CryptoKeyPair cryptoKeyPair) {
+            this.to = to;
+            this.abi = abi;
+            this.functionName = functionName;
+            this.params = params;
+            this.cryptoKeyPair = cryptoKeyPair;
+        }
+    }
+
+    private interface TaskHandler {
+        void handle(Task task) throws Exception;
+    }
+
+    /** The threads and the input queue of a stage, with its throughput */
+    public static class Stage {
+        private final StageType type;
+        private int threads;
+        private int queueCapacity;
+        private BlockingQueue<Task> queue;
+        private TaskHandler handler;
+
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private volatile long startTimeNanos;
+
+        private Stage(StageType type, int threads, int queueCapacity) {
+            this.type = type;
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+        }
+
+        public StageType getType() {
+            return type;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        /** @return the transactions waiting in the queue of the stage */
+        public int getQueueSize() {
+            return queue == null ? 0 : queue.size();
+        }
+
+        /** @return the transactions handled by the stage, including the failed ones */
+        public long getProcessed() {
+            return processed.sum();
+        }
+
+        public long getFailed() {
+            return failed.sum();
+        }
+
+        /** @return the transactions handled per second since the pipeline started */
+        public double getThroughput() {
+            if (startTimeNanos == 0) {
+                return 0;
+            }
+            long elapsedNanos = System.nanoTime() - startTimeNanos;
+            return elapsedNanos <= 0 ? 0 : processed.sum() * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return type
+                    + "{threads="
+                    + threads
+                    + ", queue="
+                    + getQueueSize()
+                    + "/"
+                    + queueCapacity
+                    + ", processed="
+                    + getProcessed()
+                    + ", failed="
+                    + getFailed()
+                    + ", throughput="
+                    + String.format("%.1f", getThroughput())
+                    + "/s}";
+        }
+    }
+
+    public TransactionPipeline(Client client, CryptoKeyPair cryptoKeyPair) {
+        this(client, cryptoKeyPair, client.getGroup(), client.getChainId());
+    }
+
+    public TransactionPipeline(
+            Client client, CryptoKeyPair cryptoKeyPair, String groupId, String chainId) {
+        CryptoSuite cryptoSuite = client.getCryptoSuite();
+        this.client = client;
+        this.groupId = groupId;
+        this.chainId = chainId;
+        this.cryptoKeyPair = cryptoKeyPair;
+        this.contractCodec = new ContractCodec(cryptoSuite, client.isWASM());
+        this.transactionEncoder = new TransactionEncoderService(cryptoSuite);
+        this.transactionSigner =
+                TransactionSignerFactory.createTransactionSigner(cryptoSuite.getSignatureImpl());
+        // the receipt is only queued for the decode stage, so no thread hop on completion
+        this.transactionPusher = new TransactionPusherService(client, null);
+        this.transactionDecoder = new TransactionDecoderService(cryptoSuite, client.isWASM());
+        this.txAttribute = client.isWASM() ? LIQUID_SCALE_CODEC : 0;
+
+        int cpuThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        for (StageType type : StageType.values()) {
+            int threads = type == StageType.PUSH ? 1 : cpuThreads;
+            stages.put(type, new Stage(type, threads, DEFAULT_QUEUE_CAPACITY));
+        }
+    }
+
+    /**
+     * Size a stage, must be called before start()
+     *
+     * @param type the stage
+     * @param threads the threads handling the transactions of the stage
+     * @param queueCapacity the transactions waiting for the stage, for the decode stage also the
+     *     transactions pushed and waiting for the receipt
+     * @return this pipeline
+     */
+    public synchronized TransactionPipeline setStage(
+            StageType type, int threads, int queueCapacity) {
+        if (running || closed) {
+            throw new IllegalStateException("the stages of a started pipeline can't be changed");
+        }
+        if (threads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "invalid stage size, threads: "
+                            + threads
+                            + ", queueCapacity: "
+                            + queueCapacity);
+        }
+        Stage stage = stages.get(type);
+        stage.threads = threads;
+        stage.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    public synchronized TransactionPipeline start() {
+        if (running) {
+            return this;
+        }
+        if (closed) {
+            throw new IllegalStateException("the pipeline is closed");
+        }
+        for (Stage stage : stages.values()) {
+            stage.queue = new ArrayBlockingQueue<>(stage.queueCapacity);
+        }
+        receiptPermits = new Semaphore(stages.get(StageType.DECODE).queueCapacity);
+        stages.get(StageType.ENCODE).handler = this::encode;
+        stages.get(StageType.BUILD).handler = this::build;
+        stages.get(StageType.SIGN).handler = this::sign;
+        stages.get(StageType.PUSH).handler = this::push;
+        stages.get(StageType.DECODE).handler = this::decode;
+
+        running = true;
+        long startTimeNanos = System.nanoTime();
+        for (Stage stage : stages.values()) {
+            stage.startTimeNanos = startTimeNanos;
+            for (int i = 0; i < stage.threads; i++) {
+                Thread worker =
+                        new Thread(
+                                () -> work(stage),
+                                "tx-pipeline-" + stage.type.name().toLowerCase() + "-" + i);
+                worker.setDaemon(true);
+                workers.add(worker);
+                worker.start();
+            }
+        }
+        logger.info("start transaction pipeline, stages: {}", stages.values());
+        return this;
+    }
+
+    /**
+     * Submit a transaction, blocks while the queue of the encode stage is full. A transaction still
+     * waiting for the queue when the pipeline is closed is failed
+     *
+     * @param to the contract address
+     * @param abi the contract abi
+     * @param functionName the function to call
+     * @param params the function parameters
+     * @return the future of the decoded transaction response
+     */
+    public CompletableFuture<TransactionResponse> submit(
+            String to, String abi, String functionName, List<Object> params) {
+        return submit(to, abi, functionName, params, this.cryptoKeyPair);
+    }
+
+    public CompletableFuture<TransactionResponse> submit(
+            String to,
+            String abi,
+            String functionName,
+            List<Object> params,
+            CryptoKeyPair cryptoKeyPair) {
+        if (!running) {
+            throw new IllegalStateException("the pipeline is not running");
+        }
+        Stage encodeStage = stages.get(StageType.ENCODE);
+        Task task = new Task(to, abi, functionName, params, cryptoKeyPair);
+        try {
+            // wait in steps, a close while the queue is full must not leave the task waiting
+            while (!encodeStage.queue.offer(task, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                if (!running) {
+                    fail(encodeStage, task, new ClientException("transaction pipeline closed"));
+                    return task.future;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException("submit transaction interrupted", e);
+        }
+        // queued after close() drained the queue, nobody will take it
+        if (!running && encodeStage.queue.remove(task)) {
+            fail(encodeStage, task, new ClientException("transaction pipeline closed"));
+        }
+        return task.future;
+    }
+
+    private void work(Stage stage) {
+        while (running) {
+            Task task;
+            try {
+                task = stage.queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (task == null) {
+                continue;
+            }
+            stage.processed.increment();
+            try {
+                stage.handler.handle(task);
+            } catch (InterruptedException e) {
+                fail(stage, task, new ClientException("transaction pipeline closed", e));
+                break;
+            } catch (Exception e) {
+                fail(stage, task, e);
+            }
+        }
+    }
+
+    private void fail(Stage stage, Task task, Throwable e) {
+        stage.failed.increment();
+        destroyTransactionData(task);
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "transaction failed in stage {}, to: {}, function: {}, e: ",
+                    stage.type,
+                    task.to,
+                    task.functionName,
+                    e);
+        }
+        task.future.completeExceptionally(e);
+    }
+
+    private void forward(StageType next, Task task) throws InterruptedException {
+        stages.get(next).queue.put(task);
+    }
+
+    private void encode(Task task) throws Exception {
+        task.input = contractCodec.encodeMethod(task.abi, task.functionName, task.params);
+        forward(StageType.BUILD, task);
+    }
+
+    private void build(Task task) throws Exception {
+        task.transactionData =
+                TransactionBuilderJniObj.createTransactionData(
+                        groupId,
+                        chainId,
+                        Objects.nonNull(task.to) ? task.to : "",
+                        Hex.toHexString(task.input),
+                        "",
+                        client.getBlockLimit().longValue());
+        task.hash = transactionEncoder.encodeAndHashBytes(task.transactionData);
+        forward(StageType.SIGN, task);
+    }
+
+    private void sign(Task task) throws Exception {
+        try {
+            SignatureResult signatureResult = transactionSigner.sign(task.hash, task.cryptoKeyPair);
+            task.signedTransaction =
+                    Hex.toHexString(
+                            transactionEncoder.encodeToTransactionBytes(
+                                    task.transactionData, task.hash, signatureResult, txAttribute));
+        } finally {
+            destroyTransactionData(task);
+        }
+        forward(StageType.PUSH, task);
+    }
+
+    private void push(Task task) throws Exception {
+        // released once decoded, so the receipts always find room in the decode queue
+        receiptPermits.acquire();
+        transactionPusher
+                .pushAsync(task.signedTransaction)
+                .whenComplete(
+                        (receipt, e) -> {
+                            Stage decodeStage = stages.get(StageType.DECODE);
+                            if (e != null) {
+                                receiptPermits.release();
+                                fail(stages.get(StageType.PUSH), task, e);
+                                return;
+                            }
+                            task.receipt = receipt;
+                            if (!running || !decodeStage.queue.offer(task)) {
+                                receiptPermits.release();
+                                fail(
+                                        decodeStage,
+                                        task,
+                                        new ClientException("transaction pipeline closed"));
+                            }
+                        });
+    }
+
+    private void decode(Task task) {
+        TransactionReceipt receipt = task.receipt;
+        if (Objects.nonNull(receipt)
+                && (Objects.isNull(receipt.getInput()) || receipt.getInput().isEmpty())) {
+            receipt.setInput(Hex.toHexStringWithPrefix(task.input));
+        }
+        TransactionResponse response;
+        try {
+            response =
+                    transactionDecoder.decodeReceiptWithValues(
+                            task.abi, task.functionName, receipt);
+        } catch (Exception e) {
+            logger.error("decode receipt exception: ", e);
+            response =
+                    new TransactionResponse(
+                            receipt, ResultCodeEnum.EXCEPTION_OCCUR.getCode(), e.getMessage());
+        } finally {
+            receiptPermits.release();
+        }
+        task.future.complete(response);
+    }
+
+    private void destroyTransactionData(Task task) {
+        if (task.transactionData == 0) {
+            return;
+        }
+        try {
+            TransactionBuilderJniObj.destroyTransactionData(task.transactionData);
+        } catch (Exception e) {
+            logger.warn("destroy transaction data failed, e: ", e);
+        }
+        task.transactionData = 0;
+    }
+
+    public Stage getStage(StageType type) {
+        return stages.get(type);
+    }
+
+    public List<Stage> getStages() {
+        return new ArrayList<>(stages.values());
+    }
+
+    /** @return the transactions pushed and not yet decoded */
+    public int getPendingReceipts() {
+        Semaphore permits = receiptPermits;
+        return permits == null
+                ? 0
+                : stages.get(StageType.DECODE).queueCapacity - permits.availablePermits();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop the stages, the transactions still in the queues are failed, the pushed ones waiting for
+     * the receipt are failed on arrival
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join(POLL_INTERVAL_MS * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+        for (Stage stage : stages.values()) {
+            if (stage.queue == null) {
+                continue;
+            }
+            List<Task> remaining = new ArrayList<>();
+            stage.queue.drainTo(remaining);
+            for (Task task : remaining) {
+                if (stage.type == StageType.DECODE) {
+                    receiptPermits.release();
+                }
+                fail(stage, task, new ClientException("transaction pipeline closed"));
+            }
+        }
+        logger.info("close transaction pipeline, stages: {}", stages.values());
+    }
+}
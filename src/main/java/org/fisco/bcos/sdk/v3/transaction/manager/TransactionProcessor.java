@@ -18,12 +18,15 @@ import java.io.ByteArrayOutputStream;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.fisco.bcos.sdk.jni.common.JniException;
 import org.fisco.bcos.sdk.jni.rpc.RpcServiceJniObj;
 import org.fisco.bcos.sdk.jni.utilities.tx.TransactionBuilderJniObj;
 import org.fisco.bcos.sdk.jni.utilities.tx.TxPair;
 import org.fisco.bcos.sdk.v3.client.Client;
 import org.fisco.bcos.sdk.v3.client.ClientImpl;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
 import org.fisco.bcos.sdk.v3.client.protocol.request.Transaction;
 import org.fisco.bcos.sdk.v3.client.protocol.response.BcosTransactionReceipt;
 import org.fisco.bcos.sdk.v3.client.protocol.response.Call;
@@ -31,18 +34,23 @@ import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
 import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
 import org.fisco.bcos.sdk.v3.crypto.signature.SignatureResult;
 import org.fisco.bcos.sdk.v3.model.TransactionReceipt;
+import org.fisco.bcos.sdk.v3.model.TransactionReceiptStatus;
 import org.fisco.bcos.sdk.v3.model.callback.RespCallback;
 import org.fisco.bcos.sdk.v3.model.callback.ResponseCallback;
 import org.fisco.bcos.sdk.v3.model.callback.TransactionCallback;
+import org.fisco.bcos.sdk.v3.transaction.codec.encode.TarsTransactionData;
 import org.fisco.bcos.sdk.v3.transaction.codec.encode.TransactionEncoderInterface;
 import org.fisco.bcos.sdk.v3.transaction.codec.encode.TransactionEncoderService;
 import org.fisco.bcos.sdk.v3.transaction.model.dto.CallRequest;
+import org.fisco.bcos.sdk.v3.transaction.model.dto.EncodedTransaction;
 import org.fisco.bcos.sdk.v3.utils.Hex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class TransactionProcessor implements TransactionProcessorInterface {
     protected static Logger log = LoggerFactory.getLogger(TransactionProcessor.class);
+    // the wait for a receipt outlasts the deadline of the request by this margin
+    private static final long RECEIPT_WAIT_MARGIN_MS = 1000;
     protected final CryptoSuite cryptoSuite;
     protected final Client client;
     protected final String groupId;
@@ -68,6 +76,55 @@ public class TransactionProcessor implements TransactionProcessorInterface {
         this.cryptoKeyPair = cryptoKeyPair;
     }
 
+    /**
+     * Build and hash the signed transactions in java instead of the jni, see {@link
+     * TransactionEncoderService#setUseJavaBuilder}
+     *
+     * @param useJavaBuilder true to skip the jni to build and hash the transactions
+     * @throws IllegalStateException if the encoder of the processor is not a
+     *     TransactionEncoderService
+     */
+    public void setUseJavaBuilder(boolean useJavaBuilder) {
+        if (!(this.transactionEncoder instanceof TransactionEncoderService)) {
+            throw new IllegalStateException(
+                    "the java builder needs a TransactionEncoderService, but the encoder is "
+                            + this.transactionEncoder.getClass().getName());
+        }
+        ((TransactionEncoderService) this.transactionEncoder).setUseJavaBuilder(useJavaBuilder);
+    }
+
+    /** @return the encoder if it builds the transactions in java, null otherwise */
+    private TransactionEncoderService getJavaBuilder() {
+        if (this.transactionEncoder instanceof TransactionEncoderService
+                && ((TransactionEncoderService) this.transactionEncoder).isUseJavaBuilder()) {
+            return (TransactionEncoderService) this.transactionEncoder;
+        }
+        return null;
+    }
+
+    private TxPair createJavaSignedTransaction(
+            TransactionEncoderService encoder,
+            String to,
+            byte[] data,
+            String abi,
+            CryptoKeyPair cryptoKeyPair,
+            int txAttribute,
+            String extraData) {
+        TarsTransactionData transactionData =
+                TarsTransactionData.create(
+                        this.groupId,
+                        this.chainId,
+                        to,
+                        data,
+                        abi,
+                        client.getBlockLimit().longValue());
+        EncodedTransaction encodedTransaction =
+                encoder.encodeAndSign(transactionData, cryptoKeyPair, txAttribute, extraData);
+        return new TxPair(
+                encodedTransaction.getTxHash(),
+                Hex.toHexStringWithPrefix(encodedTransaction.getSignedTransaction()));
+    }
+
     @Override
     public TransactionReceipt deployAndGetReceipt(
             String to, byte[] data, String abi, CryptoKeyPair cryptoKeyPair, int txAttribute) {
@@ -120,16 +177,47 @@ public class TransactionProcessor implements TransactionProcessorInterface {
                         }
                         future.complete(receipt);
                     }
+
+                    @Override
+                    public void onError(int errorCode, String errorMessage) {
+                        // the deadline of the request is the deadline of the receipt
+                        if (errorCode == ClientException.REQUEST_TIMEOUT) {
+                            onTimeout();
+                        } else {
+                            super.onError(errorCode, errorMessage);
+                        }
+                    }
                 });
 
-        TransactionReceipt transactionReceipt = null;
+        return waitForReceipt(future);
+    }
+
+    /**
+     * Wait for the receipt, a receipt with the TimeOut status is returned when the deadline is
+     * reached. The request carries the call timeout of the client itself, which is reported as the
+     * TimeOut receipt, so the wait lasts a margin longer and only guards against a response that is
+     * never delivered.
+     */
+    protected TransactionReceipt waitForReceipt(CompletableFuture<TransactionReceipt> future) {
+        long callTimeout = client.getCallTimeout();
+        long timeout = callTimeout > 0 ? callTimeout + RECEIPT_WAIT_MARGIN_MS : 0;
         try {
-            transactionReceipt = future.get();
-        } catch (InterruptedException | ExecutionException e) {
-            e.printStackTrace();
+            return timeout > 0 ? future.get(timeout, TimeUnit.MILLISECONDS) : future.get();
+        } catch (TimeoutException e) {
+            log.warn("wait for the transaction receipt timeout after {}ms", timeout);
+            TransactionReceipt receipt = new TransactionReceipt();
+            receipt.setStatus(TransactionReceiptStatus.TimeOut.getCode());
+            receipt.setMessage(TransactionReceiptStatus.TimeOut.getMessage());
+            return receipt;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException("wait for the transaction receipt interrupted", e);
+        } catch (ExecutionException e) {
+            throw new ClientException(
+                    "wait for the transaction receipt failed, error message:"
+                            + e.getCause().getMessage(),
+                    e.getCause());
         }
-
-        return transactionReceipt;
     }
 
     @Override
@@ -336,6 +424,11 @@ public class TransactionProcessor implements TransactionProcessorInterface {
                         txAttribute,
                         extraData);
             }
+            TransactionEncoderService javaBuilder = getJavaBuilder();
+            if (javaBuilder != null) {
+                return createJavaSignedTransaction(
+                        javaBuilder, to, data, abi, cryptoKeyPair, txAttribute, extraData);
+            }
             return TransactionBuilderJniObj.createSignedTransaction(
                     cryptoKeyPair.getJniKeyPair(),
                     this.groupId,
@@ -368,6 +461,11 @@ public class TransactionProcessor implements TransactionProcessorInterface {
                         extraData);
             }
 
+            TransactionEncoderService javaBuilder = getJavaBuilder();
+            if (javaBuilder != null) {
+                return createJavaSignedTransaction(
+                        javaBuilder, to, data, "", cryptoKeyPair, txAttribute, extraData);
+            }
             return TransactionBuilderJniObj.createSignedTransaction(
                     cryptoKeyPair.getJniKeyPair(),
                     this.groupId,
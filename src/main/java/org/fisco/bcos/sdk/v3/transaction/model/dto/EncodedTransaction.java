@@ -0,0 +1,43 @@
+/*
+ * Copyright 2014-2020  [fisco-dev]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package org.fisco.bcos.sdk.v3.transaction.model.dto;
+
+import org.fisco.bcos.sdk.v3.utils.Hex;
+
+/** A signed transaction of a batch, the hash and the encoded transaction as bytes */
+public class EncodedTransaction {
+    private final byte[] hash;
+    private final byte[] signedTransaction;
+
+    public EncodedTransaction(byte[] hash, byte[] signedTransaction) {
+        this.hash = hash;
+        this.signedTransaction = signedTransaction;
+    }
+
+    /** @return the transaction hash */
+    public byte[] getHash() {
+        return hash;
+    }
+
+    /** @return the tars encoded signed transaction to push */
+    public byte[] getSignedTransaction() {
+        return signedTransaction;
+    }
+
+    /** @return the transaction hash with 0x prefix */
+    public String getTxHash() {
+        return Hex.toHexStringWithPrefix(hash);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014-2020  [fisco-dev]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package org.fisco.bcos.sdk.v3.transaction.model.dto;
+
+/**
+ * The fields of a transaction to build and sign in a batch, see {@link
+ * org.fisco.bcos.sdk.v3.transaction.codec.encode.TransactionEncoderService#encodeAndSignBatch}
+ */
+public class TxSpec {
+    private final String groupId;
+    private final String chainId;
+    private final String to;
+    private final byte[] input;
+    private final long blockLimit;
+    private String abi = "";
+    private int attribute;
+    private String extraData = "";
+
+    /**
+     * @param groupId the group of the transaction
+     * @param chainId the chain of the transaction
+     * @param to the contract address, empty to deploy
+     * @param input the abi encoded input
+     * @param blockLimit the block limit of the transaction
+     */
+    public TxSpec(String groupId, String chainId, String to, byte[] input, long blockLimit) {
+        this.groupId = groupId;
+        this.chainId = chainId;
+        this.to = to == null ? "" : to;
+        this.input = input;
+        this.blockLimit = blockLimit;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public String getChainId() {
+        return chainId;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public byte[] getInput() {
+        return input;
+    }
+
+    public long getBlockLimit() {
+        return blockLimit;
+    }
+
+    public String getAbi() {
+        return abi;
+    }
+
+    /** @param abi the contract abi, only needed to deploy */
+    public TxSpec setAbi(String abi) {
+        this.abi = abi == null ? "" : abi;
+        return this;
+    }
+
+    public int getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * @param attribute transaction attribute, see more in {@link
+     *     org.fisco.bcos.sdk.v3.client.protocol.model.TransactionAttribute}
+     */
+    public TxSpec setAttribute(int attribute) {
+        this.attribute = attribute;
+        return this;
+    }
+
+    public String getExtraData() {
+        return extraData;
+    }
+
+    public TxSpec setExtraData(String extraData) {
+        this.extraData = extraData == null ? "" : extraData;
+        return this;
+    }
+}
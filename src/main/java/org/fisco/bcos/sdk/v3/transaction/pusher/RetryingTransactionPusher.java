@@ -0,0 +1,433 @@
+/*
+ * Copyright 2014-2020  [fisco-dev]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package org.fisco.bcos.sdk.v3.transaction.pusher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.fisco.bcos.sdk.jni.utilities.tx.TxPair;
+import org.fisco.bcos.sdk.v3.client.Client;
+import org.fisco.bcos.sdk.v3.client.ClientImpl;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.client.protocol.request.JsonRpcMethods;
+import org.fisco.bcos.sdk.v3.client.protocol.request.JsonRpcRequest;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosTransactionReceipt;
+import org.fisco.bcos.sdk.v3.model.TransactionReceipt;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pushes signed transactions with retries and hedging, the transactions are tracked by their hash
+ * so a transaction is never sent twice by concurrent pushes.
+ *
+ * <p>An attempt not answered within attemptTimeoutMs, or failed, is sent again to the next node
+ * until maxAttempts. A JSON-RPC error object answered by a node, e.g. an invalid transaction, fails
+ * the push at once, the other nodes would answer the same. With a positive hedgeDelayMs, a copy of
+ * the first attempt is sent to a second node if it gets no receipt in time. Sending the same signed
+ * transaction again is safe, the chain commits a transaction hash at most once. When all the
+ * attempts fail the outcome is ambiguous, the receipt is polled by the transaction hash until
+ * receiptTimeoutMs before reporting the failure.
+ *
+ * <pre>
+ * RetryingTransactionPusher pusher = new RetryingTransactionPusher(client).setHedgeDelayMs(3000);
+ * TransactionReceipt receipt = pusher.push(txPair);
+ * </pre>
+ */
+public class RetryingTransactionPusher extends TransactionPusherService {
+    private static final Logger logger = LoggerFactory.getLogger(RetryingTransactionPusher.class);
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_ATTEMPT_TIMEOUT_MS = 30 * 1000;
+    public static final long DEFAULT_RECEIPT_POLL_INTERVAL_MS = 1000;
+    public static final long DEFAULT_RECEIPT_TIMEOUT_MS = 30 * 1000;
+
+    private static final ScheduledExecutorService scheduler = createScheduler();
+
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long attemptTimeoutMs = DEFAULT_ATTEMPT_TIMEOUT_MS;
+    private long hedgeDelayMs = 0;
+    private long receiptPollIntervalMs = DEFAULT_RECEIPT_POLL_INTERVAL_MS;
+    private long receiptTimeoutMs = DEFAULT_RECEIPT_TIMEOUT_MS;
+    private volatile List<String> nodes;
+
+    // the pushes in flight by transaction hash
+    private final ConcurrentHashMap<String, CompletableFuture<TransactionReceipt>> submissions =
+            new ConcurrentHashMap<>();
+    private final AtomicInteger nodeIndex = new AtomicInteger();
+
+    private final LongAdder pushedTransactions = new LongAdder();
+    private final LongAdder confirmedTransactions = new LongAdder();
+    private final LongAdder failedTransactions = new LongAdder();
+    private final LongAdder duplicatedPushes = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder polledReceipts = new LongAdder();
+    private final LongAdder totalConfirmationNanos = new LongAdder();
+    private final AtomicLong maxConfirmationNanos = new AtomicLong();
+
+    /** The state of a transaction push */
+    private class Submission {
+        private final String transactionHash;
+        private final String signedTransaction;
+        private final long startTime = System.nanoTime();
+        private final CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+        private final List<CompletableFuture<BcosTransactionReceipt>> attempts =
+                new CopyOnWriteArrayList<>();
+        private final AtomicInteger sentAttempts = new AtomicInteger();
+        private final AtomicInteger pendingAttempts = new AtomicInteger();
+        private final AtomicBoolean polling = new AtomicBoolean();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile Throwable lastError;
+
+        private Submission(String transactionHash, String signedTransaction) {
+            this.transactionHash = transactionHash;
+            this.signedTransaction = signedTransaction;
+        }
+    }
+
+    /** @param client the client of the group */
+    public RetryingTransactionPusher(Client client) {
+        super(client);
+    }
+
+    /** @param maxAttempts the max sends of a transaction, including the first and the hedge */
+    public RetryingTransactionPusher setMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive");
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /** @param attemptTimeoutMs the time in ms to wait for the receipt of an attempt */
+    public RetryingTransactionPusher setAttemptTimeoutMs(long attemptTimeoutMs) {
+        this.attemptTimeoutMs = attemptTimeoutMs;
+        return this;
+    }
+
+    /** @param hedgeDelayMs the time in ms before the first attempt is hedged, no hedge if 0 */
+    public RetryingTransactionPusher setHedgeDelayMs(long hedgeDelayMs) {
+        this.hedgeDelayMs = hedgeDelayMs;
+        return this;
+    }
+
+    public RetryingTransactionPusher setReceiptPollIntervalMs(long receiptPollIntervalMs) {
+        this.receiptPollIntervalMs = receiptPollIntervalMs;
+        return this;
+    }
+
+    /** @param receiptTimeoutMs the time in ms to poll the receipt after all the attempts failed */
+    public RetryingTransactionPusher setReceiptTimeoutMs(long receiptTimeoutMs) {
+        this.receiptTimeoutMs = receiptTimeoutMs;
+        return this;
+    }
+
+    /** @param nodes the nodes to send the attempts in turn, the nodes of the group by default */
+    public RetryingTransactionPusher setNodes(List<String> nodes) {
+        this.nodes = new ArrayList<>(nodes);
+        return this;
+    }
+
+    /**
+     * Push the transaction and wait for its receipt
+     *
+     * @param txPair the signed transaction and its hash
+     * @return the receipt
+     * @throws ClientException if no attempt succeeded and no receipt was found
+     */
+    public TransactionReceipt push(TxPair txPair) {
+        return ClientImpl.waitForResponse("sendTransaction", pushAsync(txPair));
+    }
+
+    /**
+     * Push the transaction, a push of a transaction already in flight shares its future
+     *
+     * @param txPair the signed transaction and its hash
+     * @return the future of the receipt
+     */
+    public CompletableFuture<TransactionReceipt> pushAsync(TxPair txPair) {
+        String transactionHash = "0x" + Hex.trimPrefix(txPair.getTxHash()).toLowerCase();
+        Submission submission = new Submission(transactionHash, txPair.getSignedTx());
+        CompletableFuture<TransactionReceipt> existing =
+                submissions.putIfAbsent(transactionHash, submission.future);
+        if (existing != null) {
+            duplicatedPushes.increment();
+            return existing;
+        }
+        pushedTransactions.increment();
+        submission.future.whenComplete(
+                (receipt, error) -> {
+                    submissions.remove(transactionHash, submission.future);
+                    submission.attempts.forEach(attempt -> attempt.cancel(false));
+                });
+        sendAttempt(submission);
+        if (hedgeDelayMs > 0 && maxAttempts > 1) {
+            scheduler.schedule(
+                    () -> {
+                        if (!submission.future.isDone() && submission.sentAttempts.get() == 1) {
+                            hedges.increment();
+                            sendAttempt(submission);
+                        }
+                    },
+                    hedgeDelayMs,
+                    TimeUnit.MILLISECONDS);
+        }
+        return submission.future;
+    }
+
+    private void sendAttempt(Submission submission) {
+        if (submission.future.isDone()) {
+            return;
+        }
+        // pending before it is counted as sent, so a failed attempt seeing all the attempts sent
+        // and
+        // none pending is sure that no attempt is on its way
+        submission.pendingAttempts.incrementAndGet();
+        if (submission.sentAttempts.incrementAndGet() > maxAttempts) {
+            if (submission.pendingAttempts.decrementAndGet() == 0) {
+                startPolling(submission);
+            }
+            return;
+        }
+        String node = nextNode();
+        CompletableFuture<BcosTransactionReceipt> attempt =
+                getClient()
+                        .callRemoteMethodAsync(
+                                getClient().getGroup(),
+                                node,
+                                new JsonRpcRequest<>(
+                                        JsonRpcMethods.SEND_TRANSACTION,
+                                        Arrays.asList(
+                                                getClient().getGroup(),
+                                                node,
+                                                submission.signedTransaction,
+                                                false)),
+                                BcosTransactionReceipt.class,
+                                attemptTimeoutMs);
+        submission.attempts.add(attempt);
+        attempt.whenComplete(
+                (response, error) -> {
+                    submission.pendingAttempts.decrementAndGet();
+                    if (error == null && response.getTransactionReceipt() != null) {
+                        confirm(submission, response.getTransactionReceipt(), false);
+                        return;
+                    }
+                    onAttemptFailed(
+                            submission,
+                            node,
+                            error != null
+                                    ? error
+                                    : new ClientException("sendTransaction returns no receipt"));
+                });
+    }
+
+    private void onAttemptFailed(Submission submission, String node, Throwable error) {
+        if (submission.future.isDone()) {
+            return;
+        }
+        submission.lastError = error;
+        logger.debug(
+                "send transaction {} to node {} failed, attempt: {}, error: {}",
+                submission.transactionHash,
+                node,
+                submission.sentAttempts.get(),
+                error.getMessage());
+        if (!ClientImpl.isNodeFailure(error)) {
+            // the transaction is rejected, a retry or the receipt would not change the answer
+            fail(
+                    submission,
+                    error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error);
+            return;
+        }
+        if (submission.sentAttempts.get() < maxAttempts) {
+            retries.increment();
+            sendAttempt(submission);
+            return;
+        }
+        if (submission.pendingAttempts.get() == 0) {
+            startPolling(submission);
+        }
+    }
+
+    private void startPolling(Submission submission) {
+        if (submission.polling.compareAndSet(false, true)) {
+            // the transaction may be committed by any attempt, ask the chain
+            pollReceipt(submission, System.nanoTime() + receiptTimeoutMs * 1_000_000);
+        }
+    }
+
+    private void pollReceipt(Submission submission, long deadline) {
+        if (submission.future.isDone()) {
+            return;
+        }
+        getClient()
+                .callRemoteMethodAsync(
+                        getClient().getGroup(),
+                        "",
+                        new JsonRpcRequest<>(
+                                JsonRpcMethods.GET_TRANSACTION_RECEIPT,
+                                Arrays.asList(
+                                        getClient().getGroup(),
+                                        "",
+                                        submission.transactionHash,
+                                        false)),
+                        BcosTransactionReceipt.class,
+                        getClient().getCallTimeout())
+                .whenComplete(
+                        (response, error) -> {
+                            if (error == null
+                                    && response != null
+                                    && response.getTransactionReceipt() != null) {
+                                confirm(submission, response.getTransactionReceipt(), true);
+                                return;
+                            }
+                            if (System.nanoTime() - deadline >= 0) {
+                                fail(submission);
+                                return;
+                            }
+                            scheduler.schedule(
+                                    () -> pollReceipt(submission, deadline),
+                                    receiptPollIntervalMs,
+                                    TimeUnit.MILLISECONDS);
+                        });
+    }
+
+    private void confirm(Submission submission, TransactionReceipt receipt, boolean polled) {
+        // the stats are counted before the caller sees the receipt
+        if (!submission.finished.compareAndSet(false, true)) {
+            return;
+        }
+        long confirmationNanos = System.nanoTime() - submission.startTime;
+        confirmedTransactions.increment();
+        if (polled) {
+            polledReceipts.increment();
+        }
+        totalConfirmationNanos.add(confirmationNanos);
+        maxConfirmationNanos.accumulateAndGet(confirmationNanos, Math::max);
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "transaction {} confirmed, attempts: {}, polled: {}, latency: {}ms",
+                    submission.transactionHash,
+                    Math.min(submission.sentAttempts.get(), maxAttempts),
+                    polled,
+                    confirmationNanos / 1_000_000);
+        }
+        submission.future.complete(receipt);
+    }
+
+    private void fail(Submission submission) {
+        Throwable lastError = submission.lastError;
+        fail(
+                submission,
+                new ClientException(
+                        "send transaction "
+                                + submission.transactionHash
+                                + " failed after "
+                                + maxAttempts
+                                + " attempts and no receipt found, last error: "
+                                + (lastError == null ? "" : lastError.getMessage()),
+                        lastError));
+    }
+
+    private void fail(Submission submission, Throwable error) {
+        if (!submission.finished.compareAndSet(false, true)) {
+            return;
+        }
+        failedTransactions.increment();
+        logger.warn(error.getMessage());
+        submission.future.completeExceptionally(error);
+    }
+
+    private String nextNode() {
+        List<String> sendNodes = this.nodes;
+        if (sendNodes == null) {
+            sendNodes = ClientImpl.getGroupNodes(getClient());
+            this.nodes = sendNodes;
+        }
+        return sendNodes.get(Math.floorMod(nodeIndex.getAndIncrement(), sendNodes.size()));
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        ScheduledThreadPoolExecutor executor =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        new BasicThreadFactory.Builder()
+                                .namingPattern("tx-pusher-%d")
+                                .daemon(true)
+                                .build());
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /** @return the transactions pushed, not counting the duplicated pushes */
+    public long getPushedTransactions() {
+        return pushedTransactions.sum();
+    }
+
+    public long getConfirmedTransactions() {
+        return confirmedTransactions.sum();
+    }
+
+    public long getFailedTransactions() {
+        return failedTransactions.sum();
+    }
+
+    /** @return the pushes joined to a push of the same transaction in flight */
+    public long getDuplicatedPushes() {
+        return duplicatedPushes.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    /** @return the transactions confirmed by polling the receipt after the attempts failed */
+    public long getPolledReceipts() {
+        return polledReceipts.sum();
+    }
+
+    public int getInFlightTransactions() {
+        return submissions.size();
+    }
+
+    /** @return the average time in ms from push to receipt of the confirmed transactions */
+    public double getAverageConfirmationMs() {
+        long confirmed = confirmedTransactions.sum();
+        return confirmed == 0 ? 0 : totalConfirmationNanos.sum() / 1e6 / confirmed;
+    }
+
+    public double getMaxConfirmationMs() {
+        return maxConfirmationNanos.get() / 1e6;
+    }
+}
@@ -15,7 +15,11 @@
 package org.fisco.bcos.sdk.v3.transaction.pusher;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import org.fisco.bcos.sdk.v3.client.Client;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
 import org.fisco.bcos.sdk.v3.client.protocol.request.Transaction;
 import org.fisco.bcos.sdk.v3.client.protocol.response.Call;
 import org.fisco.bcos.sdk.v3.model.TransactionReceipt;
@@ -24,6 +28,7 @@ import org.fisco.bcos.sdk.v3.model.callback.TransactionCallback;
 public class TransactionPusherService implements TransactionPusherInterface {
 
     private Client client;
+    private Executor completionExecutor = ForkJoinPool.commonPool();
 
     /**
      * create the TransactionPusherService
@@ -35,6 +40,18 @@ public class TransactionPusherService implements TransactionPusherInterface {
         this.client = client;
     }
 
+    /**
+     * create the TransactionPusherService
+     *
+     * @param client the client object responsible for send transaction
+     * @param completionExecutor the executor to complete the futures of pushAsync, the response
+     *     thread of the sdk if null, which is only fit for continuations that never block
+     */
+    public TransactionPusherService(Client client, Executor completionExecutor) {
+        this(client);
+        this.completionExecutor = completionExecutor;
+    }
+
     @Override
     public void pushOnly(String signedTransaction) {
         this.client.sendTransactionAsync(signedTransaction, false, null);
@@ -56,9 +73,69 @@ public class TransactionPusherService implements TransactionPusherInterface {
         this.client.sendTransactionAsync(signedTransactionData, false, callback);
     }
 
+    /**
+     * push signed transaction without blocking a thread until the receipt arrives, the future is
+     * completed on the completion executor, the common ForkJoinPool by default, so that the
+     * continuations never run on the response threads of the sdk
+     *
+     * @param signedTransaction signed transaction string
+     * @return the future of the receipt, failed with ClientException on error response
+     */
     @Override
     public CompletableFuture<TransactionReceipt> pushAsync(String signedTransaction) {
-        return CompletableFuture.supplyAsync(() -> this.push(signedTransaction));
+        CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+        try {
+            this.client.sendTransactionAsync(
+                    signedTransaction,
+                    false,
+                    new TransactionCallback() {
+                        @Override
+                        public void onResponse(TransactionReceipt receipt) {
+                            complete(future, receipt, null);
+                        }
+
+                        @Override
+                        public void onError(int errorCode, String errorMessage) {
+                            complete(
+                                    future,
+                                    null,
+                                    new ClientException(
+                                            errorCode,
+                                            errorMessage,
+                                            "sendTransaction failed, error code: "
+                                                    + errorCode
+                                                    + ", error message: "
+                                                    + errorMessage));
+                        }
+                    });
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void complete(
+            CompletableFuture<TransactionReceipt> future,
+            TransactionReceipt receipt,
+            Throwable error) {
+        Runnable completion =
+                () -> {
+                    if (error != null) {
+                        future.completeExceptionally(error);
+                    } else {
+                        future.complete(receipt);
+                    }
+                };
+        Executor executor = this.completionExecutor;
+        if (executor == null) {
+            completion.run();
+            return;
+        }
+        try {
+            executor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            completion.run();
+        }
     }
 
     /** @return the client */
@@ -70,4 +147,17 @@ public class TransactionPusherService implements TransactionPusherInterface {
     public void setClient(Client client) {
         this.client = client;
     }
+
+    /** @return the executor to complete the futures of pushAsync, null for the response thread */
+    public Executor getCompletionExecutor() {
+        return this.completionExecutor;
+    }
+
+    /**
+     * @param completionExecutor the executor to complete the futures of pushAsync, null to complete
+     *     on the response thread
+     */
+    public void setCompletionExecutor(Executor completionExecutor) {
+        this.completionExecutor = completionExecutor;
+    }
 }
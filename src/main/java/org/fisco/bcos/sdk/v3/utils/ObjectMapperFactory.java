@@ -17,11 +17,16 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /** Factory for managing our ObjectMapper instances. */
 public class ObjectMapperFactory {
 
     private static final ObjectMapper DEFAULT_OBJECT_MAPPER = new ObjectMapper();
+    // the readers are immutable and thread safe, cache one per type to skip the deserializer lookup
+    private static final ConcurrentHashMap<Class<?>, ObjectReader> OBJECT_READERS =
+            new ConcurrentHashMap<>();
 
     static {
         configureObjectMapper();
@@ -37,6 +42,37 @@ public class ObjectMapperFactory {
         return DEFAULT_OBJECT_MAPPER.reader();
     }
 
+    /**
+     * Get the cached reader of the type
+     *
+     * @param type the class to decode into
+     * @return the reader bound to the type
+     */
+    public static ObjectReader getObjectReader(Class<?> type) {
+        ObjectReader reader = OBJECT_READERS.get(type);
+        if (reader != null) {
+            return reader;
+        }
+        // not computeIfAbsent: creating the reader creates the custom deserializers of the type,
+        // which get their own readers from this cache
+        reader = DEFAULT_OBJECT_MAPPER.readerFor(type);
+        ObjectReader previous = OBJECT_READERS.putIfAbsent(type, reader);
+        return previous != null ? previous : reader;
+    }
+
+    /**
+     * Decode the json bytes with the cached reader of the type, the bytes are fed to a streaming
+     * UTF-8 parser without building an intermediate String
+     *
+     * @param content the json bytes
+     * @param type the class to decode into
+     * @return the decoded object
+     * @throws IOException if the json is malformed
+     */
+    public static <T> T readValue(byte[] content, Class<T> type) throws IOException {
+        return getObjectReader(type).readValue(content);
+    }
+
     private static void configureObjectMapper() {
         ObjectMapperFactory.DEFAULT_OBJECT_MAPPER.configure(
                 JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true);
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+/**
+ * Creates the executors of the blocking calls: one virtual thread per task on JDK 21+, a cached
+ * pool of daemon platform threads otherwise.
+ *
+ * <p>The sdk is built for Java 8, the virtual thread API is looked up by reflection.
+ */
+public final class VirtualThreads {
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR =
+            findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+    private static final Method IS_VIRTUAL = findMethod(Thread.class, "isVirtual");
+
+    private VirtualThreads() {}
+
+    private static Method findMethod(Class<?> clazz, String name) {
+        try {
+            return clazz.getMethod(name);
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /** @return true if the running jvm supports virtual threads */
+    public static boolean isAvailable() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /** @return true if the thread is a virtual thread */
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (Boolean) IS_VIRTUAL.invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return an executor starting a new virtual thread for each task, null if the running jvm
+     *     can't create it, shut it down when no longer used
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param namePrefix the name prefix of the threads
+     * @return an executor starting a new daemon platform thread for each task, or reusing an idle
+     *     one, shut it down when no longer used
+     */
+    public static ExecutorService newPlatformThreadPerTaskExecutor(String namePrefix) {
+        return Executors.newCachedThreadPool(
+                new BasicThreadFactory.Builder()
+                        .namingPattern(namePrefix + "-%d")
+                        .daemon(true)
+                        .build());
+    }
+}
@@ -0,0 +1,206 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.test.client;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.fisco.bcos.sdk.v3.client.BatchRequest;
+import org.fisco.bcos.sdk.v3.client.Client;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.client.protocol.request.JsonRpcRequest;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BlockHash;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BlockNumber;
+import org.fisco.bcos.sdk.v3.model.Response;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BatchRequestTest {
+    private static Client mockClient() {
+        Client client = mock(Client.class);
+        when(client.getGroup()).thenReturn("group0");
+        when(client.getNodeToSendRequest()).thenReturn("");
+        when(client.getCallTimeout()).thenReturn(0L);
+        return client;
+    }
+
+    private static CompletableFuture<Response> rawResponse(String content) {
+        Response response = new Response();
+        response.setErrorCode(0);
+        response.setErrorMessage("");
+        response.setContent(content.getBytes(StandardCharsets.UTF_8));
+        return CompletableFuture.completedFuture(response);
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        Client client = mockClient();
+        BatchRequest batch = new BatchRequest(client);
+        CompletableFuture<BlockNumber> blockNumber = batch.getBlockNumber();
+        CompletableFuture<BlockHash> blockHash = batch.getBlockHashByNumber(BigInteger.ONE);
+        CompletableFuture<BlockHash> failedHash = batch.getBlockHashByNumber(BigInteger.TEN);
+        CompletableFuture<BlockHash> missingHash = batch.getBlockHashByNumber(BigInteger.ZERO);
+        Assert.assertEquals(4, batch.size());
+
+        long firstId = JsonRpcRequest.getNextIdGetter().get() - 4;
+        // the responses are out of order
+        String content =
+                "[{\"id\":"
+                        + (firstId + 2)
+                        + ",\"jsonrpc\":\"2.0\",\"error\":{\"code\":-32602,\"message\":\"bad block\"}},"
+                        + "{\"id\":"
+                        + (firstId + 1)
+                        + ",\"jsonrpc\":\"2.0\",\"result\":\"0x01\"},"
+                        + "{\"id\":"
+                        + firstId
+                        + ",\"jsonrpc\":\"2.0\",\"result\":\"0x10\"}]";
+        when(client.callRemoteRawAsync(eq("group0"), eq(""), anyString(), anyLong()))
+                .thenReturn(rawResponse(content));
+
+        CompletableFuture<Void> all = batch.send();
+        Assert.assertTrue(all.isDone());
+        Assert.assertEquals(BigInteger.valueOf(16), blockNumber.get().getBlockNumber());
+        Assert.assertEquals("0x01", blockHash.get().getBlockHashByNumber());
+        assertClientException(failedHash, -32602);
+        Assert.assertTrue(missingHash.isCompletedExceptionally());
+        verify(client, times(1))
+                .callRemoteRawAsync(anyString(), anyString(), anyString(), anyLong());
+
+        try {
+            batch.getBlockNumber();
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // sent batch can't be reused
+        }
+    }
+
+    @Test
+    public void testPipelinedFallback() throws Exception {
+        Client client = mockClient();
+        when(client.callRemoteRawAsync(anyString(), anyString(), anyString(), anyLong()))
+                .thenReturn(
+                        rawResponse(
+                                "{\"id\":0,\"jsonrpc\":\"2.0\",\"error\":{\"code\":-32600,\"message\":\"invalid request\"}}"));
+        BlockNumber response = new BlockNumber();
+        response.setResult("0x10");
+        when(client.callRemoteMethodAsync(
+                        anyString(), anyString(), any(), eq(BlockNumber.class), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        BatchRequest batch = new BatchRequest(client);
+        CompletableFuture<BlockNumber> first = batch.getBlockNumber();
+        CompletableFuture<BlockNumber> second = batch.getBlockNumber();
+        batch.send().get();
+        Assert.assertSame(response, first.get());
+        Assert.assertSame(response, second.get());
+
+        // the later batches skip the batch round trip
+        BatchRequest nextBatch = new BatchRequest(client);
+        nextBatch.getBlockNumber();
+        nextBatch.getBlockNumber();
+        nextBatch.send().get();
+        verify(client, times(1))
+                .callRemoteRawAsync(anyString(), anyString(), anyString(), anyLong());
+        verify(client, times(4))
+                .callRemoteMethodAsync(
+                        anyString(), anyString(), any(), eq(BlockNumber.class), anyLong());
+        verify(client, never())
+                .callRemoteMethodAsync(
+                        anyString(), anyString(), any(), eq(BlockHash.class), anyLong());
+    }
+
+    @Test
+    public void testPipelinedFallbackOnlyWhenBatchUnsupported() throws Exception {
+        Client client = mockClient();
+        // an internal error is not a rejection of the batch
+        when(client.callRemoteRawAsync(anyString(), anyString(), anyString(), anyLong()))
+                .thenReturn(
+                        rawResponse(
+                                "{\"id\":0,\"jsonrpc\":\"2.0\",\"error\":{\"code\":-32603,\"message\":\"internal error\"}}"));
+        BlockNumber response = new BlockNumber();
+        response.setResult("0x10");
+        when(client.callRemoteMethodAsync(
+                        anyString(), anyString(), any(), eq(BlockNumber.class), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        for (int i = 0; i < 2; i++) {
+            BatchRequest batch = new BatchRequest(client);
+            CompletableFuture<BlockNumber> first = batch.getBlockNumber();
+            batch.getBlockNumber();
+            batch.send().get();
+            Assert.assertSame(response, first.get());
+        }
+        verify(client, times(2))
+                .callRemoteRawAsync(anyString(), anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    public void testPipelinedFallbackExpires() throws Exception {
+        Client client = mockClient();
+        when(client.callRemoteRawAsync(anyString(), anyString(), anyString(), anyLong()))
+                .thenReturn(
+                        rawResponse(
+                                "{\"id\":0,\"jsonrpc\":\"2.0\",\"error\":{\"code\":-32600,\"message\":\"invalid request\"}}"));
+        BlockNumber response = new BlockNumber();
+        response.setResult("0x10");
+        when(client.callRemoteMethodAsync(
+                        anyString(), anyString(), any(), eq(BlockNumber.class), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        BatchRequest.setPipelinedExpireMs(0);
+        try {
+            for (int i = 0; i < 2; i++) {
+                BatchRequest batch = new BatchRequest(client);
+                batch.getBlockNumber();
+                batch.getBlockNumber();
+                batch.send().get();
+            }
+            // the expired fallback tries the batch again
+            verify(client, times(2))
+                    .callRemoteRawAsync(anyString(), anyString(), anyString(), anyLong());
+        } finally {
+            BatchRequest.setPipelinedExpireMs(BatchRequest.DEFAULT_PIPELINED_EXPIRE_MS);
+        }
+
+        BatchRequest.resetPipelined(client);
+        BatchRequest batch = new BatchRequest(client);
+        batch.getBlockNumber();
+        batch.getBlockNumber();
+        batch.send().get();
+        verify(client, times(3))
+                .callRemoteRawAsync(anyString(), anyString(), anyString(), anyLong());
+    }
+
+    private static void assertClientException(CompletableFuture<?> future, int errorCode)
+            throws InterruptedException {
+        try {
+            future.get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof ClientException);
+            Assert.assertEquals(errorCode, ((ClientException) e.getCause()).getErrorCode());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.test.client;
+
+import java.math.BigInteger;
+import org.fisco.bcos.sdk.v3.client.BlockNumberTracker;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BlockNumberTrackerTest {
+
+    @Test
+    public void testTrackBlockNotifications() {
+        BlockNumberTracker tracker = new BlockNumberTracker("group0", 60000);
+        Assert.assertTrue(tracker.isEnabled());
+        Assert.assertFalse(tracker.isFresh());
+        Assert.assertEquals(-1, tracker.getFreshBlockNumber());
+
+        tracker.onResponse("group0", BigInteger.valueOf(10));
+        // the notifications of other groups are ignored
+        tracker.onResponse("group1", BigInteger.valueOf(100));
+        // the tracked number never goes back
+        tracker.onResponse("group0", BigInteger.valueOf(9));
+        Assert.assertEquals(10, tracker.getFreshBlockNumber());
+        Assert.assertEquals(2, tracker.getNotifications());
+        Assert.assertEquals(1, tracker.getLocalHits());
+        Assert.assertEquals(1, tracker.getRemoteCalls());
+
+        tracker.update(11);
+        Assert.assertEquals(11, tracker.getBlockNumber());
+        Assert.assertTrue(tracker.getAgeMs() >= 0);
+    }
+
+    @Test
+    public void testStaleBlockNumber() throws InterruptedException {
+        BlockNumberTracker tracker = new BlockNumberTracker("group0", 20);
+        tracker.update(5);
+        Assert.assertEquals(5, tracker.getFreshBlockNumber());
+        Thread.sleep(50);
+        Assert.assertFalse(tracker.isFresh());
+        Assert.assertEquals(-1, tracker.getFreshBlockNumber());
+        // the stale number is still known
+        Assert.assertEquals(5, tracker.getBlockNumber());
+
+        BlockNumberTracker disabled = new BlockNumberTracker("group0", 0);
+        disabled.update(5);
+        Assert.assertFalse(disabled.isEnabled());
+        Assert.assertFalse(disabled.isFresh());
+        Assert.assertEquals(-1, disabled.getFreshBlockNumber());
+    }
+}
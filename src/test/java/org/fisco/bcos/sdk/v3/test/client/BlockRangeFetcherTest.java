@@ -0,0 +1,137 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.test.client;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.fisco.bcos.sdk.v3.client.BlockRangeFetcher;
+import org.fisco.bcos.sdk.v3.client.Client;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosBlock;
+import org.fisco.bcos.sdk.v3.model.Response;
+import org.fisco.bcos.sdk.v3.model.callback.RespCallback;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BlockRangeFetcherTest {
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Set<Long> failedOnce = ConcurrentHashMap.newKeySet();
+    private final Set<String> usedNodes = ConcurrentHashMap.newKeySet();
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    /** answers every block with a random delay, the heights in failHeights fail once */
+    private Client mockClient(Set<Long> failHeights, long chainHeight) {
+        Client client = mock(Client.class);
+        doAnswer(
+                        invocation -> {
+                            String node = invocation.getArgument(0);
+                            long number = ((BigInteger) invocation.getArgument(1)).longValue();
+                            RespCallback<BcosBlock> callback = invocation.getArgument(4);
+                            usedNodes.add(node);
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            scheduler.schedule(
+                                    () -> {
+                                        inFlight.decrementAndGet();
+                                        if (number > chainHeight
+                                                || (failHeights.contains(number)
+                                                        && failedOnce.add(number))) {
+                                            callback.onError(new Response(-1, "mock error"));
+                                            return;
+                                        }
+                                        BcosBlock.Block block = new BcosBlock.Block();
+                                        block.setNumber(number);
+                                        BcosBlock bcosBlock = new BcosBlock();
+                                        bcosBlock.setResult(block);
+                                        callback.onResponse(bcosBlock);
+                                    },
+                                    ThreadLocalRandom.current().nextInt(3),
+                                    TimeUnit.MILLISECONDS);
+                            return null;
+                        })
+                .when(client)
+                .getBlockByNumberAsync(
+                        anyString(), any(BigInteger.class), anyBoolean(), anyBoolean(), any());
+        return client;
+    }
+
+    @Test
+    public void testOrderedFetch() {
+        Set<Long> failHeights = ConcurrentHashMap.newKeySet();
+        failHeights.addAll(Arrays.asList(3L, 50L, 99L));
+        Client client = mockClient(failHeights, Long.MAX_VALUE);
+
+        BlockRangeFetcher fetcher =
+                new BlockRangeFetcher(client, 1, 200)
+                        .setMaxInFlightRequests(8)
+                        .setBufferSize(16)
+                        .setNodes(Arrays.asList("node0", "node1"));
+        List<Long> numbers = new ArrayList<>();
+        fetcher.fetch(
+                block -> {
+                    numbers.add(block.getNumber());
+                    // the fetcher stays within the buffer of the consumer
+                    Assert.assertTrue(fetcher.getBufferedBlocks() <= 16);
+                });
+        Assert.assertEquals(200, numbers.size());
+        for (int i = 0; i < numbers.size(); i++) {
+            Assert.assertEquals(i + 1, numbers.get(i).longValue());
+        }
+        Assert.assertEquals(200, fetcher.getDeliveredBlocks());
+        Assert.assertEquals(3, fetcher.getRetries());
+        Assert.assertEquals(0, fetcher.getInFlightRequests());
+        Assert.assertTrue(maxInFlight.get() <= 8);
+        Assert.assertEquals(2, usedNodes.size());
+        Assert.assertFalse(fetcher.hasNext());
+    }
+
+    @Test
+    public void testFetchFailed() {
+        Client client = mockClient(ConcurrentHashMap.newKeySet(), 10);
+        BlockRangeFetcher fetcher =
+                new BlockRangeFetcher(client, 0, 20)
+                        .setMaxRetries(2)
+                        .setNodes(Arrays.asList("node0"));
+        List<Long> numbers = new ArrayList<>();
+        try {
+            fetcher.fetch(block -> numbers.add(block.getNumber()));
+            Assert.fail();
+        } catch (ClientException e) {
+            Assert.assertTrue(e.getMessage().contains("failed after 2 retries"));
+        }
+        // the blocks before the failed one are delivered
+        Assert.assertEquals(11, numbers.size());
+    }
+}
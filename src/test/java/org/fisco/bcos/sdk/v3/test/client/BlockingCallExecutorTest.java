@@ -0,0 +1,53 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.test.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.fisco.bcos.sdk.v3.client.BlockingCallExecutor;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.utils.VirtualThreads;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BlockingCallExecutorTest {
+
+    @Test
+    public void testSubmitBlockingCalls() throws Exception {
+        try (BlockingCallExecutor executor = new BlockingCallExecutor("test-call")) {
+            CompletableFuture<Boolean> virtual =
+                    executor.submit(() -> VirtualThreads.isVirtual(Thread.currentThread()));
+            Assert.assertEquals(VirtualThreads.isAvailable(), virtual.get());
+            // reported by the threads the calls actually run on
+            Assert.assertEquals(virtual.get(), executor.isVirtual());
+
+            CompletableFuture<Object> failed =
+                    executor.submit(
+                            () -> {
+                                throw new ClientException("call failed");
+                            });
+            try {
+                failed.get();
+                Assert.fail();
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof ClientException);
+            }
+            Assert.assertEquals(2, executor.getSubmittedCalls());
+            Assert.assertEquals(1, executor.getFailedCalls());
+
+            executor.close();
+            Assert.assertTrue(executor.submit(() -> 1).isCompletedExceptionally());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.test.client;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.v3.client.LatencyNodeSelector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyNodeSelectorTest {
+
+    private static long ms(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+
+    @Test
+    public void testSelectFastestSyncedNode() {
+        LatencyNodeSelector selector =
+                new LatencyNodeSelector(Arrays.asList("node0", "node1", "node2")).setProbeRatio(0);
+        for (int i = 0; i < 10; i++) {
+            selector.onResponse("node0", ms(30), true);
+            selector.onResponse("node1", ms(10), true);
+            selector.onResponse("node2", ms(5), true);
+        }
+        Assert.assertEquals("node2", selector.selectNode(Collections.emptySet()));
+        Assert.assertEquals("node1", selector.selectNode(Collections.singleton("node2")));
+
+        // a lagging node serves no reads
+        selector.onBlockNumber("node0", 100);
+        selector.onBlockNumber("node1", 100);
+        selector.onBlockNumber("node2", 98);
+        Assert.assertEquals("node1", selector.selectNode(Collections.emptySet()));
+        selector.setMaxBlockLag(2);
+        Assert.assertEquals("node2", selector.selectNode(Collections.emptySet()));
+
+        // a node failing fast does not look fast
+        for (int i = 0; i < 10; i++) {
+            selector.onResponse("node2", ms(1), false);
+        }
+        Assert.assertEquals("node1", selector.selectNode(Collections.emptySet()));
+        Assert.assertTrue(selector.getErrorRate("node2") > 0.8);
+        Assert.assertEquals(10, selector.getErrors("node2"));
+        Assert.assertEquals("", selector.selectNode(Arrays.asList("node0", "node1", "node2")));
+    }
+
+    @Test
+    public void testHedgeDelay() {
+        LatencyNodeSelector selector =
+                new LatencyNodeSelector(Collections.singletonList("node0"))
+                        .setMinHedgeSamples(20)
+                        .setMinHedgeDelayMs(1);
+        for (int i = 1; i <= 19; i++) {
+            selector.onResponse("node0", ms(i), true);
+        }
+        // not enough samples
+        Assert.assertEquals(0, selector.getHedgeDelayMs("node0"));
+        selector.onResponse("node0", ms(20), true);
+        Assert.assertEquals(19, selector.getHedgeDelayMs("node0"));
+        Assert.assertEquals(0, selector.getHedgeDelayMs("unknown"));
+
+        selector.setHedgeEnabled(false);
+        Assert.assertEquals(0, selector.getHedgeDelayMs("node0"));
+    }
+}
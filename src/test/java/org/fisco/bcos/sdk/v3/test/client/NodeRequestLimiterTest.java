@@ -0,0 +1,52 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.test.client;
+
+import org.fisco.bcos.sdk.v3.client.NodeRequestLimiter;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NodeRequestLimiterTest {
+    @Test
+    public void testLimit() {
+        NodeRequestLimiter limiter = new NodeRequestLimiter(2);
+        Assert.assertTrue(limiter.isEnabled());
+        Assert.assertTrue(limiter.tryAcquire("node0"));
+        Assert.assertTrue(limiter.tryAcquire("node0"));
+        Assert.assertFalse(limiter.tryAcquire("node0"));
+        // the limit is per node
+        Assert.assertTrue(limiter.tryAcquire("node1"));
+        Assert.assertEquals(2, limiter.getInFlightRequests("node0"));
+        Assert.assertEquals(1, limiter.getInFlightRequests("node1"));
+        Assert.assertEquals(1, limiter.getRejectedRequests("node0"));
+        Assert.assertEquals(0, limiter.getRejectedRequests("node1"));
+
+        limiter.release("node0");
+        Assert.assertTrue(limiter.tryAcquire("node0"));
+        Assert.assertFalse(limiter.tryAcquire("node0"));
+        Assert.assertEquals(2, limiter.getRejectedRequests());
+        Assert.assertEquals(Long.valueOf(2), limiter.getRejectedRequestsByNode().get("node0"));
+    }
+
+    @Test
+    public void testUnlimited() {
+        NodeRequestLimiter limiter = new NodeRequestLimiter(0);
+        Assert.assertFalse(limiter.isEnabled());
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(limiter.tryAcquire(""));
+        }
+        Assert.assertEquals(0, limiter.getInFlightRequests(""));
+        Assert.assertEquals(0, limiter.getRejectedRequests());
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.test.client;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import org.fisco.bcos.sdk.v3.client.Client;
+import org.fisco.bcos.sdk.v3.client.ReadSet;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.client.protocol.request.Transaction;
+import org.fisco.bcos.sdk.v3.client.protocol.response.Call;
+import org.fisco.bcos.sdk.v3.model.Response;
+import org.fisco.bcos.sdk.v3.model.callback.RespCallback;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReadSetTest {
+    private static final String TO = "0x" + String.format("%040x", 1);
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+    // the node of every call sent, in the order sent
+    private final List<String> sentNodes = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> callsPerNode = new ConcurrentHashMap<>();
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    /** answers a call asynchronously at the block number of the node, fails if it is negative */
+    private Client mockClient(ToLongFunction<String> nodeBlockNumber) {
+        Client client = mock(Client.class);
+        doAnswer(
+                        invocation -> {
+                            String node = invocation.getArgument(0);
+                            Transaction transaction = invocation.getArgument(1);
+                            RespCallback<Call> callback = invocation.getArgument(2);
+                            sentNodes.add(node);
+                            callsPerNode.merge(node, 1, Integer::sum);
+                            long blockNumber = nodeBlockNumber.applyAsLong(node);
+                            scheduler.schedule(
+                                    () -> {
+                                        if (blockNumber < 0) {
+                                            callback.onError(new Response(-1, "mock error"));
+                                            return;
+                                        }
+                                        Call.CallOutput output = new Call.CallOutput();
+                                        output.setBlockNumber(blockNumber);
+                                        output.setOutput(
+                                                Hex.toHexStringWithPrefix(transaction.getData()));
+                                        Call call = new Call();
+                                        call.setResult(output);
+                                        callback.onResponse(call);
+                                    },
+                                    1,
+                                    TimeUnit.MILLISECONDS);
+                            return null;
+                        })
+                .when(client)
+                .callAsync(anyString(), any(Transaction.class), any());
+        return client;
+    }
+
+    private ReadSet newReadSet(Client client, int calls) {
+        ReadSet readSet =
+                new ReadSet(client).setNodes(Arrays.asList("node0", "node1", "node2"));
+        for (int i = 0; i < calls; i++) {
+            Assert.assertEquals(i, readSet.add(TO, new byte[] {(byte) i}));
+        }
+        return readSet;
+    }
+
+    @Test
+    public void testConsistentInOneRound() {
+        ReadSet readSet = newReadSet(mockClient(node -> 10), 9);
+        ReadSet.Result result = readSet.execute();
+
+        Assert.assertEquals(10, result.getBlockNumber());
+        Assert.assertEquals(1, result.getRounds());
+        for (int i = 0; i < 9; i++) {
+            Assert.assertEquals("0x0" + i, result.getOutput(i).getOutput());
+        }
+        // sent concurrently to all the nodes
+        Assert.assertEquals(3, callsPerNode.size());
+        Assert.assertEquals(0, readSet.getReissuedCalls());
+    }
+
+    @Test
+    public void testReissueToNodesAtTarget() {
+        // node2 is one block behind, node1 fails once
+        Map<String, Integer> failures = new ConcurrentHashMap<>();
+        ReadSet readSet =
+                newReadSet(
+                        mockClient(
+                                node -> {
+                                    if ("node2".equals(node)) {
+                                        return 9;
+                                    }
+                                    if ("node1".equals(node)
+                                            && failures.merge(node, 1, Integer::sum) == 1) {
+                                        return -1;
+                                    }
+                                    return 10;
+                                }),
+                        9);
+        ReadSet.Result result = readSet.execute();
+
+        Assert.assertEquals(10, result.getBlockNumber());
+        Assert.assertEquals(2, result.getRounds());
+        for (int i = 0; i < 9; i++) {
+            Assert.assertEquals(10, result.getOutput(i).getBlockNumber());
+            Assert.assertEquals("0x0" + i, result.getOutput(i).getOutput());
+        }
+        // the 3 calls of node2 and the failed call of node1 only
+        Assert.assertEquals(4, readSet.getReissuedCalls());
+        Assert.assertEquals(13, readSet.getSentCalls());
+        Assert.assertEquals(13, sentNodes.size());
+        Assert.assertFalse(sentNodes.subList(9, 13).contains("node2"));
+    }
+
+    @Test
+    public void testInconsistentAfterMaxRounds() {
+        // every node moves to a new block for each call
+        Map<String, Integer> heights = new ConcurrentHashMap<>();
+        ReadSet readSet =
+                newReadSet(mockClient(node -> heights.merge(node, 1, Integer::sum)), 6)
+                        .setMaxRounds(2);
+        try {
+            readSet.execute();
+            Assert.fail();
+        } catch (ClientException e) {
+            Assert.assertTrue(e.getMessage().contains("after 2 rounds"));
+        }
+        Assert.assertEquals(1, readSet.getFailedExecutions());
+    }
+
+    @Test
+    public void testEmptyReadSet() {
+        ReadSet.Result result = newReadSet(mockClient(node -> 10), 0).execute();
+        Assert.assertEquals(-1, result.getBlockNumber());
+        Assert.assertTrue(result.getOutputs().isEmpty());
+        Assert.assertTrue(sentNodes.isEmpty());
+    }
+}
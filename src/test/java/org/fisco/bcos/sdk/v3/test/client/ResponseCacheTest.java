@@ -0,0 +1,157 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.test.client;
+
+import java.math.BigInteger;
+import org.fisco.bcos.sdk.v3.client.ResponseCache;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosBlock;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosTransactionReceipt;
+import org.fisco.bcos.sdk.v3.model.TransactionReceipt;
+import org.fisco.bcos.sdk.v3.utils.ObjectMapperFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ResponseCacheTest {
+    private static final String GROUP = "group0";
+
+    private static BcosBlock newBlock(long number) {
+        BcosBlock.Block block = new BcosBlock.Block();
+        block.setNumber(number);
+        block.setHash("0x" + String.format("%064x", number));
+        BcosBlock bcosBlock = new BcosBlock();
+        bcosBlock.setResult(block);
+        return bcosBlock;
+    }
+
+    private static byte[] toJson(Object value) throws Exception {
+        return ObjectMapperFactory.getObjectMapper().writeValueAsBytes(value);
+    }
+
+    @Test
+    public void testBlockCache() throws Exception {
+        ResponseCache cache = new ResponseCache(100, 1 << 20);
+        BcosBlock block = newBlock(10);
+        cache.putBlock(GROUP, false, true, block, toJson(block));
+
+        Assert.assertEquals(
+                block.getBlock(),
+                cache.getBlockByNumber(GROUP, BigInteger.valueOf(10), false, true).getBlock());
+        // the hash key ignores the prefix and the case
+        Assert.assertEquals(
+                block.getBlock(),
+                cache.getBlockByHash(GROUP, block.getBlock().getHash().substring(2), false, true)
+                        .getBlock());
+        // the variants and the groups are kept apart
+        Assert.assertNull(cache.getBlockByNumber(GROUP, BigInteger.valueOf(10), true, true));
+        Assert.assertNull(cache.getBlockByNumber(GROUP, BigInteger.valueOf(10), false, false));
+        Assert.assertNull(cache.getBlockByNumber("group1", BigInteger.valueOf(10), false, true));
+
+        Assert.assertEquals(2, cache.getHits());
+        Assert.assertEquals(3, cache.getMisses());
+        Assert.assertEquals(0.4, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void testEvictionAndOffHeap() throws Exception {
+        byte[] json = toJson(newBlock(1));
+        // two blocks, keyed by number and hash, fit on heap
+        ResponseCache cache = new ResponseCache(100, json.length * 4L, 1 << 20, 0);
+        for (long i = 1; i <= 4; i++) {
+            BcosBlock block = newBlock(i);
+            cache.putBlock(GROUP, false, false, block, toJson(block));
+        }
+        Assert.assertEquals(4, cache.size());
+        Assert.assertTrue(cache.getWeightBytes() <= json.length * 4L);
+        Assert.assertEquals(4, cache.getEvictions());
+
+        // evicted from heap, decoded again from the off-heap tier
+        BcosBlock block = cache.getBlockByNumber(GROUP, BigInteger.ONE, false, false);
+        Assert.assertEquals(newBlock(1).getBlock(), block.getBlock());
+        Assert.assertEquals(1, cache.getOffHeapHits());
+        Assert.assertEquals(0, cache.getMisses());
+        Assert.assertTrue(cache.getOffHeapBytes() > 0);
+
+        cache.clear();
+        Assert.assertNull(cache.getBlockByNumber(GROUP, BigInteger.ONE, false, false));
+        Assert.assertEquals(0, cache.getOffHeapBytes());
+    }
+
+    @Test
+    public void testConfirmations() throws Exception {
+        ResponseCache cache = new ResponseCache(100, 1 << 20, 0, 2);
+        BcosBlock block = newBlock(10);
+        cache.putBlock(GROUP, false, false, block, toJson(block));
+        Assert.assertNull(cache.getBlockByNumber(GROUP, BigInteger.TEN, false, false));
+        Assert.assertEquals(1, cache.getUnconfirmed());
+
+        BcosTransactionReceipt receipt = new BcosTransactionReceipt();
+        TransactionReceipt transactionReceipt = new TransactionReceipt();
+        transactionReceipt.setBlockNumber(BigInteger.valueOf(9));
+        receipt.setResult(transactionReceipt);
+        cache.putTransactionReceipt(GROUP, "0x01", false, receipt, toJson(receipt));
+        Assert.assertNull(cache.getTransactionReceipt(GROUP, "0x01", false));
+
+        cache.updateBlockNumber(12);
+        cache.putBlock(GROUP, false, false, block, toJson(block));
+        cache.putTransactionReceipt(GROUP, "0x01", false, receipt, toJson(receipt));
+        Assert.assertEquals(
+                block.getBlock(),
+                cache.getBlockByNumber(GROUP, BigInteger.TEN, false, false).getBlock());
+        Assert.assertEquals(
+                transactionReceipt,
+                cache.getTransactionReceipt(GROUP, "0x01", false).getTransactionReceipt());
+        Assert.assertNull(cache.getTransactionReceipt(GROUP, "0x01", true));
+    }
+
+    @Test
+    public void testHitsNotShared() throws Exception {
+        ResponseCache cache = new ResponseCache(100, 1 << 20);
+        BcosTransactionReceipt receipt = new BcosTransactionReceipt();
+        TransactionReceipt transactionReceipt = new TransactionReceipt();
+        transactionReceipt.setBlockNumber(BigInteger.ONE);
+        receipt.setResult(transactionReceipt);
+        cache.putTransactionReceipt(GROUP, "0x01", false, receipt, toJson(receipt));
+
+        // a caller modifying its receipt changes neither the cache nor the other callers
+        BcosTransactionReceipt first = cache.getTransactionReceipt(GROUP, "0x01", false);
+        first.getTransactionReceipt().setInput("0x1234");
+        receipt.getTransactionReceipt().setInput("0x5678");
+        BcosTransactionReceipt second = cache.getTransactionReceipt(GROUP, "0x01", false);
+        Assert.assertNotSame(first, second);
+        Assert.assertNull(second.getTransactionReceipt().getInput());
+        Assert.assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    public void testOffHeapOverwritesEldest() throws Exception {
+        byte[] json = toJson(newBlock(1));
+        // one entry on heap, three blocks, keyed by number and hash, fit off heap
+        ResponseCache cache = new ResponseCache(1, 1 << 20, json.length * 6L + 1, 0);
+        for (long i = 1; i <= 5; i++) {
+            BcosBlock block = newBlock(i);
+            cache.putBlock(GROUP, false, false, block, toJson(block));
+        }
+        // block 3 and 4 are found off heap, the ring overwrote block 1 and 2 with block 4 and 5
+        Assert.assertEquals(
+                newBlock(3).getBlock(),
+                cache.getBlockByNumber(GROUP, BigInteger.valueOf(3), false, false).getBlock());
+        Assert.assertEquals(
+                newBlock(4).getBlock(),
+                cache.getBlockByNumber(GROUP, BigInteger.valueOf(4), false, false).getBlock());
+        Assert.assertNull(cache.getBlockByNumber(GROUP, BigInteger.ONE, false, false));
+        Assert.assertNull(cache.getBlockByNumber(GROUP, BigInteger.valueOf(2), false, false));
+        Assert.assertEquals(2, cache.getOffHeapHits());
+        Assert.assertEquals(json.length * 6L, cache.getOffHeapBytes());
+    }
+}
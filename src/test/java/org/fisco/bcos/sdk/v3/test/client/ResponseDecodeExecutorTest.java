@@ -0,0 +1,114 @@
+/**
+ * Copyright 2014-2020 [fisco-dev]
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fisco.bcos.sdk.v3.test.client;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.fisco.bcos.sdk.v3.client.ClientImpl;
+import org.fisco.bcos.sdk.v3.client.ResponseDecodeExecutor;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.client.exceptions.JsonRpcErrorException;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BlockNumber;
+import org.fisco.bcos.sdk.v3.config.model.ThreadPoolConfig;
+import org.fisco.bcos.sdk.v3.model.Response;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ResponseDecodeExecutorTest {
+    private static Response newResponse(int errorCode, String content) {
+        Response response = new Response();
+        response.setErrorCode(errorCode);
+        response.setErrorMessage(errorCode == 0 ? "" : "error");
+        response.setContent(content.getBytes(StandardCharsets.UTF_8));
+        return response;
+    }
+
+    @Test
+    public void testDecode() throws Exception {
+        ResponseDecodeExecutor executor = new ResponseDecodeExecutor(2, 16);
+        try {
+            CompletableFuture<BlockNumber> future = new CompletableFuture<>();
+            executor.decode(
+                    future,
+                    "getBlockNumber",
+                    newResponse(0, "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":\"0x10\"}"),
+                    BlockNumber.class);
+            Assert.assertEquals(BigInteger.valueOf(16), future.get().getBlockNumber());
+
+            CompletableFuture<BlockNumber> failed = new CompletableFuture<>();
+            executor.decode(failed, "getBlockNumber", newResponse(-1, ""), BlockNumber.class);
+            try {
+                failed.get();
+                Assert.fail();
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof ClientException);
+                Assert.assertEquals(-1, ((ClientException) e.getCause()).getErrorCode());
+            }
+
+            Assert.assertEquals(2, executor.getDecodedResponses());
+            Assert.assertEquals(1, executor.getFailedResponses());
+            Assert.assertTrue(executor.getMaxDecodeNanos() >= executor.getAverageDecodeNanos());
+            Assert.assertEquals(0, executor.getQueueDepth());
+        } finally {
+            executor.stop();
+        }
+
+        // stopped executor fails the future instead of dropping the response
+        CompletableFuture<BlockNumber> rejected = new CompletableFuture<>();
+        executor.decode(rejected, "getBlockNumber", newResponse(0, "{}"), BlockNumber.class);
+        Assert.assertTrue(rejected.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testDefaultThreadPoolConfig() {
+        // an unset config falls back to the available processors
+        ResponseDecodeExecutor executor = new ResponseDecodeExecutor(new ThreadPoolConfig());
+        try {
+            Assert.assertEquals(
+                    Runtime.getRuntime().availableProcessors(), executor.getThreadPoolSize());
+        } finally {
+            executor.stop();
+        }
+        ThreadPoolConfig threadPoolConfig = new ThreadPoolConfig();
+        threadPoolConfig.setThreadPoolSize(3);
+        Assert.assertEquals(3, threadPoolConfig.getDecodeThreadPoolSize());
+        threadPoolConfig.setDecodeThreadPoolSize(2);
+        Assert.assertEquals(2, threadPoolConfig.getDecodeThreadPoolSize());
+    }
+
+    @Test
+    public void testJsonRpcErrorIsNotTransportError() {
+        // a node answering with a JSON-RPC error object is healthy
+        try {
+            ClientImpl.parseResponseIntoJsonRpcResponse(
+                    "getBlockNumber",
+                    newResponse(
+                            0,
+                            "{\"id\":1,\"jsonrpc\":\"2.0\",\"error\":{\"code\":-32602,\"message\":\"Invalid params\"}}"),
+                    BlockNumber.class);
+            Assert.fail();
+        } catch (JsonRpcErrorException e) {
+            Assert.assertEquals(-32602, e.getErrorCode());
+        }
+        try {
+            ClientImpl.parseResponseIntoJsonRpcResponse(
+                    "getBlockNumber", newResponse(-1, ""), BlockNumber.class);
+            Assert.fail();
+        } catch (ClientException e) {
+            Assert.assertFalse(e instanceof JsonRpcErrorException);
+        }
+    }
+}
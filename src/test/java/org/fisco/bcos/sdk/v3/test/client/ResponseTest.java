@@ -325,6 +325,12 @@ public class ResponseTest {
         // check the block
         Assert.assertEquals(bcosBlock.getBlock(), decodedBlock.getBlock());
         Assert.assertEquals(bcosBlock.getBlock().hashCode(), decodedBlock.getBlock().hashCode());
+        // decode with the cached reader
+        BcosBlock readerDecodedBlock = ObjectMapperFactory.readValue(encodedData, BcosBlock.class);
+        Assert.assertEquals(bcosBlock.getBlock(), readerDecodedBlock.getBlock());
+        Assert.assertSame(
+                ObjectMapperFactory.getObjectReader(BcosBlock.class),
+                ObjectMapperFactory.getObjectReader(BcosBlock.class));
     }
 
     private void checkBlockHeader(BcosBlock bcosBlock) {
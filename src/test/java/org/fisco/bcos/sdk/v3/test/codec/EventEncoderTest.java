@@ -6,11 +6,17 @@ import org.fisco.bcos.sdk.v3.codec.datatypes.TypeReference;
 import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint256;
 import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
 import org.fisco.bcos.sdk.v3.codec.EventEncoder;
+import org.fisco.bcos.sdk.v3.codec.SignatureCache;
+import org.fisco.bcos.sdk.v3.codec.abi.FunctionEncoder;
+import org.fisco.bcos.sdk.v3.model.CryptoType;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.fisco.bcos.sdk.v3.utils.Numeric;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class EventEncoderTest {
@@ -54,4 +60,45 @@ public class EventEncoderTest {
                 eventEncoder.buildMethodSignature("Notify", Utils.convert(parameters)),
                 "Notify(uint256,uint256)");
     }
+
+    @Test
+    public void testSignatureCache() {
+        Event event =
+                new Event(
+                        "Registered",
+                        Arrays.<TypeReference<?>>asList(
+                                new TypeReference<Uint256>() {
+                                }));
+        SignatureCache.registerEvents(event);
+        SignatureCache.registerFunctions("register(uint256)");
+
+        // the pre-registered selectors match the ones hashed by each crypto suite
+        for (int cryptoType : new int[] {CryptoType.ECDSA_TYPE, CryptoType.SM_TYPE}) {
+            CryptoSuite cryptoSuite = new CryptoSuite(cryptoType);
+            String topic = Numeric.toHexString(cryptoSuite.hash("Registered(uint256)".getBytes()));
+            assertEquals(topic, new EventEncoder(cryptoSuite).encode(event));
+            byte[] methodId =
+                    Arrays.copyOf(cryptoSuite.hash("register(uint256)".getBytes()), 4);
+            assertArrayEquals(
+                    methodId, new FunctionEncoder(cryptoSuite).buildMethodId("register(uint256)"));
+        }
+
+        // selectors of the same signature never collide between the hash algorithms
+        assertEquals(
+                "0x71e71a8458267085d5ab16980fd5f114d2d37f232479c245d523ce8d23ca40ed",
+                eventEncoder.buildEventSignature("Notify(uint256,uint256)"));
+        String smTopic =
+                new EventEncoder(new CryptoSuite(CryptoType.SM_TYPE))
+                        .buildEventSignature("Notify(uint256,uint256)");
+        assertEquals(
+                Numeric.toHexString(
+                        new CryptoSuite(CryptoType.SM_TYPE)
+                                .hash("Notify(uint256,uint256)".getBytes())),
+                smTopic);
+        assertEquals(
+                "71e71a84",
+                Hex.toHexString(
+                        new FunctionEncoder(new CryptoSuite(CryptoType.ECDSA_TYPE))
+                                .buildMethodId("Notify(uint256,uint256)")));
+    }
 }
@@ -0,0 +1,89 @@
+package org.fisco.bcos.sdk.v3.test.codec.abi;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import org.fisco.bcos.sdk.v3.codec.FunctionReturnDecoderInterface;
+import org.fisco.bcos.sdk.v3.codec.abi.ByteBufferFunctionReturnDecoder;
+import org.fisco.bcos.sdk.v3.codec.abi.FunctionEncoder;
+import org.fisco.bcos.sdk.v3.codec.abi.FunctionReturnDecoder;
+import org.fisco.bcos.sdk.v3.codec.datatypes.DynamicArray;
+import org.fisco.bcos.sdk.v3.codec.datatypes.DynamicBytes;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Type;
+import org.fisco.bcos.sdk.v3.codec.datatypes.TypeReference;
+import org.fisco.bcos.sdk.v3.codec.datatypes.Utf8String;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Int64;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint256;
+import org.fisco.bcos.sdk.v3.codec.datatypes.generated.Uint8;
+import org.fisco.bcos.sdk.v3.test.codec.TestFixture;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.junit.Assert;
+import org.junit.Test;
+
+/** Runs all the FunctionReturnDecoderTest cases against the ByteBuffer decoder. */
+public class ByteBufferFunctionReturnDecoderTest extends FunctionReturnDecoderTest {
+  private final ByteBufferFunctionReturnDecoder decoder = new ByteBufferFunctionReturnDecoder();
+
+  @Override
+  protected FunctionReturnDecoderInterface createDecoder() {
+    return new ByteBufferFunctionReturnDecoder();
+  }
+
+  @Test
+  public void testDecodeSlice() {
+    List<Type> values =
+        Arrays.asList(
+            new Uint256(BigInteger.TEN),
+            new Int64(BigInteger.valueOf(-5)),
+            new Utf8String("fisco-bcos"),
+            new DynamicArray<>(
+                DynamicArray.class,
+                new DynamicArray<>(Utf8String.class, new Utf8String("a"), new Utf8String("b")),
+                new DynamicArray<>(Utf8String.class, new Utf8String("c"))),
+            new DynamicArray<>(
+                TestFixture.Foo.class,
+                new TestFixture.Foo("id", "name"),
+                new TestFixture.Foo("id2", "")),
+            new DynamicBytes(new byte[] {1, 2, 3}));
+    List<TypeReference<?>> outputs =
+        Arrays.asList(
+            new TypeReference<Uint256>() {},
+            new TypeReference<Int64>() {},
+            new TypeReference<Utf8String>() {},
+            new TypeReference<DynamicArray<DynamicArray<Utf8String>>>() {},
+            new TypeReference<DynamicArray<TestFixture.Foo>>() {},
+            new TypeReference<DynamicBytes>() {});
+    byte[] encoded = FunctionEncoder.encodeConstructor(values);
+
+    // the output is read in place from the middle of a larger direct buffer
+    ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.length + 64);
+    buffer.position(32);
+    buffer.put(encoded);
+    buffer.position(32);
+    buffer.limit(32 + encoded.length);
+    List<Type> decoded =
+        decoder.decode(buffer, org.fisco.bcos.sdk.v3.codec.Utils.convert(outputs));
+    Assert.assertEquals(32, buffer.position());
+    Assert.assertEquals(values, decoded);
+    // FunctionReturnDecoder reads every element of a nested dynamic array from the first offset
+    List<Type> expected =
+        new FunctionReturnDecoder()
+            .decode(Hex.toHexString(encoded), org.fisco.bcos.sdk.v3.codec.Utils.convert(outputs));
+    for (int i : new int[] {0, 1, 2, 4, 5}) {
+      Assert.assertEquals(expected.get(i), decoded.get(i));
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testDecodeInvalidArrayLength() {
+    // a uint8[] claiming far more elements than the output holds
+    String output =
+        "0000000000000000000000000000000000000000000000000000000000000020"
+            + "00000000000000000000000000000000000000000000000000000000000fffff";
+    decoder.decode(
+        output,
+        org.fisco.bcos.sdk.v3.codec.Utils.convert(
+            Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Uint8>>() {})));
+  }
+}
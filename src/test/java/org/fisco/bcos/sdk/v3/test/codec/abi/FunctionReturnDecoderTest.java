@@ -1,6 +1,7 @@
 package org.fisco.bcos.sdk.v3.test.codec.abi;
 
 import org.fisco.bcos.sdk.v3.test.codec.TestUtils;
+import org.fisco.bcos.sdk.v3.codec.FunctionReturnDecoderInterface;
 import org.fisco.bcos.sdk.v3.codec.abi.FunctionReturnDecoder;
 import org.fisco.bcos.sdk.v3.codec.abi.TypeEncoder;
 import org.fisco.bcos.sdk.v3.codec.datatypes.*;
@@ -20,7 +21,11 @@ import java.util.List;
 import static org.junit.Assert.assertEquals;
 
 public class FunctionReturnDecoderTest {
-  private final FunctionReturnDecoder decoder = new FunctionReturnDecoder();
+  private final FunctionReturnDecoderInterface decoder = createDecoder();
+
+  protected FunctionReturnDecoderInterface createDecoder() {
+    return new FunctionReturnDecoder();
+  }
 
   @Test
   public void testSimpleFunctionDecode() {
@@ -8,6 +8,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 
 import static org.junit.Assert.*;
 
@@ -953,4 +954,44 @@ public class TypeDecoderTest {
                         new Utf8String("Hello, world!"),
                         new Utf8String("world! Hello,"))));
     }
+
+    @Test
+    public void testAbiTypeFactory() throws Exception {
+        String generated = "org.fisco.bcos.sdk.v3.codec.datatypes.generated.";
+        for (int bitSize = 8; bitSize <= 256; bitSize += 8) {
+            for (String name : new String[] {"Uint", "Int"}) {
+                String typeName = name.toLowerCase() + bitSize;
+                Class<?> cls = Class.forName(generated + name + bitSize);
+                assertEquals(cls, AbiTypes.getType(typeName));
+                NumericType value =
+                        AbiTypeFactory.getNumericFactory(typeName).create(BigInteger.ONE);
+                assertEquals(cls, value.getClass());
+                assertEquals(value, AbiTypeFactory.getNumericFactory(cls).create(BigInteger.ONE));
+            }
+        }
+        for (int length = 1; length <= 32; length++) {
+            Class<?> cls = Class.forName(generated + "Bytes" + length);
+            assertEquals(cls, AbiTypes.getType("bytes" + length));
+            Bytes value = AbiTypeFactory.getBytesFactory(cls).create(new byte[length]);
+            assertEquals(cls, value.getClass());
+            assertEquals(length, value.getValue().length);
+        }
+        for (int length = 1; length <= 32; length++) {
+            Class<?> cls = Class.forName(generated + "StaticArray" + length);
+            assertEquals(cls, AbiTypeFactory.getStaticArrayClass(length));
+            assertEquals(length, AbiTypeFactory.getStaticArrayLength(cls));
+        }
+        assertNull(AbiTypeFactory.getStaticArrayFactory(33));
+        assertNull(AbiTypeFactory.getNumericFactory("uint7"));
+        assertEquals(Address.class, AbiTypes.getType("address"));
+        assertEquals(Utf8String.class, AbiTypes.getType("string"));
+        assertEquals(DynamicBytes.class, AbiTypes.getType("bytes"));
+
+        StaticArray<Type> array =
+                AbiTypeFactory.getStaticArrayFactory(2)
+                        .create(Arrays.<Type>asList(new Uint8(1), new Uint8(2)));
+        assertEquals(StaticArray2.class, array.getClass());
+        assertEquals(Uint8.class, array.getComponentType());
+        assertEquals(array, TypeDecoder.instantiateStaticArray(array.getValue(), 2));
+    }
 }
@@ -1,6 +1,8 @@
 package org.fisco.bcos.sdk.v3.test.codec.abi;
 
 import org.fisco.bcos.sdk.v3.test.codec.TestUtils;
+import org.fisco.bcos.sdk.v3.codec.Utils;
+import org.fisco.bcos.sdk.v3.codec.abi.ByteBufferTypeEncoder;
 import org.fisco.bcos.sdk.v3.codec.abi.TypeEncoder;
 import org.fisco.bcos.sdk.v3.codec.datatypes.*;
 import org.fisco.bcos.sdk.v3.codec.datatypes.generated.*;
@@ -9,7 +11,12 @@ import org.fisco.bcos.sdk.v3.utils.Numeric;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
@@ -1329,4 +1336,109 @@ public class TypeEncoderTest {
                         // length second string
                         + "0000000000000000000000000000000000000000000000000000000000000000"));
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testByteBufferTypeEncoder() throws Exception {
+        List<Type> values =
+                Arrays.asList(
+                        new Bool(true),
+                        new Uint256(BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE)),
+                        new Uint64(BigInteger.ONE.shiftLeft(63)),
+                        new Int256(BigInteger.valueOf(-3)),
+                        new Int256(BigInteger.ONE.shiftLeft(200).negate()),
+                        new Address("0x0000000000000000000000000000000000001000"),
+                        new Bytes6(new byte[] {0, 1, 2, 3, 4, 5}),
+                        new DynamicBytes(new byte[33]),
+                        new Utf8String("\u4e2d\u6587 string \ud83d\ude00"),
+                        new DynamicArray<>(new Uint8(BigInteger.ONE), new Uint8(BigInteger.TEN)),
+                        new DynamicArray<>(
+                                new Utf8String("a string longer than thirty two bytes, really"),
+                                new Utf8String(""),
+                                new Utf8String("web3j")),
+                        new DynamicArray<>(
+                                new DynamicBytes(new byte[] {1}), new DynamicBytes(new byte[40])),
+                        new DynamicArray<>(
+                                new DynamicArray<>(new Utf8String("x"), new Utf8String("yz")),
+                                new DynamicArray<>(new Utf8String("w"))),
+                        DynamicArray.empty("string"),
+                        new StaticArray2<>(
+                                Uint256.class,
+                                new Uint256(BigInteger.ONE),
+                                new Uint256(BigInteger.TEN)),
+                        new StaticArray2<>(
+                                TestFixture.Foo.class,
+                                new TestFixture.Foo("id", "name"),
+                                new TestFixture.Foo("", "")),
+                        new TestFixture.Bar(BigInteger.ONE, BigInteger.TEN),
+                        new TestFixture.Fuzz(
+                                new TestFixture.Bar(BigInteger.ONE, BigInteger.TEN),
+                                BigInteger.valueOf(2)),
+                        new TestFixture.Naz(
+                                new TestFixture.Nar(
+                                        new TestFixture.Nuu(new TestFixture.Foo("4", "nestedFoo"))),
+                                BigInteger.ONE),
+                        new DynamicArray<>(
+                                TestFixture.Baz.class,
+                                new TestFixture.Baz("id", BigInteger.ONE),
+                                new TestFixture.Baz("a longer id, longer than thirty two bytes", BigInteger.TEN)));
+
+        // a reused buffer, dirty and in the other byte order
+        ByteBuffer buffer = ByteBuffer.allocateDirect(4096).order(ByteOrder.LITTLE_ENDIAN);
+        for (Type value : values) {
+            byte[] expected = TypeEncoder.encode(value);
+            Assert.assertArrayEquals(value.getTypeAsString(), expected, ByteBufferTypeEncoder.encode(value));
+            Assert.assertEquals(expected.length, ByteBufferTypeEncoder.encodedLength(value));
+
+            buffer.clear();
+            while (buffer.hasRemaining()) {
+                buffer.put((byte) 0x5a);
+            }
+            buffer.clear();
+            ByteBufferTypeEncoder.encodeTo(value, buffer);
+            Assert.assertEquals(expected.length, buffer.position());
+            byte[] written = new byte[expected.length];
+            buffer.flip();
+            buffer.get(written);
+            Assert.assertArrayEquals(expected, written);
+        }
+
+        byte[] methodId = {1, 2, 3, 4};
+        Assert.assertArrayEquals(
+                encodeParameters(values, methodId),
+                ByteBufferTypeEncoder.encodeParameters(values, methodId));
+        Assert.assertArrayEquals(
+                encodeParameters(values, null), ByteBufferTypeEncoder.encodeParameters(values, null));
+    }
+
+    // the ByteArrayOutputStream based FunctionEncoder.encodeParameters
+    private static byte[] encodeParameters(List<Type> parameters, byte[] methodID)
+            throws Exception {
+        int dynamicDataOffset = Utils.getLength(parameters) * Type.MAX_BYTE_LENGTH;
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        if (methodID != null) {
+            result.write(methodID);
+        }
+        ByteArrayOutputStream dynamicData = new ByteArrayOutputStream();
+        for (Type parameter : parameters) {
+            byte[] encodedValue = TypeEncoder.encode(parameter);
+            boolean dynamic =
+                    parameter instanceof DynamicBytes
+                            || parameter instanceof Utf8String
+                            || parameter instanceof DynamicArray
+                            || (parameter instanceof StaticArray
+                                    && DynamicStruct.class.isAssignableFrom(
+                                            ((StaticArray) parameter).getComponentType()));
+            if (dynamic) {
+                result.write(
+                        TypeEncoder.encodeNumeric(new Uint(BigInteger.valueOf(dynamicDataOffset))));
+                dynamicData.write(encodedValue);
+                dynamicDataOffset += encodedValue.length;
+            } else {
+                result.write(encodedValue);
+            }
+        }
+        result.write(dynamicData.toByteArray());
+        return result.toByteArray();
+    }
 }
@@ -2,6 +2,11 @@ package org.fisco.bcos.sdk.v3.test.codec.wrapper;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.fisco.bcos.sdk.v3.codec.wrapper.ABIDefinition;
+import org.fisco.bcos.sdk.v3.codec.wrapper.ABIDefinitionFactory;
+import org.fisco.bcos.sdk.v3.codec.wrapper.ContractABIDefinition;
+import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.model.CryptoType;
+import org.fisco.bcos.sdk.v3.utils.LruCache;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -565,4 +570,50 @@ public class ABIDefinitionTest {
         Assert.assertEquals(abiDefinition1.getInputs().get(2).getType(), "uint");
     }
 
+    @Test
+    public void testLoadABICache() {
+        ABIDefinitionFactory ecdsaFactory =
+                new ABIDefinitionFactory(new CryptoSuite(CryptoType.ECDSA_TYPE));
+        ABIDefinitionFactory smFactory =
+                new ABIDefinitionFactory(new CryptoSuite(CryptoType.SM_TYPE));
+        LruCache<String, ContractABIDefinition> cache = ABIDefinitionFactory.getCache();
+        long hits = cache.getHitCount();
+
+        ContractABIDefinition first = ecdsaFactory.loadABI(abiString);
+        Assert.assertNotNull(first);
+        // another factory with the same crypto type shares the parsed definition
+        ContractABIDefinition second =
+                new ABIDefinitionFactory(new CryptoSuite(CryptoType.ECDSA_TYPE)).loadABI(abiString);
+        Assert.assertSame(first, second);
+        Assert.assertEquals(hits + 1, cache.getHitCount());
+
+        // the method ids depend on the hash algorithm, so sm definitions are cached separately
+        ContractABIDefinition sm = smFactory.loadABI(abiString);
+        Assert.assertNotSame(first, sm);
+        Assert.assertNotNull(sm.getFunctions().get("allowance"));
+        Assert.assertFalse(
+                first.getMethodIDToFunctions()
+                        .keySet()
+                        .equals(sm.getMethodIDToFunctions().keySet()));
+
+        // the shared definition is read only
+        Assert.assertTrue(first.isFrozen());
+        try {
+            first.setConstructor(ABIDefinition.createDefaultConstructorABIDefinition());
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertNotNull(first.getConstructor());
+        }
+        try {
+            first.getFunctions().get("allowance").clear();
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            Assert.assertFalse(first.getFunctions().get("allowance").isEmpty());
+        }
+
+        // an invalid abi is not cached
+        int size = cache.size();
+        Assert.assertNull(ecdsaFactory.loadABI("[{invalid"));
+        Assert.assertEquals(size, cache.size());
+    }
 }
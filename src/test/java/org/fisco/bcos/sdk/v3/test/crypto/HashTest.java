@@ -13,9 +13,14 @@
  */
 package org.fisco.bcos.sdk.v3.test.crypto;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
 import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
 import org.fisco.bcos.sdk.v3.crypto.exceptions.UnsupportedCryptoTypeException;
 import org.fisco.bcos.sdk.v3.crypto.hash.Hash;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaKeccak256;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaSM3Hash;
 import org.fisco.bcos.sdk.v3.crypto.hash.Keccak256;
 import org.fisco.bcos.sdk.v3.crypto.hash.SM3Hash;
 import org.fisco.bcos.sdk.v3.model.CryptoType;
@@ -85,6 +90,82 @@ public class HashTest {
         testSM3(sm3Hasher);
     }
 
+    @Test
+    public void testJavaKeccak256() {
+        Hash hasher = new JavaKeccak256();
+        testKeccak256(hasher);
+        checkSameWithNative(new Keccak256(), hasher);
+        Assert.assertTrue(
+                new CryptoSuite(CryptoType.ECDSA_TYPE, true).getHashImpl()
+                        instanceof JavaKeccak256);
+    }
+
+    @Test
+    public void testJavaSM3() {
+        Hash hasher = new JavaSM3Hash();
+        testSM3(hasher);
+        checkSameWithNative(new SM3Hash(), hasher);
+        Assert.assertTrue(
+                new CryptoSuite(CryptoType.SM_TYPE, true).getHashImpl() instanceof JavaSM3Hash);
+    }
+
+    @Test
+    public void testJavaHashAfterInvalidSlice() {
+        checkHashAfterInvalidSlice(new JavaKeccak256(), new Keccak256());
+        checkHashAfterInvalidSlice(new JavaSM3Hash(), new SM3Hash());
+    }
+
+    private void checkHashAfterInvalidSlice(Hash javaHasher, Hash nativeHasher) {
+        byte[] input = new byte[300];
+        new Random(7).nextBytes(input);
+        try {
+            javaHasher.hash(input, 100, 250);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // the digest of the thread must not keep the rejected input
+        }
+        try {
+            javaHasher.hash(input, -1, 10);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        Assert.assertEquals(nativeHasher.hashBytes(input), javaHasher.hashBytes(input));
+    }
+
+    private void checkSameWithNative(Hash nativeHasher, Hash javaHasher) {
+        Random random = new Random(1024);
+        // cover the block boundaries of both keccak256(136 bytes) and sm3(64 bytes)
+        for (int length = 0; length <= 1100; length += (length < 300 ? 1 : 97)) {
+            byte[] input = new byte[length];
+            random.nextBytes(input);
+            String expected = nativeHasher.hashBytes(input);
+            Assert.assertEquals(expected, javaHasher.hashBytes(input));
+            Assert.assertEquals(expected, Hex.toHexString(javaHasher.hash(input)));
+
+            // slice of a larger array
+            byte[] padded = new byte[length + 10];
+            System.arraycopy(input, 0, padded, 3, length);
+            Assert.assertEquals(expected, Hex.toHexString(javaHasher.hash(padded, 3, length)));
+
+            // heap and direct buffers, the position must not be changed
+            ByteBuffer heapBuffer = ByteBuffer.wrap(padded, 3, length);
+            Assert.assertEquals(expected, Hex.toHexString(javaHasher.hash(heapBuffer)));
+            Assert.assertEquals(3, heapBuffer.position());
+            ByteBuffer directBuffer = ByteBuffer.allocateDirect(length + 5);
+            directBuffer.position(5);
+            directBuffer.put(input);
+            directBuffer.position(5);
+            Assert.assertEquals(expected, Hex.toHexString(javaHasher.hash(directBuffer)));
+            Assert.assertEquals(5, directBuffer.position());
+
+            // the default methods of the native implementation
+            Assert.assertEquals(
+                    expected, Hex.toHexString(nativeHasher.hash(padded, 3, length)));
+            Assert.assertTrue(Arrays.equals(nativeHasher.hash(directBuffer), javaHasher.hash(input)));
+        }
+    }
+
     private void testKeccak256(Hash hasher) {
 
         // check keccak256 for "abcde"
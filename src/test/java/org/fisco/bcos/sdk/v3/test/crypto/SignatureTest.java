@@ -23,6 +23,7 @@ import org.fisco.bcos.sdk.v3.crypto.exceptions.SignatureException;
 import org.fisco.bcos.sdk.v3.crypto.hash.Hash;
 import org.fisco.bcos.sdk.v3.crypto.hash.Keccak256;
 import org.fisco.bcos.sdk.v3.crypto.hash.SM3Hash;
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyHandle;
 import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
 import org.fisco.bcos.sdk.v3.crypto.keypair.ECDSAKeyPair;
 import org.fisco.bcos.sdk.v3.crypto.keypair.SM2KeyPair;
@@ -35,6 +36,7 @@ import org.fisco.bcos.sdk.v3.crypto.signature.SM2Signature;
 import org.fisco.bcos.sdk.v3.crypto.signature.SM2SignatureResult;
 import org.fisco.bcos.sdk.v3.crypto.signature.Signature;
 import org.fisco.bcos.sdk.v3.crypto.signature.SignatureResult;
+import org.fisco.bcos.sdk.v3.crypto.signature.VerifyRequest;
 import org.fisco.bcos.sdk.v3.model.CryptoType;
 import org.fisco.bcos.sdk.v3.utils.Numeric;
 import org.fisco.bcos.sdk.v3.utils.StringUtils;
@@ -42,6 +44,12 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class SignatureTest {
     private static final String configFile =
@@ -125,6 +133,167 @@ public class SignatureTest {
         this.testSignature(hasher, sm2Signature, keyPair);
     }
 
+    @Test
+    public void testECDSASignHashWithKeyHandle() {
+        CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        for (int i = 0; i < 20; i++) {
+            CryptoKeyPair keyPair = cryptoSuite.generateRandomKeyPair();
+            byte[] hash = cryptoSuite.hash(("test signHash " + i).getBytes());
+            byte[] signature = cryptoSuite.signHash(hash, keyPair);
+            // the deterministic signature is the same with the native one
+            Assert.assertArrayEquals(cryptoSuite.sign(hash, keyPair).encode(), signature);
+            checkSignHashWithKeyHandle(cryptoSuite, keyPair, hash, signature);
+        }
+    }
+
+    @Test
+    public void testECDSAVerifyHashRejectsHighS() {
+        CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        CryptoKeyPair keyPair = cryptoSuite.getCryptoKeyPair();
+        BigInteger n = CryptoKeyHandle.getDomain(CryptoKeyPair.ECDSA_CURVE_NAME).getN();
+        for (int i = 0; i < 10; i++) {
+            byte[] hash = cryptoSuite.hash(("test high s " + i).getBytes());
+            byte[] signature = cryptoSuite.signHash(hash, keyPair);
+            // the same r with n - s is a malleable signature
+            byte[] highS = Arrays.copyOf(signature, 65);
+            BigInteger s = new BigInteger(1, Arrays.copyOfRange(signature, 32, 64));
+            System.arraycopy(toBytes32(n.subtract(s)), 0, highS, 32, 32);
+            Assert.assertFalse(
+                    cryptoSuite.verify(
+                            keyPair.getHexPublicKey(),
+                            Hex.toHexString(hash),
+                            Hex.toHexString(highS)));
+            Assert.assertFalse(
+                    cryptoSuite.verifyHash(Hex.decode(keyPair.getHexPublicKey()), hash, highS));
+            // also rejected with the recovery id of the higher s
+            highS[64] = (byte) (signature[64] ^ 1);
+            Assert.assertFalse(
+                    cryptoSuite.verifyHash(Hex.decode(keyPair.getHexPublicKey()), hash, highS));
+            Assert.assertTrue(
+                    cryptoSuite.verifyHash(
+                            Hex.decode(keyPair.getHexPublicKey()), hash, signature));
+        }
+    }
+
+    private static byte[] toBytes32(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] result = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, result, 32 - length, length);
+        return result;
+    }
+
+    @Test
+    public void testSM2SignHashWithKeyHandle() {
+        CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.SM_TYPE);
+        for (int i = 0; i < 20; i++) {
+            CryptoKeyPair keyPair = cryptoSuite.generateRandomKeyPair();
+            byte[] hash = cryptoSuite.hash(("test signHash " + i).getBytes());
+            byte[] signature = cryptoSuite.signHash(hash, keyPair);
+            Assert.assertEquals(128, signature.length);
+            Assert.assertEquals(
+                    keyPair.getHexPublicKey(), Hex.toHexString(Arrays.copyOfRange(signature, 64, 128)));
+            checkSignHashWithKeyHandle(cryptoSuite, keyPair, hash, signature);
+            // the native signature can be verified in java
+            byte[] nativeSignature = cryptoSuite.sign(hash, keyPair).encode();
+            Assert.assertTrue(
+                    cryptoSuite.verifyHash(
+                            Hex.decode(keyPair.getHexPublicKey()), hash, nativeSignature));
+        }
+    }
+
+    private void checkSignHashWithKeyHandle(
+            CryptoSuite cryptoSuite, CryptoKeyPair keyPair, byte[] hash, byte[] signature) {
+        // the java signature can be verified by the native implementation, which takes [r, s]
+        // for sm2
+        byte[] nativeSignature = signature.length == 65 ? signature : Arrays.copyOf(signature, 64);
+        Assert.assertTrue(
+                cryptoSuite.verify(
+                        keyPair.getHexPublicKey(),
+                        Hex.toHexString(hash),
+                        Hex.toHexString(nativeSignature)));
+        Assert.assertSame(keyPair.getKeyHandle(), keyPair.getKeyHandle());
+        CryptoKeyHandle publicKey =
+                cryptoSuite.createPublicKeyHandle(Hex.decode(keyPair.getHexPublicKey()));
+        Assert.assertFalse(publicKey.hasPrivateKey());
+        Assert.assertTrue(cryptoSuite.verifyHash(publicKey, hash, signature));
+        Assert.assertTrue(
+                cryptoSuite
+                        .getSignatureImpl()
+                        .verifyHash(publicKey, ByteBuffer.wrap(hash), ByteBuffer.wrap(signature)));
+        byte[] bufferSignature = cryptoSuite.signHash(ByteBuffer.wrap(hash), keyPair);
+        Assert.assertTrue(cryptoSuite.verifyHash(publicKey, hash, bufferSignature));
+
+        // tampered hash and signature
+        byte[] otherHash = cryptoSuite.hash(hash);
+        Assert.assertFalse(cryptoSuite.verifyHash(publicKey, otherHash, signature));
+        byte[] tampered = Arrays.copyOf(signature, signature.length);
+        tampered[10] ^= 0x01;
+        Assert.assertFalse(cryptoSuite.verifyHash(publicKey, hash, tampered));
+        // another public key
+        CryptoKeyPair otherKeyPair = cryptoSuite.getKeyPairFactory().generateKeyPair();
+        Assert.assertFalse(
+                cryptoSuite.verifyHash(
+                        Hex.decode(otherKeyPair.getHexPublicKey()), hash, signature));
+    }
+
+    @Test
+    public void testVerifyBatch() {
+        testVerifyBatch(new CryptoSuite(CryptoType.ECDSA_TYPE));
+        testVerifyBatch(new CryptoSuite(CryptoType.SM_TYPE));
+    }
+
+    private void testVerifyBatch(CryptoSuite cryptoSuite) {
+        List<CryptoKeyPair> keyPairs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            keyPairs.add(cryptoSuite.getKeyPairFactory().generateKeyPair());
+        }
+        List<VerifyRequest> requests = new ArrayList<>();
+        BitSet expected = new BitSet();
+        for (int i = 0; i < 200; i++) {
+            CryptoKeyPair keyPair = keyPairs.get(i % keyPairs.size());
+            byte[] hash = cryptoSuite.hash(("verify batch " + i).getBytes());
+            String signature = cryptoSuite.sign(hash, keyPair).convertToString();
+            if (i % 7 == 0) {
+                // signed by another key
+                requests.add(
+                        new VerifyRequest(
+                                keyPairs.get((i + 1) % keyPairs.size()).getHexPublicKey(),
+                                Hex.toHexString(hash),
+                                signature));
+            } else if (i % 11 == 0) {
+                // malformed signature
+                requests.add(new VerifyRequest(keyPair.getHexPublicKey(), hash, new byte[3]));
+            } else {
+                requests.add(
+                        new VerifyRequest(
+                                "04" + keyPair.getHexPublicKey(),
+                                Hex.toHexString(hash),
+                                signature));
+                expected.set(i);
+            }
+        }
+        Assert.assertEquals(expected, cryptoSuite.verifyBatch(requests));
+        // the distinct public keys are cached
+        Assert.assertEquals(keyPairs.size(), cryptoSuite.getPublicKeyCache().size());
+        Assert.assertTrue(cryptoSuite.getPublicKeyCache().getHitCount() > 0);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Assert.assertEquals(expected, cryptoSuite.verifyBatch(requests, pool));
+        } finally {
+            pool.shutdown();
+        }
+        Assert.assertEquals(new BitSet(), cryptoSuite.verifyBatch(new ArrayList<>()));
+
+        // the key cache is bounded, the eviction is per segment so it may hold fewer keys
+        cryptoSuite.setPublicKeyCacheSize(2);
+        Assert.assertEquals(expected, cryptoSuite.verifyBatch(requests));
+        int cachedKeys = cryptoSuite.getPublicKeyCache().size();
+        Assert.assertTrue(cachedKeys > 0 && cachedKeys <= 2);
+        Assert.assertTrue(cryptoSuite.getPublicKeyCache().getEvictionCount() > 0);
+    }
+
     @Test
     public void testValidGetAddressForECDSA() {
         CryptoKeyPair keyPair = (new ECDSAKeyPair()).generateKeyPair();
@@ -0,0 +1,113 @@
+package org.fisco.bcos.sdk.v3.test.transaction.codec;
+
+import java.util.Random;
+import org.fisco.bcos.sdk.jni.utilities.tx.TransactionBuilderJniObj;
+import org.fisco.bcos.sdk.v3.crypto.hash.Hash;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaKeccak256;
+import org.fisco.bcos.sdk.v3.crypto.hash.JavaSM3Hash;
+import org.fisco.bcos.sdk.v3.model.CryptoType;
+import org.fisco.bcos.sdk.v3.transaction.codec.encode.TarsTransactionData;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.fisco.bcos.sdk.v3.utils.ObjectMapperFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TarsTransactionDataTest {
+    private static final String TO = "0x" + String.format("%040x", 1);
+    private final Random random = new Random(7);
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private String repeat(String value, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
+    /** build the same transactionData in java and with the jni and compare the encodings */
+    private void checkSameAsJni(
+            String groupId, String chainId, String to, byte[] input, String abi, long blockLimit)
+            throws Exception {
+        long pointer =
+                TransactionBuilderJniObj.createTransactionData(
+                        groupId, chainId, to, Hex.toHexString(input), abi, blockLimit);
+        try {
+            String jniEncoded = TransactionBuilderJniObj.encodeTransactionData(pointer);
+            String nonce =
+                    ObjectMapperFactory.getObjectMapper()
+                            .readTree(
+                                    TransactionBuilderJniObj.decodeTransactionDataToJsonObj(
+                                            jniEncoded))
+                            .get("nonce")
+                            .asText();
+            TarsTransactionData transactionData =
+                    new TarsTransactionData(groupId, chainId, to, input, abi, blockLimit, nonce);
+
+            Assert.assertEquals(jniEncoded, Hex.toHexString(transactionData.encode()));
+            checkHash(transactionData, pointer, CryptoType.ECDSA_TYPE, new JavaKeccak256());
+            checkHash(transactionData, pointer, CryptoType.SM_TYPE, new JavaSM3Hash());
+
+            byte[] hash = transactionData.calculateHash(new JavaKeccak256());
+            byte[] signature = randomBytes(65);
+            Assert.assertEquals(
+                    TransactionBuilderJniObj.createSignedTransaction(
+                            pointer, Hex.toHexString(signature), Hex.toHexString(hash), 0),
+                    Hex.toHexStringWithPrefix(
+                            transactionData.encodeSignedTransaction(hash, signature, 0, "")));
+            Assert.assertEquals(
+                    TransactionBuilderJniObj.createSignedTransaction(
+                            pointer,
+                            Hex.toHexString(signature),
+                            Hex.toHexString(hash),
+                            0x7fff,
+                            "extraData"),
+                    Hex.toHexStringWithPrefix(
+                            transactionData.encodeSignedTransaction(
+                                    hash, signature, 0x7fff, "extraData")));
+        } finally {
+            TransactionBuilderJniObj.destroyTransactionData(pointer);
+        }
+    }
+
+    private void checkHash(
+            TarsTransactionData transactionData, long pointer, int cryptoType, Hash hashImpl)
+            throws Exception {
+        Assert.assertEquals(
+                TransactionBuilderJniObj.calcTransactionDataHash(cryptoType, pointer),
+                Hex.toHexStringWithPrefix(transactionData.calculateHash(hashImpl)));
+    }
+
+    @Test
+    public void testSameAsJni() throws Exception {
+        checkSameAsJni("group0", "chain0", TO, randomBytes(68), "", 500);
+        // deploy with an abi longer than 255 bytes
+        checkSameAsJni("group0", "chain0", "", randomBytes(300), repeat("[abi]", 100), 1);
+        checkSameAsJni("", "", TO.toUpperCase(), new byte[0], "", 70000);
+        checkSameAsJni("g", "c", TO, randomBytes(100000), "", Integer.MAX_VALUE + 1L);
+        checkSameAsJni(repeat("group", 60), "链0", TO, randomBytes(1), "abi", Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testCreate() {
+        TarsTransactionData transactionData =
+                TarsTransactionData.create("group0", "chain0", TO, new byte[] {1}, null, 10);
+        Assert.assertEquals("", transactionData.getAbi());
+        Assert.assertFalse(transactionData.getNonce().isEmpty());
+        Assert.assertNotEquals(
+                transactionData.getNonce(),
+                TarsTransactionData.create("group0", "chain0", TO, new byte[] {1}, null, 10)
+                        .getNonce());
+        try {
+            TarsTransactionData.create("group0", "chain0", TO, new byte[] {1}, null, 0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("block limit"));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.fisco.bcos.sdk.v3.test.transaction.codec;
+
+import java.util.Map;
+import org.fisco.bcos.sdk.jni.utilities.tx.TransactionBuilderJniObj;
+import org.fisco.bcos.sdk.v3.transaction.codec.encode.TransactionData;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TransactionDataTest {
+    private static final String TO = "0x" + String.format("%040x", 1);
+
+    private static TransactionData create() throws Exception {
+        return TransactionData.create("group0", "chain0", TO, "0102", "", 500);
+    }
+
+    @Test
+    public void testCloseAndRelease() throws Exception {
+        int live = TransactionData.getLiveHandles();
+        TransactionData transactionData = create();
+        Assert.assertEquals(live + 1, TransactionData.getLiveHandles());
+        Assert.assertNotEquals(0, transactionData.getPointer());
+        Assert.assertFalse(
+                TransactionBuilderJniObj.encodeTransactionData(transactionData.getPointer())
+                        .isEmpty());
+
+        transactionData.close();
+        // closing again does nothing
+        transactionData.close();
+        Assert.assertTrue(transactionData.isClosed());
+        Assert.assertEquals(live, TransactionData.getLiveHandles());
+        try {
+            transactionData.getPointer();
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().contains("closed"));
+        }
+
+        // the released handle is owned by the caller again
+        long pointer = create().release();
+        Assert.assertEquals(live, TransactionData.getLiveHandles());
+        try (TransactionData wrapped = TransactionData.wrap(pointer)) {
+            Assert.assertEquals(pointer, wrapped.getPointer());
+        }
+    }
+
+    @Test
+    public void testDetectLeakedHandles() throws Exception {
+        boolean leakDetection = TransactionData.isLeakDetection();
+        TransactionData.setLeakDetection(true);
+        try {
+            long leaked = TransactionData.getLeakedHandles();
+            create();
+            Map<String, Integer> sites = TransactionData.getLiveAllocationSites();
+            Assert.assertTrue(
+                    sites.keySet().stream()
+                            .anyMatch(site -> site.contains(TransactionDataTest.class.getName())));
+
+            long deadline = System.currentTimeMillis() + 10000;
+            while (TransactionData.getLeakedHandles() == leaked
+                    && System.currentTimeMillis() < deadline) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(leaked + 1, TransactionData.getLeakedHandles());
+        } finally {
+            TransactionData.setLeakDetection(leakDetection);
+        }
+    }
+}
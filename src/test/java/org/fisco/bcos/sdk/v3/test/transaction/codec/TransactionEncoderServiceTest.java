@@ -0,0 +1,102 @@
+package org.fisco.bcos.sdk.v3.test.transaction.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.fisco.bcos.sdk.jni.utilities.tx.TransactionBuilderJniObj;
+import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.model.CryptoType;
+import org.fisco.bcos.sdk.v3.transaction.codec.encode.TransactionEncoderService;
+import org.fisco.bcos.sdk.v3.transaction.model.dto.EncodedTransaction;
+import org.fisco.bcos.sdk.v3.transaction.model.dto.TxSpec;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.fisco.bcos.sdk.v3.utils.ObjectMapperFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TransactionEncoderServiceTest {
+    private static final String TO = "0x" + String.format("%040x", 1);
+
+    private static byte[] toBytes(JsonNode array) {
+        byte[] bytes = new byte[array.size()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) array.get(i).asInt();
+        }
+        return bytes;
+    }
+
+    private void checkEncodeAndSignBatch(int cryptoType, boolean useJavaBuilder) throws Exception {
+        checkEncodeAndSignBatch(cryptoType, useJavaBuilder, null);
+    }
+
+    private void checkEncodeAndSignBatch(
+            int cryptoType, boolean useJavaBuilder, ExecutorService executor) throws Exception {
+        CryptoSuite cryptoSuite = new CryptoSuite(cryptoType);
+        TransactionEncoderService encoder =
+                new TransactionEncoderService(cryptoSuite)
+                        .setUseJavaBuilder(useJavaBuilder)
+                        .setBatchExecutor(executor);
+        List<TxSpec> txSpecs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            TxSpec txSpec = new TxSpec("group0", "chain0", TO, new byte[] {(byte) i, 1}, 500 + i);
+            if (i % 2 == 1) {
+                txSpec.setAttribute(1).setExtraData("extra" + i);
+            }
+            txSpecs.add(txSpec);
+        }
+        List<EncodedTransaction> encodedTransactions =
+                encoder.encodeAndSignBatch(txSpecs, cryptoSuite.getCryptoKeyPair());
+
+        Assert.assertEquals(txSpecs.size(), encodedTransactions.size());
+        for (int i = 0; i < txSpecs.size(); i++) {
+            EncodedTransaction encodedTransaction = encodedTransactions.get(i);
+            JsonNode transaction =
+                    ObjectMapperFactory.getObjectMapper()
+                            .readTree(
+                                    TransactionBuilderJniObj.decodeTransactionToJsonObj(
+                                            Hex.toHexString(
+                                                    encodedTransaction.getSignedTransaction())));
+            // in the order of the specs
+            Assert.assertEquals(
+                    Hex.toHexStringWithPrefix(txSpecs.get(i).getInput()),
+                    transaction.get("data").get("input").asText());
+            Assert.assertEquals(500 + i, transaction.get("data").get("blockLimit").asLong());
+            Assert.assertEquals(
+                    txSpecs.get(i).getAttribute(), transaction.get("attribute").asInt());
+            Assert.assertEquals(
+                    txSpecs.get(i).getExtraData(), transaction.get("extraData").asText());
+            Assert.assertArrayEquals(
+                    encodedTransaction.getHash(), toBytes(transaction.get("dataHash")));
+            Assert.assertTrue(
+                    cryptoSuite.verifyHash(
+                            Hex.decode(cryptoSuite.getCryptoKeyPair().getHexPublicKey()),
+                            encodedTransaction.getHash(),
+                            toBytes(transaction.get("signature"))));
+        }
+    }
+
+    @Test
+    public void testEncodeAndSignBatch() throws Exception {
+        checkEncodeAndSignBatch(CryptoType.ECDSA_TYPE, false);
+        checkEncodeAndSignBatch(CryptoType.SM_TYPE, false);
+    }
+
+    @Test
+    public void testEncodeAndSignBatchWithJavaBuilder() throws Exception {
+        checkEncodeAndSignBatch(CryptoType.ECDSA_TYPE, true);
+        checkEncodeAndSignBatch(CryptoType.SM_TYPE, true);
+    }
+
+    @Test
+    public void testEncodeAndSignBatchWithExecutor() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            checkEncodeAndSignBatch(CryptoType.ECDSA_TYPE, false, executor);
+            checkEncodeAndSignBatch(CryptoType.SM_TYPE, true, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
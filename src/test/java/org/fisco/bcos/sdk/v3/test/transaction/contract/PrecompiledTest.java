@@ -10,13 +10,22 @@ import org.fisco.bcos.sdk.v3.client.protocol.response.GroupPeers;
 import org.fisco.bcos.sdk.v3.client.protocol.response.ObserverList;
 import org.fisco.bcos.sdk.v3.client.protocol.response.SealerList;
 import org.fisco.bcos.sdk.v3.client.protocol.response.SyncStatus;
+import org.fisco.bcos.sdk.v3.codec.SignatureCache;
+import org.fisco.bcos.sdk.v3.codec.wrapper.ABIDefinition;
 import org.fisco.bcos.sdk.v3.contract.auth.manager.AuthManager;
 import org.fisco.bcos.sdk.v3.contract.auth.po.AccessStatus;
+import org.fisco.bcos.sdk.v3.contract.precompiled.bfs.BFSPrecompiled;
 import org.fisco.bcos.sdk.v3.contract.precompiled.bfs.BFSService;
+import org.fisco.bcos.sdk.v3.contract.precompiled.consensus.ConsensusPrecompiled;
 import org.fisco.bcos.sdk.v3.contract.precompiled.consensus.ConsensusService;
+import org.fisco.bcos.sdk.v3.contract.precompiled.crud.KVTablePrecompiled;
 import org.fisco.bcos.sdk.v3.contract.precompiled.crud.KVTableService;
 import org.fisco.bcos.sdk.v3.contract.precompiled.crud.TableCRUDService;
+import org.fisco.bcos.sdk.v3.contract.precompiled.crud.TableManagerPrecompiled;
+import org.fisco.bcos.sdk.v3.contract.precompiled.crud.TablePrecompiled;
 import org.fisco.bcos.sdk.v3.contract.precompiled.model.PrecompiledAddress;
+import org.fisco.bcos.sdk.v3.contract.precompiled.sharding.ShardingPrecompiled;
+import org.fisco.bcos.sdk.v3.contract.precompiled.sysconfig.SystemConfigPrecompiled;
 import org.fisco.bcos.sdk.v3.contract.precompiled.sysconfig.SystemConfigService;
 import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
 import org.fisco.bcos.sdk.v3.model.CryptoType;
@@ -27,10 +36,12 @@ import org.fisco.bcos.sdk.v3.model.TransactionReceipt;
 import org.fisco.bcos.sdk.v3.test.transaction.mock.MockTransactionProcessor;
 import org.fisco.bcos.sdk.v3.transaction.manager.TransactionProcessor;
 import org.fisco.bcos.sdk.v3.transaction.model.exception.ContractException;
+import org.fisco.bcos.sdk.v3.utils.ObjectMapperFactory;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.stubbing.Answer;
 
+import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -307,4 +318,36 @@ public class PrecompiledTest {
         Assert.assertThrows(PrecompiledRetCode.MUST_EXIST_IN_NODE_LIST,
                 ContractException.class, () -> consensusService.addObserver("node0"));
     }
+
+    @Test
+    public void precompiledMethodIdsRegisteredTest() throws IOException {
+        // the wrappers register their method ids when loaded, a miss would hash with this suite
+        CryptoSuite noHashSuite = mock(CryptoSuite.class);
+        when(noHashSuite.getCryptoTypeConfig()).thenReturn(CryptoType.ECDSA_TYPE);
+        when(noHashSuite.hash(any(byte[].class))).thenThrow(new IllegalStateException("not registered"));
+
+        List<String> methodSignatures = new ArrayList<>();
+        for (String abi : Arrays.asList(SystemConfigPrecompiled.ABI, ConsensusPrecompiled.ABI,
+                ShardingPrecompiled.ABI, TableManagerPrecompiled.ABI, KVTablePrecompiled.ABI,
+                TablePrecompiled.ABI, BFSPrecompiled.ABI)) {
+            for (ABIDefinition definition :
+                    ObjectMapperFactory.getObjectMapper().readValue(abi, ABIDefinition[].class)) {
+                if ("function".equals(definition.getType())) {
+                    methodSignatures.add(definition.getMethodSignatureAsString());
+                }
+            }
+        }
+        // the structs sent to the nodes before 3.2.0
+        methodSignatures.add("createTable(string,(string,string[]))");
+        methodSignatures.add("count((uint8,string)[])");
+        methodSignatures.add("select((uint8,string)[],(uint32,uint32))");
+        methodSignatures.add("update((uint8,string)[],(uint32,uint32),(string,string)[])");
+        methodSignatures.add("remove((uint8,string)[],(uint32,uint32))");
+
+        for (String methodSignature : methodSignatures) {
+            Assert.assertArrayEquals(methodSignature,
+                    Arrays.copyOf(cryptoSuite.hash(methodSignature.getBytes()), 4),
+                    SignatureCache.getMethodId(noHashSuite, methodSignature));
+        }
+    }
 }
@@ -0,0 +1,201 @@
+package org.fisco.bcos.sdk.v3.test.transaction.manager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.v3.client.Client;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.model.CryptoType;
+import org.fisco.bcos.sdk.v3.model.TransactionReceipt;
+import org.fisco.bcos.sdk.v3.model.callback.TransactionCallback;
+import org.fisco.bcos.sdk.v3.transaction.manager.TransactionPipeline;
+import org.fisco.bcos.sdk.v3.transaction.manager.TransactionPipeline.StageType;
+import org.fisco.bcos.sdk.v3.transaction.model.dto.TransactionResponse;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TransactionPipelineTest {
+    private static final String ABI =
+            "[{\"inputs\":[{\"name\":\"n\",\"type\":\"uint256\"}],\"name\":\"set\",\"outputs\":[],"
+                    + "\"stateMutability\":\"nonpayable\",\"type\":\"function\"}]";
+    private static final String TO = "0x" + String.format("%040x", 1);
+
+    private final List<String> signedTransactions = new CopyOnWriteArrayList<>();
+    private final List<TransactionCallback> callbacks = new CopyOnWriteArrayList<>();
+
+    private Client mockClient(CryptoSuite cryptoSuite, boolean answer) {
+        Client client = mock(Client.class);
+        when(client.getCryptoSuite()).thenReturn(cryptoSuite);
+        when(client.getGroup()).thenReturn("group0");
+        when(client.getChainId()).thenReturn("chain0");
+        when(client.getBlockLimit()).thenReturn(BigInteger.valueOf(500));
+        doAnswer(
+                        invocation -> {
+                            signedTransactions.add(invocation.getArgument(0));
+                            TransactionCallback callback = invocation.getArgument(2);
+                            if (answer) {
+                                callback.onResponse(receipt());
+                            } else {
+                                callbacks.add(callback);
+                            }
+                            return null;
+                        })
+                .when(client)
+                .sendTransactionAsync(anyString(), anyBoolean(), any(TransactionCallback.class));
+        return client;
+    }
+
+    private static TransactionReceipt receipt() {
+        TransactionReceipt receipt = new TransactionReceipt();
+        receipt.setStatus(0);
+        receipt.setOutput("0x");
+        receipt.setLogEntries(Collections.emptyList());
+        return receipt;
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    public void testSendThroughStages() throws Exception {
+        CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        try (TransactionPipeline pipeline =
+                new TransactionPipeline(
+                                mockClient(cryptoSuite, true), cryptoSuite.getCryptoKeyPair())
+                        .setStage(StageType.SIGN, 2, 16)
+                        .start()) {
+            List<CompletableFuture<TransactionResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(
+                        pipeline.submit(
+                                TO, ABI, "set", Collections.singletonList(BigInteger.valueOf(i))));
+            }
+            for (CompletableFuture<TransactionResponse> future : futures) {
+                TransactionResponse response = future.get();
+                Assert.assertEquals(0, response.getTransactionReceipt().getStatus());
+                Assert.assertNotNull(response.getTransactionReceipt().getInput());
+            }
+            Assert.assertEquals(100, signedTransactions.size());
+            for (TransactionPipeline.Stage stage : pipeline.getStages()) {
+                Assert.assertEquals(100, stage.getProcessed());
+                Assert.assertEquals(0, stage.getFailed());
+            }
+            Assert.assertEquals(2, pipeline.getStage(StageType.SIGN).getThreads());
+            Assert.assertEquals(0, pipeline.getPendingReceipts());
+
+            // an encode error fails the transaction only
+            CompletableFuture<TransactionResponse> failed =
+                    pipeline.submit(TO, ABI, "unknown", Collections.emptyList());
+            try {
+                failed.get();
+                Assert.fail();
+            } catch (ExecutionException e) {
+                Assert.assertEquals(1, pipeline.getStage(StageType.ENCODE).getFailed());
+            }
+        }
+    }
+
+    @Test
+    public void testBoundPendingReceipts() throws Exception {
+        CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        TransactionPipeline pipeline =
+                new TransactionPipeline(
+                                mockClient(cryptoSuite, false), cryptoSuite.getCryptoKeyPair())
+                        .setStage(StageType.DECODE, 1, 4)
+                        .start();
+        List<CompletableFuture<TransactionResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(
+                    pipeline.submit(
+                            TO, ABI, "set", Collections.singletonList(BigInteger.valueOf(i))));
+        }
+        waitUntil(() -> callbacks.size() == 4);
+        Thread.sleep(50);
+        // no more pushes until a receipt is decoded
+        Assert.assertEquals(4, callbacks.size());
+        Assert.assertEquals(4, pipeline.getPendingReceipts());
+        // one held by the push thread, the others wait in the push queue
+        Assert.assertEquals(5, pipeline.getStage(StageType.PUSH).getQueueSize());
+
+        callbacks.get(0).onResponse(receipt());
+        Assert.assertEquals(0, futures.get(0).get().getTransactionReceipt().getStatus());
+        waitUntil(() -> callbacks.size() == 5);
+        Assert.assertEquals(5, callbacks.size());
+
+        pipeline.close();
+        try {
+            futures.get(9).get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof ClientException);
+        }
+        // the receipts arriving after close fail the transactions
+        callbacks.get(1).onResponse(receipt());
+        Assert.assertTrue(futures.get(1).isCompletedExceptionally());
+    }
+
+    @Test
+    public void testCloseWhileSubmitBlocked() throws Exception {
+        CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        TransactionPipeline pipeline =
+                new TransactionPipeline(
+                        mockClient(cryptoSuite, false), cryptoSuite.getCryptoKeyPair());
+        for (StageType type : StageType.values()) {
+            pipeline.setStage(type, 1, 1);
+        }
+        pipeline.start();
+        List<CompletableFuture<TransactionResponse>> futures = new CopyOnWriteArrayList<>();
+        Thread submitter =
+                new Thread(
+                        () -> {
+                            try {
+                                for (int i = 0; i < 20; i++) {
+                                    futures.add(
+                                            pipeline.submit(
+                                                    TO,
+                                                    ABI,
+                                                    "set",
+                                                    Collections.singletonList(
+                                                            BigInteger.valueOf(i))));
+                                }
+                            } catch (IllegalStateException e) {
+                                // submitted after close
+                            }
+                        });
+        submitter.start();
+        // the receipt never comes, so all the queues fill up and the submitter blocks
+        waitUntil(() -> pipeline.getStage(StageType.ENCODE).getQueueSize() == 1);
+        Thread.sleep(200);
+        Assert.assertTrue(submitter.isAlive());
+        int blocked = futures.size();
+
+        pipeline.close();
+        submitter.join(5000);
+        Assert.assertFalse(submitter.isAlive());
+        Assert.assertTrue(futures.size() > blocked);
+        try {
+            futures.get(blocked).get(5, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof ClientException);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.fisco.bcos.sdk.v3.test.transaction.manager;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.math.BigInteger;
+import org.fisco.bcos.sdk.jni.utilities.tx.TransactionBuilderJniObj;
+import org.fisco.bcos.sdk.jni.utilities.tx.TxPair;
+import org.fisco.bcos.sdk.v3.client.Client;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.v3.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.v3.model.CryptoType;
+import org.fisco.bcos.sdk.v3.model.TransactionReceipt;
+import org.fisco.bcos.sdk.v3.model.TransactionReceiptStatus;
+import org.fisco.bcos.sdk.v3.model.callback.TransactionCallback;
+import org.fisco.bcos.sdk.v3.transaction.manager.TransactionProcessor;
+import org.fisco.bcos.sdk.v3.utils.Hex;
+import org.fisco.bcos.sdk.v3.utils.Numeric;
+import org.fisco.bcos.sdk.v3.utils.ObjectMapperFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TransactionProcessorTest {
+    private static final String TO = "0x" + String.format("%040x", 1);
+
+    private static TransactionProcessor createProcessor(CryptoSuite cryptoSuite) {
+        Client client = mock(Client.class);
+        when(client.getCryptoSuite()).thenReturn(cryptoSuite);
+        when(client.getBlockLimit()).thenReturn(BigInteger.valueOf(600));
+        return new TransactionProcessor(client, cryptoSuite.getCryptoKeyPair(), "group0", "chain0");
+    }
+
+    private static void assertTxPairFormat(TxPair txPair) {
+        Assert.assertTrue(txPair.getTxHash().startsWith("0x"));
+        Assert.assertEquals(66, txPair.getTxHash().length());
+        Assert.assertTrue(txPair.getSignedTx().startsWith("0x"));
+    }
+
+    @Test
+    public void testJavaBuilderSameAsJni() throws Exception {
+        CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        TransactionProcessor processor = createProcessor(cryptoSuite);
+        byte[] input = new byte[] {1, 2, 3, 4, 5};
+        TxPair jniTxPair =
+                processor.createSignedTransaction(
+                        TO, input, cryptoSuite.getCryptoKeyPair(), 1, "extraData");
+        processor.setUseJavaBuilder(true);
+        TxPair javaTxPair =
+                processor.createSignedTransaction(
+                        TO, input, cryptoSuite.getCryptoKeyPair(), 1, "extraData");
+        assertTxPairFormat(jniTxPair);
+        assertTxPairFormat(javaTxPair);
+
+        // rebuild the java transaction with the jni, with the same nonce and block limit
+        JsonNode transaction =
+                ObjectMapperFactory.getObjectMapper()
+                        .readTree(
+                                TransactionBuilderJniObj.decodeTransactionToJsonObj(
+                                        Numeric.cleanHexPrefix(javaTxPair.getSignedTx())));
+        JsonNode data = transaction.get("data");
+        Assert.assertEquals(600, data.get("blockLimit").asLong());
+        long pointer = TransactionBuilderJniObj.createTransactionDataWithJson(data.toString());
+        try {
+            String hash =
+                    TransactionBuilderJniObj.calcTransactionDataHash(
+                            CryptoType.ECDSA_TYPE, pointer);
+            Assert.assertEquals(hash, javaTxPair.getTxHash());
+            // the ecdsa signature is deterministic, so the native one is the same
+            String hexHash = Numeric.cleanHexPrefix(hash);
+            byte[] signature = cryptoSuite.sign(hexHash, cryptoSuite.getCryptoKeyPair()).encode();
+            Assert.assertEquals(
+                    TransactionBuilderJniObj.createSignedTransaction(
+                            pointer, Hex.toHexString(signature), hexHash, 1, "extraData"),
+                    javaTxPair.getSignedTx());
+        } finally {
+            TransactionBuilderJniObj.destroyTransactionData(pointer);
+        }
+    }
+
+    @Test
+    public void testRequestTimeoutAsTimeOutReceipt() {
+        CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        Client client = mock(Client.class);
+        when(client.getCryptoSuite()).thenReturn(cryptoSuite);
+        when(client.getCallTimeout()).thenReturn(100L);
+        TransactionProcessor processor =
+                new TransactionProcessor(
+                        client, cryptoSuite.getCryptoKeyPair(), "group0", "chain0") {
+                    @Override
+                    public String sendTransactionAsync(
+                            String to,
+                            byte[] data,
+                            CryptoKeyPair cryptoKeyPair,
+                            int txAttribute,
+                            TransactionCallback callback) {
+                        // the deadline of the request is reached
+                        callback.onError(ClientException.REQUEST_TIMEOUT, "request timeout");
+                        return "";
+                    }
+                };
+        TransactionReceipt receipt =
+                processor.sendTransactionAndGetReceipt(
+                        TO, new byte[] {1}, cryptoSuite.getCryptoKeyPair(), 0);
+        Assert.assertEquals(TransactionReceiptStatus.TimeOut.getCode(), receipt.getStatus());
+    }
+}
@@ -0,0 +1,201 @@
+package org.fisco.bcos.sdk.v3.test.transaction.pusher;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import org.fisco.bcos.sdk.jni.utilities.tx.TxPair;
+import org.fisco.bcos.sdk.v3.client.Client;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.client.exceptions.JsonRpcErrorException;
+import org.fisco.bcos.sdk.v3.client.protocol.request.JsonRpcMethods;
+import org.fisco.bcos.sdk.v3.client.protocol.request.JsonRpcRequest;
+import org.fisco.bcos.sdk.v3.client.protocol.response.BcosTransactionReceipt;
+import org.fisco.bcos.sdk.v3.model.TransactionReceipt;
+import org.fisco.bcos.sdk.v3.transaction.pusher.RetryingTransactionPusher;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RetryingTransactionPusherTest {
+    private static final String TX_HASH = "0x" + String.format("%064x", 1);
+
+    private final List<String> sentNodes = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<BcosTransactionReceipt>> pendingSends =
+            new CopyOnWriteArrayList<>();
+
+    private static BcosTransactionReceipt receipt() {
+        TransactionReceipt transactionReceipt = new TransactionReceipt();
+        transactionReceipt.setTransactionHash(TX_HASH);
+        transactionReceipt.setBlockNumber(BigInteger.TEN);
+        BcosTransactionReceipt receipt = new BcosTransactionReceipt();
+        receipt.setResult(transactionReceipt);
+        return receipt;
+    }
+
+    private static CompletableFuture<BcosTransactionReceipt> failed() {
+        CompletableFuture<BcosTransactionReceipt> future = new CompletableFuture<>();
+        future.completeExceptionally(
+                new ClientException(ClientException.REQUEST_TIMEOUT, "request timeout", "timeout"));
+        return future;
+    }
+
+    /** the sends answered by sendAnswer of the node, the receipt queries by receiptAnswer */
+    private Client mockClient(
+            Function<String, CompletableFuture<BcosTransactionReceipt>> sendAnswer,
+            CompletableFuture<BcosTransactionReceipt> receiptAnswer) {
+        Client client = mock(Client.class);
+        when(client.getGroup()).thenReturn("group0");
+        doAnswer(
+                        invocation -> {
+                            String node = invocation.getArgument(1);
+                            JsonRpcRequest<?> request = invocation.getArgument(2);
+                            if (JsonRpcMethods.GET_TRANSACTION_RECEIPT.equals(
+                                    request.getMethod())) {
+                                Assert.assertEquals(TX_HASH, request.getParams().get(2));
+                                return receiptAnswer;
+                            }
+                            Assert.assertEquals("signedTx", request.getParams().get(2));
+                            sentNodes.add(node);
+                            return sendAnswer.apply(node);
+                        })
+                .when(client)
+                .callRemoteMethodAsync(
+                        anyString(),
+                        anyString(),
+                        any(JsonRpcRequest.class),
+                        eq(BcosTransactionReceipt.class),
+                        anyLong());
+        return client;
+    }
+
+    @Test
+    public void testRetryOnNextNode() {
+        Client client =
+                mockClient(
+                        node ->
+                                "node0".equals(node)
+                                        ? failed()
+                                        : CompletableFuture.completedFuture(receipt()),
+                        null);
+        RetryingTransactionPusher pusher =
+                new RetryingTransactionPusher(client).setNodes(Arrays.asList("node0", "node1"));
+        TransactionReceipt receipt = pusher.push(new TxPair(TX_HASH, "signedTx"));
+
+        Assert.assertEquals(TX_HASH, receipt.getTransactionHash());
+        Assert.assertEquals(Arrays.asList("node0", "node1"), sentNodes);
+        Assert.assertEquals(1, pusher.getRetries());
+        Assert.assertEquals(1, pusher.getConfirmedTransactions());
+        Assert.assertEquals(0, pusher.getPolledReceipts());
+        Assert.assertEquals(0, pusher.getInFlightTransactions());
+        Assert.assertTrue(pusher.getMaxConfirmationMs() >= pusher.getAverageConfirmationMs());
+    }
+
+    @Test
+    public void testDeduplicateAndHedge() throws Exception {
+        Client client =
+                mockClient(
+                        node -> {
+                            CompletableFuture<BcosTransactionReceipt> future =
+                                    new CompletableFuture<>();
+                            pendingSends.add(future);
+                            return future;
+                        },
+                        null);
+        RetryingTransactionPusher pusher =
+                new RetryingTransactionPusher(client)
+                        .setNodes(Arrays.asList("node0", "node1"))
+                        .setHedgeDelayMs(10);
+        CompletableFuture<TransactionReceipt> first =
+                pusher.pushAsync(new TxPair(TX_HASH, "signedTx"));
+        // the same hash in another case joins the push in flight
+        CompletableFuture<TransactionReceipt> second =
+                pusher.pushAsync(new TxPair(TX_HASH.toUpperCase().replace("0X", ""), "signedTx"));
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, pusher.getDuplicatedPushes());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pendingSends.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertEquals(Arrays.asList("node0", "node1"), sentNodes);
+        Assert.assertEquals(1, pusher.getHedges());
+
+        // the hedged copy wins, the first attempt is cancelled
+        pendingSends.get(1).complete(receipt());
+        Assert.assertEquals(TX_HASH, first.get().getTransactionHash());
+        Assert.assertTrue(pendingSends.get(0).isCancelled());
+        Assert.assertEquals(1, pusher.getPushedTransactions());
+    }
+
+    @Test
+    public void testPollReceiptAfterAttemptsFailed() {
+        Client client =
+                mockClient(node -> failed(), CompletableFuture.completedFuture(receipt()));
+        RetryingTransactionPusher pusher =
+                new RetryingTransactionPusher(client)
+                        .setNodes(Arrays.asList("node0", "node1"))
+                        .setMaxAttempts(2);
+        TransactionReceipt receipt = pusher.push(new TxPair(TX_HASH, "signedTx"));
+
+        Assert.assertEquals(TX_HASH, receipt.getTransactionHash());
+        Assert.assertEquals(2, sentNodes.size());
+        Assert.assertEquals(1, pusher.getPolledReceipts());
+
+        // no receipt found in time
+        BcosTransactionReceipt notFound = new BcosTransactionReceipt();
+        RetryingTransactionPusher failedPusher =
+                new RetryingTransactionPusher(
+                                mockClient(
+                                        node -> failed(),
+                                        CompletableFuture.completedFuture(notFound)))
+                        .setNodes(Arrays.asList("node0"))
+                        .setMaxAttempts(1)
+                        .setReceiptPollIntervalMs(5)
+                        .setReceiptTimeoutMs(20);
+        try {
+            failedPusher.push(new TxPair(TX_HASH, "signedTx"));
+            Assert.fail();
+        } catch (ClientException e) {
+            Assert.assertTrue(e.getMessage().contains("no receipt found"));
+        }
+        Assert.assertEquals(1, failedPusher.getFailedTransactions());
+    }
+
+    @Test
+    public void testJsonRpcErrorNotRetried() {
+        Client client =
+                mockClient(
+                        node -> {
+                            CompletableFuture<BcosTransactionReceipt> future =
+                                    new CompletableFuture<>();
+                            future.completeExceptionally(
+                                    new JsonRpcErrorException(
+                                            10000, "invalid transaction", "invalid transaction"));
+                            return future;
+                        },
+                        null);
+        RetryingTransactionPusher pusher =
+                new RetryingTransactionPusher(client).setNodes(Arrays.asList("node0", "node1"));
+        try {
+            pusher.push(new TxPair(TX_HASH, "signedTx"));
+            Assert.fail();
+        } catch (ClientException e) {
+            Assert.assertEquals(10000, e.getErrorCode());
+        }
+        // neither retried on the other node nor polled for the receipt
+        Assert.assertEquals(Arrays.asList("node0"), sentNodes);
+        Assert.assertEquals(0, pusher.getRetries());
+        Assert.assertEquals(0, pusher.getPolledReceipts());
+        Assert.assertEquals(1, pusher.getFailedTransactions());
+    }
+}
@@ -0,0 +1,101 @@
+package org.fisco.bcos.sdk.v3.test.transaction.pusher;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.fisco.bcos.sdk.v3.client.Client;
+import org.fisco.bcos.sdk.v3.client.exceptions.ClientException;
+import org.fisco.bcos.sdk.v3.model.TransactionReceipt;
+import org.fisco.bcos.sdk.v3.model.callback.TransactionCallback;
+import org.fisco.bcos.sdk.v3.transaction.pusher.TransactionPusherService;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TransactionPusherServiceTest {
+    private final List<TransactionCallback> callbacks = new CopyOnWriteArrayList<>();
+
+    private Client mockClient() {
+        Client client = mock(Client.class);
+        doAnswer(
+                        invocation -> {
+                            callbacks.add(invocation.getArgument(2));
+                            return null;
+                        })
+                .when(client)
+                .sendTransactionAsync(anyString(), anyBoolean(), any(TransactionCallback.class));
+        return client;
+    }
+
+    @Test
+    public void testPushAsyncWithoutBlocking() throws Exception {
+        TransactionPusherService pusher = new TransactionPusherService(mockClient());
+        // many pushes in flight park no thread
+        List<CompletableFuture<TransactionReceipt>> futures = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(pusher.pushAsync("signedTx" + i));
+        }
+        Assert.assertEquals(1000, callbacks.size());
+        Assert.assertFalse(futures.get(0).isDone());
+
+        TransactionReceipt receipt = new TransactionReceipt();
+        receipt.setTransactionHash("0x01");
+        callbacks.get(0).onResponse(receipt);
+        Assert.assertSame(receipt, futures.get(0).get());
+
+        callbacks.get(1).onError(-1, "mock error");
+        try {
+            futures.get(1).get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof ClientException);
+            Assert.assertEquals(-1, ((ClientException) e.getCause()).getErrorCode());
+        }
+    }
+
+    @Test
+    public void testCompletionExecutor() throws Exception {
+        ExecutorService executor =
+                Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "completion"));
+        try {
+            TransactionPusherService pusher = new TransactionPusherService(mockClient(), executor);
+            CompletableFuture<String> threadName =
+                    pusher.pushAsync("signedTx")
+                            .thenApply(receipt -> Thread.currentThread().getName());
+            callbacks.get(0).onResponse(new TransactionReceipt());
+            Assert.assertEquals("completion", threadName.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDefaultCompletionOffResponseThread() throws Exception {
+        TransactionPusherService pusher = new TransactionPusherService(mockClient());
+        CompletableFuture<String> threadName =
+                pusher.pushAsync("signedTx").thenApply(receipt -> Thread.currentThread().getName());
+        Thread responseThread =
+                new Thread(() -> callbacks.get(0).onResponse(new TransactionReceipt()), "response");
+        responseThread.start();
+        responseThread.join();
+        Assert.assertNotEquals("response", threadName.get());
+
+        // without executor the future is completed on the response thread
+        pusher.setCompletionExecutor(null);
+        threadName =
+                pusher.pushAsync("signedTx").thenApply(receipt -> Thread.currentThread().getName());
+        responseThread =
+                new Thread(() -> callbacks.get(1).onResponse(new TransactionReceipt()), "response");
+        responseThread.start();
+        responseThread.join();
+        Assert.assertEquals("response", threadName.get());
+    }
+}